@@ -95,6 +95,11 @@ public class WriteFilesTranslation {
             return transform.getNumShardsProvider() == null
                 && transform.getComputeNumShards() == null;
           }
+
+          @Override
+          public boolean isAsyncWrites() {
+            return transform.getAsyncWrites();
+          }
         },
         components);
   }
@@ -185,6 +190,16 @@ public class WriteFilesTranslation {
     return getWriteFilesPayload(transform).getRunnerDeterminedSharding();
   }
 
+  public static <T, DestinationT> boolean isAsyncWrites(
+      AppliedPTransform<
+              PCollection<T>,
+              WriteFilesResult<DestinationT>,
+              ? extends PTransform<PCollection<T>, WriteFilesResult<DestinationT>>>
+          transform)
+      throws IOException {
+    return getWriteFilesPayload(transform).getAsyncWrites();
+  }
+
   private static <T, DestinationT> WriteFilesPayload getWriteFilesPayload(
       AppliedPTransform<
               PCollection<T>,
@@ -272,6 +287,11 @@ public class WriteFilesTranslation {
     public boolean isRunnerDeterminedSharding() {
       return payload.getRunnerDeterminedSharding();
     }
+
+    @Override
+    public boolean isAsyncWrites() {
+      return payload.getAsyncWrites();
+    }
   }
 
   static class WriteFilesTranslator implements TransformPayloadTranslator<WriteFiles<?, ?, ?>> {
@@ -310,6 +330,8 @@ public class WriteFilesTranslation {
     boolean isWindowedWrites();
 
     boolean isRunnerDeterminedSharding();
+
+    boolean isAsyncWrites();
   }
 
   public static WriteFilesPayload payloadForWriteFilesLike(
@@ -320,6 +342,7 @@ public class WriteFilesTranslation {
         .putAllSideInputs(writeFiles.translateSideInputs(components))
         .setWindowedWrites(writeFiles.isWindowedWrites())
         .setRunnerDeterminedSharding(writeFiles.isRunnerDeterminedSharding())
+        .setAsyncWrites(writeFiles.isAsyncWrites())
         .build();
   }
 }
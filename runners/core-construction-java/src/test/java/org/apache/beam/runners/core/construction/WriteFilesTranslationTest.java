@@ -57,7 +57,8 @@ public class WriteFilesTranslationTest {
         WriteFiles.to(new DummySink()),
         WriteFiles.to(new DummySink()).withWindowedWrites(),
         WriteFiles.to(new DummySink()).withNumShards(17),
-        WriteFiles.to(new DummySink()).withWindowedWrites().withNumShards(42));
+        WriteFiles.to(new DummySink()).withWindowedWrites().withNumShards(42),
+        WriteFiles.to(new DummySink()).withAsyncWrites());
   }
 
   @Parameter(0)
@@ -79,6 +80,8 @@ public class WriteFilesTranslationTest {
 
     assertThat(payload.getWindowedWrites(), equalTo(writeFiles.getWindowedWrites()));
 
+    assertThat(payload.getAsyncWrites(), equalTo(writeFiles.getAsyncWrites()));
+
     assertThat(
         (FileBasedSink<String, Void, String>)
             WriteFilesTranslation.sinkFromProto(payload.getSink()),
@@ -108,6 +111,9 @@ public class WriteFilesTranslationTest {
     assertThat(
         WriteFilesTranslation.isWindowedWrites(appliedPTransform),
         equalTo(writeFiles.getWindowedWrites()));
+    assertThat(
+        WriteFilesTranslation.isAsyncWrites(appliedPTransform),
+        equalTo(writeFiles.getAsyncWrites()));
     assertThat(
         WriteFilesTranslation.<String, Void, String>getSink(appliedPTransform),
         equalTo(writeFiles.getSink()));
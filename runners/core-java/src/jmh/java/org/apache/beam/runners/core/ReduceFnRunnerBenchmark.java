@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.runners.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.apache.beam.runners.core.construction.TriggerTranslation;
+import org.apache.beam.runners.core.triggers.ExecutableTriggerStateMachine;
+import org.apache.beam.runners.core.triggers.TriggerStateMachines;
+import org.apache.beam.sdk.coders.VarIntCoder;
+import org.apache.beam.sdk.transforms.windowing.AfterPane;
+import org.apache.beam.sdk.transforms.windowing.AfterWatermark;
+import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
+import org.apache.beam.sdk.transforms.windowing.FixedWindows;
+import org.apache.beam.sdk.transforms.windowing.IntervalWindow;
+import org.apache.beam.sdk.transforms.windowing.PaneInfo;
+import org.apache.beam.sdk.util.WindowedValue;
+import org.apache.beam.sdk.values.KV;
+import org.apache.beam.sdk.values.TupleTag;
+import org.apache.beam.sdk.values.WindowingStrategy;
+import org.apache.beam.sdk.values.WindowingStrategy.AccumulationMode;
+import org.joda.time.Duration;
+import org.joda.time.Instant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the throughput of a {@link ReduceFnRunner} processing bundles of elements for a
+ * single key with a trigger that has early firings, backed by {@link InMemoryStateInternals}.
+ *
+ * <p>Every bundle is processed by a new {@link ReduceFnRunner} which is persisted at the end of the
+ * bundle, as runners do for each key of a bundle.
+ */
+@SuppressWarnings({
+  "nullness" // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
+})
+public class ReduceFnRunnerBenchmark {
+  private static final Duration WINDOW_SIZE = Duration.millis(10);
+
+  /** The state of a single key which receives bundles of elements. */
+  @State(Scope.Thread)
+  public static class Key {
+    @Param({"1", "100", "1000"})
+    int elementsPerBundle;
+
+    @Param({"1", "10"})
+    int windowsPerBundle;
+
+    WindowingStrategy<?, IntervalWindow> windowingStrategy;
+    ExecutableTriggerStateMachine triggerStateMachine;
+    InMemoryStateInternals<String> stateInternals;
+    InMemoryTimerInternals timerInternals;
+    List<WindowedValue<Integer>> bundle;
+
+    @Setup
+    public void setup() {
+      windowingStrategy =
+          WindowingStrategy.of(FixedWindows.of(WINDOW_SIZE))
+              .withTrigger(
+                  AfterWatermark.pastEndOfWindow()
+                      .withEarlyFirings(AfterPane.elementCountAtLeast(100)))
+              .withMode(AccumulationMode.DISCARDING_FIRED_PANES)
+              .withAllowedLateness(Duration.ZERO);
+      triggerStateMachine =
+          ExecutableTriggerStateMachine.create(
+              TriggerStateMachines.stateMachineForTrigger(
+                  TriggerTranslation.toProto(windowingStrategy.getTrigger())));
+      stateInternals = InMemoryStateInternals.forKey("key");
+      timerInternals = new InMemoryTimerInternals();
+
+      bundle = new ArrayList<>(elementsPerBundle);
+      for (int i = 0; i < elementsPerBundle; i++) {
+        Instant windowStart = new Instant(WINDOW_SIZE.getMillis() * (i % windowsPerBundle));
+        IntervalWindow window = new IntervalWindow(windowStart, WINDOW_SIZE);
+        bundle.add(WindowedValue.of(i, windowStart, window, PaneInfo.NO_FIRING));
+      }
+    }
+  }
+
+  @Benchmark
+  public void processBundle(Key key) throws Exception {
+    ReduceFnRunner<String, Integer, Iterable<Integer>, IntervalWindow> runner =
+        new ReduceFnRunner<>(
+            "key",
+            key.windowingStrategy,
+            key.triggerStateMachine,
+            key.stateInternals,
+            key.timerInternals,
+            new DiscardingOutputWindowedValue(),
+            null,
+            SystemReduceFn.buffering(VarIntCoder.of()),
+            null);
+    runner.processElements(key.bundle);
+    runner.persist();
+  }
+
+  /** An {@link OutputWindowedValue} which drops all output. */
+  private static class DiscardingOutputWindowedValue
+      implements OutputWindowedValue<KV<String, Iterable<Integer>>> {
+    @Override
+    public void outputWindowedValue(
+        KV<String, Iterable<Integer>> output,
+        Instant timestamp,
+        Collection<? extends BoundedWindow> windows,
+        PaneInfo pane) {}
+
+    @Override
+    public <AdditionalOutputT> void outputWindowedValue(
+        TupleTag<AdditionalOutputT> tag,
+        AdditionalOutputT output,
+        Instant timestamp,
+        Collection<? extends BoundedWindow> windows,
+        PaneInfo pane) {}
+  }
+}
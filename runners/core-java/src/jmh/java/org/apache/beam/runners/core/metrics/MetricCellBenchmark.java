@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.runners.core.metrics;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.beam.sdk.metrics.MetricName;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmarks updating the striped {@link CounterCell} and {@link DistributionCell} against cells
+ * backed by a single atomic, from a single thread and from several threads sharing the cells.
+ */
+public class MetricCellBenchmark {
+  private static final MetricName NAME = MetricName.named("namespace", "name");
+
+  /** Cells shared by all benchmark threads. */
+  @State(Scope.Benchmark)
+  public static class Cells {
+    final MetricsContainerImpl container = new MetricsContainerImpl("step");
+    final CounterCell counter = new CounterCell(NAME);
+    final DistributionCell distribution = new DistributionCell(NAME);
+    final AtomicLong atomicCounter = new AtomicLong();
+    final AtomicReference<DistributionData> atomicDistribution =
+        new AtomicReference<>(DistributionData.EMPTY);
+    // The atomic cells mark themselves dirty on every update, as the cells did before striping.
+    final AtomicBoolean dirty = new AtomicBoolean();
+  }
+
+  private static void atomicCounterInc(Cells cells) {
+    cells.atomicCounter.addAndGet(1);
+    cells.dirty.set(true);
+  }
+
+  private static void atomicDistributionUpdate(Cells cells, long value) {
+    DistributionData update = DistributionData.singleton(value);
+    DistributionData original;
+    do {
+      original = cells.atomicDistribution.get();
+    } while (!cells.atomicDistribution.compareAndSet(original, original.combine(update)));
+    cells.dirty.set(true);
+  }
+
+  @Benchmark
+  public void counterCell(Cells cells) {
+    cells.counter.inc();
+  }
+
+  @Benchmark
+  public void atomicCounter(Cells cells) {
+    atomicCounterInc(cells);
+  }
+
+  @Benchmark
+  public void containerCounter(Cells cells) {
+    cells.container.getCounter(NAME).inc();
+  }
+
+  @Benchmark
+  public void distributionCell(Cells cells) {
+    cells.distribution.update(42);
+  }
+
+  @Benchmark
+  public void atomicDistribution(Cells cells) {
+    atomicDistributionUpdate(cells, 42);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void counterCellContended(Cells cells) {
+    cells.counter.inc();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void atomicCounterContended(Cells cells) {
+    atomicCounterInc(cells);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void containerCounterContended(Cells cells) {
+    cells.container.getCounter(NAME).inc();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void distributionCellContended(Cells cells) {
+    cells.distribution.update(42);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void atomicDistributionContended(Cells cells) {
+    atomicDistributionUpdate(cells, 42);
+  }
+}
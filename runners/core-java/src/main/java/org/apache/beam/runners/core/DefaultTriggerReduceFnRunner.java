@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.runners.core;
+
+import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.apache.beam.runners.core.StateNamespaces.WindowNamespace;
+import org.apache.beam.runners.core.TimerInternals.TimerData;
+import org.apache.beam.runners.core.triggers.TriggerStateMachineRunner;
+import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.sdk.metrics.Counter;
+import org.apache.beam.sdk.metrics.Metrics;
+import org.apache.beam.sdk.options.PipelineOptions;
+import org.apache.beam.sdk.state.GroupingState;
+import org.apache.beam.sdk.state.State;
+import org.apache.beam.sdk.state.StateContext;
+import org.apache.beam.sdk.state.TimeDomain;
+import org.apache.beam.sdk.state.WatermarkHoldState;
+import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
+import org.apache.beam.sdk.transforms.windowing.DefaultTrigger;
+import org.apache.beam.sdk.transforms.windowing.PaneInfo;
+import org.apache.beam.sdk.transforms.windowing.PaneInfo.Timing;
+import org.apache.beam.sdk.transforms.windowing.TimestampCombiner;
+import org.apache.beam.sdk.transforms.windowing.Window.ClosingBehavior;
+import org.apache.beam.sdk.transforms.windowing.Window.OnTimeBehavior;
+import org.apache.beam.sdk.transforms.windowing.WindowFn;
+import org.apache.beam.sdk.util.WindowedValue;
+import org.apache.beam.sdk.values.KV;
+import org.apache.beam.sdk.values.WindowingStrategy;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.joda.time.Duration;
+import org.joda.time.Instant;
+
+/**
+ * A replacement for the {@link ReduceFnRunner} for the common case of a non-merging {@link
+ * WindowFn} with the {@link DefaultTrigger} and no allowed lateness, see {@link
+ * #isApplicable(WindowingStrategy)}.
+ *
+ * <p>Every window then emits exactly one pane, when the input watermark passes the end of the
+ * window. So per window, only the state of the {@link SystemReduceFn} (e.g. the accumulator of a
+ * combiner), the output watermark holds and a single end-of-window timer are kept. The active
+ * window set, trigger state, pane info and non-empty pane tracking of the {@link ReduceFnRunner}
+ * are not needed. Within a call to {@link #processElements}, the watermark holds and timer of a
+ * window are only updated once.
+ *
+ * <p>The state and timers are laid out like those of the {@link ReduceFnRunner}, and the output
+ * matches the output of the {@link ReduceFnRunner}. Elements of windows which have already expired
+ * are dropped like they are by the {@link LateDataDroppingDoFnRunner}. Since pipelines which used
+ * the {@link ReduceFnRunner} before may be restored from their state, the state which only the
+ * {@link ReduceFnRunner} keeps is cleared as well when a window is garbage collected.
+ *
+ * @param <K> The type of key being processed.
+ * @param <InputT> The type of values associated with the key.
+ * @param <OutputT> The output type that will be produced for each key.
+ * @param <W> The type of windows this operates on.
+ */
+@SuppressWarnings({
+  "nullness" // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
+})
+public class DefaultTriggerReduceFnRunner<K, InputT, OutputT, W extends BoundedWindow> {
+
+  /**
+   * Returns whether a {@link DefaultTriggerReduceFnRunner} can be used instead of a {@link
+   * ReduceFnRunner} for the given {@link WindowingStrategy}.
+   */
+  public static boolean isApplicable(WindowingStrategy<?, ?> windowingStrategy) {
+    return windowingStrategy.getWindowFn().isNonMerging()
+        && windowingStrategy.getTrigger() instanceof DefaultTrigger
+        && windowingStrategy.getAllowedLateness().isEqual(Duration.ZERO);
+  }
+
+  private final K key;
+  private final WindowingStrategy<?, W> windowingStrategy;
+  private final Coder<W> windowCoder;
+  private final StateInternals stateInternals;
+  private final TimerInternals timerInternals;
+  private final OutputWindowedValue<KV<K, OutputT>> outputter;
+  private final @Nullable SideInputReader sideInputReader;
+  private final SystemReduceFn<K, InputT, ?, OutputT, W> reduceFn;
+  private final @Nullable PipelineOptions options;
+  private final StateTag<WatermarkHoldState> elementHoldTag;
+  private final Counter droppedDueToLateness;
+
+  public DefaultTriggerReduceFnRunner(
+      K key,
+      WindowingStrategy<?, W> windowingStrategy,
+      StateInternals stateInternals,
+      TimerInternals timerInternals,
+      OutputWindowedValue<KV<K, OutputT>> outputter,
+      @Nullable SideInputReader sideInputReader,
+      SystemReduceFn<K, InputT, ?, OutputT, W> reduceFn,
+      @Nullable PipelineOptions options) {
+    checkArgument(
+        isApplicable(windowingStrategy),
+        "%s requires a non-merging WindowFn with the default trigger and no allowed lateness,"
+            + " got %s",
+        DefaultTriggerReduceFnRunner.class.getSimpleName(),
+        windowingStrategy);
+    this.key = key;
+    this.windowingStrategy = windowingStrategy;
+    this.windowCoder = windowingStrategy.getWindowFn().windowCoder();
+    this.stateInternals = stateInternals;
+    this.timerInternals = timerInternals;
+    this.outputter = outputter;
+    this.sideInputReader = sideInputReader;
+    this.reduceFn = reduceFn;
+    this.options = options;
+    this.elementHoldTag =
+        WatermarkHold.watermarkHoldTagForTimestampCombiner(
+            windowingStrategy.getTimestampCombiner());
+    this.droppedDueToLateness =
+        Metrics.counter(
+            LateDataDroppingDoFnRunner.class, LateDataDroppingDoFnRunner.DROPPED_DUE_TO_LATENESS);
+  }
+
+  /**
+   * Incorporate {@code values} into the state of their windows, hold the output watermark for them
+   * and schedule the end-of-window timers of their windows.
+   */
+  public void processElements(Iterable<WindowedValue<InputT>> values) {
+    Instant inputWM = timerInternals.currentInputWatermarkTime();
+    Instant outputWM = timerInternals.currentOutputWatermarkTime();
+    TimestampCombiner timestampCombiner = windowingStrategy.getTimestampCombiner();
+
+    Map<W, PendingHolds> windows = new LinkedHashMap<>();
+    for (WindowedValue<InputT> value : values) {
+      for (BoundedWindow untypedWindow : value.getWindows()) {
+        @SuppressWarnings("unchecked")
+        W window = (W) untypedWindow;
+        if (endOfWindow(window).isBefore(inputWM)) {
+          droppedDueToLateness.inc();
+          continue;
+        }
+
+        access(window, reduceFn.getBufferTag()).add(value.getValue());
+
+        PendingHolds holds = windows.computeIfAbsent(window, w -> new PendingHolds());
+        Instant elementHold = timestampCombiner.assign(window, value.getTimestamp());
+        if ((outputWM != null && elementHold.isBefore(outputWM))
+            || window.maxTimestamp().isBefore(inputWM)) {
+          // Too late to hold the output watermark, hold it at the end of the window instead.
+          holds.endOfWindowHold = true;
+        } else {
+          holds.elementHold =
+              holds.elementHold == null
+                  ? elementHold
+                  : timestampCombiner.combine(holds.elementHold, elementHold);
+        }
+      }
+    }
+
+    for (Map.Entry<W, PendingHolds> entry : windows.entrySet()) {
+      W window = entry.getKey();
+      PendingHolds holds = entry.getValue();
+      if (holds.elementHold != null) {
+        access(window, elementHoldTag).add(holds.elementHold);
+      }
+      if (holds.endOfWindowHold) {
+        Instant endOfWindowHold = endOfWindow(window);
+        if (!endOfWindowHold.isBefore(BoundedWindow.TIMESTAMP_MAX_VALUE)) {
+          // Holds at the end of the global window would never be released.
+          endOfWindowHold = BoundedWindow.TIMESTAMP_MAX_VALUE.minus(Duration.millis(1L));
+        }
+        access(window, WatermarkHold.EXTRA_HOLD_TAG).add(endOfWindowHold);
+      }
+      timerInternals.setTimer(
+          TimerData.of(
+              StateNamespaces.window(windowCoder, window),
+              endOfWindow(window),
+              endOfWindow(window),
+              TimeDomain.EVENT_TIME));
+    }
+  }
+
+  /**
+   * Emit the pane of and clear the state of the window of each fired event time timer.
+   *
+   * <p>The only event time timer of a window is set at its end, so the window is expired once the
+   * timer fires. This does not depend on whether the runner fires timers once the input watermark
+   * reaches or once it passes their timestamp.
+   */
+  public void onTimers(Iterable<TimerData> timers) {
+    Set<W> windows = new HashSet<>();
+    for (TimerData timer : timers) {
+      checkArgument(
+          timer.getNamespace() instanceof WindowNamespace,
+          "Expected timer to be in WindowNamespace, but was in %s",
+          timer.getNamespace());
+      @SuppressWarnings("unchecked")
+      WindowNamespace<W> windowNamespace = (WindowNamespace<W>) timer.getNamespace();
+      W window = windowNamespace.getWindow();
+      if (timer.getDomain() == TimeDomain.EVENT_TIME && windows.add(window)) {
+        onEndOfWindow(window);
+      }
+    }
+  }
+
+  private void onEndOfWindow(W window) {
+    GroupingState<InputT, OutputT> buffer = access(window, reduceFn.getBufferTag());
+    WatermarkHoldState elementHold = access(window, elementHoldTag);
+    buffer.readLater();
+    elementHold.readLater();
+
+    @Nullable Instant outputTimestamp = elementHold.read();
+    if (outputTimestamp == null || outputTimestamp.isAfter(window.maxTimestamp())) {
+      outputTimestamp = window.maxTimestamp();
+    }
+
+    // The input watermark passed the end of the window, so this pane is ON_TIME unless the output
+    // watermark passed the end of the window as well.
+    Instant outputWM = timerInternals.currentOutputWatermarkTime();
+    Timing timing =
+        outputWM != null && window.maxTimestamp().isBefore(outputWM)
+            ? Timing.LATE
+            : Timing.ON_TIME;
+    if (!buffer.isEmpty().read()
+        || (timing == Timing.ON_TIME
+            && windowingStrategy.getOnTimeBehavior() == OnTimeBehavior.FIRE_ALWAYS)
+        || windowingStrategy.getClosingBehavior() == ClosingBehavior.FIRE_ALWAYS) {
+      outputter.outputWindowedValue(
+          KV.of(key, buffer.read()),
+          outputTimestamp,
+          Collections.singletonList(window),
+          PaneInfo.createPane(true, true, timing, 0, 0));
+    }
+
+    buffer.clear();
+    elementHold.clear();
+    access(window, WatermarkHold.EXTRA_HOLD_TAG).clear();
+    // State of the ReduceFnRunner, which may have processed the window before an update.
+    access(window, PaneInfoTracker.PANE_INFO_TAG).clear();
+    access(window, NonEmptyPanes.PANE_ADDITIONS_TAG).clear();
+    access(window, TriggerStateMachineRunner.FINISHED_BITS_TAG).clear();
+  }
+
+  private Instant endOfWindow(W window) {
+    return LateDataUtils.garbageCollectionTime(window, windowingStrategy);
+  }
+
+  private <StateT extends State> StateT access(W window, StateTag<StateT> address) {
+    StateContext<W> context =
+        ReduceFnContextFactory.stateContextFromComponents(options, sideInputReader, window);
+    return stateInternals.state(StateNamespaces.window(windowCoder, window), address, context);
+  }
+
+  /** The watermark holds to add for a window after processing a bundle of elements. */
+  private static class PendingHolds {
+    private @Nullable Instant elementHold;
+    private boolean endOfWindowHold;
+  }
+}
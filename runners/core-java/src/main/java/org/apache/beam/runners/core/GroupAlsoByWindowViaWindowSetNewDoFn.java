@@ -33,7 +33,8 @@ import org.joda.time.Instant;
 
 /**
  * A general {@link GroupAlsoByWindowsAggregators}. This delegates all of the logic to the {@link
- * ReduceFnRunner}.
+ * ReduceFnRunner}, or to the {@link DefaultTriggerReduceFnRunner} if the windowing strategy allows
+ * for it.
  */
 @SystemDoFnInternal
 public class GroupAlsoByWindowViaWindowSetNewDoFn<
@@ -68,6 +69,7 @@ public class GroupAlsoByWindowViaWindowSetNewDoFn<
   private transient SideInputReader sideInputReader;
   private transient DoFnRunners.OutputManager outputManager;
   private TupleTag<KV<K, OutputT>> mainTag;
+  private final boolean useDefaultTriggerRunner;
 
   public GroupAlsoByWindowViaWindowSetNewDoFn(
       WindowingStrategy<?, W> windowingStrategy,
@@ -86,6 +88,7 @@ public class GroupAlsoByWindowViaWindowSetNewDoFn<
     this.windowingStrategy = noWildcard;
     this.reduceFn = reduceFn;
     this.stateInternalsFactory = stateInternalsFactory;
+    this.useDefaultTriggerRunner = DefaultTriggerReduceFnRunner.isApplicable(windowingStrategy);
   }
 
   private OutputWindowedValue<KV<K, OutputT>> outputWindowedValue() {
@@ -119,6 +122,22 @@ public class GroupAlsoByWindowViaWindowSetNewDoFn<
     StateInternals stateInternals = stateInternalsFactory.stateInternalsForKey(key);
     TimerInternals timerInternals = timerInternalsFactory.timerInternalsForKey(key);
 
+    if (useDefaultTriggerRunner) {
+      DefaultTriggerReduceFnRunner<K, InputT, OutputT, W> defaultTriggerRunner =
+          new DefaultTriggerReduceFnRunner<>(
+              key,
+              windowingStrategy,
+              stateInternals,
+              timerInternals,
+              outputWindowedValue(),
+              sideInputReader,
+              reduceFn,
+              c.getPipelineOptions());
+      defaultTriggerRunner.processElements(keyedWorkItem.elementsIterable());
+      defaultTriggerRunner.onTimers(keyedWorkItem.timersIterable());
+      return;
+    }
+
     ReduceFnRunner<K, InputT, OutputT, W> reduceFnRunner =
         new ReduceFnRunner<>(
             key,
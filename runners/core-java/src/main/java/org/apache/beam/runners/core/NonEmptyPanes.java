@@ -33,6 +33,11 @@ import org.apache.beam.sdk.values.WindowingStrategy.AccumulationMode;
  */
 public abstract class NonEmptyPanes<K, W extends BoundedWindow> {
 
+  /** The number of additions to the current pane, tracked for accumulating mode. */
+  static final StateTag<CombiningState<Long, long[], Long>> PANE_ADDITIONS_TAG =
+      StateTags.makeSystemTagInternal(
+          StateTags.combiningValueFromInputInternal("count", VarLongCoder.of(), Sum.ofLongs()));
+
   static <K, W extends BoundedWindow> NonEmptyPanes<K, W> create(
       WindowingStrategy<?, W> strategy, ReduceFn<K, ?, ?, W> reduceFn) {
     if (strategy.getMode() == AccumulationMode.DISCARDING_FIRED_PANES) {
@@ -103,10 +108,6 @@ public abstract class NonEmptyPanes<K, W extends BoundedWindow> {
   private static class GeneralNonEmptyPanes<K, W extends BoundedWindow>
       extends NonEmptyPanes<K, W> {
 
-    private static final StateTag<CombiningState<Long, long[], Long>> PANE_ADDITIONS_TAG =
-        StateTags.makeSystemTagInternal(
-            StateTags.combiningValueFromInputInternal("count", VarLongCoder.of(), Sum.ofLongs()));
-
     @Override
     public void recordContent(StateAccessor<K> state) {
       state.access(PANE_ADDITIONS_TAG).add(1L);
@@ -523,7 +523,7 @@ class ReduceFnContextFactory<K, InputT, OutputT, W extends BoundedWindow> {
     }
   }
 
-  private static <W extends BoundedWindow> StateContext<W> stateContextFromComponents(
+  static <W extends BoundedWindow> StateContext<W> stateContextFromComponents(
       final @Nullable PipelineOptions options,
       final @Nullable SideInputReader sideInputReader,
       final W mainInputWindow) {
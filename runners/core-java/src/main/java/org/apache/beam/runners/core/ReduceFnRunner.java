@@ -253,7 +253,7 @@ public class ReduceFnRunner<K, InputT, OutputT, W extends BoundedWindow> {
         new TriggerStateMachineRunner<>(
             triggerStateMachine,
             new TriggerStateMachineContextFactory<>(
-                windowingStrategy.getWindowFn(), stateInternals, activeWindows));
+                windowingStrategy.getWindowFn(), stateInternals, activeWindows, true));
   }
 
   private ActiveWindowSet<W> createActiveWindowSet() {
@@ -264,7 +264,7 @@ public class ReduceFnRunner<K, InputT, OutputT, W extends BoundedWindow> {
 
   @VisibleForTesting
   boolean isFinished(W window) {
-    return triggerRunner.isClosed(contextFactory.base(window, StateStyle.DIRECT).state());
+    return triggerRunner.isClosed(window, contextFactory.base(window, StateStyle.DIRECT).state());
   }
 
   @VisibleForTesting
@@ -277,7 +277,7 @@ public class ReduceFnRunner<K, InputT, OutputT, W extends BoundedWindow> {
     for (W window : windows) {
       ReduceFn<K, InputT, OutputT, W>.Context directContext =
           contextFactory.base(window, StateStyle.DIRECT);
-      if (!triggerRunner.isClosed(directContext.state())) {
+      if (!triggerRunner.isClosed(directContext.window(), directContext.state())) {
         result.add(window);
       }
     }
@@ -381,7 +381,12 @@ public class ReduceFnRunner<K, InputT, OutputT, W extends BoundedWindow> {
     activeWindows.cleanupTemporaryWindows();
   }
 
+  /**
+   * Writes the state that is buffered by this runner, such as the trigger finished sets, to the
+   * underlying {@link StateInternals}. Must be called before the state is committed.
+   */
   public void persist() {
+    triggerRunner.persist();
     activeWindows.persist();
   }
 
@@ -582,7 +587,7 @@ public class ReduceFnRunner<K, InputT, OutputT, W extends BoundedWindow> {
       ReduceFn<K, InputT, OutputT, W>.ProcessValueContext directContext =
           contextFactory.forValue(
               window, value.getValue(), value.getTimestamp(), StateStyle.DIRECT);
-      if (triggerRunner.isClosed(directContext.state())) {
+      if (triggerRunner.isClosed(directContext.window(), directContext.state())) {
         // This window has already been closed.
         droppedDueToClosedWindow.inc();
         WindowTracing.debug(
@@ -675,7 +680,7 @@ public class ReduceFnRunner<K, InputT, OutputT, W extends BoundedWindow> {
     // So we must take conjunction of activeWindows and triggerRunner state.
     public boolean windowIsActiveAndOpen() {
       return activeWindows.isActive(directContext.window())
-          && !triggerRunner.isClosed(directContext.state());
+          && !triggerRunner.isClosed(directContext.window(), directContext.state());
     }
   }
 
@@ -729,7 +734,7 @@ public class ReduceFnRunner<K, InputT, OutputT, W extends BoundedWindow> {
 
       // Perform prefetching of state to determine if the trigger should fire.
       if (windowActivation.isGarbageCollection) {
-        triggerRunner.prefetchIsClosed(directContext.state());
+        triggerRunner.prefetchIsClosed(directContext.window(), directContext.state());
       } else {
         triggerRunner.prefetchShouldFire(directContext.window(), directContext.state());
       }
@@ -886,7 +891,7 @@ public class ReduceFnRunner<K, InputT, OutputT, W extends BoundedWindow> {
     // Don't need to track address state windows anymore.
     activeWindows.remove(directContext.window());
     // We'll never need to test for the trigger being closed again.
-    triggerRunner.clearFinished(directContext.state());
+    triggerRunner.clearFinished(directContext.window(), directContext.state());
   }
 
   /** Should the reduce function state be cleared? */
@@ -906,7 +911,7 @@ public class ReduceFnRunner<K, InputT, OutputT, W extends BoundedWindow> {
       ReduceFn<K, InputT, OutputT, W>.Context directContext,
       ReduceFn<K, InputT, OutputT, W>.Context renamedContext) {
     triggerRunner.prefetchShouldFire(directContext.window(), directContext.state());
-    triggerRunner.prefetchIsClosed(directContext.state());
+    triggerRunner.prefetchIsClosed(directContext.window(), directContext.state());
     prefetchOnTrigger(directContext, renamedContext);
   }
 
@@ -921,7 +926,7 @@ public class ReduceFnRunner<K, InputT, OutputT, W extends BoundedWindow> {
 
     // Inform the trigger of the transition to see if it is finished
     triggerRunner.onFire(directContext.window(), directContext.timers(), directContext.state());
-    boolean isFinished = triggerRunner.isClosed(directContext.state());
+    boolean isFinished = triggerRunner.isClosed(directContext.window(), directContext.state());
 
     // Will be able to clear all element state after triggering?
     boolean shouldDiscard = shouldDiscardAfterFiring(isFinished);
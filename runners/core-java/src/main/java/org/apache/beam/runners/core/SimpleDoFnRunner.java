@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.apache.beam.runners.core.DoFnRunners.OutputManager;
+import org.apache.beam.runners.core.metrics.ElementLatencyTracker;
 import org.apache.beam.sdk.coders.Coder;
 import org.apache.beam.sdk.options.PipelineOptions;
 import org.apache.beam.sdk.schemas.SchemaCoder;
@@ -118,6 +119,8 @@ public class SimpleDoFnRunner<InputT, OutputT> implements DoFnRunner<InputT, Out
 
   private final Map<String, PCollectionView<?>> sideInputMapping;
 
+  private final ElementLatencyTracker elementLatencyTracker;
+
   /** Constructor. */
   public SimpleDoFnRunner(
       PipelineOptions options,
@@ -163,6 +166,7 @@ public class SimpleDoFnRunner<InputT, OutputT> implements DoFnRunner<InputT, Out
     this.allowedLateness = windowingStrategy.getAllowedLateness();
     this.doFnSchemaInformation = doFnSchemaInformation;
     this.sideInputMapping = sideInputMapping;
+    this.elementLatencyTracker = ElementLatencyTracker.create(options, null);
   }
 
   @Override
@@ -183,6 +187,7 @@ public class SimpleDoFnRunner<InputT, OutputT> implements DoFnRunner<InputT, Out
 
   @Override
   public void processElement(WindowedValue<InputT> compressedElem) {
+    long sampleStartNanos = elementLatencyTracker.startElement();
     if (observesWindow) {
       for (WindowedValue<InputT> elem : compressedElem.explodeWindows()) {
         invokeProcessElement(elem);
@@ -190,6 +195,7 @@ public class SimpleDoFnRunner<InputT, OutputT> implements DoFnRunner<InputT, Out
     } else {
       invokeProcessElement(compressedElem);
     }
+    elementLatencyTracker.finishElement(sampleStartNanos, compressedElem.getTimestamp());
   }
 
   @Override
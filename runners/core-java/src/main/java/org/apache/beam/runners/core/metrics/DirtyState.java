@@ -56,7 +56,11 @@ public class DirtyState implements Serializable {
    * <p>Should be called <b>after</b> modification of the value.
    */
   public void afterModification() {
-    dirty.set(State.DIRTY);
+    // Metric cells call this on every update, skip the write if the state is already DIRTY so that
+    // threads updating the same cell don't contend on its cache line.
+    if (dirty.get() != State.DIRTY) {
+      dirty.set(State.DIRTY);
+    }
   }
 
   /**
@@ -18,7 +18,8 @@
 package org.apache.beam.runners.core.metrics;
 
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.beam.sdk.metrics.Distribution;
 import org.apache.beam.sdk.metrics.MetricName;
 import org.apache.beam.sdk.metrics.MetricsContainer;
@@ -31,12 +32,17 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * distribution is being reported for a specific step (rather than the distribution in the current
  * context). In that case retrieving the underlying cell and reporting directly to it avoids a step
  * of indirection.
+ *
+ * <p>The sum, count, min and max are striped across {@link LongAdder}s and {@link
+ * LongAccumulator}s so that threads updating the distribution concurrently do not contend on a
+ * single atomic. Updates record the count last and {@link #getCumulative} reads it first, so a
+ * concurrently read value never covers fewer updates than its count. {@link #reset} replaces all
+ * four at once, so a distribution never combines values from before and after a reset.
  */
 public class DistributionCell implements Distribution, MetricCell<DistributionData> {
 
   private final DirtyState dirty = new DirtyState();
-  private final AtomicReference<DistributionData> value =
-      new AtomicReference<>(DistributionData.EMPTY);
+  private volatile Accumulators accumulators = new Accumulators();
   private final MetricName name;
 
   /**
@@ -51,26 +57,27 @@ public class DistributionCell implements Distribution, MetricCell<DistributionDa
   @Override
   public void reset() {
     dirty.afterModification();
-    value.set(DistributionData.EMPTY);
+    accumulators = new Accumulators();
   }
 
   /** Increment the distribution by the given amount. */
   @Override
   public void update(long n) {
-    update(DistributionData.singleton(n));
+    update(n, 1, n, n);
   }
 
   @Override
   public void update(long sum, long count, long min, long max) {
-    update(DistributionData.create(sum, count, min, max));
+    Accumulators accumulators = this.accumulators;
+    accumulators.min.accumulate(min);
+    accumulators.max.accumulate(max);
+    accumulators.sum.add(sum);
+    accumulators.count.add(count);
+    dirty.afterModification();
   }
 
   void update(DistributionData data) {
-    DistributionData original;
-    do {
-      original = value.get();
-    } while (!value.compareAndSet(original, original.combine(data)));
-    dirty.afterModification();
+    update(data.sum(), data.count(), data.min(), data.max());
   }
 
   @Override
@@ -80,7 +87,13 @@ public class DistributionCell implements Distribution, MetricCell<DistributionDa
 
   @Override
   public DistributionData getCumulative() {
-    return value.get();
+    Accumulators accumulators = this.accumulators;
+    long count = accumulators.count.sum();
+    if (count == 0) {
+      return DistributionData.EMPTY;
+    }
+    return DistributionData.create(
+        accumulators.sum.sum(), count, accumulators.min.get(), accumulators.max.get());
   }
 
   @Override
@@ -93,7 +106,7 @@ public class DistributionCell implements Distribution, MetricCell<DistributionDa
     if (object instanceof DistributionCell) {
       DistributionCell distributionCell = (DistributionCell) object;
       return Objects.equals(dirty, distributionCell.dirty)
-          && Objects.equals(value.get(), distributionCell.value.get())
+          && Objects.equals(getCumulative(), distributionCell.getCumulative())
           && Objects.equals(name, distributionCell.name);
     }
 
@@ -102,6 +115,14 @@ public class DistributionCell implements Distribution, MetricCell<DistributionDa
 
   @Override
   public int hashCode() {
-    return Objects.hash(dirty, value.get(), name);
+    return Objects.hash(dirty, getCumulative(), name);
+  }
+
+  /** The striped sum, count, min and max of a distribution since it was created or reset. */
+  private static class Accumulators {
+    private final LongAdder sum = new LongAdder();
+    private final LongAdder count = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
   }
 }
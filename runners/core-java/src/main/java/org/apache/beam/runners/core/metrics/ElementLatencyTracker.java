@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.runners.core.metrics;
+
+import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.beam.sdk.metrics.Distribution;
+import org.apache.beam.sdk.metrics.MetricsContainer;
+import org.apache.beam.sdk.options.ExperimentalOptions;
+import org.apache.beam.sdk.options.PipelineOptions;
+import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.annotations.VisibleForTesting;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.joda.time.Instant;
+
+/**
+ * Records the processing latency and the event time lag of a sample of the elements processed by a
+ * DoFn into the {@link MonitoringInfoConstants.Urns#ELEMENT_PROCESSING_LATENCY_USECS} and {@link
+ * MonitoringInfoConstants.Urns#ELEMENT_EVENT_TIME_LAG_MSECS} distributions of the current {@link
+ * MetricsContainer}.
+ *
+ * <p>Sampling is opt-in: it is enabled by the {@code element_latency_sampling_period=<n>}
+ * experiment, which samples every n-th element. Instances are not thread-safe, they are meant to be
+ * owned by a single DoFn runner.
+ */
+public class ElementLatencyTracker {
+
+  /** Returned by {@link #startElement()} for elements which are not sampled. */
+  public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+  private static final ElementLatencyTracker DISABLED =
+      new ElementLatencyTracker(0, Collections.emptyMap());
+
+  private final long samplingPeriod;
+  private final Distribution processingLatencyUsecs;
+  private final Distribution eventTimeLagMsecs;
+  private long elementsUntilSample;
+
+  @VisibleForTesting
+  ElementLatencyTracker(long samplingPeriod, Map<String, String> labels) {
+    checkArgument(
+        samplingPeriod >= 0, "The sampling period must not be negative, was %s", samplingPeriod);
+    this.samplingPeriod = samplingPeriod;
+    this.processingLatencyUsecs =
+        LabeledMetrics.distribution(
+            MonitoringInfoMetricName.named(
+                MonitoringInfoConstants.Urns.ELEMENT_PROCESSING_LATENCY_USECS, labels));
+    this.eventTimeLagMsecs =
+        LabeledMetrics.distribution(
+            MonitoringInfoMetricName.named(
+                MonitoringInfoConstants.Urns.ELEMENT_EVENT_TIME_LAG_MSECS, labels));
+    this.elementsUntilSample = 1;
+  }
+
+  /**
+   * Returns a tracker for the elements of the given PTransform, which samples elements only if the
+   * {@code element_latency_sampling_period} experiment is set.
+   *
+   * <p>If {@code pTransformId} is null, the metrics are attributed to the step of the {@link
+   * MetricsContainerImpl} they are recorded in.
+   */
+  public static ElementLatencyTracker create(
+      @Nullable PipelineOptions options, @Nullable String pTransformId) {
+    String samplingPeriod =
+        ExperimentalOptions.getExperimentValue(
+            options, ExperimentalOptions.ELEMENT_LATENCY_SAMPLING_PERIOD);
+    if (samplingPeriod == null) {
+      return DISABLED;
+    }
+    return new ElementLatencyTracker(
+        Long.parseLong(samplingPeriod),
+        pTransformId == null
+            ? Collections.emptyMap()
+            : ImmutableMap.of(MonitoringInfoConstants.Labels.PTRANSFORM, pTransformId));
+  }
+
+  /**
+   * Called before processing an element. Returns the start time of the element to pass to {@link
+   * #finishElement}, or {@link #NOT_SAMPLED} if the element is not sampled.
+   */
+  public long startElement() {
+    if (samplingPeriod == 0 || --elementsUntilSample > 0) {
+      return NOT_SAMPLED;
+    }
+    elementsUntilSample = samplingPeriod;
+    return System.nanoTime();
+  }
+
+  /** Called after processing an element with the value returned by {@link #startElement()}. */
+  public void finishElement(long startNanos, Instant timestamp) {
+    if (startNanos == NOT_SAMPLED) {
+      return;
+    }
+    processingLatencyUsecs.update(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+    // Elements without a meaningful event time, e.g. those of bounded sources in the global window,
+    // would only skew the lag.
+    if (timestamp.isAfter(BoundedWindow.TIMESTAMP_MIN_VALUE)
+        && timestamp.isBefore(BoundedWindow.TIMESTAMP_MAX_VALUE)) {
+      eventTimeLagMsecs.update(System.currentTimeMillis() - timestamp.getMillis());
+    }
+  }
+}
@@ -78,6 +78,23 @@ public class ExecutionStateSampler {
     periodMs = samplingPeriodMillis;
   }
 
+  // Stack sampling can be enabled with flag --experiment state_sampling_stacks.
+  private static volatile boolean stackSamplingEnabled = false;
+
+  /**
+   * Enables or disables capturing the stack of each tracked thread at every sampling tick. The
+   * captured stacks are reported to the current {@link ExecutionStateTracker.ExecutionState} via
+   * {@link ExecutionStateTracker.ExecutionState#takeStackSample}.
+   */
+  public static void setStackSamplingEnabled(boolean enabled) {
+    stackSamplingEnabled = enabled;
+  }
+
+  /** Returns whether the stacks of the tracked threads are captured at every sampling tick. */
+  public static boolean isStackSamplingEnabled() {
+    return stackSamplingEnabled;
+  }
+
   /** Reset the state sampler. */
   public void reset() {
     lastSampleTimeMillis = 0;
@@ -72,6 +72,16 @@ public class ExecutionStateTracker implements Comparable<ExecutionStateTracker>
      */
     public abstract void takeSample(long millisSinceLastSample);
 
+    /**
+     * Called by the {@link ExecutionStateSampler} after {@link #takeSample} with the stack of the
+     * tracked thread when stack sampling is enabled, see {@link
+     * ExecutionStateSampler#setStackSamplingEnabled}. Does nothing by default.
+     *
+     * @param stack the stack of the tracked thread, innermost frame first.
+     * @param millisSinceLastSample the time since the last sample was reported.
+     */
+    public void takeStackSample(StackTraceElement[] stack, long millisSinceLastSample) {}
+
     /** Returns the name of this state within the executing step. */
     public String getStateName() {
       return stateName;
@@ -326,6 +336,10 @@ public class ExecutionStateTracker implements Comparable<ExecutionStateTracker>
       }
 
       state.takeSample(millisSinceLastSample);
+      Thread thread = trackedThread;
+      if (thread != null && ExecutionStateSampler.isStackSamplingEnabled()) {
+        state.takeStackSample(thread.getStackTrace(), millisSinceLastSample);
+      }
     }
   }
 }
@@ -17,7 +17,9 @@
  */
 package org.apache.beam.runners.core.metrics;
 
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.beam.sdk.metrics.MetricName;
 import org.apache.beam.sdk.metrics.MetricsContainer;
 import org.apache.beam.sdk.util.HistogramData;
@@ -31,12 +33,18 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * histogram is being reported for a specific step (rather than the histogram in the current
  * context). In that case retrieving the underlying cell and reporting directly to it avoids a step
  * of indirection.
+ *
+ * <p>Like {@link CounterCell} and {@link DistributionCell}, the bucket counts are striped across
+ * {@link LongAdder}s so that threads updating the histogram concurrently do not contend on the
+ * lock of a single {@link HistogramData}. {@link #getCumulative} returns a snapshot of the counts,
+ * and {@link #reset} replaces all counts at once.
  */
 public class HistogramCell
     implements org.apache.beam.sdk.metrics.Histogram, MetricCell<HistogramData> {
 
   private final DirtyState dirty = new DirtyState();
-  private final HistogramData value;
+  private final HistogramData.BucketType bucketType;
+  private volatile BucketCounts counts;
   private final MetricName name;
 
   /**
@@ -46,19 +54,27 @@ public class HistogramCell
    */
   public HistogramCell(KV<MetricName, HistogramData.BucketType> kv) {
     this.name = kv.getKey();
-    this.value = new HistogramData(kv.getValue());
+    this.bucketType = kv.getValue();
+    this.counts = new BucketCounts(bucketType.getNumBuckets());
   }
 
   @Override
   public void reset() {
     dirty.afterModification();
-    value.clear();
+    counts = new BucketCounts(bucketType.getNumBuckets());
   }
 
   /** Increment the corresponding histogram bucket count for the value by 1. */
   @Override
   public void update(double value) {
-    this.value.record(value);
+    BucketCounts counts = this.counts;
+    if (value >= bucketType.getRangeTo()) {
+      counts.top.increment();
+    } else if (value < bucketType.getRangeFrom()) {
+      counts.bottom.increment();
+    } else {
+      counts.buckets[bucketType.getBucketIndex(value)].increment();
+    }
     dirty.afterModification();
   }
 
@@ -66,7 +82,20 @@ public class HistogramCell
    * Increment all of the bucket counts in this histogram, by the bucket counts specified in other.
    */
   public void update(HistogramCell other) {
-    this.value.update(other.value);
+    this.update(other.getCumulative());
+  }
+
+  private void update(HistogramData other) {
+    if (!bucketType.equals(other.getBucketType())) {
+      // Matches HistogramData#update, which ignores histograms with different buckets.
+      return;
+    }
+    BucketCounts counts = this.counts;
+    counts.bottom.add(other.getBottomBucketCount());
+    for (int i = 0; i < counts.buckets.length; i++) {
+      counts.buckets[i].add(other.getCount(i));
+    }
+    counts.top.add(other.getTopBucketCount());
     dirty.afterModification();
   }
 
@@ -74,17 +103,17 @@ public class HistogramCell
   // and remove the incTopBucketCount and incBotBucketCount methods.
   // Using 0 and length -1 as the bucketIndex.
   public void incBucketCount(int bucketIndex, long count) {
-    this.value.incBucketCount(bucketIndex, count);
+    this.counts.buckets[bucketIndex].add(count);
     dirty.afterModification();
   }
 
   public void incTopBucketCount(long count) {
-    this.value.incTopBucketCount(count);
+    this.counts.top.add(count);
     dirty.afterModification();
   }
 
   public void incBottomBucketCount(long count) {
-    this.value.incBottomBucketCount(count);
+    this.counts.bottom.add(count);
     dirty.afterModification();
   }
 
@@ -95,6 +124,13 @@ public class HistogramCell
 
   @Override
   public HistogramData getCumulative() {
+    BucketCounts counts = this.counts;
+    HistogramData value = new HistogramData(bucketType);
+    value.incBottomBucketCount(counts.bottom.sum());
+    for (int i = 0; i < counts.buckets.length; i++) {
+      value.incBucketCount(i, counts.buckets[i].sum());
+    }
+    value.incTopBucketCount(counts.top.sum());
     return value;
   }
 
@@ -103,12 +139,25 @@ public class HistogramCell
     return name;
   }
 
+  /** Returns the bottom, bounded and top bucket counts, in that order. */
+  private long[] countsSnapshot() {
+    BucketCounts counts = this.counts;
+    long[] snapshot = new long[counts.buckets.length + 2];
+    snapshot[0] = counts.bottom.sum();
+    for (int i = 0; i < counts.buckets.length; i++) {
+      snapshot[i + 1] = counts.buckets[i].sum();
+    }
+    snapshot[snapshot.length - 1] = counts.top.sum();
+    return snapshot;
+  }
+
   @Override
   public boolean equals(@Nullable Object object) {
     if (object instanceof HistogramCell) {
       HistogramCell histogramCell = (HistogramCell) object;
       return Objects.equals(dirty, histogramCell.dirty)
-          && Objects.equals(value, histogramCell.value)
+          && Objects.equals(bucketType, histogramCell.bucketType)
+          && Arrays.equals(countsSnapshot(), histogramCell.countsSnapshot())
           && Objects.equals(name, histogramCell.name);
     }
 
@@ -117,6 +166,20 @@ public class HistogramCell
 
   @Override
   public int hashCode() {
-    return Objects.hash(dirty, value, name);
+    return Objects.hash(dirty, bucketType, Arrays.hashCode(countsSnapshot()), name);
+  }
+
+  /** The striped bucket counts of a histogram since it was created or reset. */
+  private static class BucketCounts {
+    private final LongAdder bottom = new LongAdder();
+    private final LongAdder[] buckets;
+    private final LongAdder top = new LongAdder();
+
+    private BucketCounts(int numBuckets) {
+      buckets = new LongAdder[numBuckets];
+      for (int i = 0; i < numBuckets; i++) {
+        buckets[i] = new LongAdder();
+      }
+    }
   }
 }
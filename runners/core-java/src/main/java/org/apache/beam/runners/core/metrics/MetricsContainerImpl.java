@@ -17,12 +17,16 @@
  */
 package org.apache.beam.runners.core.metrics;
 
+import static org.apache.beam.runners.core.metrics.MonitoringInfoConstants.TypeUrns.COLLAPSED_STACKS_TYPE;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoConstants.TypeUrns.DISTRIBUTION_INT64_TYPE;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoConstants.TypeUrns.LATEST_INT64_TYPE;
+import static org.apache.beam.runners.core.metrics.MonitoringInfoConstants.TypeUrns.QUANTILE_SKETCH_DOUBLE_TYPE;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoConstants.TypeUrns.SUM_INT64_TYPE;
+import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeDoubleQuantileSketch;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeInt64Counter;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeInt64Distribution;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeInt64Gauge;
+import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeDoubleQuantileSketch;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeInt64Counter;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeInt64Distribution;
 import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Preconditions.checkNotNull;
@@ -43,6 +47,7 @@ import org.apache.beam.sdk.metrics.Metric;
 import org.apache.beam.sdk.metrics.MetricKey;
 import org.apache.beam.sdk.metrics.MetricName;
 import org.apache.beam.sdk.metrics.MetricsContainer;
+import org.apache.beam.sdk.metrics.QuantileSketch;
 import org.apache.beam.sdk.util.HistogramData;
 import org.apache.beam.sdk.values.KV;
 import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
@@ -86,6 +91,9 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
   private MetricsMap<KV<MetricName, HistogramData.BucketType>, HistogramCell> histograms =
       new MetricsMap<>(HistogramCell::new);
 
+  private MetricsMap<MetricName, QuantileDistributionCell> quantileDistributions =
+      new MetricsMap<>(QuantileDistributionCell::new);
+
   private MetricsContainerImpl(@Nullable String stepName, boolean isProcessWide) {
     this.stepName = stepName;
     this.isProcessWide = isProcessWide;
@@ -121,6 +129,7 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
     reset(distributions);
     reset(gauges);
     reset(histograms);
+    reset(quantileDistributions);
   }
 
   private void reset(MetricsMap<?, ? extends MetricCell<?>> cells) {
@@ -181,6 +190,23 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
     return histograms.tryGet(KV.of(metricName, bucketType));
   }
 
+  /**
+   * Return a {@code QuantileDistributionCell} named {@code metricName}. If it doesn't exist, create
+   * a {@code Metric} with the specified name.
+   */
+  @Override
+  public QuantileDistributionCell getQuantileDistribution(MetricName metricName) {
+    return quantileDistributions.get(metricName);
+  }
+
+  /**
+   * Return a {@code QuantileDistributionCell} named {@code metricName}. If it doesn't exist, return
+   * {@code null}.
+   */
+  public @Nullable QuantileDistributionCell tryGetQuantileDistribution(MetricName metricName) {
+    return quantileDistributions.tryGet(metricName);
+  }
+
   /**
    * Return a {@code GaugeCell} named {@code metricName}. If it doesn't exist, create a {@code
    * Metric} with the specified name.
@@ -216,7 +242,10 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
    */
   public MetricUpdates getUpdates() {
     return MetricUpdates.create(
-        extractUpdates(counters), extractUpdates(distributions), extractUpdates(gauges));
+        extractUpdates(counters),
+        extractUpdates(distributions),
+        extractUpdates(gauges),
+        extractUpdates(quantileDistributions));
   }
 
   /** @return The MonitoringInfo metadata from the metric. */
@@ -233,6 +262,14 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
       for (Entry<String, String> e : monitoringInfoName.getLabels().entrySet()) {
         builder.setLabel(e.getKey(), e.getValue());
       }
+      // Runner code which is not aware of the step it executes may leave out the PTransform label,
+      // in which case the metric belongs to the step of this container.
+      if (stepName != null
+          && !monitoringInfoName.getLabels().containsKey(MonitoringInfoConstants.Labels.PTRANSFORM)
+          && SimpleMonitoringInfoBuilder.isRequiredLabel(
+              monitoringInfoName.getUrn(), MonitoringInfoConstants.Labels.PTRANSFORM)) {
+        builder.setLabel(MonitoringInfoConstants.Labels.PTRANSFORM, stepName);
+      }
     } else { // Represents a user counter.
       // Drop if the stepname is not set. All user counters must be
       // defined for a PTransform. They must be defined on a container bound to a step.
@@ -290,6 +327,27 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
     return builder.build();
   }
 
+  /** @return The MonitoringInfo metadata from the quantile distribution metric. */
+  private @Nullable SimpleMonitoringInfoBuilder quantileDistributionToMonitoringMetadata(
+      MetricKey metricKey) {
+    return metricToMonitoringMetadata(
+        metricKey,
+        MonitoringInfoConstants.TypeUrns.QUANTILE_SKETCH_DOUBLE_TYPE,
+        MonitoringInfoConstants.Urns.USER_QUANTILE_SKETCH_DOUBLE);
+  }
+
+  /** @return The MonitoringInfo generated from the quantile distribution metricUpdate. */
+  private @Nullable MonitoringInfo quantileDistributionUpdateToMonitoringInfo(
+      MetricUpdate<QuantileSketch> metricUpdate) {
+    SimpleMonitoringInfoBuilder builder =
+        quantileDistributionToMonitoringMetadata(metricUpdate.getKey());
+    if (builder == null) {
+      return null;
+    }
+    builder.setDoubleQuantileSketchValue(metricUpdate.getUpdate());
+    return builder.build();
+  }
+
   /** Return the cumulative values for any metrics in this container as MonitoringInfos. */
   @Override
   public Iterable<MonitoringInfo> getMonitoringInfos() {
@@ -311,6 +369,14 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
         monitoringInfos.add(mi);
       }
     }
+
+    for (MetricUpdate<QuantileSketch> metricUpdate :
+        metricUpdates.quantileDistributionUpdates()) {
+      MonitoringInfo mi = quantileDistributionUpdateToMonitoringInfo(metricUpdate);
+      if (mi != null) {
+        monitoringInfos.add(mi);
+      }
+    }
     return monitoringInfos;
   }
 
@@ -332,6 +398,15 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
         builder.put(shortId, encodeInt64Distribution(metricUpdate.getUpdate()));
       }
     }
+    for (MetricUpdate<QuantileSketch> metricUpdate :
+        metricUpdates.quantileDistributionUpdates()) {
+      String shortId =
+          getShortId(
+              metricUpdate.getKey(), this::quantileDistributionToMonitoringMetadata, shortIds);
+      if (shortId != null) {
+        builder.put(shortId, encodeDoubleQuantileSketch(metricUpdate.getUpdate()));
+      }
+    }
     return builder.build();
   }
 
@@ -369,6 +444,7 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
     commitUpdates(counters);
     commitUpdates(distributions);
     commitUpdates(gauges);
+    commitUpdates(quantileDistributions);
   }
 
   private <UserT extends Metric, UpdateT, CellT extends MetricCell<UpdateT>>
@@ -389,7 +465,8 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
     return MetricUpdates.create(
         extractCumulatives(counters),
         extractCumulatives(distributions),
-        extractCumulatives(gauges));
+        extractCumulatives(gauges),
+        extractCumulatives(quantileDistributions));
   }
 
   /** Update values of this {@link MetricsContainerImpl} by merging the value of another cell. */
@@ -398,6 +475,7 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
     updateDistributions(distributions, other.distributions);
     updateGauges(gauges, other.gauges);
     updateHistograms(histograms, other.histograms);
+    updateQuantileDistributions(quantileDistributions, other.quantileDistributions);
   }
 
   private void updateForSumInt64Type(MonitoringInfo monitoringInfo) {
@@ -420,6 +498,12 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
     gauge.update(decodeInt64Gauge(monitoringInfo.getPayload()));
   }
 
+  private void updateForQuantileSketchDoubleType(MonitoringInfo monitoringInfo) {
+    MetricName metricName = MonitoringInfoMetricName.of(monitoringInfo);
+    QuantileDistributionCell quantileDistribution = getQuantileDistribution(metricName);
+    quantileDistribution.update(decodeDoubleQuantileSketch(monitoringInfo.getPayload()));
+  }
+
   /** Update values of this {@link MetricsContainerImpl} by reading from {@code monitoringInfos}. */
   public void update(Iterable<MonitoringInfo> monitoringInfos) {
     for (MonitoringInfo monitoringInfo : monitoringInfos) {
@@ -440,6 +524,14 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
           updateForLatestInt64Type(monitoringInfo);
           break;
 
+        case QUANTILE_SKETCH_DOUBLE_TYPE:
+          updateForQuantileSketchDoubleType(monitoringInfo);
+          break;
+
+        case COLLAPSED_STACKS_TYPE:
+          // Execution profiles are not metrics, they are left to the runner's profile consumers.
+          break;
+
         default:
           LOG.warn("Unsupported metric type {}", monitoringInfo.getType());
       }
@@ -478,6 +570,17 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
     }
   }
 
+  private void updateQuantileDistributions(
+      MetricsMap<MetricName, QuantileDistributionCell> current,
+      MetricsMap<MetricName, QuantileDistributionCell> updates) {
+    for (Map.Entry<MetricName, QuantileDistributionCell> quantileDistribution :
+        updates.entries()) {
+      current
+          .get(quantileDistribution.getKey())
+          .update(quantileDistribution.getValue().getCumulative());
+    }
+  }
+
   @Override
   public boolean equals(@Nullable Object object) {
     if (object instanceof MetricsContainerImpl) {
@@ -485,14 +588,15 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
       return Objects.equals(stepName, metricsContainerImpl.stepName)
           && Objects.equals(counters, metricsContainerImpl.counters)
           && Objects.equals(distributions, metricsContainerImpl.distributions)
-          && Objects.equals(gauges, metricsContainerImpl.gauges);
+          && Objects.equals(gauges, metricsContainerImpl.gauges)
+          && Objects.equals(quantileDistributions, metricsContainerImpl.quantileDistributions);
     }
     return false;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(stepName, counters, distributions, gauges);
+    return Objects.hash(stepName, counters, distributions, gauges, quantileDistributions);
   }
 
   /**
@@ -546,6 +650,15 @@ public class MetricsContainerImpl implements Serializable, MetricsContainer {
       message.append(String.format("{timestamp: %s, value: %d}", data.timestamp(), data.value()));
       message.append("\n");
     }
+    for (Map.Entry<MetricName, QuantileDistributionCell> cell : quantileDistributions.entries()) {
+      if (!matchMetric(cell.getKey(), allowedMetricUrns)) {
+        continue;
+      }
+      message.append(cell.getKey().toString());
+      message.append(" = ");
+      message.append(cell.getValue().getCumulative());
+      message.append("\n");
+    }
     for (Map.Entry<KV<MetricName, HistogramData.BucketType>, HistogramCell> cell :
         histograms.entries()) {
       if (!matchMetric(cell.getKey().getKey(), allowedMetricUrns)) {
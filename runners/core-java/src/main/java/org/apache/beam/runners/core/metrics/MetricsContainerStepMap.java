@@ -35,6 +35,7 @@ import org.apache.beam.runners.core.metrics.MetricUpdates.MetricUpdate;
 import org.apache.beam.sdk.metrics.MetricKey;
 import org.apache.beam.sdk.metrics.MetricResult;
 import org.apache.beam.sdk.metrics.MetricResults;
+import org.apache.beam.sdk.metrics.QuantileSketch;
 import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
 import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.InvalidProtocolBufferException;
 import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.util.JsonFormat;
@@ -66,6 +67,11 @@ public class MetricsContainerStepMap implements Serializable {
       // TODO(BEAM-6538): Disallow this in the future, some tests rely on an empty step name today.
       return getUnboundContainer();
     }
+    // Check for an existing container first since computeIfAbsent may lock even if it is present.
+    MetricsContainerImpl container = metricsContainers.get(stepName);
+    if (container != null) {
+      return container;
+    }
     return metricsContainers.computeIfAbsent(
         stepName, (String name) -> new MetricsContainerImpl(name));
   }
@@ -138,6 +144,7 @@ public class MetricsContainerStepMap implements Serializable {
     Map<MetricKey, MetricResult<Long>> counters = new HashMap<>();
     Map<MetricKey, MetricResult<DistributionData>> distributions = new HashMap<>();
     Map<MetricKey, MetricResult<GaugeData>> gauges = new HashMap<>();
+    Map<MetricKey, MetricResult<QuantileSketch>> quantileDistributions = new HashMap<>();
 
     for (MetricsContainerImpl container : attemptedMetricsContainers.getMetricsContainers()) {
       MetricUpdates cumulative = container.getCumulative();
@@ -145,6 +152,10 @@ public class MetricsContainerStepMap implements Serializable {
       mergeAttemptedResults(
           distributions, cumulative.distributionUpdates(), DistributionData::combine);
       mergeAttemptedResults(gauges, cumulative.gaugeUpdates(), GaugeData::combine);
+      mergeAttemptedResults(
+          quantileDistributions,
+          cumulative.quantileDistributionUpdates(),
+          MetricsContainerStepMap::mergeSketches);
     }
     for (MetricsContainerImpl container : committedMetricsContainers.getMetricsContainers()) {
       MetricUpdates cumulative = container.getCumulative();
@@ -152,6 +163,10 @@ public class MetricsContainerStepMap implements Serializable {
       mergeCommittedResults(
           distributions, cumulative.distributionUpdates(), DistributionData::combine);
       mergeCommittedResults(gauges, cumulative.gaugeUpdates(), GaugeData::combine);
+      mergeCommittedResults(
+          quantileDistributions,
+          cumulative.quantileDistributionUpdates(),
+          MetricsContainerStepMap::mergeSketches);
     }
 
     return new DefaultMetricResults(
@@ -161,7 +176,14 @@ public class MetricsContainerStepMap implements Serializable {
             .collect(toList()),
         gauges.values().stream()
             .map(result -> result.transform(GaugeData::extractResult))
-            .collect(toList()));
+            .collect(toList()),
+        quantileDistributions.values());
+  }
+
+  private static QuantileSketch mergeSketches(QuantileSketch left, QuantileSketch right) {
+    QuantileSketch merged = left.copy();
+    merged.merge(right);
+    return merged;
   }
 
   /** Return the cumulative values for any metrics in this container as MonitoringInfos. */
@@ -48,6 +48,8 @@ public final class MonitoringInfoConstants {
         extractUrn(MonitoringInfoSpecs.Enum.USER_DISTRIBUTION_INT64);
     public static final String USER_DISTRIBUTION_DOUBLE =
         extractUrn(MonitoringInfoSpecs.Enum.USER_DISTRIBUTION_DOUBLE);
+    public static final String USER_QUANTILE_SKETCH_DOUBLE =
+        extractUrn(MonitoringInfoSpecs.Enum.USER_QUANTILE_SKETCH_DOUBLE);
     public static final String SAMPLED_BYTE_SIZE =
         extractUrn(MonitoringInfoSpecs.Enum.SAMPLED_BYTE_SIZE);
     public static final String WORK_COMPLETED = extractUrn(MonitoringInfoSpecs.Enum.WORK_COMPLETED);
@@ -58,6 +60,24 @@ public final class MonitoringInfoConstants {
         extractUrn(MonitoringInfoSpecs.Enum.API_REQUEST_COUNT);
     public static final String API_REQUEST_LATENCIES =
         extractUrn(MonitoringInfoSpecs.Enum.API_REQUEST_LATENCIES);
+    public static final String STATE_CACHE_HIT_COUNT =
+        extractUrn(MonitoringInfoSpecs.Enum.STATE_CACHE_HIT_COUNT);
+    public static final String STATE_CACHE_MISS_COUNT =
+        extractUrn(MonitoringInfoSpecs.Enum.STATE_CACHE_MISS_COUNT);
+    public static final String STATE_CACHE_EVICTION_COUNT =
+        extractUrn(MonitoringInfoSpecs.Enum.STATE_CACHE_EVICTION_COUNT);
+    public static final String BUNDLE_PROCESSOR_CREATED_COUNT =
+        extractUrn(MonitoringInfoSpecs.Enum.BUNDLE_PROCESSOR_CREATED_COUNT);
+    public static final String BUNDLE_PROCESSOR_REUSED_COUNT =
+        extractUrn(MonitoringInfoSpecs.Enum.BUNDLE_PROCESSOR_REUSED_COUNT);
+    public static final String BUNDLE_PROCESSOR_EVICTED_COUNT =
+        extractUrn(MonitoringInfoSpecs.Enum.BUNDLE_PROCESSOR_EVICTED_COUNT);
+    public static final String EXECUTION_PROFILE =
+        extractUrn(MonitoringInfoSpecs.Enum.EXECUTION_PROFILE);
+    public static final String ELEMENT_PROCESSING_LATENCY_USECS =
+        extractUrn(MonitoringInfoSpecs.Enum.ELEMENT_PROCESSING_LATENCY_USECS);
+    public static final String ELEMENT_EVENT_TIME_LAG_MSECS =
+        extractUrn(MonitoringInfoSpecs.Enum.ELEMENT_EVENT_TIME_LAG_MSECS);
   }
 
   /** Standardised MonitoringInfo labels that can be utilized by runners. */
@@ -136,6 +156,9 @@ public final class MonitoringInfoConstants {
     public static final String BOTTOM_N_INT64_TYPE = "beam:metrics:bottom_n_int64:v1";
     public static final String BOTTOM_N_DOUBLE_TYPE = "beam:metrics:bottom_n_double:v1";
     public static final String PROGRESS_TYPE = "beam:metrics:progress:v1";
+    public static final String COLLAPSED_STACKS_TYPE = "beam:metrics:collapsed_stacks:v1";
+    public static final String QUANTILE_SKETCH_DOUBLE_TYPE =
+        "beam:metrics:quantile_sketch_double:v1";
 
     static {
       checkArgument(SUM_INT64_TYPE.equals(getUrn(MonitoringInfoTypeUrns.Enum.SUM_INT64_TYPE)));
@@ -158,6 +181,11 @@ public final class MonitoringInfoConstants {
       checkArgument(
           BOTTOM_N_DOUBLE_TYPE.equals(getUrn(MonitoringInfoTypeUrns.Enum.BOTTOM_N_DOUBLE_TYPE)));
       checkArgument(PROGRESS_TYPE.equals(getUrn(MonitoringInfoTypeUrns.Enum.PROGRESS_TYPE)));
+      checkArgument(
+          COLLAPSED_STACKS_TYPE.equals(getUrn(MonitoringInfoTypeUrns.Enum.COLLAPSED_STACKS_TYPE)));
+      checkArgument(
+          QUANTILE_SKETCH_DOUBLE_TYPE.equals(
+              getUrn(MonitoringInfoTypeUrns.Enum.QUANTILE_SKETCH_DOUBLE_TYPE)));
     }
   }
 
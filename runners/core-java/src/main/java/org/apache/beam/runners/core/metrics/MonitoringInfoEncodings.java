@@ -21,7 +21,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import org.apache.beam.sdk.coders.Coder;
 import org.apache.beam.sdk.coders.DoubleCoder;
+import org.apache.beam.sdk.coders.StringUtf8Coder;
 import org.apache.beam.sdk.coders.VarLongCoder;
+import org.apache.beam.sdk.metrics.QuantileSketch;
 import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
 import org.joda.time.Instant;
 
@@ -29,6 +31,7 @@ import org.joda.time.Instant;
 public class MonitoringInfoEncodings {
   private static final Coder<Long> VARINT_CODER = VarLongCoder.of();
   private static final Coder<Double> DOUBLE_CODER = DoubleCoder.of();
+  private static final Coder<String> STRING_CODER = StringUtf8Coder.of();
 
   /** Encodes to {@link MonitoringInfoConstants.TypeUrns#DISTRIBUTION_INT64_TYPE}. */
   public static ByteString encodeInt64Distribution(DistributionData data) {
@@ -136,4 +139,44 @@ public class MonitoringInfoEncodings {
       throw new RuntimeException(e);
     }
   }
+
+  /** Encodes to {@link MonitoringInfoConstants.TypeUrns#COLLAPSED_STACKS_TYPE}. */
+  public static ByteString encodeCollapsedStacks(String collapsedStacks) {
+    ByteString.Output output = ByteString.newOutput();
+    try {
+      STRING_CODER.encode(collapsedStacks, output);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return output.toByteString();
+  }
+
+  /** Decodes from {@link MonitoringInfoConstants.TypeUrns#COLLAPSED_STACKS_TYPE}. */
+  public static String decodeCollapsedStacks(ByteString payload) {
+    try {
+      return STRING_CODER.decode(payload.newInput());
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /** Encodes to {@link MonitoringInfoConstants.TypeUrns#QUANTILE_SKETCH_DOUBLE_TYPE}. */
+  public static ByteString encodeDoubleQuantileSketch(QuantileSketch sketch) {
+    ByteString.Output output = ByteString.newOutput();
+    try {
+      sketch.encode(output);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return output.toByteString();
+  }
+
+  /** Decodes from {@link MonitoringInfoConstants.TypeUrns#QUANTILE_SKETCH_DOUBLE_TYPE}. */
+  public static QuantileSketch decodeDoubleQuantileSketch(ByteString payload) {
+    try {
+      return QuantileSketch.decode(payload.newInput());
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.runners.core.metrics;
+
+import java.util.Objects;
+import org.apache.beam.sdk.metrics.MetricName;
+import org.apache.beam.sdk.metrics.MetricsContainer;
+import org.apache.beam.sdk.metrics.QuantileDistribution;
+import org.apache.beam.sdk.metrics.QuantileSketch;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Tracks the current value (and delta) for a QuantileDistribution metric.
+ *
+ * <p>This class generally shouldn't be used directly. The only exception is within a runner where a
+ * quantile distribution is being reported for a specific step (rather than the quantile
+ * distribution in the current context). In that case retrieving the underlying cell and reporting
+ * directly to it avoids a step of indirection.
+ */
+public class QuantileDistributionCell implements QuantileDistribution, MetricCell<QuantileSketch> {
+
+  private final DirtyState dirty = new DirtyState();
+  private final QuantileSketch value = QuantileSketch.create();
+  private final MetricName name;
+
+  /**
+   * Generally, runners should construct instances using the methods in {@link
+   * MetricsContainerImpl}, unless they need to define their own version of {@link
+   * MetricsContainer}. These constructors are *only* public so runners can instantiate.
+   */
+  public QuantileDistributionCell(MetricName name) {
+    this.name = name;
+  }
+
+  @Override
+  public void reset() {
+    dirty.afterModification();
+    synchronized (value) {
+      value.clear();
+    }
+  }
+
+  /** Add an observation to the sketch of this distribution. */
+  @Override
+  public void update(double value) {
+    synchronized (this.value) {
+      this.value.add(value);
+    }
+    dirty.afterModification();
+  }
+
+  /** Merge all values of the given sketch into the sketch of this distribution. */
+  public void update(QuantileSketch sketch) {
+    synchronized (value) {
+      value.merge(sketch);
+    }
+    dirty.afterModification();
+  }
+
+  @Override
+  public DirtyState getDirty() {
+    return dirty;
+  }
+
+  /** Returns a snapshot of the sketch of this distribution. */
+  @Override
+  public QuantileSketch getCumulative() {
+    synchronized (value) {
+      return value.copy();
+    }
+  }
+
+  @Override
+  public MetricName getName() {
+    return name;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object object) {
+    if (object instanceof QuantileDistributionCell) {
+      QuantileDistributionCell cell = (QuantileDistributionCell) object;
+      return Objects.equals(dirty, cell.dirty)
+          && Objects.equals(getCumulative(), cell.getCumulative())
+          && Objects.equals(name, cell.name);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(dirty, getCumulative(), name);
+  }
+}
@@ -17,12 +17,15 @@
  */
 package org.apache.beam.runners.core.metrics;
 
+import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeCollapsedStacks;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeInt64Counter;
+import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeCollapsedStacks;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeInt64Counter;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.beam.model.pipeline.v1.MetricsApi.MonitoringInfo;
 import org.apache.beam.runners.core.metrics.ExecutionStateTracker.ExecutionState;
 import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
@@ -37,6 +40,11 @@ import org.slf4j.LoggerFactory;
  * Simple state class which collects the totalMillis spent in the state. Allows storing an arbitrary
  * set of key value labels in the object which can be retrieved later for reporting purposes via
  * getLabels().
+ *
+ * <p>When stack sampling is enabled on the {@link ExecutionStateSampler}, the sampled stacks are
+ * aggregated into a profile in the collapsed stack format, weighted by the milliseconds attributed
+ * to this state, see {@link MonitoringInfoConstants.TypeUrns#COLLAPSED_STACKS_TYPE}. The profile
+ * only holds the samples taken since it was last reported.
  */
 @SuppressWarnings({
   "nullness" // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
@@ -46,6 +54,32 @@ public class SimpleExecutionState extends ExecutionState {
   private HashMap<String, String> labelsMetadata;
   private String urn;
   private String shortId;
+  private String profileShortId;
+
+  /** The maximum number of innermost frames kept for each sampled stack. */
+  @VisibleForTesting static final int MAX_STACK_DEPTH = 64;
+
+  /** The maximum number of distinct stacks kept in a profile until it is reported. */
+  @VisibleForTesting static final int MAX_DISTINCT_STACKS = 1000;
+
+  /**
+   * The maximum number of characters of collapsed stacks reported at once, the time of further
+   * stacks is attributed to {@link #OTHER_STACKS}.
+   */
+  @VisibleForTesting static final int MAX_PROFILE_CHARS = 64 * 1024;
+
+  /**
+   * The stack that samples are attributed to once {@link #MAX_DISTINCT_STACKS} or {@link
+   * #MAX_PROFILE_CHARS} is reached.
+   */
+  @VisibleForTesting static final String OTHER_STACKS = "[other]";
+
+  /**
+   * Stacks sampled since the profile was last reported in the collapsed stack format mapped to the
+   * milliseconds attributed to them. Written by the sampling thread and drained by the progress
+   * reporting thread.
+   */
+  private final Map<String, Long> profile = new ConcurrentHashMap<>();
 
   private static final Logger LOG = LoggerFactory.getLogger(SimpleExecutionState.class);
 
@@ -78,9 +112,10 @@ public class SimpleExecutionState extends ExecutionState {
     }
   }
 
-  /** Reset the totalMillis spent in the state. */
+  /** Reset the totalMillis spent in the state and the sampled stacks. */
   public void reset() {
     this.totalMillis = 0;
+    this.profile.clear();
   }
 
   public String getUrn() {
@@ -102,6 +137,39 @@ public class SimpleExecutionState extends ExecutionState {
     return encodeInt64Counter(getTotalMillis() + decodeInt64Counter(other));
   }
 
+  public String getProfileShortId(ShortIdMap shortIds) {
+    if (profileShortId == null) {
+      profileShortId = shortIds.getOrCreateShortId(getProfileMonitoringMetadata());
+    }
+    return profileShortId;
+  }
+
+  /** Returns the payload of the stacks sampled since the last call, see {@link #takeProfile}. */
+  public ByteString takeProfilePayload() {
+    return encodeCollapsedStacks(takeProfile());
+  }
+
+  /**
+   * Returns the payload of the stacks sampled since the previous call merged with {@code other},
+   * see {@link #takeProfile}.
+   */
+  public ByteString takeMergedProfilePayload(ByteString other) {
+    // Lines of the same stack are summed by the consumers of collapsed stacks, so merging two
+    // profiles is a concatenation.
+    return encodeCollapsedStacks(decodeCollapsedStacks(other) + takeProfile());
+  }
+
+  private MonitoringInfo getProfileMonitoringMetadata() {
+    SimpleMonitoringInfoBuilder builder = new SimpleMonitoringInfoBuilder();
+    builder.setUrn(MonitoringInfoConstants.Urns.EXECUTION_PROFILE);
+    String pTransform = labelsMetadata.get(MonitoringInfoConstants.Labels.PTRANSFORM);
+    if (pTransform != null) {
+      builder.setLabel(MonitoringInfoConstants.Labels.PTRANSFORM, pTransform);
+    }
+    builder.setType(MonitoringInfoConstants.TypeUrns.COLLAPSED_STACKS_TYPE);
+    return builder.build();
+  }
+
   private MonitoringInfo getTotalMillisMonitoringMetadata() {
     SimpleMonitoringInfoBuilder builder = new SimpleMonitoringInfoBuilder();
     builder.setUrn(getUrn());
@@ -125,6 +193,67 @@ public class SimpleExecutionState extends ExecutionState {
     return totalMillis;
   }
 
+  @Override
+  public void takeStackSample(StackTraceElement[] stack, long millisSinceLastSample) {
+    if (stack.length == 0) {
+      // The thread is not alive.
+      return;
+    }
+    String collapsedStack = collapse(stack);
+    if (!profile.containsKey(collapsedStack) && profile.size() >= MAX_DISTINCT_STACKS) {
+      collapsedStack = OTHER_STACKS;
+    }
+    profile.merge(collapsedStack, millisSinceLastSample, Long::sum);
+  }
+
+  /**
+   * Returns whether any stack samples were taken since the last {@link #reset} or {@link
+   * #takeProfile}.
+   */
+  public boolean hasProfile() {
+    return !profile.isEmpty();
+  }
+
+  /**
+   * Removes the stacks sampled since the previous call and returns them in the collapsed stack
+   * format, one {@code "<frame1>;...;<frameN> <millis>"} line per distinct stack with the outermost
+   * frame first.
+   *
+   * <p>At most {@link #MAX_PROFILE_CHARS} characters of stacks are returned, the time of the
+   * remaining stacks is attributed to {@link #OTHER_STACKS}.
+   */
+  public String takeProfile() {
+    StringBuilder result = new StringBuilder();
+    long otherMillis = 0;
+    for (String stack : profile.keySet()) {
+      // Samples the sampling thread adds after the removal are reported by the next call.
+      Long millis = profile.remove(stack);
+      if (millis == null) {
+        continue;
+      }
+      if (OTHER_STACKS.equals(stack) || result.length() + stack.length() > MAX_PROFILE_CHARS) {
+        otherMillis += millis;
+      } else {
+        result.append(stack).append(' ').append(millis).append('\n');
+      }
+    }
+    if (otherMillis > 0) {
+      result.append(OTHER_STACKS).append(' ').append(otherMillis).append('\n');
+    }
+    return result.toString();
+  }
+
+  private static String collapse(StackTraceElement[] stack) {
+    StringBuilder result = new StringBuilder();
+    for (int i = Math.min(stack.length, MAX_STACK_DEPTH) - 1; i >= 0; i--) {
+      if (result.length() > 0) {
+        result.append(';');
+      }
+      result.append(stack[i].getClassName()).append('.').append(stack[i].getMethodName());
+    }
+    return result.toString();
+  }
+
   @VisibleForTesting
   public String getLullMessage(Thread trackedThread, Duration millis) {
     // TODO(ajamato): Share getLullMessage code with DataflowExecutionState.
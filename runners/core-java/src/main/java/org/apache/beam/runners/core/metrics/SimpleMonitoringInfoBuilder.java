@@ -20,6 +20,7 @@ package org.apache.beam.runners.core.metrics;
 import static org.apache.beam.model.pipeline.v1.MetricsApi.monitoringInfoSpec;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeDoubleCounter;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeDoubleDistribution;
+import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeDoubleQuantileSketch;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeInt64Counter;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeInt64Distribution;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeInt64Gauge;
@@ -29,6 +30,7 @@ import java.util.HashMap;
 import org.apache.beam.model.pipeline.v1.MetricsApi.MonitoringInfo;
 import org.apache.beam.model.pipeline.v1.MetricsApi.MonitoringInfoSpec;
 import org.apache.beam.model.pipeline.v1.MetricsApi.MonitoringInfoSpecs;
+import org.apache.beam.sdk.metrics.QuantileSketch;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -80,6 +82,12 @@ public class SimpleMonitoringInfoBuilder {
     this.validateAndDropInvalid = validateAndDropInvalid;
   }
 
+  /** Returns whether the spec of the given urn requires the given label. */
+  static boolean isRequiredLabel(String urn, String label) {
+    MonitoringInfoSpec spec = specs.get(urn);
+    return spec != null && spec.getRequiredLabelsList().contains(label);
+  }
+
   /**
    * Sets the urn of the MonitoringInfo.
    *
@@ -147,6 +155,16 @@ public class SimpleMonitoringInfoBuilder {
     return this;
   }
 
+  /**
+   * Encodes the value and sets the type to {@link
+   * MonitoringInfoConstants.TypeUrns#QUANTILE_SKETCH_DOUBLE_TYPE}.
+   */
+  public SimpleMonitoringInfoBuilder setDoubleQuantileSketchValue(QuantileSketch sketch) {
+    this.builder.setPayload(encodeDoubleQuantileSketch(sketch));
+    this.builder.setType(MonitoringInfoConstants.TypeUrns.QUANTILE_SKETCH_DOUBLE_TYPE);
+    return this;
+  }
+
   /** Sets the MonitoringInfo label to the given name and value. */
   public SimpleMonitoringInfoBuilder setLabel(String labelName, String labelValue) {
     this.builder.putLabels(labelName, labelValue);
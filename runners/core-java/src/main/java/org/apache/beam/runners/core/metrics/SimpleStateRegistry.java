@@ -74,4 +74,25 @@ public class SimpleStateRegistry {
     }
     return result;
   }
+
+  /**
+   * Adds the execution profiles of the registered states for which stack samples were taken since
+   * the previous call to {@code result}, merging them with any profiles already present for the
+   * same PTransform. The reported samples are removed from the states so that every progress
+   * report only carries the samples taken since the previous one.
+   */
+  public void addExecutionProfileMonitoringData(
+      ShortIdMap shortIds, Map<String, ByteString> result) {
+    for (SimpleExecutionState state : executionStates) {
+      if (state.hasProfile()) {
+        String shortId = state.getProfileShortId(shortIds);
+        if (result.containsKey(shortId)) {
+          // A PTransform has a state for each of its start, process and finish functions.
+          result.put(shortId, state.takeMergedProfilePayload(result.get(shortId)));
+        } else {
+          result.put(shortId, state.takeProfilePayload());
+        }
+      }
+    }
+  }
 }
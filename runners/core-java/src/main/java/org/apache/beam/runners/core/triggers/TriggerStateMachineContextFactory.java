@@ -17,6 +17,7 @@
  */
 package org.apache.beam.runners.core.triggers;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import org.apache.beam.runners.core.ActiveWindowSet;
@@ -25,14 +26,29 @@ import org.apache.beam.runners.core.StateAccessor;
 import org.apache.beam.runners.core.StateInternals;
 import org.apache.beam.runners.core.StateNamespace;
 import org.apache.beam.runners.core.StateNamespaces;
+import org.apache.beam.runners.core.StateTable;
 import org.apache.beam.runners.core.StateTag;
+import org.apache.beam.runners.core.StateTag.StateBinder;
 import org.apache.beam.runners.core.triggers.TriggerStateMachine.MergingTriggerInfo;
 import org.apache.beam.runners.core.triggers.TriggerStateMachine.TriggerInfo;
 import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.sdk.state.BagState;
+import org.apache.beam.sdk.state.CombiningState;
+import org.apache.beam.sdk.state.MapState;
+import org.apache.beam.sdk.state.OrderedListState;
+import org.apache.beam.sdk.state.ReadableState;
+import org.apache.beam.sdk.state.SetState;
 import org.apache.beam.sdk.state.State;
+import org.apache.beam.sdk.state.StateContext;
+import org.apache.beam.sdk.state.StateContexts;
 import org.apache.beam.sdk.state.TimeDomain;
 import org.apache.beam.sdk.state.Timers;
+import org.apache.beam.sdk.state.ValueState;
+import org.apache.beam.sdk.state.WatermarkHoldState;
+import org.apache.beam.sdk.transforms.Combine.CombineFn;
+import org.apache.beam.sdk.transforms.CombineWithContext.CombineFnWithContext;
 import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
+import org.apache.beam.sdk.transforms.windowing.TimestampCombiner;
 import org.apache.beam.sdk.transforms.windowing.WindowFn;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.FluentIterable;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableMap;
@@ -45,6 +61,10 @@ import org.joda.time.Instant;
  *
  * <p>These contexts are highly interdependent and share many fields; it is inadvisable to create
  * them via any means other than this factory class.
+ *
+ * <p>If created with {@code cacheTriggerState}, the combining state of the triggers (such as the
+ * element count of {@link AfterPaneStateMachine}) is read at most once per window and trigger, and
+ * changes to it are only written back by {@link #persistTriggerState}.
  */
 @SuppressWarnings({"nullness", "keyfor"}) // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
 public class TriggerStateMachineContextFactory<W extends BoundedWindow> {
@@ -52,13 +72,46 @@ public class TriggerStateMachineContextFactory<W extends BoundedWindow> {
   private final WindowFn<?, W> windowFn;
   private StateInternals stateInternals;
   private final Coder<W> windowCoder;
+  private final @Nullable StateTable cachedTriggerState;
 
   public TriggerStateMachineContextFactory(
       WindowFn<?, W> windowFn, StateInternals stateInternals, ActiveWindowSet<W> activeWindows) {
+    this(windowFn, stateInternals, activeWindows, false);
+  }
+
+  public TriggerStateMachineContextFactory(
+      WindowFn<?, W> windowFn,
+      StateInternals stateInternals,
+      ActiveWindowSet<W> activeWindows,
+      boolean cacheTriggerState) {
     // Future triggers may be able to exploit the active window to state address window mapping.
     this.windowFn = windowFn;
     this.stateInternals = stateInternals;
     this.windowCoder = windowFn.windowCoder();
+    this.cachedTriggerState = cacheTriggerState ? new CachedTriggerStateTable() : null;
+  }
+
+  /**
+   * Writes the trigger state modified since the last call to the underlying {@link StateInternals}
+   * and drops all cached trigger state. Must be called before the state is committed.
+   */
+  public void persistTriggerState() {
+    if (cachedTriggerState == null) {
+      return;
+    }
+    for (State state : cachedTriggerState.values()) {
+      if (state instanceof CachedCombiningState) {
+        ((CachedCombiningState<?, ?, ?>) state).persist();
+      }
+    }
+    cachedTriggerState.clear();
+  }
+
+  private <StateT extends State> StateT triggerState(
+      StateNamespace namespace, StateTag<StateT> address) {
+    return cachedTriggerState == null
+        ? stateInternals.state(namespace, address)
+        : cachedTriggerState.get(namespace, address, StateContexts.nullContext());
   }
 
   public TriggerStateMachine.TriggerContext base(
@@ -271,7 +324,7 @@ public class TriggerStateMachineContextFactory<W extends BoundedWindow> {
 
     @Override
     public <StateT extends State> StateT access(StateTag<StateT> address) {
-      return stateInternals.state(windowNamespace, address);
+      return triggerState(windowNamespace, address);
     }
   }
 
@@ -287,7 +340,7 @@ public class TriggerStateMachineContextFactory<W extends BoundedWindow> {
 
     @Override
     public <StateT extends State> StateT access(StateTag<StateT> address) {
-      return stateInternals.state(windowNamespace, address);
+      return triggerState(windowNamespace, address);
     }
 
     @Override
@@ -295,7 +348,7 @@ public class TriggerStateMachineContextFactory<W extends BoundedWindow> {
         StateTag<StateT> address) {
       ImmutableMap.Builder<W, StateT> builder = ImmutableMap.builder();
       for (W mergingWindow : activeToBeMerged) {
-        StateT stateForWindow = stateInternals.state(namespaceFor(mergingWindow), address);
+        StateT stateForWindow = triggerState(namespaceFor(mergingWindow), address);
         builder.put(mergingWindow, stateForWindow);
       }
       return builder.build();
@@ -581,4 +634,178 @@ public class TriggerStateMachineContextFactory<W extends BoundedWindow> {
       return new MergingPrefetchContextImpl(window, state.activeToBeMerged, trigger);
     }
   }
+
+  /** Holds the trigger state cached since the last {@link #persistTriggerState}. */
+  private class CachedTriggerStateTable extends StateTable {
+    @Override
+    protected StateBinder binderForNamespace(StateNamespace namespace, StateContext<?> c) {
+      return new CachingStateBinder(namespace);
+    }
+  }
+
+  /**
+   * Binds combining state to a {@link CachedCombiningState} on top of the underlying {@link
+   * StateInternals}. Triggers only keep combining state, so other kinds of state are not cached.
+   */
+  private class CachingStateBinder implements StateBinder {
+    private final StateNamespace namespace;
+
+    private CachingStateBinder(StateNamespace namespace) {
+      this.namespace = namespace;
+    }
+
+    @Override
+    public <T> ValueState<T> bindValue(StateTag<ValueState<T>> spec, Coder<T> coder) {
+      return stateInternals.state(namespace, spec);
+    }
+
+    @Override
+    public <T> BagState<T> bindBag(StateTag<BagState<T>> spec, Coder<T> elemCoder) {
+      return stateInternals.state(namespace, spec);
+    }
+
+    @Override
+    public <T> SetState<T> bindSet(StateTag<SetState<T>> spec, Coder<T> elemCoder) {
+      return stateInternals.state(namespace, spec);
+    }
+
+    @Override
+    public <KeyT, ValueT> MapState<KeyT, ValueT> bindMap(
+        StateTag<MapState<KeyT, ValueT>> spec,
+        Coder<KeyT> mapKeyCoder,
+        Coder<ValueT> mapValueCoder) {
+      return stateInternals.state(namespace, spec);
+    }
+
+    @Override
+    public <T> OrderedListState<T> bindOrderedList(
+        StateTag<OrderedListState<T>> spec, Coder<T> elemCoder) {
+      return stateInternals.state(namespace, spec);
+    }
+
+    @Override
+    public <InputT, AccumT, OutputT> CombiningState<InputT, AccumT, OutputT> bindCombiningValue(
+        StateTag<CombiningState<InputT, AccumT, OutputT>> spec,
+        Coder<AccumT> accumCoder,
+        CombineFn<InputT, AccumT, OutputT> combineFn) {
+      return new CachedCombiningState<>(stateInternals.state(namespace, spec), combineFn);
+    }
+
+    @Override
+    public <InputT, AccumT, OutputT>
+        CombiningState<InputT, AccumT, OutputT> bindCombiningValueWithContext(
+            StateTag<CombiningState<InputT, AccumT, OutputT>> spec,
+            Coder<AccumT> accumCoder,
+            CombineFnWithContext<InputT, AccumT, OutputT> combineFn) {
+      return stateInternals.state(namespace, spec);
+    }
+
+    @Override
+    public WatermarkHoldState bindWatermark(
+        StateTag<WatermarkHoldState> spec, TimestampCombiner timestampCombiner) {
+      return stateInternals.state(namespace, spec);
+    }
+  }
+
+  /**
+   * A write-back {@link CombiningState}. The persisted accumulator is read at most once, and inputs
+   * are combined into a separate pending accumulator which is added to the persisted state by
+   * {@link #persist}, so adding to the state never requires reading it.
+   */
+  private static class CachedCombiningState<InputT, AccumT, OutputT>
+      implements CombiningState<InputT, AccumT, OutputT> {
+    private final CombiningState<InputT, AccumT, OutputT> state;
+    private final CombineFn<InputT, AccumT, OutputT> combineFn;
+
+    /** The persisted accumulator, or {@code null} if it has not been read yet. */
+    private @Nullable AccumT persistedAccum;
+
+    private AccumT pendingAccum;
+    private boolean hasPending;
+    private boolean cleared;
+
+    private CachedCombiningState(
+        CombiningState<InputT, AccumT, OutputT> state,
+        CombineFn<InputT, AccumT, OutputT> combineFn) {
+      this.state = state;
+      this.combineFn = combineFn;
+      this.pendingAccum = combineFn.createAccumulator();
+    }
+
+    @Override
+    public CachedCombiningState<InputT, AccumT, OutputT> readLater() {
+      if (persistedAccum == null) {
+        state.readLater();
+      }
+      return this;
+    }
+
+    @Override
+    public OutputT read() {
+      return combineFn.extractOutput(getAccum());
+    }
+
+    @Override
+    public void add(InputT input) {
+      pendingAccum = combineFn.addInput(pendingAccum, input);
+      hasPending = true;
+    }
+
+    @Override
+    public void addAccum(AccumT accum) {
+      pendingAccum = combineFn.mergeAccumulators(Arrays.asList(pendingAccum, accum));
+      hasPending = true;
+    }
+
+    @Override
+    public AccumT getAccum() {
+      if (persistedAccum == null) {
+        persistedAccum = state.getAccum();
+      }
+      // Merge into a fresh accumulator, since the combine fn may modify the first one.
+      return combineFn.mergeAccumulators(
+          Arrays.asList(combineFn.createAccumulator(), persistedAccum, pendingAccum));
+    }
+
+    @Override
+    public AccumT mergeAccumulators(Iterable<AccumT> accumulators) {
+      return combineFn.mergeAccumulators(accumulators);
+    }
+
+    @Override
+    public ReadableState<Boolean> isEmpty() {
+      if (hasPending || cleared) {
+        boolean isEmpty = !hasPending;
+        return new ReadableState<Boolean>() {
+          @Override
+          public Boolean read() {
+            return isEmpty;
+          }
+
+          @Override
+          public ReadableState<Boolean> readLater() {
+            return this;
+          }
+        };
+      }
+      return state.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+      persistedAccum = combineFn.createAccumulator();
+      pendingAccum = combineFn.createAccumulator();
+      hasPending = false;
+      cleared = true;
+    }
+
+    private void persist() {
+      if (cleared) {
+        state.clear();
+      }
+      if (hasPending) {
+        state.addAccum(pendingAccum);
+      }
+    }
+  }
 }
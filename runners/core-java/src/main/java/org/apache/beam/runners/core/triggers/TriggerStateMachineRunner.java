@@ -21,6 +21,7 @@ import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Prec
 
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import org.apache.beam.runners.core.MergingStateAccessor;
 import org.apache.beam.runners.core.StateAccessor;
@@ -54,6 +55,11 @@ import org.joda.time.Instant;
  * which subtriggers are finished. This class provides the information when building the contexts
  * and commits the information when the method of the {@link ExecutableTriggerStateMachine} returns.
  *
+ * <p>The finished sets are read at most once per window and are written back by {@link #persist},
+ * so a runner processing many elements for the same window does not read and write the persisted
+ * finished set for each of them. The same applies to the state of the triggers themselves if the
+ * {@link TriggerStateMachineContextFactory} caches it.
+ *
  * @param <W> The kind of windows being processed.
  */
 public class TriggerStateMachineRunner<W extends BoundedWindow> {
@@ -64,6 +70,9 @@ public class TriggerStateMachineRunner<W extends BoundedWindow> {
   private final ExecutableTriggerStateMachine rootTrigger;
   private final TriggerStateMachineContextFactory<W> contextFactory;
 
+  /** Finished sets read or modified since the last {@link #persist}, by window. */
+  private final Map<W, CachedFinishedSet> finishedSets = new HashMap<>();
+
   public TriggerStateMachineRunner(
       ExecutableTriggerStateMachine rootTrigger,
       TriggerStateMachineContextFactory<W> contextFactory) {
@@ -86,32 +95,37 @@ public class TriggerStateMachineRunner<W extends BoundedWindow> {
         : FinishedTriggersBitSet.fromBitSet(bitSet);
   }
 
-  private void clearFinishedBits(ValueState<BitSet> state) {
+  /**
+   * Returns the finished set of the window, reading it from the specified state only if it is not
+   * cached yet. The returned set must not be modified.
+   */
+  private FinishedTriggersBitSet finishedSet(W window, ValueState<BitSet> state) {
     if (!isFinishedSetNeeded()) {
-      // Nothing to clear.
-      return;
+      return readFinishedBits(state);
     }
-    state.clear();
+    return finishedSets
+        .computeIfAbsent(window, w -> new CachedFinishedSet(state, readFinishedBits(state), false))
+        .finishedSet;
   }
 
-  /** Return true if the trigger is closed in the window corresponding to the specified state. */
-  public boolean isClosed(StateAccessor<?> state) {
-    return readFinishedBits(state.access(FINISHED_BITS_TAG)).isFinished(rootTrigger);
+  /** Return true if the trigger is closed in the specified window. */
+  public boolean isClosed(W window, StateAccessor<?> state) {
+    return finishedSet(window, state.access(FINISHED_BITS_TAG)).isFinished(rootTrigger);
   }
 
-  public void prefetchIsClosed(StateAccessor<?> state) {
-    if (isFinishedSetNeeded()) {
+  public void prefetchIsClosed(W window, StateAccessor<?> state) {
+    if (isFinishedSetNeeded() && !finishedSets.containsKey(window)) {
       state.access(FINISHED_BITS_TAG).readLater();
     }
   }
 
   public void prefetchForValue(W window, StateAccessor<?> state) {
-    prefetchIsClosed(state);
+    prefetchIsClosed(window, state);
     rootTrigger.invokePrefetchOnElement(contextFactory.createPrefetchContext(window, rootTrigger));
   }
 
   public void prefetchShouldFire(W window, StateAccessor<?> state) {
-    prefetchIsClosed(state);
+    prefetchIsClosed(window, state);
     rootTrigger.invokePrefetchShouldFire(contextFactory.createPrefetchContext(window, rootTrigger));
   }
 
@@ -119,18 +133,22 @@ public class TriggerStateMachineRunner<W extends BoundedWindow> {
   public void processValue(W window, Instant timestamp, Timers timers, StateAccessor<?> state)
       throws Exception {
     // Clone so that we can detect changes and so that changes here don't pollute merging.
-    FinishedTriggersBitSet finishedSet = readFinishedBits(state.access(FINISHED_BITS_TAG)).copy();
+    FinishedTriggersBitSet finishedSet =
+        finishedSet(window, state.access(FINISHED_BITS_TAG)).copy();
     TriggerStateMachine.OnElementContext triggerContext =
         contextFactory.createOnElementContext(window, timers, timestamp, rootTrigger, finishedSet);
     rootTrigger.invokeOnElement(triggerContext);
-    persistFinishedSet(state, finishedSet);
+    updateFinishedSet(window, state, finishedSet);
   }
 
   public void prefetchForMerge(
       W window, Collection<W> mergingWindows, MergingStateAccessor<?, W> state) {
     if (isFinishedSetNeeded()) {
-      for (ValueState<?> value : state.accessInEachMergingWindow(FINISHED_BITS_TAG).values()) {
-        value.readLater();
+      for (Map.Entry<W, ValueState<BitSet>> entry :
+          state.accessInEachMergingWindow(FINISHED_BITS_TAG).entrySet()) {
+        if (!finishedSets.containsKey(entry.getKey())) {
+          entry.getValue().readLater();
+        }
       }
     }
     rootTrigger.invokePrefetchOnMerge(
@@ -140,16 +158,17 @@ public class TriggerStateMachineRunner<W extends BoundedWindow> {
   /** Run the trigger merging logic as part of executing the specified merge. */
   public void onMerge(W window, Timers timers, MergingStateAccessor<?, W> state) throws Exception {
     // Clone so that we can detect changes and so that changes here don't pollute merging.
-    FinishedTriggersBitSet finishedSet = readFinishedBits(state.access(FINISHED_BITS_TAG)).copy();
+    FinishedTriggersBitSet finishedSet =
+        finishedSet(window, state.access(FINISHED_BITS_TAG)).copy();
 
     // And read the finished bits in each merging window.
     ImmutableMap.Builder<W, FinishedTriggers> builder = ImmutableMap.builder();
     for (Map.Entry<W, ValueState<BitSet>> entry :
         state.accessInEachMergingWindow(FINISHED_BITS_TAG).entrySet()) {
       // Don't need to clone these, since the trigger context doesn't allow modification
-      builder.put(entry.getKey(), readFinishedBits(entry.getValue()));
+      builder.put(entry.getKey(), finishedSet(entry.getKey(), entry.getValue()));
       // Clear the underlying finished bits.
-      clearFinishedBits(entry.getValue());
+      clearFinishedBits(entry.getKey(), entry.getValue());
     }
     ImmutableMap<W, FinishedTriggers> mergingFinishedSets = builder.build();
 
@@ -160,11 +179,11 @@ public class TriggerStateMachineRunner<W extends BoundedWindow> {
     // Run the merge from the trigger
     rootTrigger.invokeOnMerge(mergeContext);
 
-    persistFinishedSet(state, finishedSet);
+    updateFinishedSet(window, state, finishedSet);
   }
 
   public boolean shouldFire(W window, Timers timers, StateAccessor<?> state) throws Exception {
-    FinishedTriggers finishedSet = readFinishedBits(state.access(FINISHED_BITS_TAG)).copy();
+    FinishedTriggers finishedSet = finishedSet(window, state.access(FINISHED_BITS_TAG)).copy();
     TriggerStateMachine.TriggerContext context =
         contextFactory.base(window, timers, rootTrigger, finishedSet);
     return rootTrigger.invokeShouldFire(context);
@@ -173,32 +192,61 @@ public class TriggerStateMachineRunner<W extends BoundedWindow> {
   public void onFire(W window, Timers timers, StateAccessor<?> state) throws Exception {
     // shouldFire should be false.
     // However it is too expensive to assert.
-    FinishedTriggersBitSet finishedSet = readFinishedBits(state.access(FINISHED_BITS_TAG)).copy();
+    FinishedTriggersBitSet finishedSet =
+        finishedSet(window, state.access(FINISHED_BITS_TAG)).copy();
     TriggerStateMachine.TriggerContext context =
         contextFactory.base(window, timers, rootTrigger, finishedSet);
     rootTrigger.invokeOnFire(context);
-    persistFinishedSet(state, finishedSet);
+    updateFinishedSet(window, state, finishedSet);
   }
 
-  private void persistFinishedSet(
-      StateAccessor<?> state, FinishedTriggersBitSet modifiedFinishedSet) {
+  private void updateFinishedSet(
+      W window, StateAccessor<?> state, FinishedTriggersBitSet modifiedFinishedSet) {
     if (!isFinishedSetNeeded()) {
       return;
     }
 
-    ValueState<BitSet> finishedSetState = state.access(FINISHED_BITS_TAG);
-    if (!readFinishedBits(finishedSetState).equals(modifiedFinishedSet)) {
-      if (modifiedFinishedSet.getBitSet().isEmpty()) {
-        finishedSetState.clear();
-      } else {
-        finishedSetState.write(modifiedFinishedSet.getBitSet());
-      }
+    CachedFinishedSet cached = finishedSets.get(window);
+    if (cached == null) {
+      ValueState<BitSet> finishedSetState = state.access(FINISHED_BITS_TAG);
+      cached = new CachedFinishedSet(finishedSetState, readFinishedBits(finishedSetState), false);
+      finishedSets.put(window, cached);
+    }
+    cached.update(modifiedFinishedSet);
+  }
+
+  private void clearFinishedBits(W window, ValueState<BitSet> state) {
+    if (!isFinishedSetNeeded()) {
+      // Nothing to clear.
+      return;
+    }
+    FinishedTriggersBitSet emptySet =
+        FinishedTriggersBitSet.emptyWithCapacity(rootTrigger.getFirstIndexAfterSubtree());
+    CachedFinishedSet cached = finishedSets.get(window);
+    if (cached == null) {
+      // Clearing does not depend on the persisted finished set, so there is no need to read it.
+      finishedSets.put(window, new CachedFinishedSet(state, emptySet, true));
+    } else {
+      cached.update(emptySet);
     }
   }
 
   /** Clear the finished bits. */
-  public void clearFinished(StateAccessor<?> state) {
-    clearFinishedBits(state.access(FINISHED_BITS_TAG));
+  public void clearFinished(W window, StateAccessor<?> state) {
+    clearFinishedBits(window, state.access(FINISHED_BITS_TAG));
+  }
+
+  /**
+   * Writes the finished sets and trigger state modified since the last call to their persistent
+   * state and drops all cached finished sets and trigger state. Must be called before the state is
+   * committed.
+   */
+  public void persist() {
+    for (CachedFinishedSet cached : finishedSets.values()) {
+      cached.persist();
+    }
+    finishedSets.clear();
+    contextFactory.persistTriggerState();
   }
 
   /**
@@ -206,8 +254,8 @@ public class TriggerStateMachineRunner<W extends BoundedWindow> {
    * is closed.
    */
   public void clearState(W window, Timers timers, StateAccessor<?> state) throws Exception {
-    // Don't need to clone, because we'll be clearing the finished bits anyways.
-    FinishedTriggers finishedSet = readFinishedBits(state.access(FINISHED_BITS_TAG));
+    // Clone so that the cached finished set is not changed by the trigger.
+    FinishedTriggers finishedSet = finishedSet(window, state.access(FINISHED_BITS_TAG)).copy();
     rootTrigger.invokeClear(contextFactory.base(window, timers, rootTrigger, finishedSet));
   }
 
@@ -216,4 +264,37 @@ public class TriggerStateMachineRunner<W extends BoundedWindow> {
     // lookup. Right now, we special case this for the DefaultTrigger.
     return !(rootTrigger.getSpec() instanceof DefaultTriggerStateMachine);
   }
+
+  /** The finished set of a window and the state it is persisted to. */
+  private static class CachedFinishedSet {
+    private final ValueState<BitSet> state;
+    private FinishedTriggersBitSet finishedSet;
+    private boolean modified;
+
+    private CachedFinishedSet(
+        ValueState<BitSet> state, FinishedTriggersBitSet finishedSet, boolean modified) {
+      this.state = state;
+      this.finishedSet = finishedSet;
+      this.modified = modified;
+    }
+
+    private void update(FinishedTriggersBitSet modifiedFinishedSet) {
+      if (!finishedSet.getBitSet().equals(modifiedFinishedSet.getBitSet())) {
+        finishedSet = modifiedFinishedSet;
+        modified = true;
+      }
+    }
+
+    private void persist() {
+      if (!modified) {
+        return;
+      }
+      if (finishedSet.getBitSet().isEmpty()) {
+        state.clear();
+      } else {
+        state.write(finishedSet.getBitSet());
+      }
+      modified = false;
+    }
+  }
 }
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.runners.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import org.apache.beam.runners.core.TimerInternals.TimerData;
+import org.apache.beam.runners.core.triggers.TriggerStateMachineRunner;
+import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.sdk.coders.VarIntCoder;
+import org.apache.beam.sdk.state.TimeDomain;
+import org.apache.beam.sdk.transforms.windowing.AfterPane;
+import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
+import org.apache.beam.sdk.transforms.windowing.FixedWindows;
+import org.apache.beam.sdk.transforms.windowing.IntervalWindow;
+import org.apache.beam.sdk.transforms.windowing.PaneInfo;
+import org.apache.beam.sdk.transforms.windowing.Sessions;
+import org.apache.beam.sdk.transforms.windowing.TimestampCombiner;
+import org.apache.beam.sdk.util.WindowedValue;
+import org.apache.beam.sdk.values.KV;
+import org.apache.beam.sdk.values.TupleTag;
+import org.apache.beam.sdk.values.WindowingStrategy;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableList;
+import org.joda.time.Duration;
+import org.joda.time.Instant;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link DefaultTriggerReduceFnRunner}. */
+@RunWith(JUnit4.class)
+public class DefaultTriggerReduceFnRunnerTest {
+  private static final String KEY = "key";
+
+  private final WindowingStrategy<?, IntervalWindow> windowingStrategy =
+      WindowingStrategy.of(FixedWindows.of(Duration.millis(10)))
+          .withTimestampCombiner(TimestampCombiner.EARLIEST);
+  private final IntervalWindow firstWindow = new IntervalWindow(new Instant(0), new Instant(10));
+  private final IntervalWindow secondWindow = new IntervalWindow(new Instant(10), new Instant(20));
+
+  private TestInMemoryStateInternals<String> stateInternals;
+  private InMemoryTimerInternals timerInternals;
+  private List<WindowedValue<KV<String, Iterable<Integer>>>> output;
+  private DefaultTriggerReduceFnRunner<String, Integer, Iterable<Integer>, IntervalWindow> runner;
+
+  @Before
+  public void setup() {
+    stateInternals = new TestInMemoryStateInternals<>(KEY);
+    timerInternals = new InMemoryTimerInternals();
+    output = new ArrayList<>();
+    runner =
+        new DefaultTriggerReduceFnRunner<>(
+            KEY,
+            windowingStrategy,
+            stateInternals,
+            timerInternals,
+            new CollectingOutputWindowedValue(),
+            null,
+            SystemReduceFn.buffering(VarIntCoder.of()),
+            null);
+  }
+
+  @Test
+  public void testIsApplicable() {
+    assertTrue(DefaultTriggerReduceFnRunner.isApplicable(windowingStrategy));
+    assertFalse(
+        DefaultTriggerReduceFnRunner.isApplicable(
+            windowingStrategy.withAllowedLateness(Duration.millis(1))));
+    assertFalse(
+        DefaultTriggerReduceFnRunner.isApplicable(
+            windowingStrategy.withTrigger(AfterPane.elementCountAtLeast(1))));
+    assertFalse(
+        DefaultTriggerReduceFnRunner.isApplicable(
+            WindowingStrategy.of(Sessions.withGapDuration(Duration.millis(10)))));
+  }
+
+  @Test
+  public void testEmitsSinglePaneAtEndOfWindow() throws Exception {
+    runner.processElements(
+        ImmutableList.of(
+            WindowedValue.of(5, new Instant(5), firstWindow, PaneInfo.NO_FIRING),
+            WindowedValue.of(1, new Instant(1), firstWindow, PaneInfo.NO_FIRING),
+            WindowedValue.of(12, new Instant(12), secondWindow, PaneInfo.NO_FIRING)));
+    assertThat(output, empty());
+    assertThat(stateInternals.earliestWatermarkHold(), equalTo(new Instant(1)));
+
+    timerInternals.advanceInputWatermark(new Instant(10));
+    runner.onTimers(firedTimers());
+
+    assertThat(output.size(), equalTo(1));
+    WindowedValue<KV<String, Iterable<Integer>>> pane = output.get(0);
+    assertThat(pane.getValue().getKey(), equalTo(KEY));
+    assertThat(pane.getValue().getValue(), containsInAnyOrder(1, 5));
+    assertThat(pane.getTimestamp(), equalTo(new Instant(1)));
+    assertThat(pane.getWindows(), contains(firstWindow));
+    assertThat(pane.getPane(), equalTo(PaneInfo.ON_TIME_AND_ONLY_FIRING));
+    assertThat(stateInternals.earliestWatermarkHold(), equalTo(new Instant(12)));
+    assertThat(
+        stateInternals.getTagsInUse(StateNamespaces.window(windowCoder(), firstWindow)), empty());
+  }
+
+  @Test
+  public void testEmitsPaneWhenWatermarkIsAtEndOfWindow() throws Exception {
+    runner.processElements(
+        ImmutableList.of(WindowedValue.of(5, new Instant(5), firstWindow, PaneInfo.NO_FIRING)));
+
+    // Some runners fire event time timers once the input watermark reaches their timestamp.
+    timerInternals.advanceInputWatermark(firstWindow.maxTimestamp());
+    runner.onTimers(
+        ImmutableList.of(
+            TimerData.of(
+                StateNamespaces.window(windowCoder(), firstWindow),
+                firstWindow.maxTimestamp(),
+                firstWindow.maxTimestamp(),
+                TimeDomain.EVENT_TIME)));
+
+    assertThat(output.size(), equalTo(1));
+    assertThat(output.get(0).getValue().getValue(), contains(5));
+    assertThat(output.get(0).getPane(), equalTo(PaneInfo.ON_TIME_AND_ONLY_FIRING));
+    assertThat(
+        stateInternals.getTagsInUse(StateNamespaces.window(windowCoder(), firstWindow)), empty());
+  }
+
+  @Test
+  public void testClearsReduceFnRunnerStateAtEndOfWindow() throws Exception {
+    // State left behind by a ReduceFnRunner which processed the window before an update.
+    StateNamespace namespace = StateNamespaces.window(windowCoder(), firstWindow);
+    stateInternals.state(namespace, PaneInfoTracker.PANE_INFO_TAG).write(PaneInfo.NO_FIRING);
+    stateInternals.state(namespace, NonEmptyPanes.PANE_ADDITIONS_TAG).add(1L);
+    stateInternals
+        .state(namespace, TriggerStateMachineRunner.FINISHED_BITS_TAG)
+        .write(new BitSet());
+
+    runner.processElements(
+        ImmutableList.of(WindowedValue.of(5, new Instant(5), firstWindow, PaneInfo.NO_FIRING)));
+    timerInternals.advanceInputWatermark(new Instant(10));
+    runner.onTimers(firedTimers());
+
+    assertThat(output.size(), equalTo(1));
+    assertThat(stateInternals.getTagsInUse(namespace), empty());
+  }
+
+  @Test
+  public void testDropsElementsOfExpiredWindows() throws Exception {
+    timerInternals.advanceInputWatermark(new Instant(10));
+    runner.processElements(
+        ImmutableList.of(WindowedValue.of(5, new Instant(5), firstWindow, PaneInfo.NO_FIRING)));
+
+    assertThat(stateInternals.earliestWatermarkHold(), nullValue());
+    assertThat(timerInternals.getNextTimer(TimeDomain.EVENT_TIME), nullValue());
+  }
+
+  private Coder<IntervalWindow> windowCoder() {
+    return windowingStrategy.getWindowFn().windowCoder();
+  }
+
+  private List<TimerData> firedTimers() {
+    List<TimerData> timers = new ArrayList<>();
+    TimerData timer;
+    while ((timer = timerInternals.removeNextEventTimer()) != null) {
+      timers.add(timer);
+    }
+    return timers;
+  }
+
+  private class CollectingOutputWindowedValue
+      implements OutputWindowedValue<KV<String, Iterable<Integer>>> {
+    @Override
+    public void outputWindowedValue(
+        KV<String, Iterable<Integer>> value,
+        Instant timestamp,
+        Collection<? extends BoundedWindow> windows,
+        PaneInfo pane) {
+      output.add(WindowedValue.of(value, timestamp, windows, pane));
+    }
+
+    @Override
+    public <AdditionalOutputT> void outputWindowedValue(
+        TupleTag<AdditionalOutputT> tag,
+        AdditionalOutputT value,
+        Instant timestamp,
+        Collection<? extends BoundedWindow> windows,
+        PaneInfo pane) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
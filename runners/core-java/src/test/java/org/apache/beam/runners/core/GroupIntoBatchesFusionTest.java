@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.runners.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.beam.runners.core.DoFnRunners.OutputManager;
+import org.apache.beam.sdk.Pipeline;
+import org.apache.beam.sdk.coders.KvCoder;
+import org.apache.beam.sdk.coders.StringUtf8Coder;
+import org.apache.beam.sdk.coders.VarIntCoder;
+import org.apache.beam.sdk.options.PipelineOptions;
+import org.apache.beam.sdk.options.PipelineOptionsFactory;
+import org.apache.beam.sdk.runners.TransformHierarchy;
+import org.apache.beam.sdk.transforms.Create;
+import org.apache.beam.sdk.transforms.DoFn;
+import org.apache.beam.sdk.transforms.DoFnSchemaInformation;
+import org.apache.beam.sdk.transforms.GroupIntoBatches;
+import org.apache.beam.sdk.transforms.ParDo;
+import org.apache.beam.sdk.transforms.reflect.DoFnInvokers;
+import org.apache.beam.sdk.util.WindowedValue;
+import org.apache.beam.sdk.values.KV;
+import org.apache.beam.sdk.values.TupleTag;
+import org.apache.beam.sdk.values.WindowingStrategy;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Iterables;
+import org.joda.time.Duration;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests {@link GroupIntoBatches} with a downstream {@link DoFn} that is fused with it, i.e. that
+ * processes each batch as it is output, like runners that fuse transforms do.
+ */
+@RunWith(JUnit4.class)
+public class GroupIntoBatchesFusionTest {
+  private static final int BATCH_SIZE = 100;
+  private static final int NUM_ELEMENTS = 2000;
+  private static final long MILLIS_PER_ELEMENT = 1;
+
+  private final PipelineOptions options = PipelineOptionsFactory.create();
+  private final InMemoryStateInternals<String> stateInternals = InMemoryStateInternals.forKey("k");
+  private final InMemoryTimerInternals timerInternals = new InMemoryTimerInternals();
+  private final StepContext stepContext =
+      new StepContext() {
+        @Override
+        public StateInternals stateInternals() {
+          return stateInternals;
+        }
+
+        @Override
+        public TimerInternals timerInternals() {
+          return timerInternals;
+        }
+      };
+
+  @Test
+  public void testAdaptiveBatchSizeShrinksBatchesForSlowDownstream() throws Exception {
+    // Each batch takes a millisecond per element downstream, so the target is met by batches of
+    // about 20 elements.
+    DoFn<KV<String, Integer>, KV<String, Iterable<Integer>>> groupIntoBatchesFn =
+        groupIntoBatchesFn(
+            GroupIntoBatches.<String, Integer>ofSize(BATCH_SIZE)
+                .withAdaptiveBatchSize(Duration.millis(20 * MILLIS_PER_ELEMENT)));
+    List<Integer> batchSizes = new ArrayList<>();
+    DoFnRunner<KV<String, Iterable<Integer>>, Integer> downstream =
+        runner(new SlowDownstreamFn(), collectingOutputManager(batchSizes));
+    DoFnRunner<KV<String, Integer>, KV<String, Iterable<Integer>>> batchRunner =
+        runner(groupIntoBatchesFn, fusedOutputManager(downstream));
+
+    batchRunner.startBundle();
+    downstream.startBundle();
+    for (int i = 0; i < NUM_ELEMENTS; i++) {
+      batchRunner.processElement(WindowedValue.valueInGlobalWindow(KV.of("k", i)));
+    }
+    downstream.finishBundle();
+    batchRunner.finishBundle();
+
+    // The first batch has the configured size, after which batches shrink towards the target.
+    assertEquals(BATCH_SIZE, (int) batchSizes.get(0));
+    List<Integer> lastBatchSizes = batchSizes.subList(batchSizes.size() - 10, batchSizes.size());
+    for (int batchSize : lastBatchSizes) {
+      assertTrue("Batch sizes did not shrink: " + batchSizes, batchSize <= BATCH_SIZE / 2);
+    }
+  }
+
+  @Test
+  public void testFixedBatchSizeForSlowDownstream() throws Exception {
+    DoFn<KV<String, Integer>, KV<String, Iterable<Integer>>> groupIntoBatchesFn =
+        groupIntoBatchesFn(GroupIntoBatches.ofSize(BATCH_SIZE));
+    List<Integer> batchSizes = new ArrayList<>();
+    DoFnRunner<KV<String, Iterable<Integer>>, Integer> downstream =
+        runner(new SlowDownstreamFn(), collectingOutputManager(batchSizes));
+    DoFnRunner<KV<String, Integer>, KV<String, Iterable<Integer>>> batchRunner =
+        runner(groupIntoBatchesFn, fusedOutputManager(downstream));
+
+    batchRunner.startBundle();
+    downstream.startBundle();
+    for (int i = 0; i < 5 * BATCH_SIZE; i++) {
+      batchRunner.processElement(WindowedValue.valueInGlobalWindow(KV.of("k", i)));
+    }
+    downstream.finishBundle();
+    batchRunner.finishBundle();
+
+    assertEquals(Collections.nCopies(5, BATCH_SIZE), batchSizes);
+  }
+
+  /** Sleeps for each element of a batch and outputs the size of the batch. */
+  private static class SlowDownstreamFn extends DoFn<KV<String, Iterable<Integer>>, Integer> {
+    @ProcessElement
+    public void processElement(
+        @Element KV<String, Iterable<Integer>> batch, OutputReceiver<Integer> receiver)
+        throws InterruptedException {
+      int size = Iterables.size(batch.getValue());
+      Thread.sleep(size * MILLIS_PER_ELEMENT);
+      receiver.output(size);
+    }
+  }
+
+  /** Returns the stateful {@link DoFn} that the given transform expands to. */
+  @SuppressWarnings("unchecked")
+  private DoFn<KV<String, Integer>, KV<String, Iterable<Integer>>> groupIntoBatchesFn(
+      GroupIntoBatches<String, Integer> transform) {
+    Pipeline pipeline = Pipeline.create(options);
+    pipeline
+        .apply(
+            Create.of(KV.of("k", 0)).withCoder(KvCoder.of(StringUtf8Coder.of(), VarIntCoder.of())))
+        .apply("Batch", transform);
+    List<DoFn<?, ?>> fns = new ArrayList<>();
+    pipeline.traverseTopologically(
+        new Pipeline.PipelineVisitor.Defaults() {
+          @Override
+          public void visitPrimitiveTransform(TransformHierarchy.Node node) {
+            if (node.getFullName().startsWith("Batch/")
+                && node.getTransform() instanceof ParDo.MultiOutput) {
+              fns.add(((ParDo.MultiOutput<?, ?>) node.getTransform()).getFn());
+            }
+          }
+        });
+    assertEquals(1, fns.size());
+    DoFn<KV<String, Integer>, KV<String, Iterable<Integer>>> fn =
+        (DoFn<KV<String, Integer>, KV<String, Iterable<Integer>>>) fns.get(0);
+    DoFnInvokers.tryInvokeSetupFor(fn, options);
+    return fn;
+  }
+
+  private <InputT, OutputT> DoFnRunner<InputT, OutputT> runner(
+      DoFn<InputT, OutputT> fn, OutputManager outputManager) {
+    return DoFnRunners.simpleRunner(
+        options,
+        fn,
+        NullSideInputReader.empty(),
+        outputManager,
+        new TupleTag<>(),
+        Collections.emptyList(),
+        stepContext,
+        null,
+        Collections.emptyMap(),
+        WindowingStrategy.globalDefault(),
+        DoFnSchemaInformation.create(),
+        Collections.emptyMap());
+  }
+
+  /** Processes each output with the downstream runner as soon as it is output. */
+  private static OutputManager fusedOutputManager(
+      DoFnRunner<KV<String, Iterable<Integer>>, Integer> downstream) {
+    return new OutputManager() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <T> void output(TupleTag<T> tag, WindowedValue<T> output) {
+        downstream.processElement((WindowedValue<KV<String, Iterable<Integer>>>) output);
+      }
+    };
+  }
+
+  private static OutputManager collectingOutputManager(List<Integer> outputs) {
+    return new OutputManager() {
+      @Override
+      public <T> void output(TupleTag<T> tag, WindowedValue<T> output) {
+        outputs.add((Integer) output.getValue());
+      }
+    };
+  }
+}
@@ -83,6 +83,7 @@ import org.apache.beam.sdk.values.PCollectionView;
 import org.apache.beam.sdk.values.TimestampedValue;
 import org.apache.beam.sdk.values.WindowingStrategy;
 import org.apache.beam.sdk.values.WindowingStrategy.AccumulationMode;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableList;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Iterables;
 import org.joda.time.Duration;
 import org.joda.time.Instant;
@@ -239,6 +240,71 @@ public class ReduceFnRunnerTest {
     assertEquals(1, droppedElements);
   }
 
+  @Test
+  public void testFinishedSetIsWrittenWhenPersisted() throws Exception {
+    ReduceFnTester<Integer, Iterable<Integer>, IntervalWindow> tester =
+        ReduceFnTester.nonCombining(
+            FixedWindows.of(Duration.millis(10)),
+            mockTriggerStateMachine,
+            AccumulationMode.DISCARDING_FIRED_PANES,
+            Duration.millis(100),
+            ClosingBehavior.FIRE_IF_NON_EMPTY);
+    when(mockTriggerStateMachine.shouldFire(anyTriggerContext())).thenReturn(true);
+    triggerShouldFinish(mockTriggerStateMachine);
+
+    ReduceFnRunner<String, Integer, Iterable<Integer>, IntervalWindow> runner =
+        tester.createRunner();
+    runner.processElements(
+        ImmutableList.of(WindowedValue.of(1, new Instant(1), firstWindow, PaneInfo.NO_FIRING)));
+
+    // The finished set is buffered by the runner until it is persisted.
+    assertTrue(runner.isFinished(firstWindow));
+    assertFalse(tester.isMarkedFinished(firstWindow));
+
+    runner.persist();
+    assertTrue(tester.isMarkedFinished(firstWindow));
+  }
+
+  @Test
+  public void testTriggerStateIsWrittenWhenPersisted() throws Exception {
+    ReduceFnTester<Integer, Iterable<Integer>, IntervalWindow> tester =
+        ReduceFnTester.nonCombining(
+            WindowingStrategy.of(FixedWindows.of(Duration.millis(10)))
+                .withTrigger(Repeatedly.forever(AfterPane.elementCountAtLeast(3)))
+                .withMode(AccumulationMode.DISCARDING_FIRED_PANES)
+                .withAllowedLateness(Duration.millis(100)));
+    tester.advanceInputWatermark(new Instant(0));
+
+    // The element count is buffered across the elements of a bundle and written when persisted.
+    ReduceFnRunner<String, Integer, Iterable<Integer>, IntervalWindow> runner =
+        tester.createRunner();
+    runner.processElements(ImmutableList.of(windowedValue(1)));
+    runner.processElements(ImmutableList.of(windowedValue(2)));
+    runner.persist();
+    assertThat(tester.extractOutput(), emptyIterable());
+
+    // Firing clears the cached count, so the next pane counts from zero again.
+    runner = tester.createRunner();
+    runner.processElements(ImmutableList.of(windowedValue(3)));
+    runner.processElements(ImmutableList.of(windowedValue(4)));
+    runner.processElements(ImmutableList.of(windowedValue(5)));
+    runner.persist();
+    assertThat(
+        tester.extractOutput(),
+        contains(isSingleWindowedValue(containsInAnyOrder(1, 2, 3), 9, 0, 10)));
+
+    runner = tester.createRunner();
+    runner.processElements(ImmutableList.of(windowedValue(6)));
+    runner.persist();
+    assertThat(
+        tester.extractOutput(),
+        contains(isSingleWindowedValue(containsInAnyOrder(4, 5, 6), 9, 0, 10)));
+  }
+
+  private WindowedValue<Integer> windowedValue(int value) {
+    return WindowedValue.of(value, new Instant(value), firstWindow, PaneInfo.NO_FIRING);
+  }
+
   @Test
   public void testOnElementBufferingAccumulating() throws Exception {
     // Test basic execution of a trigger using a non-combining window set and accumulating mode.
@@ -20,6 +20,11 @@ package org.apache.beam.runners.core.metrics;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.beam.sdk.metrics.MetricName;
 import org.junit.Assert;
 import org.junit.Test;
@@ -91,4 +96,27 @@ public class CounterCellTest {
     assertThat(counterCell.getCumulative(), equalTo(0L));
     assertThat(counterCell.getDirty(), equalTo(new DirtyState()));
   }
+
+  @Test
+  public void testConcurrentIncrements() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < 10000; j++) {
+                    cell.inc();
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(cell.getCumulative(), equalTo(40000L));
+  }
 }
@@ -20,6 +20,12 @@ package org.apache.beam.runners.core.metrics;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.beam.sdk.metrics.MetricName;
 import org.junit.Assert;
 import org.junit.Test;
@@ -92,4 +98,64 @@ public class DistributionCellTest {
     assertThat(distributionCell.getCumulative(), equalTo(DistributionData.EMPTY));
     assertThat(distributionCell.getDirty(), equalTo(new DirtyState()));
   }
+
+  @Test
+  public void testConcurrentUpdates() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int j = 1; j <= 10000; j++) {
+                    cell.update(j);
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(
+        cell.getCumulative(), equalTo(DistributionData.create(4 * 50005000L, 40000, 1, 10000)));
+  }
+
+  @Test
+  public void testResetIsConsistentWithConcurrentUpdates() throws Exception {
+    AtomicBoolean done = new AtomicBoolean();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  while (!done.get()) {
+                    cell.update(1);
+                  }
+                }));
+      }
+      for (int i = 0; i < 10000; i++) {
+        cell.reset();
+        DistributionData data = cell.getCumulative();
+        // Every update adds 1 to the sum and the count, so a distribution that mixed values from
+        // before and after a reset would show a sum below its count or a min or max other than 1.
+        if (data.count() > 0) {
+          Assert.assertTrue(data.toString(), data.sum() >= data.count());
+          Assert.assertEquals(data.toString(), 1, data.min());
+          Assert.assertEquals(data.toString(), 1, data.max());
+        }
+      }
+      done.set(true);
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      done.set(true);
+      executor.shutdownNow();
+    }
+  }
 }
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.runners.core.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.Closeable;
+import java.util.Collections;
+import org.apache.beam.sdk.metrics.MetricsEnvironment;
+import org.apache.beam.sdk.options.PipelineOptions;
+import org.apache.beam.sdk.options.PipelineOptionsFactory;
+import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableMap;
+import org.joda.time.Instant;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link ElementLatencyTracker}. */
+@RunWith(JUnit4.class)
+public class ElementLatencyTrackerTest {
+  private static final MonitoringInfoMetricName PROCESSING_LATENCY =
+      MonitoringInfoMetricName.named(
+          MonitoringInfoConstants.Urns.ELEMENT_PROCESSING_LATENCY_USECS,
+          ImmutableMap.of(MonitoringInfoConstants.Labels.PTRANSFORM, "step1"));
+  private static final MonitoringInfoMetricName EVENT_TIME_LAG =
+      MonitoringInfoMetricName.named(
+          MonitoringInfoConstants.Urns.ELEMENT_EVENT_TIME_LAG_MSECS,
+          ImmutableMap.of(MonitoringInfoConstants.Labels.PTRANSFORM, "step1"));
+
+  @Test
+  public void testDisabledWithoutExperiment() {
+    ElementLatencyTracker tracker =
+        ElementLatencyTracker.create(PipelineOptionsFactory.create(), "step1");
+    for (int i = 0; i < 10; i++) {
+      assertEquals(ElementLatencyTracker.NOT_SAMPLED, tracker.startElement());
+    }
+  }
+
+  @Test
+  public void testSamplesEveryNthElement() throws Exception {
+    PipelineOptions options =
+        PipelineOptionsFactory.fromArgs("--experiments=element_latency_sampling_period=3")
+            .create();
+    ElementLatencyTracker tracker = ElementLatencyTracker.create(options, "step1");
+
+    MetricsContainerImpl container = new MetricsContainerImpl("step1");
+    try (Closeable closeable = MetricsEnvironment.scopedMetricsContainer(container)) {
+      for (int i = 0; i < 9; i++) {
+        long startNanos = tracker.startElement();
+        assertEquals(i % 3 == 2, startNanos != ElementLatencyTracker.NOT_SAMPLED);
+        tracker.finishElement(startNanos, Instant.now().minus(1000));
+      }
+    }
+
+    assertEquals(3, container.getDistribution(PROCESSING_LATENCY).getCumulative().count());
+    DistributionData lag = container.getDistribution(EVENT_TIME_LAG).getCumulative();
+    assertEquals(3, lag.count());
+    assertTrue(lag.min() >= 1000);
+  }
+
+  @Test
+  public void testSkipsEventTimeLagOfElementsWithoutEventTime() throws Exception {
+    ElementLatencyTracker tracker = new ElementLatencyTracker(1, Collections.emptyMap());
+
+    MetricsContainerImpl container = new MetricsContainerImpl("step1");
+    try (Closeable closeable = MetricsEnvironment.scopedMetricsContainer(container)) {
+      tracker.finishElement(tracker.startElement(), BoundedWindow.TIMESTAMP_MIN_VALUE);
+    }
+
+    MonitoringInfoMetricName processingLatency =
+        MonitoringInfoMetricName.named(
+            MonitoringInfoConstants.Urns.ELEMENT_PROCESSING_LATENCY_USECS,
+            Collections.emptyMap());
+    MonitoringInfoMetricName eventTimeLag =
+        MonitoringInfoMetricName.named(
+            MonitoringInfoConstants.Urns.ELEMENT_EVENT_TIME_LAG_MSECS, Collections.emptyMap());
+    assertEquals(1, container.getDistribution(processingLatency).getCumulative().count());
+    assertNull(container.tryGetDistribution(eventTimeLag));
+  }
+}
@@ -43,6 +43,7 @@ public class ExecutionStateTrackerTest {
   private static class TestExecutionState extends ExecutionState {
 
     private long totalMillis = 0;
+    private long stackSampleMillis = 0;
 
     public TestExecutionState(String stateName) {
       super(stateName);
@@ -53,6 +54,11 @@ public class ExecutionStateTrackerTest {
       totalMillis += millisSinceLastSample;
     }
 
+    @Override
+    public void takeStackSample(StackTraceElement[] stack, long millisSinceLastSample) {
+      stackSampleMillis += millisSinceLastSample;
+    }
+
     @Override
     public void reportLull(Thread trackedThread, long millis) {}
   }
@@ -78,6 +84,26 @@ public class ExecutionStateTrackerTest {
     assertThat(tracker.getNextLullReportMs(), equalTo(TimeUnit.MINUTES.toMillis(5)));
   }
 
+  @Test
+  public void testTakesStackSamplesWhenEnabled() throws Exception {
+    ExecutionStateTracker tracker = createTracker();
+    try (Closeable c1 = tracker.activate(new Thread())) {
+      try (Closeable c2 = tracker.enterState(testExecutionState)) {
+        sampler.doSampling(400);
+        assertThat(testExecutionState.stackSampleMillis, equalTo(0L));
+
+        ExecutionStateSampler.setStackSamplingEnabled(true);
+        try {
+          sampler.doSampling(100);
+        } finally {
+          ExecutionStateSampler.setStackSamplingEnabled(false);
+        }
+        assertThat(testExecutionState.totalMillis, equalTo(500L));
+        assertThat(testExecutionState.stackSampleMillis, equalTo(100L));
+      }
+    }
+  }
+
   private ExecutionStateTracker createTracker() {
     return new ExecutionStateTracker(sampler);
   }
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.runners.core.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.beam.sdk.metrics.MetricName;
+import org.apache.beam.sdk.util.HistogramData;
+import org.apache.beam.sdk.values.KV;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link HistogramCell}. */
+@RunWith(JUnit4.class)
+public class HistogramCellTest {
+  private final HistogramData.BucketType bucketType = HistogramData.LinearBuckets.of(0, 10, 5);
+  private final HistogramCell cell = newCell();
+
+  @Test
+  public void testUpdateAndCumulative() {
+    cell.update(-1);
+    cell.update(5);
+    cell.update(15);
+    cell.update(15);
+    cell.update(50);
+
+    HistogramData data = cell.getCumulative();
+    assertEquals(1, data.getBottomBucketCount());
+    assertEquals(1, data.getCount(0));
+    assertEquals(2, data.getCount(1));
+    assertEquals(1, data.getTopBucketCount());
+    assertEquals(5, data.getTotalCount());
+
+    // The cumulative value is a snapshot that later updates do not change.
+    cell.update(5);
+    assertEquals(1, data.getCount(0));
+    assertEquals(2, cell.getCumulative().getCount(0));
+  }
+
+  @Test
+  public void testUpdateFromOtherCell() {
+    HistogramCell other = newCell();
+    other.update(-1);
+    other.update(25);
+    other.update(100);
+    cell.update(25);
+
+    cell.update(other);
+    HistogramData data = cell.getCumulative();
+    assertEquals(1, data.getBottomBucketCount());
+    assertEquals(2, data.getCount(2));
+    assertEquals(1, data.getTopBucketCount());
+  }
+
+  @Test
+  public void testReset() {
+    cell.update(5);
+    cell.incTopBucketCount(3);
+    cell.reset();
+    assertEquals(0, cell.getCumulative().getTotalCount());
+    assertEquals(new DirtyState(), cell.getDirty());
+  }
+
+  @Test
+  public void testEquals() {
+    HistogramCell equal = newCell();
+    assertEquals(cell, equal);
+    assertEquals(cell.hashCode(), equal.hashCode());
+
+    cell.update(5);
+    equal.update(5);
+    assertEquals(cell, equal);
+    assertEquals(cell.hashCode(), equal.hashCode());
+
+    HistogramCell differentValue = newCell();
+    differentValue.update(15);
+    assertNotEquals(cell, differentValue);
+  }
+
+  @Test
+  public void testConcurrentUpdates() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  // 100 runs of 10 values in each bucket, below and above the buckets.
+                  for (int j = 0; j < 7000; j++) {
+                    cell.update(j % 70 - 10);
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    HistogramData data = cell.getCumulative();
+    assertEquals(28000, data.getTotalCount());
+    assertEquals(4000, data.getBottomBucketCount());
+    for (int i = 0; i < 5; i++) {
+      assertEquals(4000, data.getCount(i));
+    }
+    assertEquals(4000, data.getTopBucketCount());
+  }
+
+  private HistogramCell newCell() {
+    return new HistogramCell(KV.of(MetricName.named("namespace", "name"), bucketType));
+  }
+}
@@ -28,6 +28,7 @@ import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -246,6 +247,30 @@ public class MetricsContainerImplTest {
     assertThat(actualMonitoringInfos, containsInAnyOrder(builder1.build()));
   }
 
+  @Test
+  public void testMonitoringInfosWithoutPTransformLabelBelongToTheStep() {
+    MetricsContainerImpl testObject = new MetricsContainerImpl("step1");
+    DistributionCell c1 =
+        testObject.getDistribution(
+            MonitoringInfoMetricName.named(
+                MonitoringInfoConstants.Urns.ELEMENT_PROCESSING_LATENCY_USECS,
+                Collections.emptyMap()));
+    c1.update(5L);
+
+    SimpleMonitoringInfoBuilder builder1 = new SimpleMonitoringInfoBuilder();
+    builder1
+        .setUrn(MonitoringInfoConstants.Urns.ELEMENT_PROCESSING_LATENCY_USECS)
+        .setLabel(MonitoringInfoConstants.Labels.PTRANSFORM, "step1")
+        .setInt64DistributionValue(DistributionData.create(5, 1, 5, 5));
+
+    ArrayList<MonitoringInfo> actualMonitoringInfos = new ArrayList<MonitoringInfo>();
+    for (MonitoringInfo mi : testObject.getMonitoringInfos()) {
+      actualMonitoringInfos.add(mi);
+    }
+
+    assertThat(actualMonitoringInfos, containsInAnyOrder(builder1.build()));
+  }
+
   @Test
   public void testMonitoringInfosArePopulatedForABeamCounter() {
     MetricsContainerImpl testObject = new MetricsContainerImpl("step1");
@@ -398,4 +423,28 @@ public class MetricsContainerImplTest {
             Collections.singletonMap("name", "counter"));
     assertFalse(MetricsContainerImpl.matchMetric(elementCountName, allowedMetricUrns));
   }
+
+  @Test
+  public void testUpdateSkipsExecutionProfiles() {
+    MetricsContainerImpl testObject = new MetricsContainerImpl("step1");
+    MonitoringInfo profile =
+        MonitoringInfo.newBuilder()
+            .setUrn(MonitoringInfoConstants.Urns.EXECUTION_PROFILE)
+            .putLabels(MonitoringInfoConstants.Labels.PTRANSFORM, "step1")
+            .setType(MonitoringInfoConstants.TypeUrns.COLLAPSED_STACKS_TYPE)
+            .setPayload(MonitoringInfoEncodings.encodeCollapsedStacks("DoFn.process 1\n"))
+            .build();
+    MonitoringInfo counter =
+        new SimpleMonitoringInfoBuilder()
+            .setUrn(MonitoringInfoConstants.Urns.USER_SUM_INT64)
+            .setLabel(MonitoringInfoConstants.Labels.NAMESPACE, "ns")
+            .setLabel(MonitoringInfoConstants.Labels.NAME, "name1")
+            .setLabel(MonitoringInfoConstants.Labels.PTRANSFORM, "step1")
+            .setInt64SumValue(5)
+            .build();
+
+    testObject.update(Arrays.asList(profile, counter));
+
+    assertThat(testObject.getMonitoringInfos(), contains(counter));
+  }
 }
@@ -17,17 +17,22 @@
  */
 package org.apache.beam.runners.core.metrics;
 
+import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeCollapsedStacks;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeDoubleCounter;
+import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeDoubleQuantileSketch;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeInt64Counter;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeInt64Distribution;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeInt64Gauge;
+import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeCollapsedStacks;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeDoubleCounter;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeDoubleDistribution;
+import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeDoubleQuantileSketch;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeInt64Counter;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeInt64Distribution;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.encodeInt64Gauge;
 import static org.junit.Assert.assertEquals;
 
+import org.apache.beam.sdk.metrics.QuantileSketch;
 import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
 import org.joda.time.Instant;
 import org.junit.Test;
@@ -77,4 +82,22 @@ public class MonitoringInfoEncodingsTest {
     assertEquals(ByteString.copyFrom(new byte[] {0x3f, (byte) 0xf0, 0, 0, 0, 0, 0, 0}), payload);
     assertEquals(1.0, decodeDoubleCounter(payload), 0.001);
   }
+
+  @Test
+  public void testCollapsedStacksEncoding() {
+    ByteString payload = encodeCollapsedStacks("a;b 1");
+    assertEquals(ByteString.copyFrom(new byte[] {0x05, 'a', ';', 'b', ' ', '1'}), payload);
+    assertEquals("a;b 1", decodeCollapsedStacks(payload));
+  }
+
+  @Test
+  public void testDoubleQuantileSketchEncoding() {
+    QuantileSketch sketch = QuantileSketch.create();
+    sketch.add(-2.0);
+    sketch.add(0.0);
+    sketch.add(1.0);
+    sketch.add(1000.0);
+    ByteString payload = encodeDoubleQuantileSketch(sketch);
+    assertEquals(sketch, decodeDoubleQuantileSketch(payload));
+  }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.runners.core.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertEquals;
+
+import org.apache.beam.sdk.metrics.MetricName;
+import org.apache.beam.sdk.metrics.QuantileSketch;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link QuantileDistributionCell}. */
+@RunWith(JUnit4.class)
+public class QuantileDistributionCellTest {
+  private QuantileDistributionCell cell =
+      new QuantileDistributionCell(MetricName.named("hello", "world"));
+
+  @Test
+  public void testDeltaAndCumulative() {
+    cell.update(5);
+    cell.update(7);
+    assertThat(cell.getCumulative().getCount(), equalTo(2L));
+    assertThat("getCumulative is idempotent", cell.getCumulative().getCount(), equalTo(2L));
+
+    assertThat(cell.getDirty().beforeCommit(), equalTo(true));
+    cell.getDirty().afterCommit();
+    assertThat(cell.getDirty().beforeCommit(), equalTo(false));
+
+    cell.update(30);
+    assertThat(cell.getCumulative().getMax(), equalTo(30.0));
+
+    assertThat(
+        "Adding a new value made the cell dirty", cell.getDirty().beforeCommit(), equalTo(true));
+  }
+
+  @Test
+  public void testCumulativeIsSnapshot() {
+    cell.update(5);
+    QuantileSketch snapshot = cell.getCumulative();
+    cell.update(7);
+    assertEquals(1, snapshot.getCount());
+  }
+
+  @Test
+  public void testUpdateMergesSketch() {
+    QuantileSketch sketch = QuantileSketch.create();
+    sketch.add(1);
+    sketch.add(100);
+    cell.update(10);
+    cell.update(sketch);
+
+    QuantileSketch cumulative = cell.getCumulative();
+    assertEquals(3, cumulative.getCount());
+    assertEquals(1, cumulative.getMin(), 0);
+    assertEquals(100, cumulative.getMax(), 0);
+    assertEquals(10, cumulative.getQuantile(0.5), 0.1);
+  }
+
+  @Test
+  public void testReset() {
+    cell.update(2);
+    cell.reset();
+    assertEquals(QuantileSketch.create(), cell.getCumulative());
+    assertThat(cell.getDirty(), equalTo(new DirtyState()));
+  }
+}
@@ -21,6 +21,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.HashMap;
 import org.joda.time.Duration;
@@ -59,6 +61,59 @@ public class SimpleExecutionStateTest {
     assertEquals(0, testObject.getTotalMillis());
   }
 
+  @Test
+  public void testTakeStackSampleAggregatesCollapsedStacks() {
+    SimpleExecutionState testObject = new SimpleExecutionState("myState", null, null);
+    assertFalse(testObject.hasProfile());
+
+    StackTraceElement[] stack = {
+      new StackTraceElement("Inner", "process", "Inner.java", 1),
+      new StackTraceElement("Outer", "run", "Outer.java", 2)
+    };
+    testObject.takeStackSample(stack, 10);
+    testObject.takeStackSample(stack, 5);
+    assertTrue(testObject.hasProfile());
+    assertEquals("Outer.run;Inner.process 15\n", testObject.takeProfile());
+    assertFalse(testObject.hasProfile());
+
+    testObject.takeStackSample(stack, 3);
+    assertEquals(
+        "Outer.run;Inner.process 3\n",
+        MonitoringInfoEncodings.decodeCollapsedStacks(testObject.takeProfilePayload()));
+    assertEquals("", testObject.takeProfile());
+
+    testObject.takeStackSample(stack, 1);
+    testObject.reset();
+    assertFalse(testObject.hasProfile());
+  }
+
+  @Test
+  public void testTakeStackSampleBoundsDistinctStacks() {
+    SimpleExecutionState testObject = new SimpleExecutionState("myState", null, null);
+    for (int i = 0; i <= SimpleExecutionState.MAX_DISTINCT_STACKS; i++) {
+      testObject.takeStackSample(
+          new StackTraceElement[] {new StackTraceElement("Class" + i, "m", null, -1)}, 1);
+    }
+    assertThat(
+        testObject.takeProfile(), containsString(SimpleExecutionState.OTHER_STACKS + " 1\n"));
+  }
+
+  @Test
+  public void testTakeProfileBoundsItsLength() {
+    SimpleExecutionState testObject = new SimpleExecutionState("myState", null, null);
+    StackTraceElement[] stack = new StackTraceElement[SimpleExecutionState.MAX_STACK_DEPTH];
+    for (int i = 0; i < SimpleExecutionState.MAX_DISTINCT_STACKS; i++) {
+      for (int j = 0; j < stack.length; j++) {
+        stack[j] = new StackTraceElement("Class" + i, "method" + j, null, -1);
+      }
+      testObject.takeStackSample(stack, 1);
+    }
+    String profile = testObject.takeProfile();
+    assertTrue(profile.length() <= SimpleExecutionState.MAX_PROFILE_CHARS + 100);
+    assertThat(profile, containsString(SimpleExecutionState.OTHER_STACKS + " "));
+    assertFalse(testObject.hasProfile());
+  }
+
   @Test
   public void testGetLullReturnsARelevantMessageWithStepName() {
     HashMap<String, String> labelsMetadata = new HashMap<String, String>();
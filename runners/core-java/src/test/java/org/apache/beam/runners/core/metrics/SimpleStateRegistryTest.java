@@ -25,7 +25,9 @@ import static org.mockito.Mockito.verify;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.beam.model.pipeline.v1.MetricsApi.MonitoringInfo;
+import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -85,6 +87,51 @@ public class SimpleStateRegistryTest {
     }
   }
 
+  @Test
+  public void testExecutionProfilesAreMergedPerPTransform() {
+    HashMap<String, String> labelsMetadata = new HashMap<String, String>();
+    labelsMetadata.put(MonitoringInfoConstants.Labels.PTRANSFORM, "pTransformId");
+    SimpleExecutionState startState =
+        new SimpleExecutionState(
+            ExecutionStateTracker.START_STATE_NAME,
+            MonitoringInfoConstants.Urns.START_BUNDLE_MSECS,
+            labelsMetadata);
+    SimpleExecutionState processState =
+        new SimpleExecutionState(
+            ExecutionStateTracker.PROCESS_STATE_NAME,
+            MonitoringInfoConstants.Urns.PROCESS_BUNDLE_MSECS,
+            labelsMetadata);
+    startState.takeStackSample(
+        new StackTraceElement[] {new StackTraceElement("DoFn", "setup", null, -1)}, 1);
+    processState.takeStackSample(
+        new StackTraceElement[] {new StackTraceElement("DoFn", "process", null, -1)}, 2);
+
+    SimpleStateRegistry testObject = new SimpleStateRegistry();
+    testObject.register(startState);
+    testObject.register(processState);
+    ShortIdMap shortIds = new ShortIdMap();
+    Map<String, ByteString> result = new HashMap<>();
+    testObject.addExecutionProfileMonitoringData(shortIds, result);
+
+    assertThat(result.size(), Matchers.equalTo(1));
+    Map.Entry<String, ByteString> profile = result.entrySet().iterator().next();
+    assertThat(
+        shortIds.get(profile.getKey()).getUrn(),
+        Matchers.equalTo(MonitoringInfoConstants.Urns.EXECUTION_PROFILE));
+    assertThat(
+        MonitoringInfoEncodings.decodeCollapsedStacks(profile.getValue()),
+        Matchers.equalTo("DoFn.setup 1\nDoFn.process 2\n"));
+
+    // Only the samples taken since the previous report are reported again.
+    processState.takeStackSample(
+        new StackTraceElement[] {new StackTraceElement("DoFn", "process", null, -1)}, 3);
+    result.clear();
+    testObject.addExecutionProfileMonitoringData(shortIds, result);
+    assertThat(
+        MonitoringInfoEncodings.decodeCollapsedStacks(result.get(profile.getKey())),
+        Matchers.equalTo("DoFn.process 3\n"));
+  }
+
   @Test
   public void testResetRegistry() {
     SimpleExecutionState state1 = mock(SimpleExecutionState.class);
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.beam.runners.direct;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import org.apache.beam.runners.direct.WatermarkManager.TimerUpdate;
+import org.apache.beam.runners.local.Bundle;
+import org.apache.beam.runners.local.StructuralKey;
+import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
+import org.apache.beam.sdk.util.WindowedValue;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableList;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableMap;
+import org.joda.time.Instant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the throughput of committing results to a {@link WatermarkManager} and refreshing
+ * its watermarks for pipelines of different sizes.
+ *
+ * <p>The pipeline is a chain of {@code graphSize} steps. Every commit completes the pending bundle
+ * of one step, outputs a bundle to the next step and advances the watermark hold of the first
+ * step, so each refresh propagates watermark updates along the chain.
+ */
+@SuppressWarnings({
+  "nullness" // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
+})
+public class WatermarkManagerBenchmark {
+
+  /** The state of a chain of steps which commit their results in turn. */
+  @State(Scope.Thread)
+  public static class Chain {
+    @Param({"10", "100", "1000"})
+    int graphSize;
+
+    WatermarkManager<String, ? super String> watermarkManager;
+    List<Bundle<?, String>> pendingInputs;
+    int nextStep;
+    long round;
+
+    @Setup
+    public void setup() {
+      watermarkManager =
+          WatermarkManager.create(Instant::now, new ChainGraph(graphSize), name -> name);
+      watermarkManager.initialize(ImmutableMap.of());
+      pendingInputs = new ArrayList<>(Collections.nCopies(graphSize, null));
+      nextStep = 0;
+      round = 0;
+    }
+  }
+
+  @Benchmark
+  public void commitAndRefresh(Chain chain) {
+    int step = chain.nextStep;
+    Bundle<?, String> completed;
+    Instant hold;
+    if (step == 0) {
+      completed = null;
+      hold = new Instant(chain.round++);
+    } else {
+      completed = chain.pendingInputs.get(step);
+      hold = BoundedWindow.TIMESTAMP_MAX_VALUE;
+    }
+    List<Bundle<?, String>> outputs;
+    if (step < chain.graphSize - 1) {
+      Bundle<?, String> output =
+          new TimestampedBundle(
+              ChainGraph.collection(step),
+              completed == null ? hold : completed.getMinimumTimestamp());
+      chain.pendingInputs.set(step + 1, output);
+      outputs = ImmutableList.of(output);
+    } else {
+      outputs = ImmutableList.of();
+    }
+    chain.watermarkManager.updateWatermarks(
+        completed, TimerUpdate.empty(), ChainGraph.step(step), null, outputs, hold);
+    chain.watermarkManager.refreshAll();
+    chain.nextStep = (step + 1) % chain.graphSize;
+  }
+
+  /**
+   * An {@link ExecutableGraph} of steps named {@code step-i}, each of which produces the
+   * collection {@code collection-i} consumed by the following step.
+   */
+  private static class ChainGraph implements ExecutableGraph<String, String> {
+    private final List<String> steps;
+
+    private ChainGraph(int size) {
+      ImmutableList.Builder<String> steps = ImmutableList.builder();
+      for (int i = 0; i < size; i++) {
+        steps.add(step(i));
+      }
+      this.steps = steps.build();
+    }
+
+    static String step(int index) {
+      return "step-" + index;
+    }
+
+    static String collection(int index) {
+      return "collection-" + index;
+    }
+
+    private static int index(String name) {
+      return Integer.parseInt(name.substring(name.indexOf('-') + 1));
+    }
+
+    @Override
+    public Collection<String> getRootTransforms() {
+      return ImmutableList.of(steps.get(0));
+    }
+
+    @Override
+    public Collection<String> getExecutables() {
+      return steps;
+    }
+
+    @Override
+    public String getProducer(String collection) {
+      return step(index(collection));
+    }
+
+    @Override
+    public Collection<String> getProduced(String producer) {
+      return ImmutableList.of(collection(index(producer)));
+    }
+
+    @Override
+    public Collection<String> getPerElementInputs(String transform) {
+      int index = index(transform);
+      return index == 0 ? ImmutableList.of() : ImmutableList.of(collection(index - 1));
+    }
+
+    @Override
+    public Collection<String> getPerElementConsumers(String collection) {
+      int index = index(collection);
+      return index == steps.size() - 1 ? ImmutableList.of() : ImmutableList.of(step(index + 1));
+    }
+  }
+
+  /** An empty {@link Bundle} which holds the watermark of its consumer at a timestamp. */
+  private static class TimestampedBundle implements Bundle<Object, String> {
+    private final String collection;
+    private final Instant timestamp;
+
+    private TimestampedBundle(String collection, Instant timestamp) {
+      this.collection = collection;
+      this.timestamp = timestamp;
+    }
+
+    @Override
+    public String getPCollection() {
+      return collection;
+    }
+
+    @Override
+    public StructuralKey<?> getKey() {
+      return StructuralKey.empty();
+    }
+
+    @Override
+    public Instant getMinimumTimestamp() {
+      return timestamp;
+    }
+
+    @Override
+    public Instant getSynchronizedProcessingOutputWatermark() {
+      return timestamp;
+    }
+
+    @Override
+    public Iterator<WindowedValue<Object>> iterator() {
+      return Collections.emptyIterator();
+    }
+  }
+}
@@ -77,12 +77,29 @@ class CopyOnAccessInMemoryStateInternals<K> implements StateInternals {
    */
   public static <K> CopyOnAccessInMemoryStateInternals withUnderlying(
       K key, @Nullable CopyOnAccessInMemoryStateInternals underlying) {
-    return new CopyOnAccessInMemoryStateInternals<>(key, underlying);
+    return new CopyOnAccessInMemoryStateInternals<>(key, underlying, true);
   }
 
-  private CopyOnAccessInMemoryStateInternals(K key, CopyOnAccessInMemoryStateInternals underlying) {
+  /**
+   * Creates a new {@link CopyOnAccessInMemoryStateInternals} with the underlying (possibly null)
+   * StateInternals which binds existing state by reference instead of copying it.
+   *
+   * <p>Modifications of existing state are immediately visible in the underlying StateInternals.
+   * This is only safe if no other {@link StateInternals} for the same Step and Key are in use at
+   * the same time and the modifications are never discarded, for example because a bundle is
+   * retried.
+   */
+  public static <K> CopyOnAccessInMemoryStateInternals sharingUnderlying(
+      K key, @Nullable CopyOnAccessInMemoryStateInternals underlying) {
+    return new CopyOnAccessInMemoryStateInternals<>(key, underlying, false);
+  }
+
+  private CopyOnAccessInMemoryStateInternals(
+      K key, CopyOnAccessInMemoryStateInternals underlying, boolean copyOnBind) {
     this.key = key;
-    table = new CopyOnAccessInMemoryStateTable(underlying == null ? null : underlying.table);
+    table =
+        new CopyOnAccessInMemoryStateTable(
+            underlying == null ? null : underlying.table, copyOnBind);
   }
 
   /**
@@ -167,9 +184,9 @@ class CopyOnAccessInMemoryStateInternals<K> implements StateInternals {
     /** The earliest watermark hold in this table. */
     private Optional<Instant> earliestWatermarkHold;
 
-    public CopyOnAccessInMemoryStateTable(StateTable underlying) {
+    public CopyOnAccessInMemoryStateTable(StateTable underlying, boolean copyOnBind) {
       this.underlying = Optional.ofNullable(underlying);
-      binderFactory = new CopyOnBindBinderFactory(this.underlying);
+      binderFactory = new CopyOnBindBinderFactory(this.underlying, copyOnBind);
       earliestWatermarkHold = Optional.empty();
     }
 
@@ -253,12 +270,20 @@ class CopyOnAccessInMemoryStateInternals<K> implements StateInternals {
 
     /**
      * {@link StateBinderFactory} that creates a copy of any existing state when the state is bound.
+     * If copying is disabled, the existing state is bound instead.
      */
     private static class CopyOnBindBinderFactory implements StateBinderFactory {
       private final Optional<StateTable> underlying;
+      private final boolean copyOnBind;
 
-      public CopyOnBindBinderFactory(Optional<StateTable> underlying) {
+      public CopyOnBindBinderFactory(Optional<StateTable> underlying, boolean copyOnBind) {
         this.underlying = underlying;
+        this.copyOnBind = copyOnBind;
+      }
+
+      @SuppressWarnings("unchecked")
+      private <T extends State> T bindExisting(InMemoryState<? extends T> existingState) {
+        return copyOnBind ? existingState.copy() : (T) existingState;
       }
 
       private boolean containedInUnderlying(StateNamespace namespace, StateTag<?> tag) {
@@ -278,7 +303,7 @@ class CopyOnAccessInMemoryStateInternals<K> implements StateInternals {
               InMemoryState<? extends WatermarkHoldState> existingState =
                   (InMemoryState<? extends WatermarkHoldState>)
                       underlying.get().get(namespace, address, c);
-              return existingState.copy();
+              return bindExisting(existingState);
             } else {
               return new InMemoryWatermarkHold<>(timestampCombiner);
             }
@@ -291,7 +316,7 @@ class CopyOnAccessInMemoryStateInternals<K> implements StateInternals {
               InMemoryState<? extends ValueState<T>> existingState =
                   (InMemoryState<? extends ValueState<T>>)
                       underlying.get().get(namespace, address, c);
-              return existingState.copy();
+              return bindExisting(existingState);
             } else {
               return new InMemoryValue<>(coder);
             }
@@ -308,7 +333,7 @@ class CopyOnAccessInMemoryStateInternals<K> implements StateInternals {
               InMemoryState<? extends CombiningState<InputT, AccumT, OutputT>> existingState =
                   (InMemoryState<? extends CombiningState<InputT, AccumT, OutputT>>)
                       underlying.get().get(namespace, address, c);
-              return existingState.copy();
+              return bindExisting(existingState);
             } else {
               return new InMemoryCombiningState<>(combineFn, accumCoder);
             }
@@ -321,7 +346,7 @@ class CopyOnAccessInMemoryStateInternals<K> implements StateInternals {
               InMemoryState<? extends BagState<T>> existingState =
                   (InMemoryState<? extends BagState<T>>)
                       underlying.get().get(namespace, address, c);
-              return existingState.copy();
+              return bindExisting(existingState);
             } else {
               return new InMemoryBag<>(elemCoder);
             }
@@ -334,7 +359,7 @@ class CopyOnAccessInMemoryStateInternals<K> implements StateInternals {
               InMemoryState<? extends SetState<T>> existingState =
                   (InMemoryState<? extends SetState<T>>)
                       underlying.get().get(namespace, address, c);
-              return existingState.copy();
+              return bindExisting(existingState);
             } else {
               return new InMemorySet<>(elemCoder);
             }
@@ -350,7 +375,7 @@ class CopyOnAccessInMemoryStateInternals<K> implements StateInternals {
               InMemoryState<? extends MapState<KeyT, ValueT>> existingState =
                   (InMemoryState<? extends MapState<KeyT, ValueT>>)
                       underlying.get().get(namespace, address, c);
-              return existingState.copy();
+              return bindExisting(existingState);
             } else {
               return new InMemoryMap<>(mapKeyCoder, mapValueCoder);
             }
@@ -364,7 +389,7 @@ class CopyOnAccessInMemoryStateInternals<K> implements StateInternals {
               InMemoryState<? extends OrderedListState<T>> existingState =
                   (InMemoryState<? extends OrderedListState<T>>)
                       underlying.get().get(namespace, address, c);
-              return existingState.copy();
+              return bindExisting(existingState);
             } else {
               return new InMemoryOrderedList<>(elemCoder);
             }
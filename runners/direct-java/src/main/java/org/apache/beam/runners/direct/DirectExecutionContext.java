@@ -47,17 +47,20 @@ class DirectExecutionContext {
   private final StructuralKey<?> key;
   private final CopyOnAccessInMemoryStateInternals existingState;
   private final TransformWatermarks watermarks;
+  private final boolean shareExistingState;
   private Map<String, DirectStepContext> cachedStepContexts = new LinkedHashMap<>();
 
   public DirectExecutionContext(
       Clock clock,
       StructuralKey<?> key,
       CopyOnAccessInMemoryStateInternals existingState,
-      TransformWatermarks watermarks) {
+      TransformWatermarks watermarks,
+      boolean shareExistingState) {
     this.clock = clock;
     this.key = key;
     this.existingState = existingState;
     this.watermarks = watermarks;
+    this.shareExistingState = shareExistingState;
   }
 
   private DirectStepContext createStepContext() {
@@ -80,7 +83,10 @@ class DirectExecutionContext {
     @Override
     public CopyOnAccessInMemoryStateInternals<?> stateInternals() {
       if (stateInternals == null) {
-        stateInternals = CopyOnAccessInMemoryStateInternals.withUnderlying(key, existingState);
+        stateInternals =
+            shareExistingState
+                ? CopyOnAccessInMemoryStateInternals.sharingUnderlying(key, existingState)
+                : CopyOnAccessInMemoryStateInternals.withUnderlying(key, existingState);
       }
       return stateInternals;
     }
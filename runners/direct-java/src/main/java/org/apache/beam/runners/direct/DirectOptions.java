@@ -63,6 +63,16 @@ public interface DirectOptions extends PipelineOptions, ApplicationNameOptions {
 
   void setTargetParallelism(int target);
 
+  @Default.Boolean(false)
+  @Description(
+      "Controls whether the DirectRunner trades model enforcement for throughput. If set to true,"
+          + " the immutability and encodability of elements are not enforced, keyed work is"
+          + " partitioned by key across at most targetParallelism serial queues per step, and"
+          + " state is updated in place instead of being copied for every bundle.")
+  boolean isPerformanceMode();
+
+  void setPerformanceMode(boolean performanceMode);
+
   /**
    * A {@link DefaultValueFactory} that returns the result of {@link Runtime#availableProcessors()}
    * from the {@link #create(PipelineOptions)} method. Uses {@link Runtime#getRuntime()} to obtain
@@ -99,6 +99,11 @@ public class DirectRunner extends PipelineRunner<DirectPipelineResult> {
     // Utilities for creating enforcements
     static Set<Enforcement> enabled(DirectOptions options) {
       EnumSet<Enforcement> enabled = EnumSet.noneOf(Enforcement.class);
+      if (options.isPerformanceMode()) {
+        // Enforcements clone or re-encode every element, which dominates the cost of cheap
+        // transforms.
+        return Collections.unmodifiableSet(enabled);
+      }
       if (options.isEnforceEncodability()) {
         enabled.add(ENCODABILITY);
       }
@@ -199,7 +204,8 @@ public class DirectRunner extends PipelineRunner<DirectPipelineResult> {
               Enforcement.bundleFactoryFor(enabledEnforcements, graph),
               graph,
               keyedPValueVisitor.getKeyedPValues(),
-              metricsPool);
+              metricsPool,
+              options.isPerformanceMode());
 
       TransformEvaluatorRegistry registry =
           TransformEvaluatorRegistry.javaSdkNativeRegistry(context, options);
@@ -209,7 +215,8 @@ public class DirectRunner extends PipelineRunner<DirectPipelineResult> {
               registry,
               Enforcement.defaultModelEnforcements(enabledEnforcements),
               context,
-              metricsPool);
+              metricsPool,
+              options.isPerformanceMode());
       executor.start(graph, RootProviderRegistry.javaNativeRegistry(context, options));
 
       DirectPipelineResult result = new DirectPipelineResult(executor, context);
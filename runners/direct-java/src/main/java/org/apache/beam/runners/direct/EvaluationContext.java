@@ -105,13 +105,32 @@ class EvaluationContext {
 
   private final ExecutorService executorService;
 
+  /** Whether bundles modify the committed state of their step and key in place. */
+  private final boolean shareState;
+
   public static EvaluationContext create(
       Clock clock,
       BundleFactory bundleFactory,
       DirectGraph graph,
       Set<PValue> keyedPValues,
       ExecutorService executorService) {
-    return new EvaluationContext(clock, bundleFactory, graph, keyedPValues, executorService);
+    return create(clock, bundleFactory, graph, keyedPValues, executorService, false);
+  }
+
+  /**
+   * Creates a new {@link EvaluationContext}. If {@code shareState} is true, state is not copied
+   * when it is accessed by a bundle, so modifications are visible to the committed state of the
+   * step and key before the bundle is committed.
+   */
+  public static EvaluationContext create(
+      Clock clock,
+      BundleFactory bundleFactory,
+      DirectGraph graph,
+      Set<PValue> keyedPValues,
+      ExecutorService executorService,
+      boolean shareState) {
+    return new EvaluationContext(
+        clock, bundleFactory, graph, keyedPValues, executorService, shareState);
   }
 
   private EvaluationContext(
@@ -119,12 +138,14 @@ class EvaluationContext {
       BundleFactory bundleFactory,
       DirectGraph graph,
       Set<PValue> keyedPValues,
-      ExecutorService executorService) {
+      ExecutorService executorService,
+      boolean shareState) {
     this.clock = clock;
     this.bundleFactory = checkNotNull(bundleFactory);
     this.graph = checkNotNull(graph);
     this.keyedPValues = keyedPValues;
     this.executorService = executorService;
+    this.shareState = shareState;
 
     this.watermarkManager = WatermarkManager.create(clock, graph, AppliedPTransform::getFullName);
     this.sideInputContainer = SideInputContainer.create(this, graph.getViews());
@@ -350,7 +371,8 @@ class EvaluationContext {
         clock,
         key,
         (CopyOnAccessInMemoryStateInternals) applicationStateInternals.get(stepAndKey),
-        watermarkManager.getWatermarks(application));
+        watermarkManager.getWatermarks(application),
+        shareState);
   }
 
   /** Get the Step Name for the provided application. */
@@ -23,7 +23,9 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -33,6 +35,7 @@ import java.util.stream.Collectors;
 import org.apache.beam.runners.local.ExecutionDriver;
 import org.apache.beam.runners.local.ExecutionDriver.DriverState;
 import org.apache.beam.runners.local.PipelineMessageReceiver;
+import org.apache.beam.runners.local.StructuralKey;
 import org.apache.beam.sdk.Pipeline;
 import org.apache.beam.sdk.PipelineResult.State;
 import org.apache.beam.sdk.runners.AppliedPTransform;
@@ -74,6 +77,12 @@ final class ExecutorServiceParallelExecutor
   private final TransformExecutorFactory executorFactory;
   private final TransformExecutorService parallelExecutorService;
   private final LoadingCache<StepAndKey, TransformExecutorService> serialExecutorServices;
+  /**
+   * If present, the serial {@link TransformExecutorService TransformExecutorServices} of each step
+   * which keyed work is partitioned across, instead of using one per {@link StepAndKey}.
+   */
+  private final @Nullable ConcurrentMap<AppliedPTransform<?, ?, ?>, TransformExecutorService[]>
+      partitionedExecutorServices;
 
   private final QueueMessageReceiver visibleUpdates;
 
@@ -87,8 +96,32 @@ final class ExecutorServiceParallelExecutor
       Map<String, Collection<ModelEnforcementFactory>> transformEnforcements,
       EvaluationContext context,
       ExecutorService metricsExecutor) {
+    return create(
+        targetParallelism, registry, transformEnforcements, context, metricsExecutor, false);
+  }
+
+  /**
+   * Creates a new {@link ExecutorServiceParallelExecutor}.
+   *
+   * <p>If {@code partitionKeyedWork} is true, the work of each keyed step is hash partitioned by
+   * key across {@code targetParallelism} serial queues rather than queued separately for every
+   * key. Work for a single key is still executed serially, but the number of queues no longer
+   * grows with the number of keys.
+   */
+  public static ExecutorServiceParallelExecutor create(
+      int targetParallelism,
+      TransformEvaluatorRegistry registry,
+      Map<String, Collection<ModelEnforcementFactory>> transformEnforcements,
+      EvaluationContext context,
+      ExecutorService metricsExecutor,
+      boolean partitionKeyedWork) {
     return new ExecutorServiceParallelExecutor(
-        targetParallelism, registry, transformEnforcements, context, metricsExecutor);
+        targetParallelism,
+        registry,
+        transformEnforcements,
+        context,
+        metricsExecutor,
+        partitionKeyedWork);
   }
 
   private ExecutorServiceParallelExecutor(
@@ -96,7 +129,8 @@ final class ExecutorServiceParallelExecutor
       TransformEvaluatorRegistry registry,
       Map<String, Collection<ModelEnforcementFactory>> transformEnforcements,
       EvaluationContext context,
-      ExecutorService metricsExecutor) {
+      ExecutorService metricsExecutor,
+      boolean partitionKeyedWork) {
     this.targetParallelism = targetParallelism;
     this.metricsExecutor = metricsExecutor;
     // Don't use Daemon threads for workers. The Pipeline should continue to execute even if there
@@ -119,6 +153,7 @@ final class ExecutorServiceParallelExecutor
             .weakValues()
             .removalListener(shutdownExecutorServiceListener())
             .build(serialTransformExecutorServiceCacheLoader());
+    partitionedExecutorServices = partitionKeyedWork ? new ConcurrentHashMap<>() : null;
 
     this.visibleUpdates = new QueueMessageReceiver();
 
@@ -218,7 +253,10 @@ final class ExecutorServiceParallelExecutor
       // a reference to the scheduled DirectTransformExecutor callable. Follow-up TransformExecutors
       // (scheduled due to the completion of another DirectTransformExecutor) are provided to the
       // ExecutorService before the Earlier DirectTransformExecutor callable completes.
-      transformExecutor = serialExecutorServices.getUnchecked(stepAndKey);
+      transformExecutor =
+          partitionedExecutorServices == null
+              ? serialExecutorServices.getUnchecked(stepAndKey)
+              : partitionedExecutorService(transform, bundle.getKey());
     } else {
       transformExecutor = parallelExecutorService;
     }
@@ -230,6 +268,27 @@ final class ExecutorServiceParallelExecutor
     }
   }
 
+  /**
+   * Returns the serial {@link TransformExecutorService} of the partition of the provided step which
+   * the provided key belongs to. Partitions are never released, so they remain reachable for the
+   * lifetime of the pipeline.
+   */
+  private TransformExecutorService partitionedExecutorService(
+      AppliedPTransform<?, ?, ?> transform, StructuralKey<?> key) {
+    TransformExecutorService[] partitions =
+        partitionedExecutorServices.computeIfAbsent(
+            transform,
+            ignored -> {
+              TransformExecutorService[] services =
+                  new TransformExecutorService[targetParallelism];
+              for (int i = 0; i < services.length; i++) {
+                services[i] = TransformExecutorServices.serial(executorService);
+              }
+              return services;
+            });
+    return partitions[Math.floorMod(key.hashCode(), partitions.length)];
+  }
+
   private boolean isKeyed(PValue pvalue) {
     return evaluationContext.isKeyed(pvalue);
   }
@@ -315,6 +374,17 @@ final class ExecutorServiceParallelExecutor
     } catch (final RuntimeException re) {
       errors.add(re);
     }
+    if (partitionedExecutorServices != null) {
+      for (TransformExecutorService[] partitions : partitionedExecutorServices.values()) {
+        for (TransformExecutorService partition : partitions) {
+          try {
+            partition.shutdown();
+          } catch (final RuntimeException re) {
+            errors.add(re);
+          }
+        }
+      }
+    }
     try {
       parallelExecutorService.shutdown();
     } catch (final RuntimeException re) {
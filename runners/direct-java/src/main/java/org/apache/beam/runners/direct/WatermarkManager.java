@@ -26,6 +26,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -33,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
@@ -239,6 +241,10 @@ class WatermarkManager<ExecutableT, CollectionT> {
     // minimum
     private final SortedMultiset<TimerData> pendingTimers;
 
+    // The output timestamps of the pendingTimers, for quickly getting the cross-key minimum output
+    // timestamp which holds the output watermark
+    private final SortedMultiset<Instant> pendingTimerOutputTimestamps;
+
     // Entries in this table represent the authoritative timestamp for which
     // a per-key-and-StateNamespace timer is set.
     private final Map<StructuralKey<?>, Table<StateNamespace, String, TimerData>> existingTimers;
@@ -267,6 +273,7 @@ class WatermarkManager<ExecutableT, CollectionT> {
           new BundleByElementTimestampComparator().compound(Ordering.arbitrary());
       this.pendingElements = TreeMultiset.create(pendingBundleComparator);
       this.pendingTimers = TreeMultiset.create();
+      this.pendingTimerOutputTimestamps = TreeMultiset.create();
       this.objectTimers = new HashMap<>();
       this.existingTimers = new HashMap<>();
       this.currentWatermark = new AtomicReference<>(BoundedWindow.TIMESTAMP_MIN_VALUE);
@@ -325,20 +332,22 @@ class WatermarkManager<ExecutableT, CollectionT> {
 
     @VisibleForTesting
     synchronized Instant getEarliestTimerTimestamp() {
-      if (pendingTimers.isEmpty()) {
+      if (pendingTimerOutputTimestamps.isEmpty()) {
         return BoundedWindow.TIMESTAMP_MAX_VALUE;
       } else {
-        return getMinimumOutputTimestamp(pendingTimers);
+        return pendingTimerOutputTimestamps.firstEntry().getElement();
       }
     }
 
-    private Instant getMinimumOutputTimestamp(SortedMultiset<TimerData> timers) {
-      Instant minimumOutputTimestamp = timers.firstEntry().getElement().getOutputTimestamp();
-      for (TimerData timerData : timers) {
-        minimumOutputTimestamp =
-            INSTANT_ORDERING.min(timerData.getOutputTimestamp(), minimumOutputTimestamp);
+    private void addPendingTimer(TimerData timer) {
+      pendingTimers.add(timer);
+      pendingTimerOutputTimestamps.add(timer.getOutputTimestamp());
+    }
+
+    private void removePendingTimer(TimerData timer) {
+      if (pendingTimers.remove(timer)) {
+        pendingTimerOutputTimestamps.remove(timer.getOutputTimestamp());
       }
-      return minimumOutputTimestamp;
     }
 
     @VisibleForTesting
@@ -356,15 +365,15 @@ class WatermarkManager<ExecutableT, CollectionT> {
                   timer.getNamespace(), timer.getTimerId() + '+' + timer.getTimerFamilyId());
 
           if (existingTimer == null) {
-            pendingTimers.add(timer);
+            addPendingTimer(timer);
             keyTimers.add(timer);
           } else {
             // reinitialize the timer even if identical,
             // because it might be removed from objectTimers
             // by timer push back
-            pendingTimers.remove(existingTimer);
+            removePendingTimer(existingTimer);
             keyTimers.remove(existingTimer);
-            pendingTimers.add(timer);
+            addPendingTimer(timer);
             keyTimers.add(timer);
           }
 
@@ -381,7 +390,7 @@ class WatermarkManager<ExecutableT, CollectionT> {
                   timer.getNamespace(), timer.getTimerId() + '+' + timer.getTimerFamilyId());
 
           if (existingTimer != null) {
-            pendingTimers.remove(existingTimer);
+            removePendingTimer(existingTimer);
             keyTimers.remove(existingTimer);
             existingTimersForKey.remove(
                 existingTimer.getNamespace(),
@@ -393,7 +402,7 @@ class WatermarkManager<ExecutableT, CollectionT> {
       for (TimerData timer : update.getCompletedTimers()) {
         if (TimeDomain.EVENT_TIME.equals(timer.getDomain())) {
           keyTimers.remove(timer);
-          pendingTimers.remove(timer);
+          removePendingTimer(timer);
         }
       }
 
@@ -896,6 +905,13 @@ class WatermarkManager<ExecutableT, CollectionT> {
   /** The input and output watermark of each {@link AppliedPTransform}. */
   private final Map<ExecutableT, TransformWatermarks> transformToWatermarks;
 
+  /**
+   * The position of each executable in a topological order of the graph. Watermarks are refreshed
+   * in this order, so each executable is refreshed at most once per call to {@link #refreshAll()}
+   * and only after all of its producers.
+   */
+  private final Map<ExecutableT, Integer> topologicalOrder;
+
   /** A queue of pending updates to the state of this {@link WatermarkManager}. */
   private final ConcurrentLinkedQueue<PendingWatermarkUpdate<ExecutableT, CollectionT>>
       pendingUpdates;
@@ -957,6 +973,43 @@ class WatermarkManager<ExecutableT, CollectionT> {
     for (ExecutableT primitiveTransform : graph.getExecutables()) {
       getTransformWatermark(primitiveTransform);
     }
+    topologicalOrder = topologicalOrder(graph);
+  }
+
+  /**
+   * Returns the position of each executable in a topological order of the provided graph, which
+   * is the reverse of the order in which a depth first traversal along per-element edges finishes
+   * visiting them.
+   */
+  private static <ExecutableT, CollectionT> Map<ExecutableT, Integer> topologicalOrder(
+      ExecutableGraph<ExecutableT, CollectionT> graph) {
+    List<ExecutableT> finished = new ArrayList<>();
+    Set<ExecutableT> visited = new HashSet<>();
+    for (ExecutableT executable :
+        Iterables.concat(graph.getRootTransforms(), graph.getExecutables())) {
+      visitConsumers(graph, executable, visited, finished);
+    }
+    Map<ExecutableT, Integer> order = new HashMap<>();
+    for (int i = 0; i < finished.size(); i++) {
+      order.put(finished.get(finished.size() - 1 - i), i);
+    }
+    return order;
+  }
+
+  private static <ExecutableT, CollectionT> void visitConsumers(
+      ExecutableGraph<ExecutableT, CollectionT> graph,
+      ExecutableT executable,
+      Set<ExecutableT> visited,
+      List<ExecutableT> finished) {
+    if (!visited.add(executable)) {
+      return;
+    }
+    for (CollectionT produced : graph.getProduced(executable)) {
+      for (ExecutableT consumer : graph.getPerElementConsumers(produced)) {
+        visitConsumers(graph, consumer, visited, finished);
+      }
+    }
+    finished.add(executable);
   }
 
   private TransformWatermarks getValueWatermark(CollectionT value) {
@@ -1219,9 +1272,19 @@ class WatermarkManager<ExecutableT, CollectionT> {
     refreshLock.lock();
     try {
       applyAllPendingUpdates();
-      Set<ExecutableT> toRefresh = pendingRefreshes;
+      // Consumers are only refreshed if the watermarks of their producer advanced. Refreshing in
+      // topological order ensures that a consumer reachable along multiple changed edges is
+      // refreshed once, after all of them have been updated.
+      PriorityQueue<ExecutableT> toRefresh =
+          new PriorityQueue<>(Comparator.comparing(topologicalOrder::get));
+      Set<ExecutableT> queued = new HashSet<>(pendingRefreshes);
+      toRefresh.addAll(pendingRefreshes);
       while (!toRefresh.isEmpty()) {
-        toRefresh = refreshAllOf(toRefresh);
+        for (ExecutableT consumer : refreshWatermarks(toRefresh.poll())) {
+          if (queued.add(consumer)) {
+            toRefresh.add(consumer);
+          }
+        }
       }
       pendingRefreshes.clear();
     } finally {
@@ -1229,14 +1292,6 @@ class WatermarkManager<ExecutableT, CollectionT> {
     }
   }
 
-  private Set<ExecutableT> refreshAllOf(Set<ExecutableT> toRefresh) {
-    Set<ExecutableT> newRefreshes = new HashSet<>();
-    for (ExecutableT executable : toRefresh) {
-      newRefreshes.addAll(refreshWatermarks(executable));
-    }
-    return newRefreshes;
-  }
-
   private Set<ExecutableT> refreshWatermarks(final ExecutableT toRefresh) {
     TransformWatermarks myWatermarks = transformToWatermarks.get(toRefresh);
     WatermarkUpdate updateResult = myWatermarks.refresh();
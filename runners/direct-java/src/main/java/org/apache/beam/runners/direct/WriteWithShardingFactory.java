@@ -72,6 +72,9 @@ class WriteWithShardingFactory<InputT, DestinationT>
       if (WriteFilesTranslation.isWindowedWrites(transform)) {
         replacement = replacement.withWindowedWrites();
       }
+      if (WriteFilesTranslation.isAsyncWrites(transform)) {
+        replacement = replacement.withAsyncWrites();
+      }
       return PTransformReplacement.of(
           PTransformReplacements.getSingletonMainInput(transform), replacement);
     } catch (IOException e) {
@@ -137,6 +137,34 @@ public class CopyOnAccessInMemoryStateInternalsTest {
     assertThat(underlyingValue.read(), equalTo(reReadUnderlyingValue.read()));
   }
 
+  /**
+   * Tests that retrieving state from a StateInternals sharing an underlying StateInternals with an
+   * existing value returns the existing state, so modifications are visible in the underlying
+   * state.
+   */
+  @Test
+  public void testGetWithPresentInSharedUnderlying() {
+    CopyOnAccessInMemoryStateInternals<String> underlying =
+        CopyOnAccessInMemoryStateInternals.withUnderlying(key, null);
+
+    StateNamespace namespace = new StateNamespaceForTest("foo");
+    StateTag<BagState<String>> bagTag = StateTags.bag("foo", StringUtf8Coder.of());
+    BagState<String> underlyingBag = underlying.state(namespace, bagTag);
+    underlyingBag.add("bar");
+    underlying.commit();
+
+    CopyOnAccessInMemoryStateInternals<String> internals =
+        CopyOnAccessInMemoryStateInternals.sharingUnderlying(key, underlying);
+    BagState<String> sharedBag = internals.state(namespace, bagTag);
+    assertThat(sharedBag, theInstance(underlyingBag));
+
+    sharedBag.add("baz");
+    assertThat(underlyingBag.read(), containsInAnyOrder("bar", "baz"));
+
+    CopyOnAccessInMemoryStateInternals<String> committed = internals.commit();
+    assertThat(committed.state(namespace, bagTag).read(), containsInAnyOrder("bar", "baz"));
+  }
+
   @Test
   public void testBagStateWithUnderlying() {
     CopyOnAccessInMemoryStateInternals<String> underlying =
@@ -65,6 +65,9 @@ import org.apache.beam.sdk.io.UnboundedSource;
 import org.apache.beam.sdk.options.Default;
 import org.apache.beam.sdk.options.PipelineOptions;
 import org.apache.beam.sdk.options.PipelineOptionsFactory;
+import org.apache.beam.sdk.state.StateSpec;
+import org.apache.beam.sdk.state.StateSpecs;
+import org.apache.beam.sdk.state.ValueState;
 import org.apache.beam.sdk.testing.PAssert;
 import org.apache.beam.sdk.testing.TestPipeline;
 import org.apache.beam.sdk.transforms.Count;
@@ -450,6 +453,47 @@ public class DirectRunnerTest implements Serializable {
     pipeline.run();
   }
 
+  /**
+   * Tests that keyed, stateful and grouping transforms produce correct results when the {@link
+   * DirectRunner} partitions keyed work and shares state between bundles.
+   */
+  @Test
+  public void testStatefulAndGroupingTransformsInPerformanceModeSucceed() {
+    PipelineOptions options = PipelineOptionsFactory.create();
+    options.setRunner(DirectRunner.class);
+    options.as(DirectOptions.class).setPerformanceMode(true);
+    options.as(DirectOptions.class).setTargetParallelism(2);
+    Pipeline pipeline = Pipeline.create(options);
+
+    PCollection<KV<String, Integer>> input =
+        pipeline.apply(
+            Create.of(KV.of("foo", 1), KV.of("bar", 2), KV.of("foo", 3), KV.of("baz", 4)));
+    PCollection<KV<String, Integer>> sums = input.apply(Sum.integersPerKey());
+    PCollection<KV<String, Integer>> counts =
+        input.apply(
+            ParDo.of(
+                new DoFn<KV<String, Integer>, KV<String, Integer>>() {
+                  @StateId("count")
+                  private final StateSpec<ValueState<Integer>> countSpec =
+                      StateSpecs.value(VarIntCoder.of());
+
+                  @ProcessElement
+                  public void processElement(
+                      ProcessContext c, @StateId("count") ValueState<Integer> count) {
+                    Integer current = count.read();
+                    int updated = current == null ? 1 : current + 1;
+                    count.write(updated);
+                    c.output(KV.of(c.element().getKey(), updated));
+                  }
+                }));
+
+    PAssert.that(sums).containsInAnyOrder(KV.of("foo", 4), KV.of("bar", 2), KV.of("baz", 4));
+    PAssert.that(counts)
+        .containsInAnyOrder(KV.of("foo", 1), KV.of("foo", 2), KV.of("bar", 1), KV.of("baz", 1));
+
+    pipeline.run();
+  }
+
   /**
    * Tests that a {@link DoFn} that mutates an output with a good equals() fails in the {@link
    * DirectRunner}.
@@ -1650,6 +1650,52 @@ public class WatermarkManagerTest implements Serializable {
     assertThat(fired.entrySet(), empty());
   }
 
+  @Test
+  public void inputWatermarkEarliestTimerTimestampIsMinimumOutputTimestamp() {
+    AppliedPTransformInputWatermark underTest =
+        new AppliedPTransformInputWatermark(
+            "underTest", ImmutableList.of(Mockito.mock(Watermark.class)), update -> {});
+
+    StructuralKey<String> firstKey = StructuralKey.of("first", StringUtf8Coder.of());
+    StructuralKey<String> secondKey = StructuralKey.of("second", StringUtf8Coder.of());
+    TimerData early =
+        TimerData.of(
+            "a",
+            StateNamespaces.global(),
+            new Instant(100),
+            new Instant(100),
+            TimeDomain.EVENT_TIME);
+    TimerData lateWithEarlyOutput =
+        TimerData.of(
+            "b",
+            StateNamespaces.global(),
+            new Instant(200),
+            new Instant(50),
+            TimeDomain.EVENT_TIME);
+    TimerData otherKey =
+        TimerData.of(
+            "a",
+            StateNamespaces.global(),
+            new Instant(300),
+            new Instant(75),
+            TimeDomain.EVENT_TIME);
+    underTest.updateTimers(
+        TimerUpdate.builder(firstKey).setTimer(early).setTimer(lateWithEarlyOutput).build());
+    underTest.updateTimers(TimerUpdate.builder(secondKey).setTimer(otherKey).build());
+    assertEquals(new Instant(50), underTest.getEarliestTimerTimestamp());
+
+    underTest.updateTimers(TimerUpdate.builder(firstKey).deletedTimer(lateWithEarlyOutput).build());
+    assertEquals(new Instant(75), underTest.getEarliestTimerTimestamp());
+
+    underTest.updateTimers(
+        TimerUpdate.builder(secondKey).withCompletedTimers(ImmutableList.of(otherKey)).build());
+    assertEquals(new Instant(100), underTest.getEarliestTimerTimestamp());
+
+    underTest.updateTimers(
+        TimerUpdate.builder(firstKey).withCompletedTimers(ImmutableList.of(early)).build());
+    assertEquals(BoundedWindow.TIMESTAMP_MAX_VALUE, underTest.getEarliestTimerTimestamp());
+  }
+
   @Test
   public void timerUpdateBuilderBuildAddsAllAddedTimers() {
     TimerData set =
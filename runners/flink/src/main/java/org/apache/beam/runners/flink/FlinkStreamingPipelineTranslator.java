@@ -263,6 +263,9 @@ class FlinkStreamingPipelineTranslator extends FlinkPipelineTranslator {
         if (WriteFilesTranslation.isWindowedWrites(transform)) {
           replacement = replacement.withWindowedWrites();
         }
+        if (WriteFilesTranslation.isAsyncWrites(transform)) {
+          replacement = replacement.withAsyncWrites();
+        }
 
         if (WriteFilesTranslation.isRunnerDeterminedSharding(transform)) {
           replacement = replacement.withNumShards(numShards);
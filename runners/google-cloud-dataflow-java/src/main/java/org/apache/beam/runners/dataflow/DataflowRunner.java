@@ -2213,6 +2213,9 @@ public class DataflowRunner extends PipelineRunner<DataflowPipelineJob> {
         if (WriteFilesTranslation.isWindowedWrites(transform)) {
           replacement = replacement.withWindowedWrites();
         }
+        if (WriteFilesTranslation.isAsyncWrites(transform)) {
+          replacement = replacement.withAsyncWrites();
+        }
         return PTransformReplacement.of(
             PTransformReplacements.getSingletonMainInput(transform),
             replacement.withNumShards(numShards));
@@ -30,6 +30,7 @@ import org.apache.beam.model.pipeline.v1.Endpoints;
 import org.apache.beam.runners.dataflow.worker.fn.grpc.BeamFnService;
 import org.apache.beam.runners.fnexecution.data.GrpcDataService;
 import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.sdk.fn.data.BeamFnDataAdaptiveBufferingOutboundObserver;
 import org.apache.beam.sdk.fn.data.BeamFnDataBufferingOutboundObserver;
 import org.apache.beam.sdk.fn.data.BeamFnDataGrpcMultiplexer;
 import org.apache.beam.sdk.fn.data.BeamFnDataInboundObserver;
@@ -72,6 +73,8 @@ public class BeamFnDataGrpcService extends BeamFnDataGrpc.BeamFnDataImplBase
   private final Function<StreamObserver<BeamFnApi.Elements>, StreamObserver<BeamFnApi.Elements>>
       streamObserverFactory;
   private final HeaderAccessor headerAccessor;
+  private final BeamFnDataAdaptiveBufferingOutboundObserver.Estimates bufferingEstimates =
+      new BeamFnDataAdaptiveBufferingOutboundObserver.Estimates();
 
   public BeamFnDataGrpcService(
       PipelineOptions options,
@@ -215,7 +218,8 @@ public class BeamFnDataGrpcService extends BeamFnDataGrpc.BeamFnDataImplBase
               options,
               outputLocation,
               coder,
-              getClientFuture(clientId).get().getOutboundObserver());
+              getClientFuture(clientId).get().getOutboundObserver(),
+              bufferingEstimates);
         } catch (InterruptedException e) {
           Thread.currentThread().interrupt();
           throw new RuntimeException(e);
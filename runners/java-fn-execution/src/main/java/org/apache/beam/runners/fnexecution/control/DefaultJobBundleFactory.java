@@ -110,6 +110,7 @@ public class DefaultJobBundleFactory implements JobBundleFactory {
   private final Semaphore availableCachesSemaphore;
   private final LinkedBlockingDeque<EnvironmentCacheAndLock> availableCaches;
   private final boolean loadBalanceBundles;
+  private final boolean loadAwareBundleRouting;
   /** Clients which were evicted due to environment expiration but still had pending references. */
   private final Set<WrappedSdkHarnessClient> evictedActiveClients;
 
@@ -145,6 +146,7 @@ public class DefaultJobBundleFactory implements JobBundleFactory {
     this.stageIdGenerator = () -> factoryId + "-" + stageIdSuffixGenerator.getId();
     this.environmentExpirationMillis = getEnvironmentExpirationMillis(jobInfo);
     this.loadBalanceBundles = shouldLoadBalanceBundles(jobInfo);
+    this.loadAwareBundleRouting = shouldRouteBundlesByLoad(jobInfo);
     this.environmentCaches =
         createEnvironmentCaches(
             serverFactory -> createServerInfo(jobInfo, serverFactory),
@@ -166,6 +168,7 @@ public class DefaultJobBundleFactory implements JobBundleFactory {
     this.stageIdGenerator = stageIdGenerator;
     this.environmentExpirationMillis = getEnvironmentExpirationMillis(jobInfo);
     this.loadBalanceBundles = shouldLoadBalanceBundles(jobInfo);
+    this.loadAwareBundleRouting = shouldRouteBundlesByLoad(jobInfo);
     this.environmentCaches =
         createEnvironmentCaches(serverFactory -> serverInfo, getMaxEnvironmentClients(jobInfo));
     this.availableCachesSemaphore = new Semaphore(environmentCaches.size(), true);
@@ -176,6 +179,8 @@ public class DefaultJobBundleFactory implements JobBundleFactory {
   private static class EnvironmentCacheAndLock {
     final Lock lock;
     final LoadingCache<Environment, WrappedSdkHarnessClient> cache;
+    /** The number of bundles created but not yet closed for environments of the cache. */
+    final AtomicInteger outstandingBundles = new AtomicInteger();
 
     EnvironmentCacheAndLock(LoadingCache<Environment, WrappedSdkHarnessClient> cache, Lock lock) {
       this.lock = lock;
@@ -284,20 +289,41 @@ public class DefaultJobBundleFactory implements JobBundleFactory {
     boolean loadBalanceBundles =
         pipelineOptions.as(PortablePipelineOptions.class).getLoadBalanceBundles();
     if (loadBalanceBundles) {
-      int stateCacheSize =
-          Integer.parseInt(
-              MoreObjects.firstNonNull(
-                  ExperimentalOptions.getExperimentValue(
-                      pipelineOptions, ExperimentalOptions.STATE_CACHE_SIZE),
-                  "0"));
-      Preconditions.checkArgument(
-          stateCacheSize == 0,
-          "%s must be 0 when using bundle load balancing",
-          ExperimentalOptions.STATE_CACHE_SIZE);
+      checkNoStateCache(pipelineOptions, "bundle load balancing");
     }
     return loadBalanceBundles;
   }
 
+  private static boolean shouldRouteBundlesByLoad(JobInfo jobInfo) {
+    PortablePipelineOptions pipelineOptions =
+        PipelineOptionsTranslation.fromProto(jobInfo.pipelineOptions())
+            .as(PortablePipelineOptions.class);
+    boolean loadAwareBundleRouting = pipelineOptions.getLoadAwareBundleRouting();
+    if (loadAwareBundleRouting) {
+      Preconditions.checkArgument(
+          !pipelineOptions.getLoadBalanceBundles(),
+          "loadAwareBundleRouting and loadBalanceBundles can not be used together");
+      // Bundles for the same keys may be processed by different SDK workers, which would make
+      // their cached state stale.
+      checkNoStateCache(pipelineOptions, "load aware bundle routing");
+    }
+    return loadAwareBundleRouting;
+  }
+
+  private static void checkNoStateCache(PipelineOptions pipelineOptions, String feature) {
+    int stateCacheSize =
+        Integer.parseInt(
+            MoreObjects.firstNonNull(
+                ExperimentalOptions.getExperimentValue(
+                    pipelineOptions, ExperimentalOptions.STATE_CACHE_SIZE),
+                "0"));
+    Preconditions.checkArgument(
+        stateCacheSize == 0,
+        "%s must be 0 when using %s",
+        ExperimentalOptions.STATE_CACHE_SIZE,
+        feature);
+  }
+
   @Override
   public StageBundleFactory forStage(ExecutableStage executableStage) {
     return new SimpleStageBundleFactory(executableStage);
@@ -466,32 +492,21 @@ public class DefaultJobBundleFactory implements JobBundleFactory {
       // than constructing the receiver map here. Every bundle factory will need this.
 
       final EnvironmentCacheAndLock currentCache;
-      final WrappedSdkHarnessClient client;
       if (loadBalanceBundles) {
         // The semaphore is used to ensure fairness, i.e. first stop first go.
         availableCachesSemaphore.acquire();
         // The blocking queue of caches for serving multiple bundles concurrently.
         currentCache = availableCaches.take();
-        // Lock because the environment expiration can remove the ref for the client
-        // which would close the underlying environment before we can ref it.
-        try {
-          currentCache.lock.lock();
-          client = currentCache.cache.getUnchecked(executableStage.getEnvironment());
-          client.ref();
-        } finally {
-          currentCache.lock.unlock();
-        }
-
-        currentClient = preparedClients.get(client);
-        if (currentClient == null) {
-          // we are using this client for the first time
-          preparedClients.put(client, currentClient = prepare(client, executableStage));
-          // cleanup any expired clients
-          preparedClients.keySet().removeIf(c -> c.bundleRefCount.get() == 0);
-        }
-
+      } else if (loadAwareBundleRouting) {
+        currentCache = leastLoadedCache();
       } else {
         currentCache = environmentCaches.get(environmentIndex);
+      }
+      currentCache.outstandingBundles.incrementAndGet();
+
+      final WrappedSdkHarnessClient client;
+      final RemoteBundle bundle;
+      try {
         // Lock because the environment expiration can remove the ref for the client which would
         // close the underlying environment before we can ref it.
         try {
@@ -502,27 +517,45 @@ public class DefaultJobBundleFactory implements JobBundleFactory {
           currentCache.lock.unlock();
         }
 
-        if (currentClient.wrappedClient != client) {
+        if (loadBalanceBundles || loadAwareBundleRouting) {
+          currentClient = preparedClients.get(client);
+          if (currentClient == null) {
+            // we are using this client for the first time
+            preparedClients.put(client, currentClient = prepare(client, executableStage));
+            // cleanup any expired clients
+            preparedClients.keySet().removeIf(c -> c.bundleRefCount.get() == 0);
+          }
+        } else if (currentClient.wrappedClient != client) {
           // reset after environment expired
           preparedClients.clear();
           currentClient = prepare(client, executableStage);
           preparedClients.put(client, currentClient);
         }
-      }
 
-      if (environmentExpirationMillis > 0) {
-        // Cleanup list of clients which were active during eviction but now do not hold references
-        evictedActiveClients.removeIf(c -> c.bundleRefCount.get() == 0);
+        if (environmentExpirationMillis > 0) {
+          // Cleanup list of clients which were active during eviction but now do not hold
+          // references
+          evictedActiveClients.removeIf(c -> c.bundleRefCount.get() == 0);
+        }
+
+        bundle =
+            currentClient.processor.newBundle(
+                getOutputReceivers(currentClient.processBundleDescriptor, outputReceiverFactory),
+                getTimerReceivers(currentClient.processBundleDescriptor, timerReceiverFactory),
+                stateRequestHandler,
+                progressHandler,
+                finalizationHandler,
+                checkpointHandler);
+      } catch (Throwable t) {
+        // The bundle never started, so it must not count towards the load of this cache.
+        currentCache.outstandingBundles.decrementAndGet();
+        if (loadBalanceBundles) {
+          availableCaches.offer(currentCache);
+          availableCachesSemaphore.release();
+        }
+        throw t;
       }
 
-      final RemoteBundle bundle =
-          currentClient.processor.newBundle(
-              getOutputReceivers(currentClient.processBundleDescriptor, outputReceiverFactory),
-              getTimerReceivers(currentClient.processBundleDescriptor, timerReceiverFactory),
-              stateRequestHandler,
-              progressHandler,
-              finalizationHandler,
-              checkpointHandler);
       return new RemoteBundle() {
         @Override
         public String getId() {
@@ -555,6 +588,7 @@ public class DefaultJobBundleFactory implements JobBundleFactory {
             bundle.close();
           } finally {
             client.unref();
+            currentCache.outstandingBundles.decrementAndGet();
             if (loadBalanceBundles) {
               availableCaches.offer(currentCache);
               availableCachesSemaphore.release();
@@ -564,6 +598,26 @@ public class DefaultJobBundleFactory implements JobBundleFactory {
       };
     }
 
+    /**
+     * Returns the environment cache with the fewest outstanding bundles. Of equally loaded caches,
+     * the first one starting at the cache this stage was assigned to is returned, so stages spread
+     * their bundles across different SDK workers when there is little load.
+     */
+    private EnvironmentCacheAndLock leastLoadedCache() {
+      EnvironmentCacheAndLock leastLoaded = environmentCaches.get(environmentIndex);
+      int leastOutstanding = leastLoaded.outstandingBundles.get();
+      for (int i = 1; i < environmentCaches.size() && leastOutstanding > 0; i++) {
+        EnvironmentCacheAndLock cache =
+            environmentCaches.get((environmentIndex + i) % environmentCaches.size());
+        int outstanding = cache.outstandingBundles.get();
+        if (outstanding < leastOutstanding) {
+          leastLoaded = cache;
+          leastOutstanding = outstanding;
+        }
+      }
+      return leastLoaded;
+    }
+
     @Override
     public ExecutableProcessBundleDescriptor getProcessBundleDescriptor() {
       return currentClient.processBundleDescriptor;
@@ -26,6 +26,7 @@ import java.util.concurrent.TimeoutException;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi;
 import org.apache.beam.model.fnexecution.v1.BeamFnDataGrpc;
 import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.sdk.fn.data.BeamFnDataAdaptiveBufferingOutboundObserver;
 import org.apache.beam.sdk.fn.data.BeamFnDataBufferingOutboundObserver;
 import org.apache.beam.sdk.fn.data.BeamFnDataGrpcMultiplexer;
 import org.apache.beam.sdk.fn.data.BeamFnDataInboundObserver;
@@ -77,6 +78,7 @@ public class GrpcDataService extends BeamFnDataGrpc.BeamFnDataImplBase
   private final PipelineOptions options;
   private final ExecutorService executor;
   private final OutboundObserverFactory outboundObserverFactory;
+  private final BeamFnDataAdaptiveBufferingOutboundObserver.Estimates bufferingEstimates;
 
   private GrpcDataService(
       PipelineOptions options,
@@ -87,6 +89,7 @@ public class GrpcDataService extends BeamFnDataGrpc.BeamFnDataImplBase
     this.options = options;
     this.executor = executor;
     this.outboundObserverFactory = outboundObserverFactory;
+    this.bufferingEstimates = new BeamFnDataAdaptiveBufferingOutboundObserver.Estimates();
   }
 
   /** @deprecated This constructor is for migrating Dataflow purpose only. */
@@ -97,6 +100,7 @@ public class GrpcDataService extends BeamFnDataGrpc.BeamFnDataImplBase
     this.options = null;
     this.executor = null;
     this.outboundObserverFactory = null;
+    this.bufferingEstimates = null;
   }
 
   @Override
@@ -184,7 +188,8 @@ public class GrpcDataService extends BeamFnDataGrpc.BeamFnDataImplBase
           options,
           outputLocation,
           coder,
-          connectedClient.get(3, TimeUnit.MINUTES).getOutboundObserver());
+          connectedClient.get(3, TimeUnit.MINUTES).getOutboundObserver(),
+          bufferingEstimates);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new RuntimeException(e);
@@ -518,6 +518,93 @@ public class DefaultJobBundleFactoryTest {
     assertThat(e.getMessage(), containsString("state_cache_size"));
   }
 
+  @Test
+  public void routesBundlesToLeastLoadedEnvironment() throws Exception {
+    PortablePipelineOptions portableOptions =
+        PipelineOptionsFactory.as(PortablePipelineOptions.class);
+    portableOptions.setSdkWorkerParallelism(2);
+    portableOptions.setLoadAwareBundleRouting(true);
+    Struct pipelineOptions = PipelineOptionsTranslation.toProto(portableOptions);
+
+    try (DefaultJobBundleFactory bundleFactory =
+        new DefaultJobBundleFactory(
+            JobInfo.create("testJob", "testJob", "token", pipelineOptions),
+            envFactoryProviderMap,
+            stageIdGenerator,
+            serverInfo)) {
+      OutputReceiverFactory orf = mock(OutputReceiverFactory.class);
+      StateRequestHandler srh = mock(StateRequestHandler.class);
+      when(srh.getCacheTokens()).thenReturn(Collections.emptyList());
+      StageBundleFactory sbf = bundleFactory.forStage(getExecutableStage(environment));
+      RemoteBundle b1 = sbf.getBundle(orf, srh, BundleProgressHandler.ignored());
+      verify(envFactory, Mockito.times(1)).createEnvironment(eq(environment), any());
+      // The first environment is busy with b1, so b2 goes to the second environment.
+      RemoteBundle b2 = sbf.getBundle(orf, srh, BundleProgressHandler.ignored());
+      verify(envFactory, Mockito.times(2)).createEnvironment(eq(environment), any());
+      // Both environments are busy, which does not block since bundles are multiplexed.
+      RemoteBundle b3 = sbf.getBundle(orf, srh, BundleProgressHandler.ignored());
+      b1.close();
+      b2.close();
+      RemoteBundle b4 = sbf.getBundle(orf, srh, BundleProgressHandler.ignored());
+      b3.close();
+      b4.close();
+
+      verify(envFactory, Mockito.times(2)).createEnvironment(eq(environment), any());
+    }
+  }
+
+  @Test
+  public void failedBundleDoesNotCountTowardsLoad() throws Exception {
+    PortablePipelineOptions portableOptions =
+        PipelineOptionsFactory.as(PortablePipelineOptions.class);
+    portableOptions.setSdkWorkerParallelism(2);
+    portableOptions.setLoadAwareBundleRouting(true);
+    Struct pipelineOptions = PipelineOptionsTranslation.toProto(portableOptions);
+
+    try (DefaultJobBundleFactory bundleFactory =
+        new DefaultJobBundleFactory(
+            JobInfo.create("testJob", "testJob", "token", pipelineOptions),
+            envFactoryProviderMap,
+            stageIdGenerator,
+            serverInfo)) {
+      OutputReceiverFactory orf = mock(OutputReceiverFactory.class);
+      StateRequestHandler failingSrh = mock(StateRequestHandler.class);
+      when(failingSrh.getCacheTokens()).thenThrow(new IllegalStateException("failed"));
+      StateRequestHandler srh = mock(StateRequestHandler.class);
+      when(srh.getCacheTokens()).thenReturn(Collections.emptyList());
+      StageBundleFactory sbf = bundleFactory.forStage(getExecutableStage(environment));
+      Assert.assertThrows(
+          IllegalStateException.class,
+          () -> sbf.getBundle(orf, failingSrh, BundleProgressHandler.ignored()));
+      verify(envFactory, Mockito.times(1)).createEnvironment(eq(environment), any());
+      // The failed bundle left the first environment idle, so b1 is routed to it again.
+      RemoteBundle b1 = sbf.getBundle(orf, srh, BundleProgressHandler.ignored());
+      verify(envFactory, Mockito.times(1)).createEnvironment(eq(environment), any());
+      b1.close();
+    }
+  }
+
+  @Test
+  public void rejectsLoadAwareRoutingWithLoadBalancing() throws Exception {
+    PortablePipelineOptions portableOptions =
+        PipelineOptionsFactory.as(PortablePipelineOptions.class);
+    portableOptions.setLoadBalanceBundles(true);
+    portableOptions.setLoadAwareBundleRouting(true);
+    Struct pipelineOptions = PipelineOptionsTranslation.toProto(portableOptions);
+
+    Exception e =
+        Assert.assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                new DefaultJobBundleFactory(
+                        JobInfo.create("testJob", "testJob", "token", pipelineOptions),
+                        envFactoryProviderMap,
+                        stageIdGenerator,
+                        serverInfo)
+                    .close());
+    assertThat(e.getMessage(), containsString("loadAwareBundleRouting"));
+  }
+
   private DefaultJobBundleFactory createDefaultJobBundleFactory(
       Map<String, EnvironmentFactory.Provider> envFactoryProviderMap) {
     return new DefaultJobBundleFactory(
@@ -19,7 +19,9 @@ package org.apache.beam.runners.portability;
 
 import static org.apache.beam.runners.core.metrics.MonitoringInfoConstants.TypeUrns.DISTRIBUTION_INT64_TYPE;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoConstants.TypeUrns.LATEST_INT64_TYPE;
+import static org.apache.beam.runners.core.metrics.MonitoringInfoConstants.TypeUrns.QUANTILE_SKETCH_DOUBLE_TYPE;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoConstants.TypeUrns.SUM_INT64_TYPE;
+import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeDoubleQuantileSketch;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeInt64Counter;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeInt64Distribution;
 import static org.apache.beam.runners.core.metrics.MonitoringInfoEncodings.decodeInt64Gauge;
@@ -41,6 +43,7 @@ import org.apache.beam.sdk.metrics.MetricQueryResults;
 import org.apache.beam.sdk.metrics.MetricResult;
 import org.apache.beam.sdk.metrics.MetricResults;
 import org.apache.beam.sdk.metrics.MetricsFilter;
+import org.apache.beam.sdk.metrics.QuantileSketch;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Iterables;
 
 @SuppressWarnings({
@@ -53,14 +56,17 @@ public class PortableMetrics extends MetricResults {
   private Iterable<MetricResult<Long>> counters;
   private Iterable<MetricResult<DistributionResult>> distributions;
   private Iterable<MetricResult<GaugeResult>> gauges;
+  private Iterable<MetricResult<QuantileSketch>> quantileDistributions;
 
   private PortableMetrics(
       Iterable<MetricResult<Long>> counters,
       Iterable<MetricResult<DistributionResult>> distributions,
-      Iterable<MetricResult<GaugeResult>> gauges) {
+      Iterable<MetricResult<GaugeResult>> gauges,
+      Iterable<MetricResult<QuantileSketch>> quantileDistributions) {
     this.counters = counters;
     this.distributions = distributions;
     this.gauges = gauges;
+    this.quantileDistributions = quantileDistributions;
   }
 
   public static PortableMetrics of(JobApi.MetricResults jobMetrics) {
@@ -75,7 +81,11 @@ public class PortableMetrics extends MetricResults {
         Iterables.filter(
             this.distributions,
             (distribution) -> MetricFiltering.matches(filter, distribution.getKey())),
-        Iterables.filter(this.gauges, (gauge) -> MetricFiltering.matches(filter, gauge.getKey())));
+        Iterables.filter(this.gauges, (gauge) -> MetricFiltering.matches(filter, gauge.getKey())),
+        Iterables.filter(
+            this.quantileDistributions,
+            (quantileDistribution) ->
+                MetricFiltering.matches(filter, quantileDistribution.getKey())));
   }
 
   private static PortableMetrics convertMonitoringInfosToMetricResults(
@@ -89,7 +99,35 @@ public class PortableMetrics extends MetricResults {
         extractDistributionMetricsFromJobMetrics(monitoringInfoList);
     Iterable<MetricResult<GaugeResult>> gaugesFromMetrics =
         extractGaugeMetricsFromJobMetrics(monitoringInfoList);
-    return new PortableMetrics(countersFromJobMetrics, distributionsFromMetrics, gaugesFromMetrics);
+    Iterable<MetricResult<QuantileSketch>> quantileDistributionsFromMetrics =
+        extractQuantileDistributionMetricsFromJobMetrics(monitoringInfoList);
+    return new PortableMetrics(
+        countersFromJobMetrics,
+        distributionsFromMetrics,
+        gaugesFromMetrics,
+        quantileDistributionsFromMetrics);
+  }
+
+  private static Iterable<MetricResult<QuantileSketch>>
+      extractQuantileDistributionMetricsFromJobMetrics(
+          List<MetricsApi.MonitoringInfo> monitoringInfoList) {
+    return monitoringInfoList.stream()
+        .filter(item -> QUANTILE_SKETCH_DOUBLE_TYPE.equals(item.getType()))
+        .filter(item -> item.getLabelsMap().get(NAMESPACE_LABEL) != null)
+        .map(PortableMetrics::convertQuantileSketchMonitoringInfoToQuantileDistribution)
+        .collect(Collectors.toList());
+  }
+
+  private static MetricResult<QuantileSketch>
+      convertQuantileSketchMonitoringInfoToQuantileDistribution(
+          MetricsApi.MonitoringInfo monitoringInfo) {
+    Map<String, String> labelsMap = monitoringInfo.getLabelsMap();
+    MetricKey key =
+        MetricKey.create(
+            labelsMap.get(STEP_NAME_LABEL),
+            MetricName.named(labelsMap.get(NAMESPACE_LABEL), labelsMap.get(METRIC_NAME_LABEL)));
+    return MetricResult.create(
+        key, false, decodeDoubleQuantileSketch(monitoringInfo.getPayload()));
   }
 
   private static Iterable<MetricResult<DistributionResult>>
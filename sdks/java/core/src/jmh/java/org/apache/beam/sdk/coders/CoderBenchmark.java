@@ -0,0 +1,430 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.coders;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.apache.beam.sdk.schemas.Schema;
+import org.apache.beam.sdk.schemas.Schema.FieldType;
+import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
+import org.apache.beam.sdk.transforms.windowing.GlobalWindow;
+import org.apache.beam.sdk.transforms.windowing.IntervalWindow;
+import org.apache.beam.sdk.transforms.windowing.PaneInfo;
+import org.apache.beam.sdk.util.WindowedValue;
+import org.apache.beam.sdk.util.common.ElementByteSizeObserver;
+import org.apache.beam.sdk.values.KV;
+import org.apache.beam.sdk.values.Row;
+import org.joda.time.Duration;
+import org.joda.time.Instant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Encode, decode and size estimation benchmarks for the coders in {@link
+ * org.apache.beam.sdk.coders} as well as {@link WindowedValue.FullWindowedValueCoder}.
+ *
+ * <p>Each benchmark processes a batch of {@link #BATCH_SIZE} pre-generated elements of a given
+ * payload shape, reported per element. A payload shape is selected with the {@code coderCase}
+ * parameter which has the form {@code <coder>/<shape>}, for example {@code
+ * StringUtf8Coder/ascii-1k}. The {@code jmhCoderBenchmarks} Gradle task runs these benchmarks and
+ * writes the results as JSON.
+ */
+@SuppressWarnings({
+  "rawtypes", // the benchmark is not concerned with the element type of a case
+  "unchecked",
+  "nullness" // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
+})
+public class CoderBenchmark {
+  static final int BATCH_SIZE = 1000;
+
+  /** A coder paired with a generator of representative values. */
+  private static class CoderCase {
+    private final Coder coder;
+    private final Supplier<Object> valueGenerator;
+
+    private CoderCase(Coder<?> coder, Supplier<?> valueGenerator) {
+      this.coder = coder;
+      this.valueGenerator = (Supplier<Object>) valueGenerator;
+    }
+  }
+
+  private static final Schema FLAT_SCHEMA =
+      Schema.builder()
+          .addInt64Field("id")
+          .addStringField("name")
+          .addDoubleField("score")
+          .addBooleanField("active")
+          .addNullableField("comment", FieldType.STRING)
+          .build();
+
+  private static final Schema NESTED_SCHEMA =
+      Schema.builder()
+          .addInt32Field("version")
+          .addRowField("payload", FLAT_SCHEMA)
+          .addArrayField("tags", FieldType.STRING)
+          .addMapField("attributes", FieldType.STRING, FieldType.INT64)
+          .build();
+
+  private static final Schema WIDE_SCHEMA;
+
+  static {
+    Schema.Builder builder = Schema.builder();
+    for (int i = 0; i < 50; i++) {
+      builder.addInt64Field("long" + i);
+      builder.addStringField("string" + i);
+    }
+    WIDE_SCHEMA = builder.build();
+  }
+
+  private static CoderCase forCase(String coderCase, Random random) {
+    switch (coderCase) {
+      case "VarIntCoder/small":
+        return new CoderCase(VarIntCoder.of(), () -> random.nextInt(128));
+      case "VarIntCoder/uniform":
+        return new CoderCase(VarIntCoder.of(), random::nextInt);
+      case "VarLongCoder/small":
+        return new CoderCase(VarLongCoder.of(), () -> (long) random.nextInt(128));
+      case "VarLongCoder/uniform":
+        return new CoderCase(VarLongCoder.of(), random::nextLong);
+      case "BigEndianIntegerCoder/uniform":
+        return new CoderCase(BigEndianIntegerCoder.of(), random::nextInt);
+      case "BigEndianLongCoder/uniform":
+        return new CoderCase(BigEndianLongCoder.of(), random::nextLong);
+      case "BigEndianShortCoder/uniform":
+        return new CoderCase(BigEndianShortCoder.of(), () -> (short) random.nextInt());
+      case "ByteCoder/uniform":
+        return new CoderCase(ByteCoder.of(), () -> (byte) random.nextInt());
+      case "BooleanCoder/uniform":
+        return new CoderCase(BooleanCoder.of(), random::nextBoolean);
+      case "DoubleCoder/uniform":
+        return new CoderCase(DoubleCoder.of(), random::nextDouble);
+      case "FloatCoder/uniform":
+        return new CoderCase(FloatCoder.of(), random::nextFloat);
+      case "BigIntegerCoder/uniform":
+        return new CoderCase(BigIntegerCoder.of(), () -> new BigInteger(128, random));
+      case "BigDecimalCoder/uniform":
+        return new CoderCase(
+            BigDecimalCoder.of(), () -> new BigDecimal(new BigInteger(96, random), 6));
+      case "InstantCoder/uniform":
+        return new CoderCase(InstantCoder.of(), () -> new Instant(random.nextInt()));
+      case "DurationCoder/uniform":
+        return new CoderCase(DurationCoder.of(), () -> Duration.millis(random.nextInt()));
+      case "BitSetCoder/sparse":
+        return new CoderCase(BitSetCoder.of(), () -> randomBitSet(random, 1024, 16));
+      case "TextualIntegerCoder/uniform":
+        return new CoderCase(TextualIntegerCoder.of(), random::nextInt);
+      case "VoidCoder/null":
+        return new CoderCase(VoidCoder.of(), () -> null);
+      case "ByteArrayCoder/16":
+        return new CoderCase(ByteArrayCoder.of(), () -> randomBytes(random, 16));
+      case "ByteArrayCoder/1k":
+        return new CoderCase(ByteArrayCoder.of(), () -> randomBytes(random, 1024));
+      case "ByteArrayCoder/64k":
+        return new CoderCase(ByteArrayCoder.of(), () -> randomBytes(random, 64 * 1024));
+      case "StringUtf8Coder/ascii-16":
+        return new CoderCase(StringUtf8Coder.of(), () -> randomAscii(random, 16));
+      case "StringUtf8Coder/ascii-1k":
+        return new CoderCase(StringUtf8Coder.of(), () -> randomAscii(random, 1024));
+      case "StringUtf8Coder/multibyte-1k":
+        return new CoderCase(StringUtf8Coder.of(), () -> randomMultibyte(random, 1024));
+      case "LengthPrefixCoder/string":
+        return new CoderCase(
+            LengthPrefixCoder.of(StringUtf8Coder.of()), () -> randomAscii(random, 64));
+      case "NullableCoder/half-null-string":
+        return new CoderCase(
+            NullableCoder.of(StringUtf8Coder.of()),
+            () -> random.nextBoolean() ? null : randomAscii(random, 64));
+      case "SerializableCoder/string":
+        return new CoderCase(SerializableCoder.of(String.class), () -> randomAscii(random, 64));
+      case "KvCoder/string-varlong":
+        return new CoderCase(
+            KvCoder.of(StringUtf8Coder.of(), VarLongCoder.of()),
+            () -> KV.of(randomAscii(random, 32), random.nextLong()));
+      case "KvCoder/bytes-bytes":
+        return new CoderCase(
+            KvCoder.of(ByteArrayCoder.of(), ByteArrayCoder.of()),
+            () -> KV.of(randomBytes(random, 32), randomBytes(random, 512)));
+      case "IterableCoder/varint-10":
+        return new CoderCase(
+            IterableCoder.of(VarIntCoder.of()), () -> randomInts(random, 10));
+      case "IterableCoder/varint-1k":
+        return new CoderCase(
+            IterableCoder.of(VarIntCoder.of()), () -> randomInts(random, 1000));
+      case "IterableCoder/string-100":
+        return new CoderCase(
+            IterableCoder.of(StringUtf8Coder.of()), () -> randomStrings(random, 100, 32));
+      case "ListCoder/varlong-100":
+        return new CoderCase(
+            ListCoder.of(VarLongCoder.of()), () -> randomLongs(random, 100));
+      case "CollectionCoder/varint-100":
+        return new CoderCase(
+            CollectionCoder.of(VarIntCoder.of()), () -> randomInts(random, 100));
+      case "MapCoder/string-varlong-100":
+        return new CoderCase(
+            MapCoder.of(StringUtf8Coder.of(), VarLongCoder.of()),
+            () -> randomMap(random, 100));
+      case "RowCoder/flat":
+        return new CoderCase(RowCoder.of(FLAT_SCHEMA), () -> randomFlatRow(random));
+      case "RowCoder/nested":
+        return new CoderCase(RowCoder.of(NESTED_SCHEMA), () -> randomNestedRow(random));
+      case "RowCoder/wide":
+        return new CoderCase(RowCoder.of(WIDE_SCHEMA), () -> randomWideRow(random));
+      case "FullWindowedValueCoder/global-varlong":
+        return new CoderCase(
+            WindowedValue.getFullCoder(VarLongCoder.of(), GlobalWindow.Coder.INSTANCE),
+            () -> WindowedValue.valueInGlobalWindow(random.nextLong()));
+      case "FullWindowedValueCoder/interval-kv":
+        return new CoderCase(
+            WindowedValue.getFullCoder(
+                KvCoder.of(StringUtf8Coder.of(), VarLongCoder.of()), IntervalWindow.getCoder()),
+            () -> {
+              Instant timestamp = new Instant(random.nextInt(Integer.MAX_VALUE));
+              BoundedWindow window = new IntervalWindow(timestamp, Duration.standardMinutes(1));
+              return WindowedValue.of(
+                  KV.of(randomAscii(random, 32), random.nextLong()),
+                  timestamp,
+                  window,
+                  PaneInfo.NO_FIRING);
+            });
+      default:
+        throw new IllegalArgumentException("Unknown coder case " + coderCase);
+    }
+  }
+
+  /** Holds the coder for a case together with its values and their encoded form. */
+  @State(Scope.Benchmark)
+  public static class CoderState {
+    @Param({
+      "VarIntCoder/small",
+      "VarIntCoder/uniform",
+      "VarLongCoder/small",
+      "VarLongCoder/uniform",
+      "BigEndianIntegerCoder/uniform",
+      "BigEndianLongCoder/uniform",
+      "BigEndianShortCoder/uniform",
+      "ByteCoder/uniform",
+      "BooleanCoder/uniform",
+      "DoubleCoder/uniform",
+      "FloatCoder/uniform",
+      "BigIntegerCoder/uniform",
+      "BigDecimalCoder/uniform",
+      "InstantCoder/uniform",
+      "DurationCoder/uniform",
+      "BitSetCoder/sparse",
+      "TextualIntegerCoder/uniform",
+      "VoidCoder/null",
+      "ByteArrayCoder/16",
+      "ByteArrayCoder/1k",
+      "ByteArrayCoder/64k",
+      "StringUtf8Coder/ascii-16",
+      "StringUtf8Coder/ascii-1k",
+      "StringUtf8Coder/multibyte-1k",
+      "LengthPrefixCoder/string",
+      "NullableCoder/half-null-string",
+      "SerializableCoder/string",
+      "KvCoder/string-varlong",
+      "KvCoder/bytes-bytes",
+      "IterableCoder/varint-10",
+      "IterableCoder/varint-1k",
+      "IterableCoder/string-100",
+      "ListCoder/varlong-100",
+      "CollectionCoder/varint-100",
+      "MapCoder/string-varlong-100",
+      "RowCoder/flat",
+      "RowCoder/nested",
+      "RowCoder/wide",
+      "FullWindowedValueCoder/global-varlong",
+      "FullWindowedValueCoder/interval-kv"
+    })
+    public String coderCase;
+
+    Coder coder;
+    Object[] values;
+    ByteArrayOutputStream outputStream;
+    ByteArrayInputStream inputStream;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+      // Use a fixed seed so that all runs of a case see the same payloads.
+      CoderCase c = forCase(coderCase, new Random(0x5eed));
+      coder = c.coder;
+      values = new Object[BATCH_SIZE];
+      for (int i = 0; i < BATCH_SIZE; i++) {
+        values[i] = c.valueGenerator.get();
+      }
+      outputStream = new ByteArrayOutputStream();
+      for (Object value : values) {
+        coder.encode(value, outputStream);
+      }
+      inputStream = new ByteArrayInputStream(outputStream.toByteArray());
+    }
+  }
+
+  /** An {@link ElementByteSizeObserver} which sums up all reported sizes. */
+  private static class SummingObserver extends ElementByteSizeObserver {
+    private long total;
+
+    @Override
+    protected void reportElementSize(long elementByteSize) {
+      total += elementByteSize;
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void encode(CoderState state, Blackhole bh) throws IOException {
+    state.outputStream.reset();
+    for (Object value : state.values) {
+      state.coder.encode(value, state.outputStream);
+    }
+    bh.consume(state.outputStream.size());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void decode(CoderState state, Blackhole bh) throws IOException {
+    state.inputStream.reset();
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      bh.consume(state.coder.decode(state.inputStream));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void estimateSize(CoderState state, Blackhole bh) throws Exception {
+    SummingObserver observer = new SummingObserver();
+    for (Object value : state.values) {
+      state.coder.registerByteSizeObserver(value, observer);
+      observer.advance();
+    }
+    bh.consume(observer.total);
+  }
+
+  private static byte[] randomBytes(Random random, int length) {
+    byte[] bytes = new byte[length];
+    random.nextBytes(bytes);
+    return bytes;
+  }
+
+  private static String randomAscii(Random random, int length) {
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = (char) (' ' + random.nextInt('~' - ' '));
+    }
+    return new String(chars);
+  }
+
+  private static String randomMultibyte(Random random, int length) {
+    // Mix of two and three byte UTF-8 sequences.
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = (char) (random.nextBoolean() ? 0x0400 + random.nextInt(0x100) : 0x4E00 + i);
+    }
+    return new String(chars);
+  }
+
+  private static BitSet randomBitSet(Random random, int size, int bitsSet) {
+    BitSet bitSet = new BitSet(size);
+    for (int i = 0; i < bitsSet; i++) {
+      bitSet.set(random.nextInt(size));
+    }
+    return bitSet;
+  }
+
+  private static List<Integer> randomInts(Random random, int count) {
+    List<Integer> result = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      result.add(random.nextInt());
+    }
+    return result;
+  }
+
+  private static List<Long> randomLongs(Random random, int count) {
+    List<Long> result = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      result.add(random.nextLong());
+    }
+    return result;
+  }
+
+  private static List<String> randomStrings(Random random, int count, int length) {
+    List<String> result = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      result.add(randomAscii(random, length));
+    }
+    return result;
+  }
+
+  private static Map<String, Long> randomMap(Random random, int count) {
+    Map<String, Long> result = new HashMap<>();
+    for (int i = 0; i < count; i++) {
+      result.put(randomAscii(random, 16), random.nextLong());
+    }
+    return result;
+  }
+
+  private static Row randomFlatRow(Random random) {
+    return Row.withSchema(FLAT_SCHEMA)
+        .addValues(
+            random.nextLong(),
+            randomAscii(random, 24),
+            random.nextDouble(),
+            random.nextBoolean(),
+            random.nextBoolean() ? null : randomAscii(random, 64))
+        .build();
+  }
+
+  private static Row randomNestedRow(Random random) {
+    Map<String, Long> attributes = new HashMap<>();
+    attributes.put("a", random.nextLong());
+    attributes.put("b", random.nextLong());
+    return Row.withSchema(NESTED_SCHEMA)
+        .addValues(
+            random.nextInt(),
+            randomFlatRow(random),
+            Arrays.asList(randomAscii(random, 8), randomAscii(random, 8)),
+            attributes)
+        .build();
+  }
+
+  private static Row randomWideRow(Random random) {
+    Row.Builder builder = Row.withSchema(WIDE_SCHEMA);
+    for (int i = 0; i < 50; i++) {
+      builder.addValue(random.nextLong());
+      builder.addValue(randomAscii(random, 16));
+    }
+    return builder.build();
+  }
+}
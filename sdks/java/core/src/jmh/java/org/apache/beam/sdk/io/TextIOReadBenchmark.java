@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import org.apache.beam.sdk.io.fs.EmptyMatchTreatment;
+import org.apache.beam.sdk.io.fs.MatchResult;
+import org.apache.beam.sdk.options.PipelineOptions;
+import org.apache.beam.sdk.options.PipelineOptionsFactory;
+import org.apache.beam.sdk.options.ValueProvider.StaticValueProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks which read a local text file of {@link #FILE_SIZE} bytes with {@link TextSource}
+ * through a buffered channel and through memory mapped windows, and with {@link TextBytesSource}
+ * through memory mapped windows. The length of the lines is selected with the {@code lineLength}
+ * parameter.
+ */
+@SuppressWarnings({
+  "nullness" // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
+})
+public class TextIOReadBenchmark {
+  static final int FILE_SIZE = 64 << 20;
+
+  /** Holds a temporary file of random ASCII lines. */
+  @State(Scope.Benchmark)
+  public static class TextFileState {
+    @Param({"16", "128", "4096"})
+    public int lineLength;
+
+    Path file;
+    MatchResult.Metadata metadata;
+    PipelineOptions options;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+      // Use a fixed seed so that all runs of a case read the same file.
+      Random random = new Random(0x5eed);
+      file = Files.createTempFile("text-io-read-benchmark", ".txt");
+      try (BufferedWriter writer = Files.newBufferedWriter(file, UTF_8)) {
+        char[] line = new char[lineLength];
+        for (long written = 0; written < FILE_SIZE; written += lineLength + 1) {
+          for (int i = 0; i < lineLength; i++) {
+            line[i] = (char) (' ' + random.nextInt('~' - ' '));
+          }
+          writer.write(line);
+          writer.write('\n');
+        }
+      }
+      metadata = FileSystems.matchSingleFileSpec(file.toString());
+      options = PipelineOptionsFactory.create();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Benchmark
+  public void readStrings(TextFileState state, Blackhole bh) throws IOException {
+    read(newTextSource(state, false), state, bh);
+  }
+
+  @Benchmark
+  public void readStringsMemoryMapped(TextFileState state, Blackhole bh) throws IOException {
+    read(newTextSource(state, true), state, bh);
+  }
+
+  @Benchmark
+  public void readBytesMemoryMapped(TextFileState state, Blackhole bh) throws IOException {
+    read(
+        new TextBytesSource(
+            StaticValueProvider.of(state.file.toString()),
+            EmptyMatchTreatment.DISALLOW,
+            null,
+            true),
+        state,
+        bh);
+  }
+
+  private static TextSource newTextSource(TextFileState state, boolean memoryMapping) {
+    return new TextSource(
+        StaticValueProvider.of(state.file.toString()),
+        EmptyMatchTreatment.DISALLOW,
+        null,
+        memoryMapping);
+  }
+
+  private static <T> void read(FileBasedSource<T> source, TextFileState state, Blackhole bh)
+      throws IOException {
+    try (BoundedSource.BoundedReader<T> reader =
+        source
+            .createForSubrangeOfFile(state.metadata, 0, state.metadata.sizeBytes())
+            .createReader(state.options)) {
+      for (boolean more = reader.start(); more; more = reader.advance()) {
+        bh.consume(reader.getCurrent());
+      }
+    }
+  }
+}
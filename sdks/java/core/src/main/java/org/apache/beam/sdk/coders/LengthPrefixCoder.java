@@ -23,7 +23,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
+import org.apache.beam.sdk.util.ExposedByteBufferInputStream;
 import org.apache.beam.sdk.util.VarInt;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableList;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.io.ByteStreams;
@@ -61,6 +63,11 @@ public class LengthPrefixCoder<T> extends StructuredCoder<T> {
   @Override
   public T decode(InputStream inStream) throws CoderException, IOException {
     long size = VarInt.decodeLong(inStream);
+    if (inStream instanceof ExposedByteBufferInputStream && size <= Integer.MAX_VALUE) {
+      // Decode from a view of the prefixed bytes so that the value coder can avoid copies as well.
+      ByteBuffer value = ((ExposedByteBufferInputStream) inStream).readBuffer((int) size);
+      return valueCoder.decode(new ExposedByteBufferInputStream(value), Context.OUTER);
+    }
     return valueCoder.decode(ByteStreams.limit(inStream, size), Context.OUTER);
   }
 
@@ -22,8 +22,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import org.apache.beam.sdk.util.ExposedByteArrayOutputStream;
+import org.apache.beam.sdk.util.ExposedByteBufferInputStream;
 import org.apache.beam.sdk.util.StreamUtils;
 import org.apache.beam.sdk.util.VarInt;
 import org.apache.beam.sdk.values.TypeDescriptor;
@@ -56,11 +58,26 @@ public class StringUtf8Coder extends AtomicCoder<String> {
     if (len < 0) {
       throw new CoderException("Invalid encoded string length: " + len);
     }
+    if (dis instanceof ExposedByteBufferInputStream) {
+      return decodeUtf8(((ExposedByteBufferInputStream) dis).readBuffer(len));
+    }
     byte[] bytes = new byte[len];
     ByteStreams.readFully(dis, bytes);
     return new String(bytes, StandardCharsets.UTF_8);
   }
 
+  /** Decodes the remaining bytes without copying them into an intermediate array. */
+  private static String decodeUtf8(ByteBuffer bytes) {
+    if (bytes.hasArray()) {
+      return new String(
+          bytes.array(),
+          bytes.arrayOffset() + bytes.position(),
+          bytes.remaining(),
+          StandardCharsets.UTF_8);
+    }
+    return StandardCharsets.UTF_8.decode(bytes).toString();
+  }
+
   private StringUtf8Coder() {}
 
   @Override
@@ -93,6 +110,9 @@ public class StringUtf8Coder extends AtomicCoder<String> {
   @Override
   public String decode(InputStream inStream, Context context) throws IOException {
     if (context.isWholeStream) {
+      if (inStream instanceof ExposedByteBufferInputStream) {
+        return decodeUtf8(((ExposedByteBufferInputStream) inStream).readAll());
+      }
       byte[] bytes = StreamUtils.getBytesWithoutClosing(inStream);
       return new String(bytes, StandardCharsets.UTF_8);
     } else {
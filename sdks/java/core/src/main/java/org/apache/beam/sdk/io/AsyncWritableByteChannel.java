@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.io;
+
+import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.annotations.VisibleForTesting;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link WritableByteChannel} that copies written bytes into a small, fixed set of buffers and
+ * writes full buffers to a delegate channel in the background.
+ *
+ * <p>With the default of two buffers, the caller fills one buffer while the other one is being
+ * compressed and written by the delegate, so the caller only blocks when it gets a full buffer
+ * ahead of the delegate. Failures of the delegate are rethrown by the next call to {@link #write}
+ * or {@link #close}. {@link #close} waits for all buffered bytes to be written before closing the
+ * delegate.
+ *
+ * <p>The buffers of all channels are written by a shared pool with a thread per available
+ * processor, rather than by a thread per channel, so that the many writers open at once in a
+ * worker do not each hold a thread. The buffers of a channel are written one at a time and in
+ * order. Since a channel only has a fixed number of buffers, writers which get ahead of the pool
+ * block until their buffers have been written. A channel which is abandoned without being closed
+ * holds no thread once its buffered bytes have been written.
+ *
+ * <p>This class is not thread safe: it must be written to and closed by a single thread.
+ */
+@SuppressWarnings({
+  "nullness" // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
+})
+final class AsyncWritableByteChannel implements WritableByteChannel {
+  static final int DEFAULT_BUFFER_SIZE = 1 << 18;
+  static final int DEFAULT_NUM_BUFFERS = 2;
+
+  private static final ExecutorService EXECUTOR = createExecutor();
+
+  private final WritableByteChannel delegate;
+  private final BlockingQueue<ByteBuffer> free;
+  private ByteBuffer current;
+  // Completes once all buffers handed to the executor so far have been written.
+  private CompletableFuture<Void> pendingWrites = CompletableFuture.completedFuture(null);
+  private volatile @Nullable Throwable failure;
+  private volatile boolean cancelled;
+  private boolean open = true;
+
+  AsyncWritableByteChannel(WritableByteChannel delegate) {
+    this(delegate, DEFAULT_BUFFER_SIZE, DEFAULT_NUM_BUFFERS);
+  }
+
+  @VisibleForTesting
+  AsyncWritableByteChannel(WritableByteChannel delegate, int bufferSize, int numBuffers) {
+    checkArgument(bufferSize > 0, "bufferSize must be positive, was %s", bufferSize);
+    checkArgument(numBuffers >= 2, "numBuffers must be at least 2, was %s", numBuffers);
+    this.delegate = delegate;
+    this.free = new ArrayBlockingQueue<>(numBuffers);
+    for (int i = 1; i < numBuffers; i++) {
+      free.add(ByteBuffer.allocate(bufferSize));
+    }
+    this.current = ByteBuffer.allocate(bufferSize);
+  }
+
+  private static ExecutorService createExecutor() {
+    int numThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            numThreads,
+            numThreads,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("file-based-sink-writer-%d")
+                .build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  @Override
+  public int write(ByteBuffer src) throws IOException {
+    if (!open) {
+      throw new ClosedChannelException();
+    }
+    throwIfFailed();
+    int written = src.remaining();
+    while (src.hasRemaining()) {
+      if (!current.hasRemaining()) {
+        current.flip();
+        writeInBackground(current);
+        current = takeFreeBuffer();
+      }
+      int length = Math.min(src.remaining(), current.remaining());
+      ByteBuffer chunk = src.duplicate();
+      chunk.limit(chunk.position() + length);
+      current.put(chunk);
+      src.position(src.position() + length);
+    }
+    return written;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return open;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!open) {
+      return;
+    }
+    open = false;
+    try {
+      current.flip();
+      if (current.hasRemaining()) {
+        writeInBackground(current);
+      }
+      try {
+        pendingWrites.get();
+      } catch (ExecutionException e) {
+        failure = e.getCause();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for pending writes");
+      }
+      throwIfFailed();
+    } catch (IOException | RuntimeException e) {
+      // Skip the buffers which have not been written yet.
+      cancelled = true;
+      try {
+        delegate.close();
+      } catch (IOException | RuntimeException closeException) {
+        e.addSuppressed(closeException);
+      }
+      throw e;
+    }
+    delegate.close();
+  }
+
+  /**
+   * Writes the buffer to the delegate once all previously handed buffers have been written, and
+   * returns it to the free buffers afterwards. After a failure, buffers are returned without being
+   * written so that the writing thread never blocks forever.
+   */
+  private void writeInBackground(ByteBuffer buffer) {
+    pendingWrites =
+        pendingWrites.thenRunAsync(
+            () -> {
+              if (failure == null && !cancelled) {
+                try {
+                  while (buffer.hasRemaining()) {
+                    delegate.write(buffer);
+                  }
+                } catch (Throwable t) {
+                  failure = t;
+                }
+              }
+              buffer.clear();
+              free.add(buffer);
+            },
+            EXECUTOR);
+  }
+
+  /** Returns a future which completes once all buffers handed to the executor are written. */
+  @VisibleForTesting
+  Future<?> getPendingWrites() {
+    return pendingWrites;
+  }
+
+  private void throwIfFailed() throws IOException {
+    Throwable t = failure;
+    if (t == null) {
+      return;
+    }
+    if (t instanceof IOException) {
+      throw new IOException("Background write failed", t);
+    }
+    if (t instanceof Error) {
+      throw (Error) t;
+    }
+    throw new RuntimeException("Background write failed", t);
+  }
+
+  private ByteBuffer takeFreeBuffer() throws IOException {
+    try {
+      ByteBuffer buffer = free.take();
+      throwIfFailed();
+      return buffer;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a free buffer");
+    }
+  }
+}
@@ -571,7 +571,8 @@ public class AvroIO {
         .setCodec(TypedWrite.DEFAULT_SERIALIZABLE_CODEC)
         .setMetadata(ImmutableMap.of())
         .setWindowedWrites(false)
-        .setNoSpilling(false);
+        .setNoSpilling(false)
+        .setAsyncWrites(false);
   }
 
   @Experimental(Kind.SCHEMAS)
@@ -1302,6 +1303,8 @@ public class AvroIO {
 
     abstract boolean getNoSpilling();
 
+    abstract boolean getAsyncWrites();
+
     abstract @Nullable FilenamePolicy getFilenamePolicy();
 
     abstract @Nullable DynamicAvroDestinations<UserT, DestinationT, OutputT>
@@ -1346,6 +1349,8 @@ public class AvroIO {
 
       abstract Builder<UserT, DestinationT, OutputT> setNoSpilling(boolean noSpilling);
 
+      abstract Builder<UserT, DestinationT, OutputT> setAsyncWrites(boolean asyncWrites);
+
       abstract Builder<UserT, DestinationT, OutputT> setFilenamePolicy(
           FilenamePolicy filenamePolicy);
 
@@ -1548,6 +1553,15 @@ public class AvroIO {
       return toBuilder().setNoSpilling(true).build();
     }
 
+    /**
+     * See {@link WriteFiles#withAsyncWrites()}. Blocks are still encoded and compressed with the
+     * {@link #withCodec codec} on the processing thread; only writing them to the file system is
+     * moved to a background thread.
+     */
+    public TypedWrite<UserT, DestinationT, OutputT> withAsyncWrites() {
+      return toBuilder().setAsyncWrites(true).build();
+    }
+
     /** Writes to Avro file(s) compressed using specified codec. */
     public TypedWrite<UserT, DestinationT, OutputT> withCodec(CodecFactory codec) {
       return toBuilder().setCodec(new SerializableAvroCodecFactory(codec)).build();
@@ -1647,6 +1661,9 @@ public class AvroIO {
       if (getNoSpilling()) {
         write = write.withNoSpilling();
       }
+      if (getAsyncWrites()) {
+        write = write.withAsyncWrites();
+      }
       return input.apply("Write", write);
     }
 
@@ -1760,6 +1777,11 @@ public class AvroIO {
       return new Write<>(inner.withWindowedWrites());
     }
 
+    /** See {@link TypedWrite#withAsyncWrites}. */
+    public Write<T> withAsyncWrites() {
+      return new Write<>(inner.withAsyncWrites());
+    }
+
     /** See {@link TypedWrite#withCodec}. */
     public Write<T> withCodec(CodecFactory codec) {
       return new Write<>(inner.withCodec(codec));
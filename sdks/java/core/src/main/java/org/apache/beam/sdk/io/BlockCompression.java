@@ -0,0 +1,736 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.io;
+
+import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Preconditions.checkArgument;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.annotations.VisibleForTesting;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.io.ByteStreams;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStream;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorOutputStream;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Implementation detail of {@link Compression#BGZF} and {@link Compression#ZSTD_SEEKABLE}.
+ *
+ * <p>Both formats consist of frames which are compressed independently of each other and whose
+ * boundaries can be found without decompressing the file from the start: a BGZF block carries its
+ * size in its header, and a seekable Zstandard file ends with a table of the sizes of its frames.
+ * This allows {@link CompressedSource} to split such files at frame boundaries.
+ */
+@SuppressWarnings({
+  "nullness" // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
+})
+final class BlockCompression {
+  /** The maximum number of uncompressed bytes in a BGZF block, the same as used by bgzip. */
+  static final int BGZF_BLOCK_INPUT_SIZE = 0xff00;
+
+  /** The number of uncompressed bytes in a frame of a seekable Zstandard file. */
+  static final int ZSTD_FRAME_INPUT_SIZE = 1 << 20;
+
+  private static final int BGZF_MAX_BLOCK_SIZE = 1 << 16;
+  private static final int BGZF_HEADER_SIZE = 18;
+  private static final int BGZF_FOOTER_SIZE = 8;
+  private static final byte[] BGZF_EOF_BLOCK = {
+    0x1f, (byte) 0x8b, 0x08, 0x04, 0x00, 0x00, 0x00, 0x00, 0x00, (byte) 0xff, 0x06, 0x00, 0x42,
+    0x43, 0x02, 0x00, 0x1b, 0x00, 0x03, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00
+  };
+
+  private static final int ZSTD_SKIPPABLE_FRAME_MAGIC = 0x184D2A5E;
+  private static final int ZSTD_SKIPPABLE_FRAME_HEADER_SIZE = 8;
+  private static final int ZSTD_SEEKABLE_MAGIC = 0x8F92EAB1;
+  private static final int ZSTD_SEEK_TABLE_FOOTER_SIZE = 9;
+  private static final int ZSTD_SEEK_TABLE_CHECKSUM_FLAG = 0x80;
+
+  private BlockCompression() {}
+
+  /** Returns whether files compressed with the given {@link Compression} can be split. */
+  static boolean isBlockCompressed(Compression compression) {
+    return compression == Compression.BGZF || compression == Compression.ZSTD_SEEKABLE;
+  }
+
+  static WritableByteChannel writeBgzf(WritableByteChannel channel) {
+    return writeBgzf(channel, BGZF_BLOCK_INPUT_SIZE);
+  }
+
+  @VisibleForTesting
+  static WritableByteChannel writeBgzf(WritableByteChannel channel, int blockInputSize) {
+    checkArgument(
+        blockInputSize > 0 && blockInputSize <= BGZF_BLOCK_INPUT_SIZE,
+        "Invalid BGZF block input size %s",
+        blockInputSize);
+    return Channels.newChannel(
+        new BgzfOutputStream(Channels.newOutputStream(channel), blockInputSize));
+  }
+
+  static WritableByteChannel writeSeekableZstd(WritableByteChannel channel) {
+    return writeSeekableZstd(channel, ZSTD_FRAME_INPUT_SIZE);
+  }
+
+  @VisibleForTesting
+  static WritableByteChannel writeSeekableZstd(WritableByteChannel channel, int frameInputSize) {
+    checkArgument(frameInputSize > 0, "Invalid frame input size %s", frameInputSize);
+    return Channels.newChannel(
+        new SeekableZstdOutputStream(Channels.newOutputStream(channel), frameInputSize));
+  }
+
+  /** Returns a {@link FrameReader} for a file compressed with the given {@link Compression}. */
+  static FrameReader newFrameReader(Compression compression, SeekableByteChannel channel)
+      throws IOException {
+    switch (compression) {
+      case BGZF:
+        return new BgzfFrameReader(channel);
+      case ZSTD_SEEKABLE:
+        return new SeekableZstdFrameReader(channel);
+      default:
+        throw new IllegalArgumentException("Not a block compression: " + compression);
+    }
+  }
+
+  /**
+   * Buffers the bytes written to it and writes them to the underlying stream in compressed blocks
+   * of a fixed number of uncompressed bytes. {@link #flush} does not end the current block.
+   */
+  private abstract static class BlockOutputStream extends OutputStream {
+    private final OutputStream out;
+    private final byte[] block;
+    private int blockLength;
+    private boolean closed;
+
+    BlockOutputStream(OutputStream out, int blockSize) {
+      this.out = out;
+      this.block = new byte[blockSize];
+    }
+
+    /** Compresses the given bytes into a block and writes it to the given stream. */
+    abstract void writeBlock(OutputStream out, byte[] data, int length) throws IOException;
+
+    /** Writes whatever has to follow the last block to the given stream. */
+    abstract void finish(OutputStream out) throws IOException;
+
+    @Override
+    public void write(int b) throws IOException {
+      if (blockLength == block.length) {
+        flushBlock();
+      }
+      block[blockLength++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      while (len > 0) {
+        if (blockLength == block.length) {
+          flushBlock();
+        }
+        int count = Math.min(len, block.length - blockLength);
+        System.arraycopy(b, off, block, blockLength, count);
+        blockLength += count;
+        off += count;
+        len -= count;
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      try {
+        flushBlock();
+        finish(out);
+      } finally {
+        out.close();
+      }
+    }
+
+    private void flushBlock() throws IOException {
+      if (blockLength > 0) {
+        writeBlock(out, block, blockLength);
+        blockLength = 0;
+      }
+    }
+  }
+
+  /** Writes BGZF blocks, followed by the empty block which marks the end of a BGZF file. */
+  private static class BgzfOutputStream extends BlockOutputStream {
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    private final CRC32 crc = new CRC32();
+    private final byte[] compressed = new byte[BGZF_MAX_BLOCK_SIZE];
+    private @Nullable Deflater storingDeflater;
+
+    BgzfOutputStream(OutputStream out, int blockInputSize) {
+      super(out, blockInputSize);
+    }
+
+    @Override
+    void writeBlock(OutputStream out, byte[] data, int length) throws IOException {
+      int compressedLength = deflate(deflater, data, length);
+      if (compressedLength < 0) {
+        // Incompressible data which deflate expanded beyond the size of a block, store it instead.
+        if (storingDeflater == null) {
+          storingDeflater = new Deflater(Deflater.NO_COMPRESSION, true);
+        }
+        compressedLength = deflate(storingDeflater, data, length);
+      }
+      int blockSize = BGZF_HEADER_SIZE + compressedLength + BGZF_FOOTER_SIZE;
+      crc.reset();
+      crc.update(data, 0, length);
+      // The header of a block only differs from that of the end of file block in its size.
+      ByteBuffer header = ByteBuffer.allocate(BGZF_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      header.put(BGZF_EOF_BLOCK, 0, BGZF_HEADER_SIZE - 2).putShort((short) (blockSize - 1));
+      ByteBuffer footer = ByteBuffer.allocate(BGZF_FOOTER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      footer.putInt((int) crc.getValue()).putInt(length);
+      out.write(header.array());
+      out.write(compressed, 0, compressedLength);
+      out.write(footer.array());
+    }
+
+    @Override
+    void finish(OutputStream out) throws IOException {
+      out.write(BGZF_EOF_BLOCK);
+      deflater.end();
+      if (storingDeflater != null) {
+        storingDeflater.end();
+      }
+    }
+
+    /** Returns the compressed length, or -1 if it exceeds the space available in a block. */
+    private int deflate(Deflater deflater, byte[] data, int length) {
+      int maxLength = BGZF_MAX_BLOCK_SIZE - BGZF_HEADER_SIZE - BGZF_FOOTER_SIZE;
+      deflater.reset();
+      deflater.setInput(data, 0, length);
+      deflater.finish();
+      int compressedLength = 0;
+      while (!deflater.finished()) {
+        if (compressedLength == maxLength) {
+          return -1;
+        }
+        compressedLength +=
+            deflater.deflate(compressed, compressedLength, maxLength - compressedLength);
+      }
+      return compressedLength;
+    }
+  }
+
+  /**
+   * Writes Zstandard frames, followed by a skippable frame which holds the seek table of the
+   * seekable format, without checksums.
+   */
+  private static class SeekableZstdOutputStream extends BlockOutputStream {
+    private final ByteArrayOutputStream frame = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream seekTableEntries = new ByteArrayOutputStream();
+    private int numFrames;
+
+    SeekableZstdOutputStream(OutputStream out, int frameInputSize) {
+      super(out, frameInputSize);
+    }
+
+    @Override
+    void writeBlock(OutputStream out, byte[] data, int length) throws IOException {
+      frame.reset();
+      try (ZstdCompressorOutputStream zstd = new ZstdCompressorOutputStream(frame)) {
+        zstd.write(data, 0, length);
+      }
+      frame.writeTo(out);
+      ByteBuffer entry = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+      entry.putInt(frame.size()).putInt(length);
+      seekTableEntries.write(entry.array());
+      numFrames++;
+    }
+
+    @Override
+    void finish(OutputStream out) throws IOException {
+      int frameSize = seekTableEntries.size() + ZSTD_SEEK_TABLE_FOOTER_SIZE;
+      ByteBuffer header =
+          ByteBuffer.allocate(ZSTD_SKIPPABLE_FRAME_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      header.putInt(ZSTD_SKIPPABLE_FRAME_MAGIC).putInt(frameSize);
+      ByteBuffer footer =
+          ByteBuffer.allocate(ZSTD_SEEK_TABLE_FOOTER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      footer.putInt(numFrames).put((byte) 0).putInt(ZSTD_SEEKABLE_MAGIC);
+      out.write(header.array());
+      seekTableEntries.writeTo(out);
+      out.write(footer.array());
+    }
+  }
+
+  /** Locates and decompresses the frames of a block compressed file. */
+  abstract static class FrameReader {
+    final SeekableByteChannel channel;
+    final long size;
+
+    FrameReader(SeekableByteChannel channel) throws IOException {
+      this.channel = channel;
+      this.size = channel.size();
+    }
+
+    /**
+     * Returns the offset of the last frame which starts before the given positive offset, or 0 if
+     * the file has no frames.
+     */
+    abstract long findFrameBefore(long offset) throws IOException;
+
+    /** Returns the number of uncompressed bytes in the frame at the given offset. */
+    abstract long getDecompressedSize(long frameOffset) throws IOException;
+
+    /** Returns the offset of the frame which follows the frame at the given offset. */
+    abstract long getNextFrameOffset(long frameOffset) throws IOException;
+
+    /**
+     * Returns the uncompressed bytes of the frame at the given offset, or null if the given offset
+     * is past the last frame.
+     */
+    abstract byte @Nullable [] readFrame(long frameOffset) throws IOException;
+
+    /** Fills the given buffer with the bytes of the file at the given offset. */
+    void readFully(long offset, ByteBuffer buffer) throws IOException {
+      channel.position(offset);
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) < 0) {
+          throw new EOFException(
+              String.format("Unexpected end of file at offset %d", channel.position()));
+        }
+      }
+      buffer.flip();
+    }
+  }
+
+  /**
+   * A {@link FrameReader} for BGZF files. The first extra subfield of a block must be the {@code
+   * BC} subfield with the size of the block, as it is in files written by bgzip or htslib.
+   */
+  private static class BgzfFrameReader extends FrameReader {
+    private final Inflater inflater = new Inflater(true);
+    private final CRC32 crc = new CRC32();
+    // The offset and size of the last block whose header was read.
+    private long lastBlockOffset = -1;
+    private int lastBlockSize;
+
+    BgzfFrameReader(SeekableByteChannel channel) throws IOException {
+      super(channel);
+    }
+
+    @Override
+    long findFrameBefore(long offset) throws IOException {
+      // The block which contains the byte preceding the offset starts at most a maximum block size
+      // before it.
+      long block = findBlockAtOrAfter(Math.max(0, offset - BGZF_MAX_BLOCK_SIZE));
+      while (true) {
+        long next = getNextFrameOffset(block);
+        if (next >= offset) {
+          return block;
+        }
+        block = next;
+      }
+    }
+
+    @Override
+    long getDecompressedSize(long frameOffset) throws IOException {
+      ByteBuffer isize = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+      readFully(getNextFrameOffset(frameOffset) - 4, isize);
+      return isize.getInt() & 0xFFFFFFFFL;
+    }
+
+    @Override
+    long getNextFrameOffset(long frameOffset) throws IOException {
+      if (frameOffset != lastBlockOffset) {
+        readHeader(frameOffset);
+      }
+      return frameOffset + lastBlockSize;
+    }
+
+    @Override
+    byte @Nullable [] readFrame(long frameOffset) throws IOException {
+      if (frameOffset >= size) {
+        return null;
+      }
+      BlockHeader header = readHeader(frameOffset);
+      ByteBuffer block = ByteBuffer.allocate(header.blockSize).order(ByteOrder.LITTLE_ENDIAN);
+      readFully(frameOffset, block);
+      int dataOffset = header.headerSize;
+      int dataLength = header.blockSize - header.headerSize - BGZF_FOOTER_SIZE;
+      block.position(dataOffset + dataLength);
+      int expectedCrc = block.getInt();
+      int decompressedSize = block.getInt();
+      byte[] data = new byte[decompressedSize];
+      inflater.reset();
+      inflater.setInput(block.array(), dataOffset, dataLength);
+      try {
+        int inflated = 0;
+        while (inflated < decompressedSize && !inflater.finished()) {
+          int count = inflater.inflate(data, inflated, decompressedSize - inflated);
+          if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+            break;
+          }
+          inflated += count;
+        }
+        if (inflated != decompressedSize) {
+          throw new IOException(
+              String.format("Truncated BGZF block at offset %d of %s", frameOffset, channel));
+        }
+      } catch (DataFormatException e) {
+        throw new IOException(
+            String.format("Corrupt BGZF block at offset %d of %s", frameOffset, channel), e);
+      }
+      crc.reset();
+      crc.update(data, 0, decompressedSize);
+      if ((int) crc.getValue() != expectedCrc) {
+        throw new IOException(
+            String.format("CRC mismatch in BGZF block at offset %d of %s", frameOffset, channel));
+      }
+      return data;
+    }
+
+    private BlockHeader readHeader(long frameOffset) throws IOException {
+      ByteBuffer header = ByteBuffer.allocate(BGZF_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      readFully(frameOffset, header);
+      int blockSize = blockSize(header, 0);
+      if (blockSize < 0) {
+        throw new IOException(
+            String.format("No BGZF block header at offset %d of %s", frameOffset, channel));
+      }
+      lastBlockOffset = frameOffset;
+      lastBlockSize = blockSize;
+      return new BlockHeader(12 + (header.getShort(10) & 0xFFFF), blockSize);
+    }
+
+    /**
+     * Returns the offset of the first block which starts at or after the given offset, or the size
+     * of the file if there is none. A position is accepted as the start of a block if it holds a
+     * BGZF block header and the block is followed by another block header or the end of the file.
+     */
+    private long findBlockAtOrAfter(long offset) throws IOException {
+      int length = (int) Math.min(size - offset, BGZF_MAX_BLOCK_SIZE + BGZF_HEADER_SIZE);
+      ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+      readFully(offset, buffer);
+      ByteBuffer next = ByteBuffer.allocate(BGZF_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      for (int i = 0; i + BGZF_HEADER_SIZE <= length; i++) {
+        int blockSize = blockSize(buffer, i);
+        if (blockSize < 0) {
+          continue;
+        }
+        long nextOffset = offset + i + blockSize;
+        if (nextOffset == size) {
+          return offset + i;
+        }
+        if (nextOffset + BGZF_HEADER_SIZE <= size) {
+          next.clear();
+          readFully(nextOffset, next);
+          if (blockSize(next, 0) >= 0) {
+            return offset + i;
+          }
+        }
+      }
+      if (offset + length == size) {
+        return size;
+      }
+      throw new IOException(
+          String.format("No BGZF block found at or after offset %d of %s", offset, channel));
+    }
+
+    /** Returns the size of the block whose header is at the given index, or -1 if there is none. */
+    private static int blockSize(ByteBuffer buffer, int index) {
+      if (buffer.get(index) != 0x1f
+          || buffer.get(index + 1) != (byte) 0x8b
+          || buffer.get(index + 2) != 0x08
+          || (buffer.get(index + 3) & 0x04) == 0
+          || (buffer.getShort(index + 10) & 0xFFFF) < 6
+          || buffer.get(index + 12) != 'B'
+          || buffer.get(index + 13) != 'C'
+          || buffer.getShort(index + 14) != 2) {
+        return -1;
+      }
+      return (buffer.getShort(index + 16) & 0xFFFF) + 1;
+    }
+
+    private static class BlockHeader {
+      private final int headerSize;
+      private final int blockSize;
+
+      private BlockHeader(int headerSize, int blockSize) {
+        this.headerSize = headerSize;
+        this.blockSize = blockSize;
+      }
+    }
+  }
+
+  /** A {@link FrameReader} for files in the seekable Zstandard format. */
+  private static class SeekableZstdFrameReader extends FrameReader {
+    /** The offsets of the frames, followed by the offset of the seek table. */
+    private final long[] frameOffsets;
+
+    private final long[] decompressedSizes;
+
+    SeekableZstdFrameReader(SeekableByteChannel channel) throws IOException {
+      super(channel);
+      if (size < ZSTD_SKIPPABLE_FRAME_HEADER_SIZE + ZSTD_SEEK_TABLE_FOOTER_SIZE) {
+        throw new IOException(String.format("%s is too short to be seekable", channel));
+      }
+      ByteBuffer footer =
+          ByteBuffer.allocate(ZSTD_SEEK_TABLE_FOOTER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      readFully(size - ZSTD_SEEK_TABLE_FOOTER_SIZE, footer);
+      int numFrames = footer.getInt();
+      int descriptor = footer.get() & 0xFF;
+      if (footer.getInt() != ZSTD_SEEKABLE_MAGIC || numFrames < 0) {
+        throw new IOException(String.format("%s does not end with a seek table", channel));
+      }
+      int entrySize = (descriptor & ZSTD_SEEK_TABLE_CHECKSUM_FLAG) != 0 ? 12 : 8;
+      long seekTableSize =
+          ZSTD_SKIPPABLE_FRAME_HEADER_SIZE
+              + (long) numFrames * entrySize
+              + ZSTD_SEEK_TABLE_FOOTER_SIZE;
+      if (seekTableSize > size) {
+        throw new IOException(String.format("Truncated seek table in %s", channel));
+      }
+      ByteBuffer seekTable =
+          ByteBuffer.allocate((int) seekTableSize - ZSTD_SEEK_TABLE_FOOTER_SIZE)
+              .order(ByteOrder.LITTLE_ENDIAN);
+      readFully(size - seekTableSize, seekTable);
+      if (seekTable.getInt() != ZSTD_SKIPPABLE_FRAME_MAGIC) {
+        throw new IOException(String.format("Corrupt seek table in %s", channel));
+      }
+      // Skip the size of the skippable frame, which is implied by the number of frames.
+      seekTable.getInt();
+      frameOffsets = new long[numFrames + 1];
+      decompressedSizes = new long[numFrames];
+      for (int i = 0; i < numFrames; i++) {
+        frameOffsets[i + 1] = frameOffsets[i] + (seekTable.getInt() & 0xFFFFFFFFL);
+        decompressedSizes[i] = seekTable.getInt() & 0xFFFFFFFFL;
+        seekTable.position(seekTable.position() + entrySize - 8);
+      }
+      if (frameOffsets[numFrames] != size - seekTableSize) {
+        throw new IOException(
+            String.format("Seek table of %s does not match the size of its frames", channel));
+      }
+    }
+
+    @Override
+    long findFrameBefore(long offset) {
+      int numFrames = decompressedSizes.length;
+      if (numFrames == 0) {
+        return 0;
+      }
+      int index = Arrays.binarySearch(frameOffsets, 0, numFrames, offset);
+      int firstFrameAtOrAfter = index >= 0 ? index : -index - 1;
+      return frameOffsets[Math.max(firstFrameAtOrAfter - 1, 0)];
+    }
+
+    @Override
+    long getDecompressedSize(long frameOffset) throws IOException {
+      if (frameOffset == frameOffsets[decompressedSizes.length]) {
+        return 0;
+      }
+      return decompressedSizes[frameIndex(frameOffset)];
+    }
+
+    @Override
+    long getNextFrameOffset(long frameOffset) throws IOException {
+      return frameOffsets[frameIndex(frameOffset) + 1];
+    }
+
+    @Override
+    byte @Nullable [] readFrame(long frameOffset) throws IOException {
+      if (frameOffset >= frameOffsets[frameOffsets.length - 1]) {
+        return null;
+      }
+      int index = frameIndex(frameOffset);
+      ByteBuffer frame = ByteBuffer.allocate((int) (frameOffsets[index + 1] - frameOffset));
+      readFully(frameOffset, frame);
+      byte[] data = new byte[(int) decompressedSizes[index]];
+      try (InputStream zstd =
+          new ZstdCompressorInputStream(new ByteArrayInputStream(frame.array()))) {
+        ByteStreams.readFully(zstd, data);
+        if (zstd.read() != -1) {
+          throw new IOException(
+              String.format(
+                  "Frame at offset %d of %s is longer than its seek table entry",
+                  frameOffset, channel));
+        }
+      }
+      return data;
+    }
+
+    private int frameIndex(long frameOffset) throws IOException {
+      int index = Arrays.binarySearch(frameOffsets, 0, frameOffsets.length - 1, frameOffset);
+      if (index < 0) {
+        throw new IOException(
+            String.format("No frame starts at offset %d of %s", frameOffset, channel));
+      }
+      return index;
+    }
+  }
+
+  /**
+   * A channel which reads the decompressed bytes of the frames of a block compressed file, starting
+   * with the frame at a given offset, and keeps track of the offsets of the frames which hold the
+   * bytes read. It can only be positioned forward, or backward within the current frame.
+   */
+  static class DecompressingChannel implements SeekableByteChannel {
+    private final FrameReader frames;
+    // The frames which hold the bytes at or after the last offset passed to getFrameOffset.
+    private final ArrayDeque<FrameBounds> frameBounds = new ArrayDeque<>();
+    private long nextFrameOffset;
+    private byte[] frame = new byte[0];
+    private int framePosition;
+    private long position;
+    private boolean endOfChannel;
+    private boolean open = true;
+
+    DecompressingChannel(FrameReader frames, long frameOffset) {
+      this.frames = frames;
+      this.nextFrameOffset = frameOffset;
+    }
+
+    /**
+     * Returns the offset of the frame which holds the byte at the given position of this channel.
+     * Positions must be passed in increasing order and must already have been read.
+     */
+    long getFrameOffset(long decompressedPosition) {
+      FrameBounds current = frameBounds.pollFirst();
+      while (!frameBounds.isEmpty()
+          && frameBounds.peekFirst().decompressedStart <= decompressedPosition) {
+        current = frameBounds.pollFirst();
+      }
+      frameBounds.addFirst(current);
+      return current.frameOffset;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+      if (!dst.hasRemaining()) {
+        return 0;
+      }
+      while (framePosition == frame.length) {
+        if (!readNextFrame()) {
+          return -1;
+        }
+      }
+      int count = Math.min(dst.remaining(), frame.length - framePosition);
+      dst.put(frame, framePosition, count);
+      framePosition += count;
+      position += count;
+      return count;
+    }
+
+    @Override
+    public long position() {
+      return position;
+    }
+
+    @Override
+    public SeekableByteChannel position(long newPosition) throws IOException {
+      if (newPosition < position) {
+        if (position - newPosition > framePosition) {
+          throw new IOException(
+              String.format(
+                  "Cannot move back from position %d to %d of a decompressed channel",
+                  position, newPosition));
+        }
+        framePosition -= (int) (position - newPosition);
+        position = newPosition;
+        return this;
+      }
+      while (position < newPosition) {
+        if (framePosition == frame.length && !readNextFrame()) {
+          break;
+        }
+        int count = (int) Math.min(newPosition - position, frame.length - framePosition);
+        framePosition += count;
+        position += count;
+      }
+      return this;
+    }
+
+    /**
+     * Returns {@link Long#MAX_VALUE} until the end of the channel has been reached, as the size is
+     * not known before the last frame has been decompressed.
+     */
+    @Override
+    public long size() {
+      return endOfChannel ? position : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+      throw new NonWritableChannelException();
+    }
+
+    @Override
+    public SeekableByteChannel truncate(long size) {
+      throw new NonWritableChannelException();
+    }
+
+    @Override
+    public boolean isOpen() {
+      return open;
+    }
+
+    @Override
+    public void close() {
+      open = false;
+    }
+
+    private boolean readNextFrame() throws IOException {
+      byte[] data = frames.readFrame(nextFrameOffset);
+      if (data == null) {
+        endOfChannel = true;
+        return false;
+      }
+      if (data.length > 0) {
+        frameBounds.addLast(new FrameBounds(nextFrameOffset, position));
+      }
+      nextFrameOffset = frames.getNextFrameOffset(nextFrameOffset);
+      frame = data;
+      framePosition = 0;
+      return true;
+    }
+
+    private static class FrameBounds {
+      private final long frameOffset;
+      private final long decompressedStart;
+
+      private FrameBounds(long frameOffset, long decompressedStart) {
+        this.frameOffset = frameOffset;
+        this.decompressedStart = decompressedStart;
+      }
+    }
+  }
+}
@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.util.NoSuchElementException;
 import javax.annotation.concurrent.GuardedBy;
 import org.apache.beam.sdk.annotations.Experimental;
@@ -50,17 +51,24 @@ import org.joda.time.Instant;
  *
  * <p>Supported compression algorithms are {@link Compression#GZIP}, {@link Compression#BZIP2},
  * {@link Compression#ZIP}, {@link Compression#ZSTD}, {@link Compression#LZO}, {@link
- * Compression#LZOP}, {@link Compression#SNAPPY}, and {@link Compression#DEFLATE}. User-defined
- * compression types are supported by implementing a {@link DecompressingChannelFactory}.
+ * Compression#LZOP}, {@link Compression#SNAPPY}, {@link Compression#DEFLATE}, {@link
+ * Compression#BGZF} and {@link Compression#ZSTD_SEEKABLE}. User-defined compression types are
+ * supported by implementing a {@link DecompressingChannelFactory}.
+ *
+ * <p>Files compressed with {@link Compression#BGZF} or {@link Compression#ZSTD_SEEKABLE} consist of
+ * independently compressed frames, and can be split at frame boundaries if the delegate source is
+ * splittable. Each split reads the records which start in the frames which start within its range
+ * of compressed offsets.
  *
  * <p>By default, the compression algorithm is selected from those supported in {@link Compression}
  * based on the file name provided to the source, namely {@code ".bz2"} indicates {@link
  * Compression#BZIP2}, {@code ".gz"} indicates {@link Compression#GZIP}, {@code ".zip"} indicates
  * {@link Compression#ZIP}, {@code ".zst"} indicates {@link Compression#ZSTD}, {@code
  * ".lzo_deflate"} indicates {@link Compression#LZO}, {@code ".lzo"} indicates {@link
- * Compression#LZOP}, {@code ".snappy"} indicted {@link Compression#SNAPPY}, and {@code ".deflate"}
- * indicates {@link Compression#DEFLATE}. If the file name does not match any of the supported
- * algorithms, it is assumed to be uncompressed data.
+ * Compression#LZOP}, {@code ".snappy"} indicted {@link Compression#SNAPPY}, {@code ".deflate"}
+ * indicates {@link Compression#DEFLATE}, and {@code ".bgz"} indicates {@link Compression#BGZF}. If
+ * the file name does not match any of the supported algorithms, it is assumed to be uncompressed
+ * data.
  *
  * @param <T> The type to read from the compressed file.
  */
@@ -108,7 +116,13 @@ public class CompressedSource<T> extends FileBasedSource<T> {
     DEFLATE(Compression.DEFLATE),
 
     /** @see Compression#SNAPPY */
-    SNAPPY(Compression.SNAPPY);
+    SNAPPY(Compression.SNAPPY),
+
+    /** @see Compression#BGZF */
+    BGZF(Compression.BGZF),
+
+    /** @see Compression#ZSTD_SEEKABLE */
+    ZSTD_SEEKABLE(Compression.ZSTD_SEEKABLE);
 
     private final Compression canonical;
 
@@ -167,6 +181,12 @@ public class CompressedSource<T> extends FileBasedSource<T> {
         case SNAPPY:
           return SNAPPY;
 
+        case BGZF:
+          return BGZF;
+
+        case ZSTD_SEEKABLE:
+          return ZSTD_SEEKABLE;
+
         default:
           throw new IllegalArgumentException("Unsupported compression type: " + compression);
       }
@@ -265,9 +285,10 @@ public class CompressedSource<T> extends FileBasedSource<T> {
   }
 
   /**
-   * Determines whether a single file represented by this source is splittable. Returns true if we
-   * are using the default decompression factory and and it determines from the requested file name
-   * that the file is not compressed.
+   * Determines whether a single file represented by this source is splittable. Returns true if the
+   * delegate source is splittable, and either the file is not compressed or it is compressed with
+   * a block compression. If the default decompression factory is used, this is determined from the
+   * requested file name.
    */
   @Override
   protected final boolean isSplittable() {
@@ -278,13 +299,23 @@ public class CompressedSource<T> extends FileBasedSource<T> {
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
-    if (channelFactory == CompressionMode.UNCOMPRESSED) {
-      return true;
-    }
+    Compression compression = getCanonicalCompression();
+    return compression == Compression.UNCOMPRESSED
+        || (compression != null && BlockCompression.isBlockCompressed(compression));
+  }
+
+  /**
+   * Returns the {@link Compression} of the file or files of this source, or null if a user-defined
+   * decompression factory is used.
+   */
+  private @Nullable Compression getCanonicalCompression() {
     if (channelFactory == CompressionMode.AUTO) {
-      return !Compression.AUTO.isCompressed(getFileOrPatternSpec());
+      return Compression.detect(getFileOrPatternSpec());
+    }
+    if (channelFactory instanceof CompressionMode) {
+      return ((CompressionMode) channelFactory).canonical;
     }
-    return false;
+    return null;
   }
 
   /**
@@ -297,6 +328,10 @@ public class CompressedSource<T> extends FileBasedSource<T> {
   @Override
   protected final FileBasedReader<T> createSingleFileReader(PipelineOptions options) {
     if (isSplittable()) {
+      Compression compression = getCanonicalCompression();
+      if (compression != Compression.UNCOMPRESSED) {
+        return new BlockCompressedReader<>(this, compression, options);
+      }
       return sourceDelegate.createSingleFileReader(options);
     }
     return new CompressedReader<>(this, sourceDelegate.createSingleFileReader(options));
@@ -485,4 +520,93 @@ public class CompressedSource<T> extends FileBasedSource<T> {
       return readerDelegate.getCurrentTimestamp();
     }
   }
+
+  /**
+   * Reader for a {@link CompressedSource} of a file compressed with a block compression. Reads the
+   * frames which start within the range of the source, and the frame before them, with a delegate
+   * reader which starts at the first of these frames. The offset of a record is the offset of the
+   * frame in which it starts, and the first record which starts in a frame is at a split point.
+   *
+   * @param <T> The type of records read from the source.
+   */
+  private static class BlockCompressedReader<T> extends FileBasedReader<T> {
+    private final Compression compression;
+    private final PipelineOptions options;
+
+    // Initialized in startReading
+    private @Nullable FileBasedReader<T> readerDelegate;
+    private BlockCompression.@Nullable DecompressingChannel channel;
+
+    private volatile long currentOffset = -1;
+    private volatile boolean atSplitPoint;
+
+    private BlockCompressedReader(
+        CompressedSource<T> source, Compression compression, PipelineOptions options) {
+      super(source);
+      this.compression = compression;
+      this.options = options;
+    }
+
+    @Override
+    public T getCurrent() throws NoSuchElementException {
+      return readerDelegate.getCurrent();
+    }
+
+    @Override
+    public Instant getCurrentTimestamp() throws NoSuchElementException {
+      return readerDelegate.getCurrentTimestamp();
+    }
+
+    @Override
+    protected boolean isAtSplitPoint() {
+      return atSplitPoint;
+    }
+
+    @Override
+    protected long getCurrentOffset() throws NoSuchElementException {
+      return currentOffset;
+    }
+
+    @Override
+    protected void startReading(ReadableByteChannel channel) throws IOException {
+      checkArgument(
+          channel instanceof SeekableByteChannel,
+          "Reading %s files requires a SeekableByteChannel",
+          compression);
+      BlockCompression.FrameReader frames =
+          BlockCompression.newFrameReader(compression, (SeekableByteChannel) channel);
+      CompressedSource<T> source = (CompressedSource<T>) getCurrentSource();
+      // Unless the range starts at the beginning of the file, also decompress the frames before
+      // its first frame which hold the last byte preceding it. Like any FileBasedReader, the
+      // delegate reader starts at the first byte of its range, which is the first byte of the
+      // first frame, and may move back within the preceding frame to tell whether a record
+      // starts there.
+      long frameOffset = source.getStartOffset();
+      long decompressedStartOffset = 0;
+      while (decompressedStartOffset == 0 && frameOffset > 0) {
+        frameOffset = frames.findFrameBefore(frameOffset);
+        decompressedStartOffset += frames.getDecompressedSize(frameOffset);
+      }
+      this.channel = new BlockCompression.DecompressingChannel(frames, frameOffset);
+      this.channel.position(decompressedStartOffset);
+      readerDelegate =
+          source
+              .sourceDelegate
+              .createForSubrangeOfFile(
+                  source.getSingleFileMetadata(), decompressedStartOffset, Long.MAX_VALUE)
+              .createSingleFileReader(options);
+      readerDelegate.startReading(this.channel);
+    }
+
+    @Override
+    protected boolean readNextRecord() throws IOException {
+      if (!readerDelegate.readNextRecord()) {
+        return false;
+      }
+      long frameOffset = channel.getFrameOffset(readerDelegate.getCurrentOffset());
+      atSplitPoint = frameOffset != currentOffset;
+      currentOffset = frameOffset;
+      return true;
+    }
+  }
 }
@@ -240,6 +240,50 @@ public enum Compression {
       return Channels.newChannel(
           new SnappyCompressorOutputStream(Channels.newOutputStream(channel), uncompressedSize));
     }
+  },
+
+  /**
+   * BGZF compression, as used by bgzip and htslib: a series of gzip members of at most 64KiB which
+   * record their size in a {@code BC} extra field, followed by an empty end of file member.
+   *
+   * <p>BGZF files are valid gzip files, but unlike {@link #GZIP} files they can be split at member
+   * boundaries when read by {@link CompressedSource}. As {@code .gz} files are read as {@link
+   * #GZIP} by {@link #AUTO}, BGZF files are written with and detected by the {@code .bgz}
+   * extension.
+   */
+  BGZF(".bgz", ".bgz") {
+    @Override
+    public ReadableByteChannel readDecompressed(ReadableByteChannel channel) throws IOException {
+      return GZIP.readDecompressed(channel);
+    }
+
+    @Override
+    public WritableByteChannel writeCompressed(WritableByteChannel channel) throws IOException {
+      return BlockCompression.writeBgzf(channel);
+    }
+  },
+
+  /**
+   * ZStandard compression in the <a
+   * href=https://github.com/facebook/zstd/blob/dev/contrib/seekable_format/zstd_seekable_compression_format.md>seekable
+   * format</a>: a series of independently compressed frames of 1MiB of data, followed by a seek
+   * table of their sizes in a skippable frame.
+   *
+   * <p>Seekable files are valid ZStandard files, but unlike {@link #ZSTD} files they can be split
+   * at frame boundaries when read by {@link CompressedSource}. They are never detected by {@link
+   * #AUTO}. As for {@link #ZSTD}, it is the user's responsibility to declare a dependency on {@code
+   * zstd-jni}.
+   */
+  ZSTD_SEEKABLE(".zst") {
+    @Override
+    public ReadableByteChannel readDecompressed(ReadableByteChannel channel) throws IOException {
+      return ZSTD.readDecompressed(channel);
+    }
+
+    @Override
+    public WritableByteChannel writeCompressed(WritableByteChannel channel) throws IOException {
+      return BlockCompression.writeSeekableZstd(channel);
+    }
   };
 
   private final String suggestedSuffix;
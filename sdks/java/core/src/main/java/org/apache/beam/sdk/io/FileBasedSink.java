@@ -153,7 +153,13 @@ public abstract class FileBasedSink<UserT, DestinationT, OutputT>
     DEFLATE(Compression.DEFLATE),
 
     /** @see Compression#SNAPPY */
-    SNAPPY(Compression.SNAPPY);
+    SNAPPY(Compression.SNAPPY),
+
+    /** @see Compression#BGZF */
+    BGZF(Compression.BGZF),
+
+    /** @see Compression#ZSTD_SEEKABLE */
+    ZSTD_SEEKABLE(Compression.ZSTD_SEEKABLE);
 
     private final Compression canonical;
 
@@ -208,6 +214,12 @@ public abstract class FileBasedSink<UserT, DestinationT, OutputT>
         case SNAPPY:
           return SNAPPY;
 
+        case BGZF:
+          return BGZF;
+
+        case ZSTD_SEEKABLE:
+          return ZSTD_SEEKABLE;
+
         default:
           throw new UnsupportedOperationException("Unsupported compression type: " + canonical);
       }
@@ -511,6 +523,9 @@ public abstract class FileBasedSink<UserT, DestinationT, OutputT>
     @Experimental(Kind.FILESYSTEM)
     protected boolean windowedWrites;
 
+    /** Whether writers compress and write their output on a background thread. */
+    private boolean asyncWrites;
+
     /** Constructs a temporary file resource given the temporary directory and a filename. */
     @Experimental(Kind.FILESYSTEM)
     protected static ResourceId buildTemporaryFilename(ResourceId tempDirectory, String filename)
@@ -564,6 +579,7 @@ public abstract class FileBasedSink<UserT, DestinationT, OutputT>
       this.sink = sink;
       this.tempDirectory = tempDirectory;
       this.windowedWrites = false;
+      this.asyncWrites = false;
     }
 
     /**
@@ -577,6 +593,16 @@ public abstract class FileBasedSink<UserT, DestinationT, OutputT>
       this.windowedWrites = windowedWrites;
     }
 
+    /**
+     * Indicates that writers should hand their output to a background thread which compresses it
+     * with the sink's {@link WritableByteChannelFactory} and writes it to the temporary file, so
+     * that {@link Writer#write} only blocks when it gets ahead of the file system.
+     */
+    @Experimental(Kind.FILESYSTEM)
+    public void setAsyncWrites(boolean asyncWrites) {
+      this.asyncWrites = asyncWrites;
+    }
+
     /*
      * Remove temporary files after finalization.
      *
@@ -951,6 +977,9 @@ public abstract class FileBasedSink<UserT, DestinationT, OutputT>
       WritableByteChannel tempChannel = FileSystems.create(outputFile, channelMimeType);
       try {
         channel = factory.create(tempChannel);
+        if (getWriteOperation().asyncWrites) {
+          channel = new AsyncWritableByteChannel(channel);
+        }
       } catch (Exception e) {
         // If we have opened the underlying channel but fail to open the compression channel,
         // we should still close the underlying channel.
@@ -995,6 +1024,15 @@ public abstract class FileBasedSink<UserT, DestinationT, OutputT>
     }
 
     public final void cleanup() throws Exception {
+      // Release the channel of a writer which is abandoned without having been closed, which also
+      // skips the buffers of asynchronous writes that have not been written yet.
+      if (channel != null && channel.isOpen()) {
+        try {
+          channel.close();
+        } catch (Exception e) {
+          LOG.warn("Closing channel for {} failed.", outputFile, e);
+        }
+      }
       if (outputFile != null) {
         LOG.info("Deleting temporary file {}", outputFile);
         // outputFile may be null if open() was not called or failed.
@@ -371,6 +371,7 @@ public class FileIO {
         .setCompression(Compression.UNCOMPRESSED)
         .setIgnoreWindowing(false)
         .setNoSpilling(false)
+        .setAsyncWrites(false)
         .build();
   }
 
@@ -384,6 +385,7 @@ public class FileIO {
         .setCompression(Compression.UNCOMPRESSED)
         .setIgnoreWindowing(false)
         .setNoSpilling(false)
+        .setAsyncWrites(false)
         .build();
   }
 
@@ -937,6 +939,8 @@ public class FileIO {
 
     abstract boolean getNoSpilling();
 
+    abstract boolean getAsyncWrites();
+
     abstract Builder<DestinationT, UserT> toBuilder();
 
     @AutoValue.Builder
@@ -983,6 +987,8 @@ public class FileIO {
 
       abstract Builder<DestinationT, UserT> setNoSpilling(boolean noSpilling);
 
+      abstract Builder<DestinationT, UserT> setAsyncWrites(boolean asyncWrites);
+
       abstract Write<DestinationT, UserT> build();
     }
 
@@ -1209,6 +1215,15 @@ public class FileIO {
       return toBuilder().setNoSpilling(true).build();
     }
 
+    /**
+     * See {@link WriteFiles#withAsyncWrites()}. The {@link Sink} still formats elements on the
+     * processing thread, while {@link #withCompression compression} and writing to the file system
+     * are done on a background thread.
+     */
+    public Write<DestinationT, UserT> withAsyncWrites() {
+      return toBuilder().setAsyncWrites(true).build();
+    }
+
     @VisibleForTesting
     Contextful<Fn<DestinationT, FileNaming>> resolveFileNamingFn() {
       if (getDynamic()) {
@@ -1294,6 +1309,7 @@ public class FileIO {
       resolvedSpec.setSharding(getSharding());
       resolvedSpec.setIgnoreWindowing(getIgnoreWindowing());
       resolvedSpec.setNoSpilling(getNoSpilling());
+      resolvedSpec.setAsyncWrites(getAsyncWrites());
 
       Write<DestinationT, UserT> resolved = resolvedSpec.build();
       WriteFiles<UserT, DestinationT, ?> writeFiles =
@@ -1312,6 +1328,9 @@ public class FileIO {
       if (getNoSpilling()) {
         writeFiles = writeFiles.withNoSpilling();
       }
+      if (getAsyncWrites()) {
+        writeFiles = writeFiles.withAsyncWrites();
+      }
       return input.apply(writeFiles);
     }
 
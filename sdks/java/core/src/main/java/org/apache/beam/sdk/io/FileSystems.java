@@ -27,13 +27,21 @@ import java.io.IOException;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -55,6 +63,7 @@ import org.apache.beam.sdk.util.common.ReflectHelpers;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.annotations.VisibleForTesting;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Function;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Joiner;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Throwables;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.FluentIterable;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableMap;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Iterables;
@@ -63,6 +72,7 @@ import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Multimap
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Ordering;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Sets;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.TreeMultimap;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /** Clients facing {@link FileSystem} utility. */
 @Experimental(Kind.FILESYSTEM)
@@ -80,6 +90,11 @@ public class FileSystems {
   private static final AtomicReference<Map<String, FileSystem>> SCHEME_TO_FILESYSTEM =
       new AtomicReference<>(ImmutableMap.of(DEFAULT_SCHEME, new LocalFileSystem()));
 
+  /** The maximum number of glob prefixes matched concurrently. */
+  private static final int MATCH_PARALLELISM = 8;
+
+  private static final ExecutorService MATCH_EXECUTOR = createMatchExecutor();
+
   /** ******************************** METHODS FOR CLIENT ********************************* */
 
   /** Checks whether the given spec contains a glob wildcard character. */
@@ -114,6 +129,10 @@ public class FileSystems {
    * <p>Specs that do not match any resources are treated according to {@link
    * EmptyMatchTreatment#DISALLOW}.
    *
+   * <p>Globs are partitioned by the directory before their first wildcard and the partitions are
+   * matched concurrently. Specs without a glob are matched together, which allows for bulk API
+   * calls to remote filesystems.
+   *
    * @return {@code List<MatchResult>} in the same order of the input specs.
    * @throws IllegalArgumentException if specs are invalid -- empty or have different schemes.
    * @throws IOException if all specs failed to match due to issues like: network connection,
@@ -121,13 +140,13 @@ public class FileSystems {
    *     with {@link MatchResult#metadata()}.
    */
   public static List<MatchResult> match(List<String> specs) throws IOException {
-    return getFileSystemInternal(getOnlyScheme(specs)).match(specs);
+    return matchPartitioned(getFileSystemInternal(getOnlyScheme(specs)), specs);
   }
 
   /** Like {@link #match(List)}, but with a configurable {@link EmptyMatchTreatment}. */
   public static List<MatchResult> match(List<String> specs, EmptyMatchTreatment emptyMatchTreatment)
       throws IOException {
-    List<MatchResult> matches = getFileSystemInternal(getOnlyScheme(specs)).match(specs);
+    List<MatchResult> matches = match(specs);
     List<MatchResult> res = Lists.newArrayListWithExpectedSize(matches.size());
     for (int i = 0; i < matches.size(); i++) {
       res.add(maybeAdjustEmptyMatchResult(specs.get(i), matches.get(i), emptyMatchTreatment));
@@ -158,6 +177,90 @@ public class FileSystems {
     return maybeAdjustEmptyMatchResult(spec, res, emptyMatchTreatment);
   }
 
+  /**
+   * Matches the specs using {@code fileSystem}, matching the globs below each distinct directory
+   * prefix concurrently with each other and with the specs which are not globs.
+   */
+  private static List<MatchResult> matchPartitioned(FileSystem fileSystem, List<String> specs)
+      throws IOException {
+    List<Integer> nonGlobs = new ArrayList<>();
+    Map<String, List<Integer>> globsByPrefix = new LinkedHashMap<>();
+    for (int i = 0; i < specs.size(); i++) {
+      String spec = specs.get(i);
+      if (hasGlobWildcard(spec)) {
+        globsByPrefix.computeIfAbsent(getGlobDirectoryPrefix(spec), k -> new ArrayList<>()).add(i);
+      } else {
+        nonGlobs.add(i);
+      }
+    }
+    List<List<Integer>> partitions = new ArrayList<>(globsByPrefix.values());
+    if (!nonGlobs.isEmpty()) {
+      partitions.add(nonGlobs);
+    }
+    if (partitions.size() <= 1) {
+      return fileSystem.match(specs);
+    }
+
+    List<Future<List<MatchResult>>> futures = new ArrayList<>(partitions.size());
+    for (List<Integer> partition : partitions) {
+      List<String> partitionSpecs = new ArrayList<>(partition.size());
+      for (int index : partition) {
+        partitionSpecs.add(specs.get(index));
+      }
+      futures.add(MATCH_EXECUTOR.submit(() -> fileSystem.match(partitionSpecs)));
+    }
+    MatchResult[] results = new MatchResult[specs.size()];
+    try {
+      for (int i = 0; i < partitions.size(); i++) {
+        List<Integer> partition = partitions.get(i);
+        List<MatchResult> partitionResults = futures.get(i).get();
+        verify(
+            partitionResults.size() == partition.size(),
+            "FileSystem implementation did not return exactly one MatchResult per spec: %s",
+            partitionResults);
+        for (int j = 0; j < partition.size(); j++) {
+          results[partition.get(j)] = partitionResults.get(j);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while matching " + specs, e);
+    } catch (ExecutionException e) {
+      Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IOException(e.getCause());
+    } finally {
+      for (Future<List<MatchResult>> future : futures) {
+        future.cancel(true);
+      }
+    }
+    return Arrays.asList(results);
+  }
+
+  /** Returns the portion of a glob up to the path delimiter preceding its first wildcard. */
+  @VisibleForTesting
+  static String getGlobDirectoryPrefix(String glob) {
+    Matcher matcher = GLOB_PATTERN.matcher(glob);
+    String prefix = matcher.find() ? glob.substring(0, matcher.start()) : glob;
+    return prefix.substring(0, Math.max(prefix.lastIndexOf('/'), prefix.lastIndexOf('\\')) + 1);
+  }
+
+  private static ExecutorService createMatchExecutor() {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            MATCH_PARALLELISM,
+            MATCH_PARALLELISM,
+            1,
+            TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("filesystems-match-%d")
+                .build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   private static MatchResult maybeAdjustEmptyMatchResult(
       String spec, MatchResult res, EmptyMatchTreatment emptyMatchTreatment) throws IOException {
     if (res.status() == Status.NOT_FOUND
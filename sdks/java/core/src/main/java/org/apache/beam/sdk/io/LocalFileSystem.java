@@ -18,7 +18,6 @@
 package org.apache.beam.sdk.io;
 
 import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Preconditions.checkArgument;
-import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.io.Files.fileTraverser;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
@@ -35,21 +34,21 @@ import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 import org.apache.beam.sdk.io.fs.CreateOptions;
 import org.apache.beam.sdk.io.fs.MatchResult;
 import org.apache.beam.sdk.io.fs.MatchResult.Metadata;
 import org.apache.beam.sdk.io.fs.MatchResult.Status;
 import org.apache.beam.sdk.io.fs.MoveOptions;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.annotations.VisibleForTesting;
-import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Predicates;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableList;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Lists;
 import org.apache.commons.lang3.SystemUtils;
@@ -91,6 +90,12 @@ class LocalFileSystem extends FileSystem<LocalResourceId> {
   /** Matches a glob containing a wildcard, capturing the portion before the first wildcard. */
   private static final Pattern GLOB_PREFIX = Pattern.compile("(?<PREFIX>[^\\[*?]*)[\\[*?].*");
 
+  /** Number of directories listed concurrently when matching a glob. */
+  private static final int MATCH_PARALLELISM =
+      Math.max(8, Runtime.getRuntime().availableProcessors());
+
+  private static final ForkJoinPool MATCH_POOL = new ForkJoinPool(MATCH_PARALLELISM);
+
   LocalFileSystem() {}
 
   @Override
@@ -284,16 +289,18 @@ class LocalFileSystem extends FileSystem<LocalResourceId> {
     final PathMatcher matcher =
         java.nio.file.FileSystems.getDefault().getPathMatcher("glob:" + pathToMatch);
 
-    // TODO: Avoid iterating all files: https://issues.apache.org/jira/browse/BEAM-1309
-    Iterable<File> files = fileTraverser().depthFirstPreOrder(parent);
-    Iterable<File> matchedFiles =
-        StreamSupport.stream(files.spliterator(), false)
-            .filter(
-                Predicates.and(
-                        org.apache.beam.vendor.guava.v26_0_jre.com.google.common.io.Files.isFile(),
-                        input -> matcher.matches(input.toPath()))
-                    ::apply)
-            .collect(Collectors.toList());
+    // Each directory below the parent is listed by its own task, so that sibling directories are
+    // listed concurrently. Directories deeper than the glob can match are not listed at all.
+    int maxDepth = getMaxMatchDepth(parent.getAbsolutePath(), absoluteFile.getAbsolutePath());
+    List<File> matchedFiles;
+    if (parent.isDirectory()) {
+      matchedFiles = MATCH_POOL.invoke(new MatchDirectoryTask(parent, 0, maxDepth, matcher));
+    } else {
+      matchedFiles =
+          parent.isFile() && matcher.matches(parent.toPath())
+              ? Collections.singletonList(parent)
+              : Collections.emptyList();
+    }
 
     List<Metadata> result = Lists.newLinkedList();
     for (File match : matchedFiles) {
@@ -331,4 +338,94 @@ class LocalFileSystem extends FileSystem<LocalResourceId> {
     Matcher m = GLOB_PREFIX.matcher(globExp);
     return !m.matches() ? globExp : m.group("PREFIX");
   }
+
+  /**
+   * Returns the number of path components below {@code parent} that files matching {@code glob}
+   * can have, or {@link Integer#MAX_VALUE} if the glob can cross directory boundaries.
+   */
+  @VisibleForTesting
+  static int getMaxMatchDepth(String parent, String glob) {
+    if (!glob.startsWith(parent) || glob.contains("**") || glob.contains("{")) {
+      return Integer.MAX_VALUE;
+    }
+    int depth = 0;
+    boolean inComponent = false;
+    for (int i = parent.length(); i < glob.length(); i++) {
+      boolean isSeparator = glob.charAt(i) == File.separatorChar;
+      if (!isSeparator && !inComponent) {
+        depth++;
+      }
+      inComponent = !isSeparator;
+    }
+    return depth;
+  }
+
+  /** Lists the regular files and directories in the given directory. */
+  private static DirectoryListing listDirectory(File directory) {
+    File[] children = directory.listFiles();
+    List<File> files = new ArrayList<>();
+    List<File> directories = new ArrayList<>();
+    if (children != null) {
+      for (File child : children) {
+        if (child.isDirectory()) {
+          directories.add(child);
+        } else if (child.isFile()) {
+          files.add(child);
+        }
+      }
+    }
+    return new DirectoryListing(files, directories);
+  }
+
+  /** The regular files and directories in a directory. */
+  private static class DirectoryListing {
+    private final List<File> files;
+    private final List<File> directories;
+
+    private DirectoryListing(List<File> files, List<File> directories) {
+      this.files = files;
+      this.directories = directories;
+    }
+  }
+
+  /**
+   * Returns the files in a directory and, up to the maximum depth of the glob, its subdirectories
+   * that match the glob. Subdirectories are matched by concurrent subtasks.
+   */
+  private static class MatchDirectoryTask extends RecursiveTask<List<File>> {
+    private final File directory;
+    private final int depth;
+    private final int maxDepth;
+    private final PathMatcher matcher;
+
+    private MatchDirectoryTask(File directory, int depth, int maxDepth, PathMatcher matcher) {
+      this.directory = directory;
+      this.depth = depth;
+      this.maxDepth = maxDepth;
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected List<File> compute() {
+      DirectoryListing listing = listDirectory(directory);
+      List<File> matched = new ArrayList<>();
+      for (File file : listing.files) {
+        if (matcher.matches(file.toPath())) {
+          matched.add(file);
+        }
+      }
+      // Files in subdirectories are two levels below this directory.
+      if (depth + 2 <= maxDepth && !listing.directories.isEmpty()) {
+        List<MatchDirectoryTask> subtasks = new ArrayList<>(listing.directories.size());
+        for (File subdirectory : listing.directories) {
+          subtasks.add(new MatchDirectoryTask(subdirectory, depth + 1, maxDepth, matcher));
+        }
+        invokeAll(subtasks);
+        for (MatchDirectoryTask subtask : subtasks) {
+          matched.addAll(subtask.join());
+        }
+      }
+      return matched;
+    }
+  }
 }
@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.function.Consumer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation detail of {@link TextSource} and {@link TextBytesSource}.
+ *
+ * <p>Finds the records of a file which are delimited by {@code \n}, {@code \r} or {@code \r\n}, or
+ * by a custom delimiter, by memory mapping windows of the file and scanning them for delimiters
+ * eight bytes at a time. A record which does not fit into a window causes the window to be
+ * remapped at the start of the record, with a larger size if needed.
+ *
+ * <p>Windows are unmapped as soon as they are replaced and when the scanner is closed, rather than
+ * when they are garbage collected, as windows which survive into the old generation would otherwise
+ * hold on to their mappings for a long time.
+ */
+@SuppressWarnings({
+  "nullness" // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
+})
+final class MappedRecordScanner implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(MappedRecordScanner.class);
+
+  /** The default size of the windows in which the file is mapped. */
+  static final int DEFAULT_WINDOW_SIZE = 64 << 20;
+
+  // The largest buffer which can be mapped.
+  private static final long MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+
+  private static final long LOW_BITS = 0x0101010101010101L;
+  private static final long HIGH_BITS = 0x8080808080808080L;
+  private static final long NEWLINES = '\n' * LOW_BITS;
+  private static final long CARRIAGE_RETURNS = '\r' * LOW_BITS;
+
+  private static final @Nullable Consumer<ByteBuffer> UNMAPPER = createUnmapper();
+
+  private final FileChannel channel;
+  private final long fileSize;
+  private final byte @Nullable [] delimiter;
+  private final long firstDelimiterBytes;
+  private final int windowSize;
+
+  private @Nullable ByteBuffer window;
+  private @Nullable ByteBuffer record;
+  private long windowStart;
+  private long windowEnd;
+  private long nextRecordStart;
+
+  MappedRecordScanner(FileChannel channel, byte @Nullable [] delimiter) throws IOException {
+    this(channel, delimiter, DEFAULT_WINDOW_SIZE);
+  }
+
+  MappedRecordScanner(FileChannel channel, byte @Nullable [] delimiter, int windowSize)
+      throws IOException {
+    this.channel = channel;
+    this.fileSize = channel.size();
+    this.delimiter = delimiter;
+    this.firstDelimiterBytes = delimiter == null ? 0 : (delimiter[0] & 0xFF) * LOW_BITS;
+    this.windowSize = windowSize;
+  }
+
+  /**
+   * Finds the bounds of the record starting at the given offset of the file. Returns false if the
+   * offset is at or past the end of the file.
+   */
+  boolean findRecord(long start) throws IOException {
+    if (start >= fileSize) {
+      return false;
+    }
+    if (window == null || start < windowStart || start >= windowEnd) {
+      map(start, start + 1);
+    }
+    long searchFrom = start;
+    while (true) {
+      boolean atEndOfFile = windowEnd == fileSize;
+      int limit = (int) (windowEnd - windowStart);
+      int from = (int) (searchFrom - windowStart);
+      int delimiterStart =
+          delimiter == null ? indexOfLineBreak(from, limit) : indexOfDelimiter(from, limit);
+      int delimiterLength = 0;
+      if (delimiterStart < limit) {
+        delimiterLength = delimiterLength(delimiterStart, limit, atEndOfFile);
+      }
+      if (delimiterLength > 0) {
+        setRecord(start, windowStart + delimiterStart, delimiterLength);
+        return true;
+      }
+      if (atEndOfFile) {
+        setRecord(start, fileSize, 0);
+        return true;
+      }
+      // The window ends within the record or within a candidate delimiter, continue the search
+      // from there in a window which extends further.
+      searchFrom = windowStart + delimiterStart;
+      map(start, windowEnd + 1);
+    }
+  }
+
+  /**
+   * Returns the bytes of the last record found by {@link #findRecord}, between the position and
+   * the limit of the returned buffer. The buffer is only valid until the next call to {@link
+   * #findRecord}.
+   */
+  ByteBuffer getRecord() {
+    return record;
+  }
+
+  /** Returns the offset of the record following the last record found by {@link #findRecord}. */
+  long getNextRecordStart() {
+    return nextRecordStart;
+  }
+
+  private void setRecord(long start, long end, int delimiterLength) {
+    record.limit((int) (end - windowStart));
+    record.position((int) (start - windowStart));
+    nextRecordStart = end + delimiterLength;
+  }
+
+  /** Maps a window of the file from {@code start} which extends at least to {@code end}. */
+  private void map(long start, long end) throws IOException {
+    long size = Math.max(windowSize, 2 * (end - start));
+    if (end - start > MAX_WINDOW_SIZE) {
+      throw new IOException(
+          String.format(
+              "Record at offset %d is longer than the %d bytes which can be mapped at once.",
+              start, MAX_WINDOW_SIZE));
+    }
+    size = Math.min(Math.min(size, MAX_WINDOW_SIZE), fileSize - start);
+    unmap();
+    window = channel.map(MapMode.READ_ONLY, start, size).order(ByteOrder.LITTLE_ENDIAN);
+    record = window.duplicate();
+    windowStart = start;
+    windowEnd = start + size;
+  }
+
+  @Override
+  public void close() {
+    unmap();
+  }
+
+  private void unmap() {
+    if (window != null && UNMAPPER != null) {
+      UNMAPPER.accept(window);
+    }
+    window = null;
+    record = null;
+  }
+
+  /**
+   * Returns a function which releases the mapping of a buffer, or null if this is not supported by
+   * the JVM, in which case mappings are released when their buffers are garbage collected.
+   */
+  private static @Nullable Consumer<ByteBuffer> createUnmapper() {
+    try {
+      // Java 9 and later.
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      Object unsafe = theUnsafe.get(null);
+      return buffer -> invoke(invokeCleaner, unsafe, buffer);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // Fall through to the Java 8 way.
+    }
+    try {
+      Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+      Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+      return buffer -> invoke(clean, invoke(cleaner, buffer));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      LOG.debug("Unable to unmap memory mapped buffers, relying on garbage collection.", e);
+      return null;
+    }
+  }
+
+  private static @Nullable Object invoke(Method method, Object target, Object... args) {
+    try {
+      return method.invoke(target, args);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Unable to unmap a memory mapped buffer.", e);
+    }
+  }
+
+  /**
+   * Returns the length of the delimiter which starts at the given index of the window, or 0 if it
+   * cannot be determined before the end of the window or if there is no delimiter at that index.
+   */
+  private int delimiterLength(int index, int limit, boolean atEndOfFile) {
+    if (delimiter == null) {
+      if (window.get(index) == '\n') {
+        return 1;
+      }
+      if (index + 1 < limit) {
+        return window.get(index + 1) == '\n' ? 2 : 1;
+      }
+      // A \r at the end of the file ends the last record, otherwise the next byte decides.
+      return atEndOfFile ? 1 : 0;
+    }
+    return index + delimiter.length <= limit ? delimiter.length : 0;
+  }
+
+  /** Returns the index of the first {@code \n} or {@code \r} in the window, or {@code limit}. */
+  private int indexOfLineBreak(int from, int limit) {
+    int i = from;
+    for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+      long word = window.getLong(i);
+      long matches = zeroBytes(word ^ NEWLINES) | zeroBytes(word ^ CARRIAGE_RETURNS);
+      if (matches != 0) {
+        return i + (Long.numberOfTrailingZeros(matches) >>> 3);
+      }
+    }
+    for (; i < limit; i++) {
+      byte b = window.get(i);
+      if (b == '\n' || b == '\r') {
+        return i;
+      }
+    }
+    return limit;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the custom delimiter in the window, or of its
+   * first bytes at the end of the window, or {@code limit}.
+   */
+  private int indexOfDelimiter(int from, int limit) {
+    int i = from;
+    while (true) {
+      i = indexOfFirstDelimiterByte(i, limit);
+      if (i == limit || i + delimiter.length > limit || matchesDelimiter(i)) {
+        return i;
+      }
+      i++;
+    }
+  }
+
+  private int indexOfFirstDelimiterByte(int from, int limit) {
+    int i = from;
+    for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+      long matches = zeroBytes(window.getLong(i) ^ firstDelimiterBytes);
+      if (matches != 0) {
+        return i + (Long.numberOfTrailingZeros(matches) >>> 3);
+      }
+    }
+    for (; i < limit; i++) {
+      if (window.get(i) == delimiter[0]) {
+        return i;
+      }
+    }
+    return limit;
+  }
+
+  private boolean matchesDelimiter(int index) {
+    for (int i = 1; i < delimiter.length; i++) {
+      if (window.get(index + i) != delimiter[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns a word with the high bit set in the lowest byte of {@code word} which is zero. Higher
+   * bytes may be flagged spuriously, which is harmless as only the lowest flag is used.
+   */
+  private static long zeroBytes(long word) {
+    return (word - LOW_BITS) & ~word & HIGH_BITS;
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.io;
+
+import java.nio.ByteBuffer;
+import org.apache.beam.sdk.coders.ByteArrayCoder;
+import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.sdk.io.TextSource.AbstractTextBasedReader;
+import org.apache.beam.sdk.io.fs.EmptyMatchTreatment;
+import org.apache.beam.sdk.io.fs.MatchResult;
+import org.apache.beam.sdk.options.PipelineOptions;
+import org.apache.beam.sdk.options.ValueProvider;
+import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
+
+/**
+ * Implementation detail of {@link TextIO.ReadBytes}.
+ *
+ * <p>A {@link FileBasedSource} which splits files into records like {@link TextSource}, but
+ * outputs the bytes of each record rather than decoding them as {@code UTF-8}.
+ */
+@SuppressWarnings({
+  "nullness" // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
+})
+class TextBytesSource extends FileBasedSource<byte[]> {
+  final byte[] delimiter;
+  final boolean memoryMapping;
+
+  TextBytesSource(
+      ValueProvider<String> fileSpec,
+      EmptyMatchTreatment emptyMatchTreatment,
+      byte[] delimiter,
+      boolean memoryMapping) {
+    super(fileSpec, emptyMatchTreatment, 1L);
+    this.delimiter = delimiter;
+    this.memoryMapping = memoryMapping;
+  }
+
+  private TextBytesSource(
+      MatchResult.Metadata metadata,
+      long start,
+      long end,
+      byte[] delimiter,
+      boolean memoryMapping) {
+    super(metadata, 1L, start, end);
+    this.delimiter = delimiter;
+    this.memoryMapping = memoryMapping;
+  }
+
+  @Override
+  protected FileBasedSource<byte[]> createForSubrangeOfFile(
+      MatchResult.Metadata metadata, long start, long end) {
+    return new TextBytesSource(metadata, start, end, delimiter, memoryMapping);
+  }
+
+  @Override
+  protected FileBasedReader<byte[]> createSingleFileReader(PipelineOptions options) {
+    return new TextBytesReader(this, delimiter, memoryMapping);
+  }
+
+  @Override
+  public Coder<byte[]> getOutputCoder() {
+    return ByteArrayCoder.of();
+  }
+
+  /** A {@link FileBasedReader FileBasedReader} which outputs the bytes of each record. */
+  static class TextBytesReader extends AbstractTextBasedReader<byte[]> {
+    private TextBytesReader(TextBytesSource source, byte[] delimiter, boolean memoryMapping) {
+      super(source, delimiter, memoryMapping);
+    }
+
+    @Override
+    protected byte[] decode(ByteString record) {
+      return record.toByteArray();
+    }
+
+    @Override
+    protected byte[] decode(ByteBuffer record) {
+      byte[] bytes = new byte[record.remaining()];
+      record.get(bytes);
+      return bytes;
+    }
+  }
+}
@@ -75,7 +75,9 @@ import org.joda.time.Duration;
  *
  * <p>{@link #read} returns a {@link PCollection} of {@link String Strings}, each corresponding to
  * one line of an input UTF-8 text file (split into lines delimited by '\n', '\r', or '\r\n', or
- * specified delimiter see {@link TextIO.Read#withDelimiter}).
+ * specified delimiter see {@link TextIO.Read#withDelimiter}). {@link #readBytes} returns the
+ * undecoded bytes of each line instead. Large local files can be read with less CPU by memory
+ * mapping them, see {@link TextIO.Read#withMemoryMapping}.
  *
  * <h3>Filepattern expansion and watching</h3>
  *
@@ -194,6 +196,20 @@ public class TextIO {
         .setCompression(Compression.AUTO)
         .setHintMatchesManyFiles(false)
         .setMatchConfiguration(MatchConfiguration.create(EmptyMatchTreatment.DISALLOW))
+        .setMemoryMapping(false)
+        .build();
+  }
+
+  /**
+   * A {@link PTransform} that works like {@link #read}, but returns the bytes of each line rather
+   * than decoding them as {@code UTF-8}. This avoids the cost of decoding for pipelines which parse
+   * the bytes of the lines themselves.
+   */
+  public static ReadBytes readBytes() {
+    return new AutoValue_TextIO_ReadBytes.Builder()
+        .setCompression(Compression.AUTO)
+        .setEmptyMatchTreatment(EmptyMatchTreatment.DISALLOW)
+        .setMemoryMapping(false)
         .build();
   }
 
@@ -230,6 +246,7 @@ public class TextIO {
         // but is not so large as to exhaust a typical runner's maximum amount of output per
         // ProcessElement call.
         .setDesiredBundleSizeBytes(DEFAULT_BUNDLE_SIZE_BYTES)
+        .setMemoryMapping(false)
         .build();
   }
 
@@ -270,6 +287,7 @@ public class TextIO {
         .setWindowedWrites(false)
         .setNumShards(0)
         .setNoSpilling(false)
+        .setAsyncWrites(false)
         .build();
   }
 
@@ -288,6 +306,8 @@ public class TextIO {
     @SuppressWarnings("mutable") // this returns an array that can be mutated by the caller
     abstract byte @Nullable [] getDelimiter();
 
+    abstract boolean getMemoryMapping();
+
     abstract Builder toBuilder();
 
     @AutoValue.Builder
@@ -302,6 +322,8 @@ public class TextIO {
 
       abstract Builder setDelimiter(byte @Nullable [] delimiter);
 
+      abstract Builder setMemoryMapping(boolean memoryMapping);
+
       abstract Read build();
     }
 
@@ -386,6 +408,17 @@ public class TextIO {
       return toBuilder().setDelimiter(delimiter).build();
     }
 
+    /**
+     * Reads uncompressed files of the local file system by memory mapping them rather than reading
+     * them through a buffer, which reduces the CPU cost of finding the lines of large files.
+     *
+     * <p>Files are mapped in windows of at most 64MB, and no line may be longer than 2GB. A file
+     * must not be truncated while it is read.
+     */
+    public Read withMemoryMapping() {
+      return toBuilder().setMemoryMapping(true).build();
+    }
+
     static boolean isSelfOverlapping(byte[] s) {
       // s self-overlaps if v exists such as s = vu = wv with u and w non empty
       for (int i = 1; i < s.length - 1; ++i) {
@@ -404,6 +437,10 @@ public class TextIO {
       }
 
       // All other cases go through FileIO + ReadFiles
+      ReadFiles readFiles = readFiles().withDelimiter(getDelimiter());
+      if (getMemoryMapping()) {
+        readFiles = readFiles.withMemoryMapping();
+      }
       return input
           .apply("Create filepattern", Create.ofProvider(getFilepattern(), StringUtf8Coder.of()))
           .apply("Match All", FileIO.matchAll().withConfiguration(getMatchConfiguration()))
@@ -412,7 +449,7 @@ public class TextIO {
               FileIO.readMatches()
                   .withCompression(getCompression())
                   .withDirectoryTreatment(DirectoryTreatment.PROHIBIT))
-          .apply("Via ReadFiles", readFiles().withDelimiter(getDelimiter()));
+          .apply("Via ReadFiles", readFiles);
     }
 
     // Helper to create a source specific to the requested compression type.
@@ -421,7 +458,8 @@ public class TextIO {
               new TextSource(
                   getFilepattern(),
                   getMatchConfiguration().getEmptyMatchTreatment(),
-                  getDelimiter()))
+                  getDelimiter(),
+                  getMemoryMapping()))
           .withCompression(getCompression());
     }
 
@@ -436,7 +474,115 @@ public class TextIO {
           .include("matchConfiguration", getMatchConfiguration())
           .addIfNotNull(
               DisplayData.item("delimiter", Arrays.toString(getDelimiter()))
-                  .withLabel("Custom delimiter to split records"));
+                  .withLabel("Custom delimiter to split records"))
+          .addIfNotDefault(
+              DisplayData.item("memoryMapping", getMemoryMapping())
+                  .withLabel("Memory map local files"),
+              false);
+    }
+  }
+
+  /////////////////////////////////////////////////////////////////////////////
+
+  /** Implementation of {@link #readBytes}. */
+  @AutoValue
+  public abstract static class ReadBytes extends PTransform<PBegin, PCollection<byte[]>> {
+
+    abstract @Nullable ValueProvider<String> getFilepattern();
+
+    abstract EmptyMatchTreatment getEmptyMatchTreatment();
+
+    abstract Compression getCompression();
+
+    @SuppressWarnings("mutable") // this returns an array that can be mutated by the caller
+    abstract byte @Nullable [] getDelimiter();
+
+    abstract boolean getMemoryMapping();
+
+    abstract Builder toBuilder();
+
+    @AutoValue.Builder
+    abstract static class Builder {
+      abstract Builder setFilepattern(ValueProvider<String> filepattern);
+
+      abstract Builder setEmptyMatchTreatment(EmptyMatchTreatment emptyMatchTreatment);
+
+      abstract Builder setCompression(Compression compression);
+
+      abstract Builder setDelimiter(byte @Nullable [] delimiter);
+
+      abstract Builder setMemoryMapping(boolean memoryMapping);
+
+      abstract ReadBytes build();
+    }
+
+    /** Same as {@link Read#from(String)}. */
+    public ReadBytes from(String filepattern) {
+      checkArgument(filepattern != null, "filepattern can not be null");
+      return from(StaticValueProvider.of(filepattern));
+    }
+
+    /** Same as {@link Read#from(ValueProvider)}. */
+    public ReadBytes from(ValueProvider<String> filepattern) {
+      checkArgument(filepattern != null, "filepattern can not be null");
+      return toBuilder().setFilepattern(filepattern).build();
+    }
+
+    /** Same as {@link Read#withCompression}. */
+    public ReadBytes withCompression(Compression compression) {
+      return toBuilder().setCompression(compression).build();
+    }
+
+    /** Same as {@link Read#withEmptyMatchTreatment}. */
+    public ReadBytes withEmptyMatchTreatment(EmptyMatchTreatment treatment) {
+      return toBuilder().setEmptyMatchTreatment(treatment).build();
+    }
+
+    /** Same as {@link Read#withDelimiter}. */
+    public ReadBytes withDelimiter(byte[] delimiter) {
+      checkArgument(delimiter != null, "delimiter can not be null");
+      checkArgument(!Read.isSelfOverlapping(delimiter), "delimiter must not self-overlap");
+      return toBuilder().setDelimiter(delimiter).build();
+    }
+
+    /** Same as {@link Read#withMemoryMapping}. */
+    public ReadBytes withMemoryMapping() {
+      return toBuilder().setMemoryMapping(true).build();
+    }
+
+    @Override
+    public PCollection<byte[]> expand(PBegin input) {
+      checkNotNull(getFilepattern(), "need to set the filepattern of a TextIO.ReadBytes transform");
+      return input.apply(
+          "Read",
+          org.apache.beam.sdk.io.Read.from(
+              CompressedSource.from(
+                      new TextBytesSource(
+                          getFilepattern(),
+                          getEmptyMatchTreatment(),
+                          getDelimiter(),
+                          getMemoryMapping()))
+                  .withCompression(getCompression())));
+    }
+
+    @Override
+    public void populateDisplayData(DisplayData.Builder builder) {
+      super.populateDisplayData(builder);
+      builder
+          .add(
+              DisplayData.item("compressionType", getCompression().toString())
+                  .withLabel("Compression Type"))
+          .addIfNotNull(DisplayData.item("filePattern", getFilepattern()).withLabel("File Pattern"))
+          .add(
+              DisplayData.item("emptyMatchTreatment", getEmptyMatchTreatment().toString())
+                  .withLabel("Treatment of filepatterns that match no files"))
+          .addIfNotNull(
+              DisplayData.item("delimiter", Arrays.toString(getDelimiter()))
+                  .withLabel("Custom delimiter to split records"))
+          .addIfNotDefault(
+              DisplayData.item("memoryMapping", getMemoryMapping())
+                  .withLabel("Memory map local files"),
+              false);
     }
   }
 
@@ -541,6 +687,8 @@ public class TextIO {
     @SuppressWarnings("mutable") // this returns an array that can be mutated by the caller
     abstract byte @Nullable [] getDelimiter();
 
+    abstract boolean getMemoryMapping();
+
     abstract Builder toBuilder();
 
     @AutoValue.Builder
@@ -549,6 +697,8 @@ public class TextIO {
 
       abstract Builder setDelimiter(byte @Nullable [] delimiter);
 
+      abstract Builder setMemoryMapping(boolean memoryMapping);
+
       abstract ReadFiles build();
     }
 
@@ -562,36 +712,48 @@ public class TextIO {
       return toBuilder().setDelimiter(delimiter).build();
     }
 
+    /** Like {@link Read#withMemoryMapping}. */
+    public ReadFiles withMemoryMapping() {
+      return toBuilder().setMemoryMapping(true).build();
+    }
+
     @Override
     public PCollection<String> expand(PCollection<FileIO.ReadableFile> input) {
       return input.apply(
           "Read all via FileBasedSource",
           new ReadAllViaFileBasedSource<>(
               getDesiredBundleSizeBytes(),
-              new CreateTextSourceFn(getDelimiter()),
+              new CreateTextSourceFn(getDelimiter(), getMemoryMapping()),
               StringUtf8Coder.of()));
     }
 
     @Override
     public void populateDisplayData(DisplayData.Builder builder) {
       super.populateDisplayData(builder);
-      builder.addIfNotNull(
-          DisplayData.item("delimiter", Arrays.toString(getDelimiter()))
-              .withLabel("Custom delimiter to split records"));
+      builder
+          .addIfNotNull(
+              DisplayData.item("delimiter", Arrays.toString(getDelimiter()))
+                  .withLabel("Custom delimiter to split records"))
+          .addIfNotDefault(
+              DisplayData.item("memoryMapping", getMemoryMapping())
+                  .withLabel("Memory map local files"),
+              false);
     }
 
     private static class CreateTextSourceFn
         implements SerializableFunction<String, FileBasedSource<String>> {
       private byte[] delimiter;
+      private boolean memoryMapping;
 
-      private CreateTextSourceFn(byte[] delimiter) {
+      private CreateTextSourceFn(byte[] delimiter, boolean memoryMapping) {
         this.delimiter = delimiter;
+        this.memoryMapping = memoryMapping;
       }
 
       @Override
       public FileBasedSource<String> apply(String input) {
         return new TextSource(
-            StaticValueProvider.of(input), EmptyMatchTreatment.DISALLOW, delimiter);
+            StaticValueProvider.of(input), EmptyMatchTreatment.DISALLOW, delimiter, memoryMapping);
       }
     }
   }
@@ -649,6 +811,9 @@ public class TextIO {
     /** Whether to skip the spilling of data caused by having maxNumWritersPerBundle. */
     abstract boolean getNoSpilling();
 
+    /** Whether to compress and write output on a background thread. */
+    abstract boolean getAsyncWrites();
+
     /**
      * The {@link WritableByteChannelFactory} to be used by the {@link FileBasedSink}. Default is
      * {@link FileBasedSink.CompressionType#UNCOMPRESSED}.
@@ -695,6 +860,8 @@ public class TextIO {
 
       abstract Builder<UserT, DestinationT> setNoSpilling(boolean noSpilling);
 
+      abstract Builder<UserT, DestinationT> setAsyncWrites(boolean asyncWrites);
+
       abstract Builder<UserT, DestinationT> setWritableByteChannelFactory(
           WritableByteChannelFactory writableByteChannelFactory);
 
@@ -904,6 +1071,9 @@ public class TextIO {
     /**
      * Returns a transform for writing to text files like this one but that compresses output using
      * the given {@link Compression}. The default value is {@link Compression#UNCOMPRESSED}.
+     *
+     * <p>Files written with {@link Compression#BGZF} or {@link Compression#ZSTD_SEEKABLE} can be
+     * split when they are read with the same compression.
      */
     public TypedWrite<UserT, DestinationT> withCompression(Compression compression) {
       checkArgument(compression != null, "compression can not be null");
@@ -926,6 +1096,11 @@ public class TextIO {
       return toBuilder().setNoSpilling(true).build();
     }
 
+    /** See {@link WriteFiles#withAsyncWrites()}. */
+    public TypedWrite<UserT, DestinationT> withAsyncWrites() {
+      return toBuilder().setAsyncWrites(true).build();
+    }
+
     private DynamicDestinations<UserT, DestinationT, String> resolveDynamicDestinations() {
       DynamicDestinations<UserT, DestinationT, String> dynamicDestinations =
           getDynamicDestinations();
@@ -1011,6 +1186,9 @@ public class TextIO {
       if (getNoSpilling()) {
         write = write.withNoSpilling();
       }
+      if (getAsyncWrites()) {
+        write = write.withAsyncWrites();
+      }
       return input.apply("WriteFiles", write);
     }
 
@@ -1180,6 +1358,11 @@ public class TextIO {
       return new Write(inner.withNoSpilling());
     }
 
+    /** See {@link TypedWrite#withAsyncWrites}. */
+    public Write withAsyncWrites() {
+      return new Write(inner.withAsyncWrites());
+    }
+
     /**
      * Specify that output filenames are wanted.
      *
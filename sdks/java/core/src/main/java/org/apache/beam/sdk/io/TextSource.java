@@ -21,8 +21,10 @@ import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Prec
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.NoSuchElementException;
 import org.apache.beam.sdk.coders.Coder;
 import org.apache.beam.sdk.coders.StringUtf8Coder;
@@ -46,6 +48,10 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * <p>This source supports reading from any arbitrary byte position within the stream. If the
  * starting position is not {@code 0}, then bytes are skipped until the first delimiter is found
  * representing the beginning of the first record to be decoded.
+ *
+ * <p>If memory mapping is enabled, uncompressed files which are opened as a {@link FileChannel},
+ * i.e. local files, are memory mapped and scanned for delimiters by a {@link MappedRecordScanner}
+ * rather than read through a buffer.
  */
 @VisibleForTesting
 @SuppressWarnings({
@@ -53,27 +59,43 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 })
 class TextSource extends FileBasedSource<String> {
   byte[] delimiter;
+  final boolean memoryMapping;
 
   TextSource(
       ValueProvider<String> fileSpec, EmptyMatchTreatment emptyMatchTreatment, byte[] delimiter) {
+    this(fileSpec, emptyMatchTreatment, delimiter, false);
+  }
+
+  TextSource(
+      ValueProvider<String> fileSpec,
+      EmptyMatchTreatment emptyMatchTreatment,
+      byte[] delimiter,
+      boolean memoryMapping) {
     super(fileSpec, emptyMatchTreatment, 1L);
     this.delimiter = delimiter;
+    this.memoryMapping = memoryMapping;
   }
 
-  private TextSource(MatchResult.Metadata metadata, long start, long end, byte[] delimiter) {
+  private TextSource(
+      MatchResult.Metadata metadata,
+      long start,
+      long end,
+      byte[] delimiter,
+      boolean memoryMapping) {
     super(metadata, 1L, start, end);
     this.delimiter = delimiter;
+    this.memoryMapping = memoryMapping;
   }
 
   @Override
   protected FileBasedSource<String> createForSubrangeOfFile(
       MatchResult.Metadata metadata, long start, long end) {
-    return new TextSource(metadata, start, end, delimiter);
+    return new TextSource(metadata, start, end, delimiter, memoryMapping);
   }
 
   @Override
   protected FileBasedReader<String> createSingleFileReader(PipelineOptions options) {
-    return new TextBasedReader(this, delimiter);
+    return new TextBasedReader(this, delimiter, memoryMapping);
   }
 
   @Override
@@ -83,12 +105,41 @@ class TextSource extends FileBasedSource<String> {
 
   /**
    * A {@link FileBasedReader FileBasedReader} which can decode records delimited by delimiter
-   * characters.
+   * characters into strings.
    *
    * <p>See {@link TextSource} for further details.
    */
   @VisibleForTesting
-  static class TextBasedReader extends FileBasedReader<String> {
+  static class TextBasedReader extends AbstractTextBasedReader<String> {
+    private byte[] mappedRecordBuffer = new byte[0];
+
+    private TextBasedReader(TextSource source, byte[] delimiter, boolean memoryMapping) {
+      super(source, delimiter, memoryMapping);
+    }
+
+    @Override
+    protected String decode(ByteString record) {
+      return record.toStringUtf8();
+    }
+
+    @Override
+    protected String decode(ByteBuffer record) {
+      int length = record.remaining();
+      if (mappedRecordBuffer.length < length) {
+        mappedRecordBuffer = new byte[Math.max(length, 2 * mappedRecordBuffer.length)];
+      }
+      record.get(mappedRecordBuffer, 0, length);
+      return new String(mappedRecordBuffer, 0, length, StandardCharsets.UTF_8);
+    }
+  }
+
+  /**
+   * A {@link FileBasedReader FileBasedReader} which splits the file into records delimited by
+   * delimiter characters, leaving the decoding of the bytes of a record to subclasses.
+   *
+   * <p>See {@link TextSource} for further details.
+   */
+  abstract static class AbstractTextBasedReader<T> extends FileBasedReader<T> {
     private static final int READ_BUFFER_SIZE = 8192;
     private static final ByteString UTF8_BOM =
         ByteString.copyFrom(new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF});
@@ -100,16 +151,29 @@ class TextSource extends FileBasedSource<String> {
     private volatile long startOfNextRecord;
     private volatile boolean eof;
     private volatile boolean elementIsPresent;
-    private @Nullable String currentValue;
+    private @Nullable T currentValue;
     private @Nullable ReadableByteChannel inChannel;
     private byte @Nullable [] delimiter;
+    private final boolean memoryMapping;
+    private @Nullable MappedRecordScanner mappedScanner;
 
-    private TextBasedReader(TextSource source, byte[] delimiter) {
+    protected AbstractTextBasedReader(
+        FileBasedSource<T> source, byte @Nullable [] delimiter, boolean memoryMapping) {
       super(source);
       buffer = ByteString.EMPTY;
       this.delimiter = delimiter;
+      this.memoryMapping = memoryMapping;
     }
 
+    /** Decodes the bytes of a record read through the buffer. */
+    protected abstract T decode(ByteString record);
+
+    /**
+     * Decodes the bytes of a record of a memory mapped file, between the position and the limit of
+     * the given buffer. The buffer is only valid for the duration of the call.
+     */
+    protected abstract T decode(ByteBuffer record);
+
     @Override
     protected long getCurrentOffset() throws NoSuchElementException {
       if (!elementIsPresent) {
@@ -127,7 +191,7 @@ class TextSource extends FileBasedSource<String> {
     }
 
     @Override
-    public String getCurrent() throws NoSuchElementException {
+    public T getCurrent() throws NoSuchElementException {
       if (!elementIsPresent) {
         throw new NoSuchElementException();
       }
@@ -137,6 +201,9 @@ class TextSource extends FileBasedSource<String> {
     @Override
     protected void startReading(ReadableByteChannel channel) throws IOException {
       this.inChannel = channel;
+      if (memoryMapping && channel instanceof FileChannel) {
+        mappedScanner = new MappedRecordScanner((FileChannel) channel, delimiter);
+      }
       // If the first offset is greater than zero, we need to skip bytes until we see our
       // first delimiter.
       long startOffset = getCurrentSource().getStartOffset();
@@ -152,6 +219,13 @@ class TextSource extends FileBasedSource<String> {
           // all the bytes of the delimiter in the call to findDelimiterBounds() below
           requiredPosition = startOffset - delimiter.length;
         }
+        if (mappedScanner != null) {
+          startOfNextRecord =
+              mappedScanner.findRecord(requiredPosition)
+                  ? mappedScanner.getNextRecordStart()
+                  : requiredPosition;
+          return;
+        }
         ((SeekableByteChannel) channel).position(requiredPosition);
         findDelimiterBounds();
         buffer = buffer.substring(endOfDelimiterInBuffer);
@@ -233,6 +307,9 @@ class TextSource extends FileBasedSource<String> {
 
     @Override
     protected boolean readNextRecord() throws IOException {
+      if (mappedScanner != null) {
+        return readNextMappedRecord();
+      }
       startOfRecord = startOfNextRecord;
       findDelimiterBounds();
 
@@ -260,11 +337,48 @@ class TextSource extends FileBasedSource<String> {
       if (startOfRecord == 0 && dataToDecode.startsWith(UTF8_BOM)) {
         dataToDecode = dataToDecode.substring(UTF8_BOM.size());
       }
-      currentValue = dataToDecode.toStringUtf8();
+      currentValue = decode(dataToDecode);
       elementIsPresent = true;
       buffer = buffer.substring(endOfDelimiterInBuffer);
     }
 
+    @Override
+    public void close() throws IOException {
+      if (mappedScanner != null) {
+        mappedScanner.close();
+      }
+      super.close();
+    }
+
+    private boolean readNextMappedRecord() throws IOException {
+      startOfRecord = startOfNextRecord;
+      if (!mappedScanner.findRecord(startOfRecord)) {
+        elementIsPresent = false;
+        return false;
+      }
+      ByteBuffer record = mappedScanner.getRecord();
+      // If present, the UTF8 Byte Order Mark (BOM) will be removed.
+      if (startOfRecord == 0 && startsWithUtf8Bom(record)) {
+        record.position(record.position() + UTF8_BOM.size());
+      }
+      currentValue = decode(record);
+      elementIsPresent = true;
+      startOfNextRecord = mappedScanner.getNextRecordStart();
+      return true;
+    }
+
+    private static boolean startsWithUtf8Bom(ByteBuffer record) {
+      if (record.remaining() < UTF8_BOM.size()) {
+        return false;
+      }
+      for (int i = 0; i < UTF8_BOM.size(); i++) {
+        if (record.get(record.position() + i) != UTF8_BOM.byteAt(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
     /** Returns false if we were unable to ensure the minimum capacity by consuming the channel. */
     private boolean tryToEnsureNumberOfBytesInBuffer(int minCapacity) throws IOException {
       // While we aren't at EOF or haven't fulfilled the minimum buffer capacity,
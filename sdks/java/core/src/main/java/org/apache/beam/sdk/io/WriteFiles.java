@@ -24,6 +24,7 @@ import com.google.auto.value.AutoValue;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -165,6 +166,7 @@ public abstract class WriteFiles<UserT, DestinationT, OutputT>
         .setNumShardsProvider(null)
         .setWindowedWrites(false)
         .setMaxNumWritersPerBundle(DEFAULT_MAX_NUM_WRITERS_PER_BUNDLE)
+        .setAsyncWrites(false)
         .setSideInputs(sink.getDynamicDestinations().getSideInputs())
         .build();
   }
@@ -183,6 +185,8 @@ public abstract class WriteFiles<UserT, DestinationT, OutputT>
 
   abstract int getMaxNumWritersPerBundle();
 
+  public abstract boolean getAsyncWrites();
+
   abstract List<PCollectionView<?>> getSideInputs();
 
   public abstract @Nullable ShardingFunction<UserT, DestinationT> getShardingFunction();
@@ -205,6 +209,8 @@ public abstract class WriteFiles<UserT, DestinationT, OutputT>
     abstract Builder<UserT, DestinationT, OutputT> setMaxNumWritersPerBundle(
         int maxNumWritersPerBundle);
 
+    abstract Builder<UserT, DestinationT, OutputT> setAsyncWrites(boolean asyncWrites);
+
     abstract Builder<UserT, DestinationT, OutputT> setSideInputs(
         List<PCollectionView<?>> sideInputs);
 
@@ -317,6 +323,23 @@ public abstract class WriteFiles<UserT, DestinationT, OutputT>
     return toBuilder().setMaxNumWritersPerBundle(-1).build();
   }
 
+  /**
+   * Returns a new {@link WriteFiles} whose writers compress and write their output on a background
+   * thread.
+   *
+   * <p>Each open writer copies the bytes produced by the sink into one of two buffers and hands
+   * full buffers to a pool of background threads shared by all writers of the worker, which passes
+   * them through the sink's {@link FileBasedSink.WritableByteChannelFactory} (for example,
+   * compression) and writes them to the temporary file. Processing only blocks when a writer fills
+   * both buffers before the file system has accepted the first one. This uses 512KiB of buffers per
+   * open writer and a thread per available processor. Formatting of records is still done on the
+   * processing thread.
+   */
+  @Experimental(Kind.FILESYSTEM)
+  public WriteFiles<UserT, DestinationT, OutputT> withAsyncWrites() {
+    return toBuilder().setAsyncWrites(true).build();
+  }
+
   @Override
   public void validate(PipelineOptions options) {
     getSink().validate(options);
@@ -342,6 +365,7 @@ public abstract class WriteFiles<UserT, DestinationT, OutputT>
     }
     this.writeOperation = getSink().createWriteOperation();
     this.writeOperation.setWindowedWrites(getWindowedWrites());
+    this.writeOperation.setAsyncWrites(getAsyncWrites());
 
     if (!getWindowedWrites()) {
       // Re-window the data into the global window and remove any existing triggers.
@@ -414,6 +438,9 @@ public abstract class WriteFiles<UserT, DestinationT, OutputT>
           DisplayData.item("numShards", getNumShardsProvider())
               .withLabel("Fixed Number of Shards"));
     }
+    if (getAsyncWrites()) {
+      builder.add(DisplayData.item("asyncWrites", true).withLabel("Asynchronous Writes"));
+    }
   }
 
   private DynamicDestinations<UserT, DestinationT, OutputT> getDynamicDestinations() {
@@ -539,6 +566,10 @@ public abstract class WriteFiles<UserT, DestinationT, OutputT>
 
     @StartBundle
     public void startBundle(StartBundleContext c) {
+      // Release the writers of a previous bundle which failed before closing them.
+      if (writers != null) {
+        cleanupWriters(writers.values());
+      }
       // Reset state in case of reuse. We need to make sure that each bundle gets unique writers.
       writers = Maps.newHashMap();
     }
@@ -589,15 +620,19 @@ public abstract class WriteFiles<UserT, DestinationT, OutputT>
 
     @FinishBundle
     public void finishBundle(FinishBundleContext c) throws Exception {
-      for (Map.Entry<WriterKey<DestinationT>, Writer<DestinationT, OutputT>> entry :
-          writers.entrySet()) {
+      Iterator<Map.Entry<WriterKey<DestinationT>, Writer<DestinationT, OutputT>>> iterator =
+          writers.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<WriterKey<DestinationT>, Writer<DestinationT, OutputT>> entry = iterator.next();
+        iterator.remove();
         WriterKey<DestinationT> key = entry.getKey();
         Writer<DestinationT, OutputT> writer = entry.getValue();
         try {
           writer.close();
         } catch (Exception e) {
-          // If anything goes wrong, make sure to delete the temporary file.
+          // If anything goes wrong, make sure to delete the temporary files.
           writer.cleanup();
+          cleanupWriters(writers.values());
           throw e;
         }
         BoundedWindow window = key.window;
@@ -608,6 +643,29 @@ public abstract class WriteFiles<UserT, DestinationT, OutputT>
             window);
       }
     }
+
+    @Teardown
+    public void teardown() {
+      if (writers != null) {
+        cleanupWriters(writers.values());
+      }
+    }
+  }
+
+  /**
+   * Releases the channels and deletes the temporary files of writers which are not going to be
+   * closed, for example because their bundle failed, and forgets about them.
+   */
+  private static <DestinationT, OutputT> void cleanupWriters(
+      Collection<Writer<DestinationT, OutputT>> writers) {
+    for (Writer<DestinationT, OutputT> writer : writers) {
+      try {
+        writer.cleanup();
+      } catch (Exception e) {
+        LOG.warn("Failed to clean up writer for {}", writer.getOutputFile(), e);
+      }
+    }
+    writers.clear();
   }
 
   private static <DestinationT, OutputT> void writeOrClose(
@@ -917,23 +975,29 @@ public abstract class WriteFiles<UserT, DestinationT, OutputT>
       // in this iterable. The number of destinations is generally very small (1000s or less), so
       // there will rarely be hash collisions.
       Map<DestinationT, Writer<DestinationT, OutputT>> writers = Maps.newHashMap();
-      for (UserT input : c.element().getValue()) {
-        DestinationT destination = getDynamicDestinations().getDestination(input);
-        Writer<DestinationT, OutputT> writer = writers.get(destination);
-        if (writer == null) {
-          String uuid = UUID.randomUUID().toString();
-          LOG.info(
-              "Opening writer {} for window {} pane {} destination {}",
-              uuid,
-              window,
-              c.pane(),
-              destination);
-          writer = writeOperation.createWriter();
-          writer.setDestination(destination);
-          writer.open(uuid);
-          writers.put(destination, writer);
+      try {
+        for (UserT input : c.element().getValue()) {
+          DestinationT destination = getDynamicDestinations().getDestination(input);
+          Writer<DestinationT, OutputT> writer = writers.get(destination);
+          if (writer == null) {
+            String uuid = UUID.randomUUID().toString();
+            LOG.info(
+                "Opening writer {} for window {} pane {} destination {}",
+                uuid,
+                window,
+                c.pane(),
+                destination);
+            writer = writeOperation.createWriter();
+            writer.setDestination(destination);
+            writer.open(uuid);
+            writers.put(destination, writer);
+          }
+          writeOrClose(writer, getDynamicDestinations().formatRecord(input));
         }
-        writeOrClose(writer, getDynamicDestinations().formatRecord(input));
+      } catch (Exception e) {
+        // Release the other writers of the element rather than abandoning them.
+        cleanupWriters(writers.values());
+        throw e;
       }
 
       // Close all writers.
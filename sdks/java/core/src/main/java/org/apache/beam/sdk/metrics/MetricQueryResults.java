@@ -18,6 +18,7 @@
 package org.apache.beam.sdk.metrics;
 
 import com.google.auto.value.AutoValue;
+import java.util.Collections;
 import java.util.List;
 import org.apache.beam.sdk.annotations.Experimental;
 import org.apache.beam.sdk.annotations.Experimental.Kind;
@@ -26,7 +27,6 @@ import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Immutabl
 /**
  * The results of a query for metrics. Allows accessing all of the metrics that matched the filter.
  */
-@AutoValue
 @Experimental(Kind.METRICS)
 public abstract class MetricQueryResults {
   /** Return the metric results for the counters that matched the filter. */
@@ -38,6 +38,17 @@ public abstract class MetricQueryResults {
   /** Return the metric results for the gauges that matched the filter. */
   public abstract Iterable<MetricResult<GaugeResult>> getGauges();
 
+  /**
+   * Return the metric results for the quantile distributions that matched the filter. The returned
+   * sketches are snapshots that can be queried for any quantile.
+   *
+   * <p>By default there are no quantile distributions, for results of runners that do not report
+   * them.
+   */
+  public Iterable<MetricResult<QuantileSketch>> getQuantileDistributions() {
+    return Collections.emptyList();
+  }
+
   static <T> void printMetrics(String type, Iterable<MetricResult<T>> metrics, StringBuilder sb) {
     List<MetricResult<T>> metricsList = ImmutableList.copyOf(metrics);
     if (!metricsList.isEmpty()) {
@@ -67,6 +78,7 @@ public abstract class MetricQueryResults {
     printMetrics("Counters", getCounters(), sb);
     printMetrics("Distributions", getDistributions(), sb);
     printMetrics("Gauges", getGauges(), sb);
+    printMetrics("QuantileDistributions", getQuantileDistributions(), sb);
     sb.append(")");
     return sb.toString();
   }
@@ -75,6 +87,22 @@ public abstract class MetricQueryResults {
       Iterable<MetricResult<Long>> counters,
       Iterable<MetricResult<DistributionResult>> distributions,
       Iterable<MetricResult<GaugeResult>> gauges) {
-    return new AutoValue_MetricQueryResults(counters, distributions, gauges);
+    return create(counters, distributions, gauges, ImmutableList.of());
+  }
+
+  public static MetricQueryResults create(
+      Iterable<MetricResult<Long>> counters,
+      Iterable<MetricResult<DistributionResult>> distributions,
+      Iterable<MetricResult<GaugeResult>> gauges,
+      Iterable<MetricResult<QuantileSketch>> quantileDistributions) {
+    return new AutoValue_MetricQueryResults_DefaultMetricQueryResults(
+        counters, distributions, gauges, quantileDistributions);
+  }
+
+  /** The {@link MetricQueryResults} created by {@link #create}. */
+  @AutoValue
+  abstract static class DefaultMetricQueryResults extends MetricQueryResults {
+    @Override
+    public abstract Iterable<MetricResult<QuantileSketch>> getQuantileDistributions();
   }
 }
@@ -80,6 +80,24 @@ public class Metrics {
     return new DelegatingDistribution(MetricName.named(namespace, name));
   }
 
+  /**
+   * Create a metric that records the quantiles of the reported values with a bounded relative
+   * error, and is aggregated by merging the underlying {@link QuantileSketch QuantileSketches}.
+   * Runners which do not support quantile distributions drop the reported values.
+   */
+  public static QuantileDistribution quantileDistribution(String namespace, String name) {
+    return new DelegatingQuantileDistribution(MetricName.named(namespace, name));
+  }
+
+  /**
+   * Create a metric that records the quantiles of the reported values with a bounded relative
+   * error, and is aggregated by merging the underlying {@link QuantileSketch QuantileSketches}.
+   * Runners which do not support quantile distributions drop the reported values.
+   */
+  public static QuantileDistribution quantileDistribution(Class<?> namespace, String name) {
+    return new DelegatingQuantileDistribution(MetricName.named(namespace, name));
+  }
+
   /**
    * Create a metric that can have its new value set, and is aggregated by taking the last reported
    * value.
@@ -128,6 +146,32 @@ public class Metrics {
     }
   }
 
+  /**
+   * Implementation of {@link QuantileDistribution} that delegates to the instance for the current
+   * context.
+   */
+  private static class DelegatingQuantileDistribution
+      implements Metric, QuantileDistribution, Serializable {
+    private final MetricName name;
+
+    private DelegatingQuantileDistribution(MetricName name) {
+      this.name = name;
+    }
+
+    @Override
+    public void update(double value) {
+      MetricsContainer container = MetricsEnvironment.getCurrentContainer();
+      if (container != null) {
+        container.getQuantileDistribution(name).update(value);
+      }
+    }
+
+    @Override
+    public MetricName getName() {
+      return name;
+    }
+  }
+
   /** Implementation of {@link Gauge} that delegates to the instance for the current context. */
   private static class DelegatingGauge implements Metric, Gauge, Serializable {
     private final MetricName name;
@@ -56,6 +56,25 @@ public interface MetricsContainer extends Serializable {
     throw new RuntimeException("Histogram metric is not supported yet.");
   }
 
+  /**
+   * Return the {@link QuantileDistribution} that should be used for implementing the given {@code
+   * metricName} in this container.
+   *
+   * <p>By default the reported values are dropped, so that quantile distributions can be used in
+   * pipelines run by runners which do not support them.
+   */
+  default QuantileDistribution getQuantileDistribution(MetricName metricName) {
+    return new QuantileDistribution() {
+      @Override
+      public void update(double value) {}
+
+      @Override
+      public MetricName getName() {
+        return metricName;
+      }
+    };
+  }
+
   /** Return the cumulative values for any metrics in this container as MonitoringInfos. */
   default Iterable<MetricsApi.MonitoringInfo> getMonitoringInfos() {
     throw new RuntimeException("getMonitoringInfos is not implemented on this MetricsContainer.");
@@ -0,0 +1,387 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.metrics;
+
+import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Preconditions.checkArgument;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+import org.apache.beam.sdk.annotations.Experimental;
+import org.apache.beam.sdk.annotations.Experimental.Kind;
+import org.apache.beam.sdk.util.VarInt;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A mergeable sketch of the distribution of double values which answers quantile queries with a
+ * bounded relative error, following the DDSketch algorithm.
+ *
+ * <p>Values are counted in logarithmically sized bins, so that any value reported for a quantile is
+ * within {@link #getRelativeAccuracy()} of the exact value. The number of bins kept for the positive
+ * and for the negative values is bounded by {@link #getMaxBins()}; once exceeded, the bins of the
+ * values closest to zero are collapsed, trading accuracy of the lowest quantiles for bounded
+ * memory. Sketches with the same relative accuracy can be merged without further loss of accuracy.
+ *
+ * <p>This class is not thread-safe.
+ */
+@Experimental(Kind.METRICS)
+public final class QuantileSketch implements Serializable {
+
+  /** The relative accuracy of sketches created by {@link #create()}. */
+  public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+  /** The maximum number of bins of sketches created by {@link #create()}. */
+  public static final int DEFAULT_MAX_BINS = 2048;
+
+  // Values closer to zero than this are counted as zero.
+  private static final double MIN_INDEXABLE_VALUE = Double.MIN_NORMAL * 2;
+
+  private final double relativeAccuracy;
+  private final int maxBins;
+  private final double gamma;
+  private final double logGamma;
+  private final Bins positiveBins;
+  private final Bins negativeBins;
+  private long zeroCount;
+  private long count;
+  private double sum;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  private QuantileSketch(double relativeAccuracy, int maxBins) {
+    checkArgument(
+        relativeAccuracy > 0 && relativeAccuracy < 1,
+        "The relative accuracy must be in (0, 1), was %s",
+        relativeAccuracy);
+    checkArgument(maxBins > 0, "The maximum number of bins must be positive, was %s", maxBins);
+    this.relativeAccuracy = relativeAccuracy;
+    this.maxBins = maxBins;
+    this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+    this.logGamma = Math.log(gamma);
+    this.positiveBins = new Bins(maxBins);
+    this.negativeBins = new Bins(maxBins);
+  }
+
+  /**
+   * Creates an empty sketch with a relative accuracy of {@link #DEFAULT_RELATIVE_ACCURACY} and at
+   * most {@link #DEFAULT_MAX_BINS} bins, which covers values from nanoseconds to days at a 1%
+   * accuracy.
+   */
+  public static QuantileSketch create() {
+    return create(DEFAULT_RELATIVE_ACCURACY, DEFAULT_MAX_BINS);
+  }
+
+  /** Creates an empty sketch with the given relative accuracy and maximum number of bins. */
+  public static QuantileSketch create(double relativeAccuracy, int maxBins) {
+    return new QuantileSketch(relativeAccuracy, maxBins);
+  }
+
+  /**
+   * Adds a value to this sketch. NaN and infinite values are ignored since they have no place in
+   * the bins, so that a single bad value reported by user code does not fail the bundle.
+   */
+  public void add(double value) {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      return;
+    }
+    if (value >= MIN_INDEXABLE_VALUE) {
+      positiveBins.add(index(value), 1);
+    } else if (value <= -MIN_INDEXABLE_VALUE) {
+      negativeBins.add(index(-value), 1);
+    } else {
+      zeroCount++;
+    }
+    count++;
+    sum += value;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+  }
+
+  /**
+   * Adds all values of {@code other} to this sketch. Both sketches must have the same relative
+   * accuracy.
+   */
+  public void merge(QuantileSketch other) {
+    checkArgument(
+        relativeAccuracy == other.relativeAccuracy,
+        "Cannot merge sketches with relative accuracies %s and %s",
+        relativeAccuracy,
+        other.relativeAccuracy);
+    if (other.count == 0) {
+      return;
+    }
+    positiveBins.addAll(other.positiveBins);
+    negativeBins.addAll(other.negativeBins);
+    zeroCount += other.zeroCount;
+    count += other.count;
+    sum += other.sum;
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+  }
+
+  /** Returns a copy of this sketch. */
+  public QuantileSketch copy() {
+    QuantileSketch copy = new QuantileSketch(relativeAccuracy, maxBins);
+    copy.merge(this);
+    return copy;
+  }
+
+  /** Removes all values from this sketch. */
+  public void clear() {
+    positiveBins.clear();
+    negativeBins.clear();
+    zeroCount = 0;
+    count = 0;
+    sum = 0;
+    min = Double.POSITIVE_INFINITY;
+    max = Double.NEGATIVE_INFINITY;
+  }
+
+  public double getRelativeAccuracy() {
+    return relativeAccuracy;
+  }
+
+  public int getMaxBins() {
+    return maxBins;
+  }
+
+  /** Returns the number of values added to this sketch. */
+  public long getCount() {
+    return count;
+  }
+
+  /** Returns the sum of the values added to this sketch. */
+  public double getSum() {
+    return sum;
+  }
+
+  /** Returns the smallest value added to this sketch, or NaN if it is empty. */
+  public double getMin() {
+    return count == 0 ? Double.NaN : min;
+  }
+
+  /** Returns the largest value added to this sketch, or NaN if it is empty. */
+  public double getMax() {
+    return count == 0 ? Double.NaN : max;
+  }
+
+  /** Returns the mean of the values added to this sketch, or NaN if it is empty. */
+  public double getMean() {
+    return count == 0 ? Double.NaN : sum / count;
+  }
+
+  /**
+   * Returns an estimate of the {@code quantile} of the values added to this sketch, or NaN if it is
+   * empty. For example {@code getQuantile(0.99)} returns the 99th percentile.
+   */
+  public double getQuantile(double quantile) {
+    checkArgument(
+        quantile >= 0 && quantile <= 1, "The quantile must be in [0, 1], was %s", quantile);
+    if (count == 0) {
+      return Double.NaN;
+    }
+    long rank = (long) (quantile * (count - 1));
+    long seen = 0;
+    // Negative values are ordered from the largest magnitude to the smallest.
+    for (int i = negativeBins.counts.length - 1; i >= 0; i--) {
+      seen += negativeBins.counts[i];
+      if (seen > rank) {
+        return clamp(-value(negativeBins.offset + i));
+      }
+    }
+    seen += zeroCount;
+    if (seen > rank) {
+      return clamp(0);
+    }
+    for (int i = 0; i < positiveBins.counts.length; i++) {
+      seen += positiveBins.counts[i];
+      if (seen > rank) {
+        return clamp(value(positiveBins.offset + i));
+      }
+    }
+    return max;
+  }
+
+  private int index(double value) {
+    return (int) Math.ceil(Math.log(value) / logGamma);
+  }
+
+  // The value within the relative accuracy of all values of the bin with the given index.
+  private double value(int index) {
+    return 2 * Math.pow(gamma, index) / (gamma + 1);
+  }
+
+  private double clamp(double value) {
+    return Math.max(min, Math.min(max, value));
+  }
+
+  /**
+   * Encodes this sketch to {@code out} as its relative accuracy and maximum number of bins, its
+   * count, sum, min and max, the number of values counted as zero, and the positive and negative
+   * bins, each as the index of their first bin followed by the counts of the bins.
+   */
+  public void encode(OutputStream out) throws IOException {
+    DataOutputStream dataOut = new DataOutputStream(out);
+    dataOut.writeDouble(relativeAccuracy);
+    VarInt.encode(maxBins, dataOut);
+    VarInt.encode(count, dataOut);
+    dataOut.writeDouble(sum);
+    dataOut.writeDouble(min);
+    dataOut.writeDouble(max);
+    VarInt.encode(zeroCount, dataOut);
+    positiveBins.encode(dataOut);
+    negativeBins.encode(dataOut);
+    dataOut.flush();
+  }
+
+  /** Decodes a sketch encoded by {@link #encode}. */
+  public static QuantileSketch decode(InputStream in) throws IOException {
+    DataInputStream dataIn = new DataInputStream(in);
+    QuantileSketch sketch = new QuantileSketch(dataIn.readDouble(), VarInt.decodeInt(dataIn));
+    sketch.count = VarInt.decodeLong(dataIn);
+    sketch.sum = dataIn.readDouble();
+    sketch.min = dataIn.readDouble();
+    sketch.max = dataIn.readDouble();
+    sketch.zeroCount = VarInt.decodeLong(dataIn);
+    sketch.positiveBins.decode(dataIn);
+    sketch.negativeBins.decode(dataIn);
+    return sketch;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object object) {
+    if (object instanceof QuantileSketch) {
+      QuantileSketch other = (QuantileSketch) object;
+      return relativeAccuracy == other.relativeAccuracy
+          && maxBins == other.maxBins
+          && zeroCount == other.zeroCount
+          && count == other.count
+          && Double.compare(sum, other.sum) == 0
+          && Double.compare(min, other.min) == 0
+          && Double.compare(max, other.max) == 0
+          && positiveBins.equals(other.positiveBins)
+          && negativeBins.equals(other.negativeBins);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(relativeAccuracy, maxBins, count, sum, min, max);
+  }
+
+  @Override
+  public String toString() {
+    if (count == 0) {
+      return "{count: 0}";
+    }
+    return String.format(
+        "{count: %d, min: %f, p50: %f, p99: %f, p999: %f, max: %f}",
+        count, min, getQuantile(0.5), getQuantile(0.99), getQuantile(0.999), max);
+  }
+
+  /**
+   * The counts of a contiguous range of bin indices, collapsing the lowest indices into a single
+   * bin once the range exceeds the maximum number of bins.
+   */
+  private static final class Bins implements Serializable {
+    private final int maxBins;
+    private long[] counts = new long[0];
+    // The bin index of counts[0].
+    private int offset;
+
+    private Bins(int maxBins) {
+      this.maxBins = maxBins;
+    }
+
+    private void add(int index, long count) {
+      if (counts.length == 0) {
+        counts = new long[] {count};
+        offset = index;
+        return;
+      }
+      if (index < offset || index >= offset + counts.length) {
+        extendRange(Math.min(index, offset), Math.max(index, offset + counts.length - 1));
+      }
+      counts[Math.max(index, offset) - offset] += count;
+    }
+
+    private void addAll(Bins other) {
+      for (int i = 0; i < other.counts.length; i++) {
+        if (other.counts[i] != 0) {
+          add(other.offset + i, other.counts[i]);
+        }
+      }
+    }
+
+    private void extendRange(int minIndex, int maxIndex) {
+      // Collapse the lowest bins if the range would exceed the maximum number of bins.
+      int newOffset = Math.max(minIndex, maxIndex - maxBins + 1);
+      long[] newCounts = new long[maxIndex - newOffset + 1];
+      for (int i = 0; i < counts.length; i++) {
+        newCounts[Math.max(offset + i, newOffset) - newOffset] += counts[i];
+      }
+      counts = newCounts;
+      offset = newOffset;
+    }
+
+    private void clear() {
+      counts = new long[0];
+      offset = 0;
+    }
+
+    private void encode(DataOutputStream out) throws IOException {
+      VarInt.encode(counts.length, out);
+      if (counts.length > 0) {
+        VarInt.encode(offset, out);
+        for (long count : counts) {
+          VarInt.encode(count, out);
+        }
+      }
+    }
+
+    private void decode(DataInputStream in) throws IOException {
+      counts = new long[VarInt.decodeInt(in)];
+      if (counts.length > 0) {
+        offset = VarInt.decodeInt(in);
+        for (int i = 0; i < counts.length; i++) {
+          counts[i] = VarInt.decodeLong(in);
+        }
+      }
+    }
+
+    @Override
+    public boolean equals(@Nullable Object object) {
+      if (object instanceof Bins) {
+        Bins other = (Bins) object;
+        return offset == other.offset && Arrays.equals(counts, other.counts);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(offset, Arrays.hashCode(counts));
+    }
+  }
+}
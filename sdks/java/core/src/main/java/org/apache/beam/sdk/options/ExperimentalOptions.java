@@ -38,6 +38,10 @@ public interface ExperimentalOptions extends PipelineOptions {
 
   String STATE_SAMPLING_PERIOD_MILLIS = "state_sampling_period_millis";
 
+  String STATE_SAMPLING_STACKS = "state_sampling_stacks";
+
+  String ELEMENT_LATENCY_SAMPLING_PERIOD = "element_latency_sampling_period";
+
   @Description(
       "[Experimental] Apache Beam provides a number of experimental features that can "
           + "be enabled with this flag. If executing against a managed service, please contact the "
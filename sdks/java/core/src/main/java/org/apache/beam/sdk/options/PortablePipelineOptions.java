@@ -93,6 +93,13 @@ public interface PortablePipelineOptions extends PipelineOptions, FileStagingOpt
 
   void setLoadBalanceBundles(boolean loadBalanceBundles);
 
+  @Description(
+      "Specifies if bundles should be routed to the SDK worker with the fewest outstanding bundles. Unlike loadBalanceBundles, SDK workers process many bundles concurrently over their shared data and state streams instead of one bundle at a time. This option can help for pipelines with many runner tasks per SDK worker, e.g. on task managers with many cores.")
+  @Default.Boolean(false)
+  boolean getLoadAwareBundleRouting();
+
+  void setLoadAwareBundleRouting(boolean loadAwareBundleRouting);
+
   @Description("The output path for the executable file to be created.")
   @Nullable
   String getOutputExecutablePath();
@@ -96,6 +96,117 @@ public interface SdkHarnessOptions extends PipelineOptions {
 
   void setGroupingTableMaxSizeMb(int value);
 
+  /**
+   * Whether grouping tables used to pre-combine elements store their keys and accumulators in
+   * direct memory instead of on the Java heap.
+   *
+   * <p>Off-heap tables are bounded by {@link #getGroupingTableMaxSizeMb()} exactly rather than by
+   * size estimates and do not add to garbage collection pressure, at the cost of encoding and
+   * decoding the accumulator for every input. They are only used for keys with a deterministic
+   * coder. Tables only hold direct memory while a bundle is being processed and return it to a
+   * process wide pool when the bundle finishes, which keeps at most one table's worth of free
+   * memory. The JVM must allow enough direct memory for one table per pre-combine in the bundles
+   * processed concurrently, plus the pool.
+   */
+  @Description(
+      "Whether the grouping tables used to pre-combine elements store keys and accumulators "
+          + "in direct memory instead of on the Java heap.")
+  @Default.Boolean(false)
+  boolean getGroupingTableOffHeap();
+
+  void setGroupingTableOffHeap(boolean value);
+
+  /**
+   * Size (in MB) of the process-wide cache of state fetched from the runner, which is shared
+   * across bundles when the runner supplies cache tokens. If unset, defaults to 100 MB.
+   *
+   * <p>The cache holds both the raw state responses and decoded values of bag user state. Decoded
+   * values are handed to user code directly and must not be mutated.
+   */
+  @Description(
+      "The size (in MB) of the cache of state fetched from the runner which is shared across "
+          + "bundles. Larger values reduce the number of state requests for hot keys and side "
+          + "inputs.")
+  @Default.Integer(100)
+  int getMaxStateCacheSizeMb();
+
+  void setMaxStateCacheSizeMb(int value);
+
+  /**
+   * The maximum number of elements passed to a {@link
+   * org.apache.beam.sdk.transforms.DoFn.ProcessBatch} method at once. If unset, defaults to 100.
+   *
+   * <p>Batches are formed out of the elements of a bundle and are also processed once the bundle
+   * finishes, so smaller bundles produce smaller batches.
+   */
+  @Description(
+      "The maximum number of elements passed to a DoFn's @ProcessBatch method at once. A value "
+          + "of 1 or less disables batch processing.")
+  @Default.Integer(100)
+  int getMaxProcessBatchSize();
+
+  void setMaxProcessBatchSize(int value);
+
+  /**
+   * The maximum number of elements of a bundle awaiting batch processing across all windows. If
+   * unset, defaults to 1000.
+   *
+   * <p>Elements are batched per window, so with many distinct windows most batches stay partial.
+   * Once this limit is reached, the batch that was started first is processed.
+   */
+  @Description(
+      "The maximum number of elements awaiting batch processing by a DoFn's @ProcessBatch method "
+          + "across all windows. Once reached, the batch that was started first is processed.")
+  @Default.Integer(1000)
+  int getMaxPendingBatchElements();
+
+  void setMaxPendingBatchElements(int value);
+
+  /**
+   * The maximum number of idle bundle processors which are cached for each process bundle
+   * descriptor. If unset, the number of cached bundle processors is unbounded.
+   *
+   * <p>Each cached bundle processor holds set up instances of all the DoFns of its descriptor. The
+   * least recently used bundle processors beyond this limit are torn down.
+   */
+  @Description(
+      "The maximum number of idle bundle processors which are cached for each process bundle "
+          + "descriptor. The least recently used bundle processors beyond this limit are torn "
+          + "down.")
+  @Default.Integer(Integer.MAX_VALUE)
+  int getMaxCachedBundleProcessorsPerDescriptor();
+
+  void setMaxCachedBundleProcessorsPerDescriptor(int value);
+
+  /**
+   * The number of seconds after which an idle bundle processor is torn down. If unset, defaults to
+   * 60 seconds.
+   */
+  @Description(
+      "The number of seconds after which a cached bundle processor which has not processed a "
+          + "bundle is torn down.")
+  @Default.Integer(60)
+  int getBundleProcessorIdleTimeoutSecs();
+
+  void setBundleProcessorIdleTimeoutSecs(int value);
+
+  /**
+   * The number of bundle processors which are created for each process bundle descriptor sent
+   * within a {@code RegisterRequest}. If unset, defaults to 0 and bundle processors are only
+   * created when processing a bundle.
+   *
+   * <p>Pre-warming runs the {@link org.apache.beam.sdk.transforms.DoFn.Setup} methods of the
+   * registered DoFns before the first bundle arrives. It has no effect with runners which only
+   * supply process bundle descriptors on demand.
+   */
+  @Description(
+      "The number of bundle processors which are created for each process bundle descriptor "
+          + "registered by the runner ahead of processing any bundles.")
+  @Default.Integer(0)
+  int getPrewarmedBundleProcessorsPerDescriptor();
+
+  void setPrewarmedBundleProcessorsPerDescriptor(int value);
+
   /**
    * Defines a log level override for a specific class, package, or name.
    *
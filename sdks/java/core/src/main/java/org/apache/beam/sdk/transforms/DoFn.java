@@ -746,6 +746,49 @@ public abstract class DoFn<InputT extends @Nullable Object, OutputT extends @Nul
   @Target(ElementType.METHOD)
   public @interface ProcessElement {}
 
+  /**
+   * Annotation for the method to use to process a batch of elements at once, amortizing per element
+   * overhead for vectorizable work such as model inference or bulk RPCs.
+   *
+   * <p>A {@link ProcessBatch} method complements the {@link ProcessElement} method, which is still
+   * required. Runners which support batch processing may form batches out of the elements of a
+   * bundle and invoke the {@link ProcessBatch} method instead of the {@link ProcessElement} method,
+   * other runners keep invoking the {@link ProcessElement} method. Both methods must therefore
+   * produce equivalent outputs.
+   *
+   * <p>All elements of a batch belong to the same window. Each output is emitted with the
+   * timestamp, windows and pane of the input at the same position within the batch.
+   *
+   * <p>The method annotated with {@code @ProcessBatch} must satisfy the following constraints:
+   *
+   * <ul>
+   *   <li>Its first parameter must be a {@code List<InputT>} receiving the elements of the batch.
+   *   <li>It may have a second parameter of type {@link BoundedWindow}, or a subtype of it matching
+   *       the window type of the input, which will be passed the window of the batch.
+   *   <li>It must return a {@code List<OutputT>} containing exactly one output per input element,
+   *       in the same order as the input elements.
+   *   <li>The {@link DoFn} must not be splittable and must not use state or timers.
+   * </ul>
+   *
+   * <pre><code>{@literal new DoFn<Example, Prediction>()} {
+   *   {@literal @ProcessElement}
+   *   public void process({@literal @Element} Example example,
+   *       {@literal OutputReceiver<Prediction>} receiver) {
+   *     receiver.output(model.predict(example));
+   *   }
+   *
+   *   {@literal @ProcessBatch}
+   *   public {@literal List<Prediction>} processBatch({@literal List<Example>} examples) {
+   *     return model.predictAll(examples);
+   *   }
+   * }</code></pre>
+   */
+  @Documented
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target(ElementType.METHOD)
+  @Experimental
+  public @interface ProcessBatch {}
+
   /**
    * Parameter annotation for the input element for {@link ProcessElement}, {@link
    * GetInitialRestriction}, {@link GetSize}, {@link SplitRestriction}, {@link
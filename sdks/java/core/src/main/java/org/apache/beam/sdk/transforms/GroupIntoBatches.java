@@ -23,9 +23,13 @@ import com.google.auto.value.AutoValue;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
 import javax.annotation.Nullable;
 import org.apache.beam.sdk.annotations.Experimental;
 import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.sdk.coders.CoderException;
 import org.apache.beam.sdk.coders.KvCoder;
 import org.apache.beam.sdk.state.BagState;
 import org.apache.beam.sdk.state.CombiningState;
@@ -37,6 +41,7 @@ import org.apache.beam.sdk.state.TimerSpec;
 import org.apache.beam.sdk.state.TimerSpecs;
 import org.apache.beam.sdk.state.ValueState;
 import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
+import org.apache.beam.sdk.util.CoderUtils;
 import org.apache.beam.sdk.util.ShardedKey;
 import org.apache.beam.sdk.util.common.ElementByteSizeObserver;
 import org.apache.beam.sdk.values.KV;
@@ -44,7 +49,9 @@ import org.apache.beam.sdk.values.PCollection;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.annotations.VisibleForTesting;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.MoreObjects;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Preconditions;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.cache.CacheBuilder;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Iterables;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.hash.Hashing;
 import org.joda.time.Duration;
 import org.joda.time.Instant;
 import org.slf4j.Logger;
@@ -119,8 +126,22 @@ public class GroupIntoBatches<K, InputT>
         long batchSizeBytes,
         SerializableFunction<InputT, Long> elementByteSize,
         Duration maxBufferingDuration) {
+      return create(
+          batchSize, batchSizeBytes, elementByteSize, maxBufferingDuration, Duration.ZERO);
+    }
+
+    public static <InputT> BatchingParams<InputT> create(
+        long batchSize,
+        long batchSizeBytes,
+        SerializableFunction<InputT, Long> elementByteSize,
+        Duration maxBufferingDuration,
+        Duration targetBatchProcessingTime) {
       return new AutoValue_GroupIntoBatches_BatchingParams(
-          batchSize, batchSizeBytes, elementByteSize, maxBufferingDuration);
+          batchSize,
+          batchSizeBytes,
+          elementByteSize,
+          maxBufferingDuration,
+          targetBatchProcessingTime);
     }
 
     public abstract long getBatchSize();
@@ -132,6 +153,12 @@ public class GroupIntoBatches<K, InputT>
 
     public abstract Duration getMaxBufferingDuration();
 
+    /**
+     * The time that outputting a batch should take when batch sizes are adapted, or zero if batch
+     * sizes are not adapted. See {@link GroupIntoBatches#withAdaptiveBatchSize}.
+     */
+    public abstract Duration getTargetBatchProcessingTime();
+
     public SerializableFunction<InputT, Long> getWeigher(Coder<InputT> valueCoder) {
       SerializableFunction<InputT, Long> weigher = getElementByteSize();
       if (getBatchSizeBytes() < Long.MAX_VALUE) {
@@ -217,7 +244,38 @@ public class GroupIntoBatches<K, InputT>
             params.getBatchSize(),
             params.getBatchSizeBytes(),
             params.getElementByteSize(),
-            duration));
+            duration,
+            params.getTargetBatchProcessingTime()));
+  }
+
+  /**
+   * Adapts the size of batches to how long it takes to process them, aiming for each batch to be
+   * processed in about {@code targetBatchProcessingTime}. The configured batch size and byte size
+   * are upper bounds.
+   *
+   * <p>The processing time of a batch is the time it takes to output it, which includes the
+   * processing done by downstream transforms that are fused with this one, e.g. a bulk RPC issued
+   * for each batch. Whenever a batch takes longer than the target, batches are made smaller.
+   * Whenever a full batch takes less time than the target, batches are made larger again, up to
+   * the configured limits. Batch sizes are adapted independently by each worker thread, across all
+   * keys it processes.
+   *
+   * <p>If downstream transforms are not fused with this transform, outputting a batch takes
+   * negligible time and batches keep the configured size.
+   */
+  @Experimental
+  public GroupIntoBatches<K, InputT> withAdaptiveBatchSize(Duration targetBatchProcessingTime) {
+    checkArgument(
+        targetBatchProcessingTime != null
+            && targetBatchProcessingTime.isLongerThan(Duration.ZERO),
+        "target batch processing time should be a positive value");
+    return new GroupIntoBatches<>(
+        BatchingParams.create(
+            params.getBatchSize(),
+            params.getBatchSizeBytes(),
+            params.getElementByteSize(),
+            params.getMaxBufferingDuration(),
+            targetBatchProcessingTime));
   }
 
   /**
@@ -228,19 +286,46 @@ public class GroupIntoBatches<K, InputT>
    */
   @Experimental
   public WithShardedKey withShardedKey() {
-    return new WithShardedKey();
+    return new WithShardedKey(false);
   }
 
   public class WithShardedKey
       extends PTransform<
           PCollection<KV<K, InputT>>, PCollection<KV<ShardedKey<K>, Iterable<InputT>>>> {
-    private WithShardedKey() {}
+    private final boolean hotKeySharding;
+
+    private WithShardedKey(boolean hotKeySharding) {
+      this.hotKeySharding = hotKeySharding;
+    }
 
     /** Returns user supplied parameters for batching. */
     public BatchingParams<InputT> getBatchingParams() {
       return params;
     }
 
+    /**
+     * Only spreads keys that are hot over all threads executing the transform, and batches the
+     * elements of all other keys together regardless of the thread that processes them.
+     *
+     * <p>Each worker tracks how often it sees each key across all of its threads. A key is hot
+     * while the worker sees enough elements of the key to fill a batch within the max buffering
+     * duration, in which case each thread's elements of the key form their own shard as with the
+     * default sharding. Elements of other keys share a single shard per key and worker, which
+     * results in fuller batches for keys with few elements. Since a key only uses the shared shard
+     * while it fills less than a batch per buffering duration, the shared shard never receives
+     * more elements than a single shard of the default sharding would.
+     *
+     * <p>Requires a {@link GroupIntoBatches#withMaxBufferingDuration max buffering duration}, which
+     * is also used to flush the batches of shards that a key stops using.
+     */
+    @Experimental
+    public WithShardedKey withHotKeySharding() {
+      checkArgument(
+          params.getMaxBufferingDuration().isLongerThan(Duration.ZERO),
+          "hot key sharding requires a positive max buffering duration");
+      return new WithShardedKey(true);
+    }
+
     @Override
     public PCollection<KV<ShardedKey<K>, Iterable<InputT>>> expand(
         PCollection<KV<K, InputT>> input) {
@@ -251,25 +336,214 @@ public class GroupIntoBatches<K, InputT>
       Coder<K> keyCoder = (Coder<K>) inputCoder.getCoderArguments().get(0);
       Coder<InputT> valueCoder = (Coder<InputT>) inputCoder.getCoderArguments().get(1);
 
-      return input
-          .apply(
-              MapElements.via(
-                  new SimpleFunction<KV<K, InputT>, KV<ShardedKey<K>, InputT>>() {
-                    @Override
-                    public KV<ShardedKey<K>, InputT> apply(KV<K, InputT> input) {
-                      long tid = Thread.currentThread().getId();
-                      ByteBuffer buffer = ByteBuffer.allocate(3 * Long.BYTES);
-                      buffer.putLong(workerUuid.getMostSignificantBits());
-                      buffer.putLong(workerUuid.getLeastSignificantBits());
-                      buffer.putLong(tid);
-                      return KV.of(ShardedKey.of(input.getKey(), buffer.array()), input.getValue());
-                    }
-                  }))
+      PCollection<KV<ShardedKey<K>, InputT>> shardedInput;
+      if (hotKeySharding) {
+        shardedInput =
+            input.apply(
+                ParDo.of(
+                    new HotKeyShardingDoFn<>(
+                        keyCoder,
+                        params.getBatchSize(),
+                        params.getBatchSizeBytes(),
+                        params.getWeigher(valueCoder),
+                        params.getMaxBufferingDuration())));
+      } else {
+        shardedInput =
+            input.apply(
+                MapElements.via(
+                    new SimpleFunction<KV<K, InputT>, KV<ShardedKey<K>, InputT>>() {
+                      @Override
+                      public KV<ShardedKey<K>, InputT> apply(KV<K, InputT> input) {
+                        return KV.of(
+                            ShardedKey.of(input.getKey(), threadShardId()), input.getValue());
+                      }
+                    }));
+      }
+      return shardedInput
           .setCoder(KvCoder.of(ShardedKey.Coder.of(keyCoder), valueCoder))
           .apply(new GroupIntoBatches<>(getBatchingParams()));
     }
   }
 
+  /** Returns a shard id that is unique to the current worker. */
+  private static byte[] workerShardId() {
+    ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES);
+    buffer.putLong(workerUuid.getMostSignificantBits());
+    buffer.putLong(workerUuid.getLeastSignificantBits());
+    return buffer.array();
+  }
+
+  /** Returns a shard id that is unique to the current worker thread. */
+  private static byte[] threadShardId() {
+    long tid = Thread.currentThread().getId();
+    ByteBuffer buffer = ByteBuffer.allocate(3 * Long.BYTES);
+    buffer.putLong(workerUuid.getMostSignificantBits());
+    buffer.putLong(workerUuid.getLeastSignificantBits());
+    buffer.putLong(tid);
+    return buffer.array();
+  }
+
+  /**
+   * Shards the elements of hot keys by worker thread, and puts the elements of all other keys in a
+   * single shard per key and worker. See {@link WithShardedKey#withHotKeySharding}.
+   */
+  private static class HotKeyShardingDoFn<K, InputT>
+      extends DoFn<KV<K, InputT>, KV<ShardedKey<K>, InputT>> {
+    private static final byte[] SHARED_SHARD_ID = workerShardId();
+
+    // Identifies the tracker that all instances of this DoFn on a worker share.
+    private final String trackerId = UUID.randomUUID().toString();
+    private final Coder<K> keyCoder;
+    private final long batchSize;
+    private final long batchSizeBytes;
+    @Nullable private final SerializableFunction<InputT, Long> weigher;
+    private final Duration maxBufferingDuration;
+    private transient HotKeyTracker hotKeyTracker;
+
+    HotKeyShardingDoFn(
+        Coder<K> keyCoder,
+        long batchSize,
+        long batchSizeBytes,
+        @Nullable SerializableFunction<InputT, Long> weigher,
+        Duration maxBufferingDuration) {
+      this.keyCoder = keyCoder;
+      this.batchSize = batchSize;
+      this.batchSizeBytes = batchSizeBytes;
+      this.weigher = weigher;
+      this.maxBufferingDuration = maxBufferingDuration;
+    }
+
+    @Setup
+    public void setup() {
+      hotKeyTracker =
+          HotKeyTracker.shared(
+              trackerId, maxBufferingDuration.getMillis(), batchSize, batchSizeBytes);
+    }
+
+    @ProcessElement
+    public void processElement(
+        @Element KV<K, InputT> element, OutputReceiver<KV<ShardedKey<K>, InputT>> receiver)
+        throws CoderException {
+      int keyHash =
+          Hashing.murmur3_32()
+              .hashBytes(CoderUtils.encodeToByteArray(keyCoder, element.getKey()))
+              .asInt();
+      long byteSize = weigher == null ? 0 : weigher.apply(element.getValue());
+      byte[] shardId =
+          hotKeyTracker.add(keyHash, byteSize, System.currentTimeMillis())
+              ? threadShardId()
+              : SHARED_SHARD_ID;
+      receiver.output(KV.of(ShardedKey.of(element.getKey(), shardId), element.getValue()));
+    }
+  }
+
+  /**
+   * Tracks the number and byte size of the elements seen for each key over the current and the
+   * previous period, using a fixed number of buckets of key hashes to bound memory. Keys that share
+   * a bucket with a hot key are considered hot as well.
+   *
+   * <p>A tracker is safe to use from multiple threads. Concurrent updates at the start of a period
+   * may be attributed to either period, which is fine for detecting hot keys.
+   */
+  @VisibleForTesting
+  static class HotKeyTracker {
+    private static final int NUM_BUCKETS = 4096;
+
+    // Trackers shared by the instances of a DoFn, released once no instance uses them.
+    private static final ConcurrentMap<String, HotKeyTracker> SHARED_TRACKERS =
+        CacheBuilder.newBuilder().weakValues().<String, HotKeyTracker>build().asMap();
+
+    private final long periodMillis;
+    private final long hotCount;
+    private final long hotBytes;
+    // The period of the counts of each bucket, as the number of periods since the epoch.
+    private final AtomicLongArray periods = new AtomicLongArray(NUM_BUCKETS);
+    private final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+    private final AtomicLongArray bytes = new AtomicLongArray(NUM_BUCKETS);
+    private final AtomicLongArray previousCounts = new AtomicLongArray(NUM_BUCKETS);
+    private final AtomicLongArray previousBytes = new AtomicLongArray(NUM_BUCKETS);
+
+    HotKeyTracker(long periodMillis, long hotCount, long hotBytes) {
+      checkArgument(periodMillis > 0, "periodMillis must be positive, was %s", periodMillis);
+      this.periodMillis = periodMillis;
+      this.hotCount = hotCount;
+      this.hotBytes = hotBytes;
+    }
+
+    /** Returns the tracker with the given id in this process, creating it if needed. */
+    static HotKeyTracker shared(String id, long periodMillis, long hotCount, long hotBytes) {
+      return SHARED_TRACKERS.computeIfAbsent(
+          id, unused -> new HotKeyTracker(periodMillis, hotCount, hotBytes));
+    }
+
+    /**
+     * Records an element of the key with the given hash and returns whether the key has had enough
+     * elements to fill a batch in the current or the previous period.
+     */
+    boolean add(int keyHash, long byteSize, long nowMillis) {
+      int bucket = Math.floorMod(keyHash, NUM_BUCKETS);
+      long period = Math.floorDiv(nowMillis, periodMillis);
+      long bucketPeriod = periods.get(bucket);
+      if (bucketPeriod != period && periods.compareAndSet(bucket, bucketPeriod, period)) {
+        long oldCount = counts.getAndSet(bucket, 0);
+        long oldBytes = bytes.getAndSet(bucket, 0);
+        // Nothing was seen in the period before this one unless the bucket was last used then.
+        boolean consecutive = period == bucketPeriod + 1;
+        previousCounts.set(bucket, consecutive ? oldCount : 0);
+        previousBytes.set(bucket, consecutive ? oldBytes : 0);
+      }
+      long count = counts.incrementAndGet(bucket);
+      long byteCount = bytes.addAndGet(bucket, byteSize);
+      return count >= hotCount
+          || byteCount >= hotBytes
+          || previousCounts.get(bucket) >= hotCount
+          || previousBytes.get(bucket) >= hotBytes;
+    }
+  }
+
+  /**
+   * Scales the configured batch limits so that outputting a batch takes about the target time. See
+   * {@link GroupIntoBatches#withAdaptiveBatchSize}.
+   */
+  @VisibleForTesting
+  static class AdaptiveBatchSize {
+    // Bounds on how much a single batch can change the scale, to smooth out outliers.
+    private static final double MIN_STEP = 0.5;
+    private static final double MAX_STEP = 2.0;
+
+    private final long targetNanos;
+    private final double minScale;
+    private double scale = 1.0;
+
+    AdaptiveBatchSize(Duration targetBatchProcessingTime, long batchSize, long batchSizeBytes) {
+      this.targetNanos = TimeUnit.MILLISECONDS.toNanos(targetBatchProcessingTime.getMillis());
+      this.minScale = 1.0 / Math.max(1, Math.min(batchSize, batchSizeBytes));
+    }
+
+    /** Returns the current limit for a configured batch limit. */
+    long limit(long configuredLimit) {
+      if (configuredLimit == Long.MAX_VALUE) {
+        return configuredLimit;
+      }
+      return Math.max(1, (long) (configuredLimit * scale));
+    }
+
+    /**
+     * Updates the scale from the time it took to process a batch. Only batches that were flushed
+     * because they reached the current limit can increase the scale.
+     */
+    void update(long processingNanos, boolean full) {
+      double step =
+          processingNanos <= 0
+              ? MAX_STEP
+              : Math.max(
+                  MIN_STEP, Math.min(MAX_STEP, Math.sqrt((double) targetNanos / processingNanos)));
+      if (step < 1.0 || full) {
+        scale = Math.max(minScale, Math.min(1.0, scale * step));
+      }
+    }
+  }
+
   private static class ByteSizeObserver extends ElementByteSizeObserver {
     private long elementByteSize = 0;
 
@@ -302,6 +576,7 @@ public class GroupIntoBatches<K, InputT>
                 weigher,
                 allowedLateness,
                 params.getMaxBufferingDuration(),
+                params.getTargetBatchProcessingTime(),
                 valueCoder)));
   }
 
@@ -315,6 +590,8 @@ public class GroupIntoBatches<K, InputT>
     @Nullable private final SerializableFunction<InputT, Long> weigher;
     private final Duration allowedLateness;
     private final Duration maxBufferingDuration;
+    private final Duration targetBatchProcessingTime;
+    @Nullable private transient AdaptiveBatchSize adaptiveBatchSize;
 
     // The following timer is no longer set. We maintain the spec for update compatibility.
     private static final String END_OF_WINDOW_ID = "endOFWindow";
@@ -368,12 +645,14 @@ public class GroupIntoBatches<K, InputT>
         @Nullable SerializableFunction<InputT, Long> weigher,
         Duration allowedLateness,
         Duration maxBufferingDuration,
+        Duration targetBatchProcessingTime,
         Coder<InputT> inputValueCoder) {
       this.batchSize = batchSize;
       this.batchSizeBytes = batchSizeBytes;
       this.weigher = weigher;
       this.allowedLateness = allowedLateness;
       this.maxBufferingDuration = maxBufferingDuration;
+      this.targetBatchProcessingTime = targetBatchProcessingTime;
       this.batchSpec = StateSpecs.bag(inputValueCoder);
 
       Combine.BinaryCombineLongFn sumCombineFn =
@@ -411,6 +690,14 @@ public class GroupIntoBatches<K, InputT>
       this.prefetchFrequency = ((batchSize / 5) <= 1) ? Long.MAX_VALUE : (batchSize / 5);
     }
 
+    @Setup
+    public void setup() {
+      if (targetBatchProcessingTime.isLongerThan(Duration.ZERO)) {
+        adaptiveBatchSize =
+            new AdaptiveBatchSize(targetBatchProcessingTime, batchSize, batchSizeBytes);
+      }
+    }
+
     @ProcessElement
     public void processElement(
         @TimerId(END_OF_BUFFERING_ID) Timer bufferingTimer,
@@ -462,8 +749,15 @@ public class GroupIntoBatches<K, InputT>
         batch.readLater();
       }
 
-      if (num >= batchSize
-          || (batchSizeBytes != Long.MAX_VALUE && storedBatchSizeBytes.read() >= batchSizeBytes)) {
+      long maxBatchSize = batchSize;
+      long maxBatchSizeBytes = batchSizeBytes;
+      if (adaptiveBatchSize != null) {
+        maxBatchSize = adaptiveBatchSize.limit(batchSize);
+        maxBatchSizeBytes = adaptiveBatchSize.limit(batchSizeBytes);
+      }
+      if (num >= maxBatchSize
+          || (batchSizeBytes != Long.MAX_VALUE
+              && storedBatchSizeBytes.read() >= maxBatchSizeBytes)) {
         LOG.debug("*** END OF BATCH *** for window {}", window.toString());
         flushBatch(
             receiver,
@@ -472,7 +766,8 @@ public class GroupIntoBatches<K, InputT>
             storedBatchSize,
             storedBatchSizeBytes,
             timerTs,
-            minBufferedTs);
+            minBufferedTs,
+            true);
         bufferingTimer.clear();
       }
     }
@@ -493,7 +788,14 @@ public class GroupIntoBatches<K, InputT>
           timestamp,
           maxBufferingDuration);
       flushBatch(
-          receiver, key, batch, storedBatchSize, storedBatchSizeBytes, timerTs, minBufferedTs);
+          receiver,
+          key,
+          batch,
+          storedBatchSize,
+          storedBatchSizeBytes,
+          timerTs,
+          minBufferedTs,
+          false);
     }
 
     @OnWindowExpiration
@@ -506,7 +808,14 @@ public class GroupIntoBatches<K, InputT>
         @StateId(TIMER_TIMESTAMP) ValueState<Long> timerTs,
         @StateId(MIN_BUFFERED_TS) CombiningState<Long, long[], Long> minBufferedTs) {
       flushBatch(
-          receiver, key, batch, storedBatchSize, storedBatchSizeBytes, timerTs, minBufferedTs);
+          receiver,
+          key,
+          batch,
+          storedBatchSize,
+          storedBatchSizeBytes,
+          timerTs,
+          minBufferedTs,
+          false);
     }
 
     // We no longer set this timer, since OnWindowExpiration takes care of his. However we leave the
@@ -528,7 +837,14 @@ public class GroupIntoBatches<K, InputT>
           timestamp,
           window.toString());
       flushBatch(
-          receiver, key, batch, storedBatchSize, storedBatchSizeBytes, timerTs, minBufferedTs);
+          receiver,
+          key,
+          batch,
+          storedBatchSize,
+          storedBatchSizeBytes,
+          timerTs,
+          minBufferedTs,
+          false);
     }
 
     private void flushBatch(
@@ -538,11 +854,16 @@ public class GroupIntoBatches<K, InputT>
         CombiningState<Long, long[], Long> storedBatchSize,
         CombiningState<Long, long[], Long> storedBatchSizeBytes,
         ValueState<Long> timerTs,
-        CombiningState<Long, long[], Long> minBufferedTs) {
+        CombiningState<Long, long[], Long> minBufferedTs,
+        boolean full) {
       Iterable<InputT> values = batch.read();
       // When the timer fires, batch state might be empty
       if (!Iterables.isEmpty(values)) {
+        long startNanos = System.nanoTime();
         receiver.output(KV.of(key, values));
+        if (adaptiveBatchSize != null) {
+          adaptiveBatchSize.update(System.nanoTime() - startNanos, full);
+        }
       }
       clearState(batch, storedBatchSize, storedBatchSizeBytes, timerTs, minBufferedTs);
       ;
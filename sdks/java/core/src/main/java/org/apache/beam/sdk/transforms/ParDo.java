@@ -20,6 +20,7 @@ package org.apache.beam.sdk.transforms;
 import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Preconditions.checkArgument;
 
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Arrays;
@@ -589,18 +590,32 @@ public class ParDo {
     for (DoFnSignature.OnTimerFamilyMethod method : signature.onTimerFamilyMethods().values()) {
       validateWindowTypeForMethod(actualWindowT, method);
     }
+    if (signature.processBatch() != null) {
+      validateWindowTypeForMethod(
+          actualWindowT,
+          signature.processBatch().targetMethod(),
+          signature.processBatch().windowT());
+    }
   }
 
   private static void validateWindowTypeForMethod(
       TypeDescriptor<? extends BoundedWindow> actualWindowT,
       MethodWithExtraParameters methodSignature) {
-    if (methodSignature.windowT() != null) {
+    validateWindowTypeForMethod(
+        actualWindowT, methodSignature.targetMethod(), methodSignature.windowT());
+  }
+
+  private static void validateWindowTypeForMethod(
+      TypeDescriptor<? extends BoundedWindow> actualWindowT,
+      Method targetMethod,
+      @Nullable TypeDescriptor<? extends BoundedWindow> windowT) {
+    if (windowT != null) {
       checkArgument(
-          methodSignature.windowT().isSupertypeOf(actualWindowT),
+          windowT.isSupertypeOf(actualWindowT),
           "%s unable to provide window -- expected window type from parameter (%s) is not a "
               + "supertype of actual window type assigned by windowing (%s)",
-          methodSignature.targetMethod(),
-          methodSignature.windowT(),
+          targetMethod,
+          windowT,
           actualWindowT);
     }
   }
@@ -120,6 +120,12 @@ import org.slf4j.LoggerFactory;
  * Growth.PollResult#withWatermark} if the {@link Growth.PollFn} can provide a more optimistic
  * estimate.
  *
+ * <p>Outputs are deduplicated against all outputs seen before for the same input, so the state kept
+ * per input grows with the number of outputs. If the {@link Growth.PollFn} assigns the same
+ * timestamp to an output in every poll and reports a watermark, {@link
+ * Growth#withDeduplicationRetention} bounds this state by forgetting outputs which are older than
+ * the watermark by more than the given duration.
+ *
  * <p>Note: This transform works only in runners supporting Splittable DoFn: see <a
  * href="https://beam.apache.org/documentation/runners/capability-matrix/">capability matrix</a>.
  */
@@ -678,6 +684,8 @@ public class Watch {
 
     abstract @Nullable Coder<OutputT> getOutputCoder();
 
+    abstract @Nullable Duration getDeduplicationRetention();
+
     abstract Builder<InputT, OutputT, KeyT> toBuilder();
 
     @AutoValue.Builder
@@ -696,6 +704,8 @@ public class Watch {
 
       abstract Builder<InputT, OutputT, KeyT> setOutputCoder(Coder<OutputT> outputCoder);
 
+      abstract Builder<InputT, OutputT, KeyT> setDeduplicationRetention(Duration retention);
+
       abstract Growth<InputT, OutputT, KeyT> build();
     }
 
@@ -729,6 +739,22 @@ public class Watch {
       return toBuilder().setOutputCoder(outputCoder).build();
     }
 
+    /**
+     * Specifies how far behind the watermark reported by the {@link PollFn} an output is still
+     * deduplicated against outputs of later polls. Older outputs are dropped from the state of the
+     * input and outputs older than that are ignored when returned by later polls.
+     *
+     * <p>This requires the {@link PollFn} to assign the same timestamp to an output in every poll,
+     * otherwise outputs may be emitted again once they were forgotten. By default, all outputs are
+     * deduplicated for as long as the input is watched.
+     */
+    public Growth<InputT, OutputT, KeyT> withDeduplicationRetention(Duration retention) {
+      checkArgument(
+          retention != null && !retention.isShorterThan(Duration.ZERO),
+          "retention must be non-negative");
+      return toBuilder().setDeduplicationRetention(retention).build();
+    }
+
     @Override
     public PCollection<KV<InputT, OutputT>> expand(PCollection<InputT> input) {
       checkNotNull(getPollInterval(), "pollInterval");
@@ -985,7 +1011,13 @@ public class Watch {
       // contain multiple outputs mapping to the same output key - we need to ignore duplicates
       // here already.
       Map<HashCode, TimestampedValue<OutputT>> newPending = Maps.newHashMap();
+      Instant deduplicationCutoff =
+          getDeduplicationCutoff(state.getPollWatermark(), spec.getDeduplicationRetention());
       for (TimestampedValue<OutputT> output : pollResult.getOutputs()) {
+        if (deduplicationCutoff != null && output.getTimestamp().isBefore(deduplicationCutoff)) {
+          // Such outputs may have been output and forgotten already.
+          continue;
+        }
         OutputT value = output.getValue();
         HashCode hash = hash128(value);
         if (state.getCompleted().containsKey(hash) || newPending.containsKey(hash)) {
@@ -994,8 +1026,8 @@ public class Watch {
         // TODO (https://issues.apache.org/jira/browse/BEAM-2680):
         // Consider adding only at most N pending elements and ignoring others,
         // instead relying on future poll rounds to provide them, in order to avoid
-        // blowing up the state. Combined with garbage collection of PollingGrowthState.completed,
-        // this would make the transform scalable to very large poll results.
+        // blowing up the state. Combined with the deduplication retention, this would make the
+        // transform scalable to very large poll results.
         newPending.put(hash, output);
       }
 
@@ -1017,7 +1049,7 @@ public class Watch {
     @NewTracker
     public GrowthTracker<OutputT, TerminationStateT> newTracker(
         @Restriction GrowthState restriction) {
-      return new GrowthTracker<>(restriction, coderFunnel);
+      return new GrowthTracker<>(restriction, coderFunnel, spec.getDeduplicationRetention());
     }
 
     @GetRestrictionCoder
@@ -1028,6 +1060,18 @@ public class Watch {
     }
   }
 
+  /**
+   * Returns the timestamp before which outputs are no longer deduplicated, or {@code null} if all
+   * outputs are.
+   */
+  private static @Nullable Instant getDeduplicationCutoff(
+      @Nullable Instant pollWatermark, @Nullable Duration deduplicationRetention) {
+    if (pollWatermark == null || deduplicationRetention == null) {
+      return null;
+    }
+    return pollWatermark.minus(deduplicationRetention);
+  }
+
   /** A base class for all restrictions related to the {@link Growth} SplittableDoFn. */
   abstract static class GrowthState {}
 
@@ -1071,11 +1115,8 @@ public class Watch {
     }
 
     // Hashes and timestamps of outputs that have already been output and should be omitted
-    // from future polls. Timestamps are preserved to allow garbage-collecting this state
-    // in the future, e.g. dropping elements from "completed" and from
-    // computeNeverSeenBeforeResults() if their timestamp is more than X behind the watermark.
-    // As of writing, we don't do this, but preserve the information for forward compatibility
-    // in case of pipeline update. TODO: do this.
+    // from future polls. With a deduplication retention, outputs whose timestamp is more than the
+    // retention behind the poll watermark are dropped once the next poll result is checkpointed.
     public abstract ImmutableMap<HashCode, Instant> getCompleted();
 
     public abstract @Nullable Instant getPollWatermark();
@@ -1092,6 +1133,8 @@ public class Watch {
 
     // Used to hash values.
     private final Funnel<OutputT> coderFunnel;
+    // How far behind the poll watermark completed outputs are kept, null to keep all of them.
+    private final @Nullable Duration deduplicationRetention;
 
     // non-null after first successful tryClaim()
     private Growth.@Nullable PollResult<OutputT> claimedPollResult;
@@ -1104,8 +1147,16 @@ public class Watch {
     private boolean shouldStop;
 
     GrowthTracker(GrowthState state, Funnel<OutputT> coderFunnel) {
+      this(state, coderFunnel, null);
+    }
+
+    GrowthTracker(
+        GrowthState state,
+        Funnel<OutputT> coderFunnel,
+        @Nullable Duration deduplicationRetention) {
       this.state = state;
       this.coderFunnel = coderFunnel;
+      this.deduplicationRetention = deduplicationRetention;
       this.shouldStop = false;
     }
 
@@ -1137,16 +1188,26 @@ public class Watch {
 
         PollingGrowthState<TerminationStateT> currentState =
             (PollingGrowthState<TerminationStateT>) state;
+        Instant newPollWatermark =
+            Ordering.natural()
+                .nullsFirst()
+                .max(currentState.getPollWatermark(), claimedPollResult.watermark);
+        // The residual is only committed together with the outputs of the claimed poll, so a
+        // retried bundle still starts from the state that remembers the forgotten outputs.
+        Instant deduplicationCutoff =
+            getDeduplicationCutoff(newPollWatermark, deduplicationRetention);
         ImmutableMap.Builder<HashCode, Instant> newCompleted = ImmutableMap.builder();
-        newCompleted.putAll(currentState.getCompleted());
-        newCompleted.putAll(claimedHashes);
+        for (Map<HashCode, Instant> completed :
+            Arrays.asList(currentState.getCompleted(), claimedHashes)) {
+          for (Map.Entry<HashCode, Instant> entry : completed.entrySet()) {
+            if (deduplicationCutoff == null || !entry.getValue().isBefore(deduplicationCutoff)) {
+              newCompleted.put(entry);
+            }
+          }
+        }
         residual =
             PollingGrowthState.of(
-                newCompleted.build(),
-                Ordering.natural()
-                    .nullsFirst()
-                    .max(currentState.getPollWatermark(), claimedPollResult.watermark),
-                claimedTerminationState);
+                newCompleted.build(), newPollWatermark, claimedTerminationState);
         state = NonPollingGrowthState.of(claimedPollResult);
       }
 
@@ -66,6 +66,7 @@ import org.apache.beam.sdk.transforms.splittabledofn.RestrictionTracker.HasProgr
 import org.apache.beam.sdk.transforms.splittabledofn.RestrictionTracker.IsBounded;
 import org.apache.beam.sdk.transforms.splittabledofn.RestrictionTracker.TruncateResult;
 import org.apache.beam.sdk.transforms.splittabledofn.WatermarkEstimator;
+import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
 import org.apache.beam.sdk.transforms.windowing.GlobalWindow;
 import org.apache.beam.sdk.util.UserCodeException;
 import org.apache.beam.sdk.values.TypeDescriptor;
@@ -194,6 +195,8 @@ class ByteBuddyDoFnInvokerFactory implements DoFnInvokerFactory {
 
     private Map<String, OnTimerInvoker> onTimerInvokers = Maps.newHashMap();
     private Map<String, OnTimerInvoker> onTimerFamilyInvokers = Maps.newHashMap();
+    private @Nullable Method processBatchMethod;
+    private boolean processBatchObservesWindow;
 
     public DoFnInvokerBase(DoFnT delegate) {
       this.delegate = delegate;
@@ -222,6 +225,37 @@ class ByteBuddyDoFnInvokerFactory implements DoFnInvokerFactory {
       this.onTimerFamilyInvokers.put(timerFamilyId, onTimerInvoker);
     }
 
+    /**
+     * Associates the {@link DoFn.ProcessBatch} method of the bound {@link DoFn}.
+     *
+     * <p>The method is invoked reflectively rather than through generated code since its cost is
+     * amortized over all elements of a batch.
+     */
+    void setProcessBatchMethod(DoFnSignature.ProcessBatchMethod processBatch) {
+      this.processBatchMethod = processBatch.targetMethod();
+      this.processBatchMethod.setAccessible(true);
+      this.processBatchObservesWindow = processBatch.observesWindow();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<OutputT> invokeProcessBatch(List<InputT> elements, @Nullable BoundedWindow window) {
+      if (processBatchMethod == null) {
+        return DoFnInvoker.super.invokeProcessBatch(elements, window);
+      }
+      try {
+        return (List<OutputT>)
+            (processBatchObservesWindow
+                ? processBatchMethod.invoke(delegate, elements, window)
+                : processBatchMethod.invoke(delegate, elements));
+      } catch (InvocationTargetException e) {
+        throw UserCodeException.wrap(e.getCause());
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException(
+            String.format("Unable to invoke %s", processBatchMethod), e);
+      }
+    }
+
     @Override
     public void invokeOnTimer(
         String timerId,
@@ -275,6 +309,9 @@ class ByteBuddyDoFnInvokerFactory implements DoFnInvokerFactory {
         invoker.addOnTimerFamilyInvoker(
             onTimerFamilyMethod.id(), OnTimerInvokers.forTimerFamily(fn, onTimerFamilyMethod.id()));
       }
+      if (signature.processBatch() != null) {
+        invoker.setProcessBatchMethod(signature.processBatch());
+      }
       return invoker;
     } catch (InstantiationException
         | IllegalAccessException
@@ -17,6 +17,7 @@
  */
 package org.apache.beam.sdk.transforms.reflect;
 
+import java.util.List;
 import org.apache.beam.sdk.annotations.Internal;
 import org.apache.beam.sdk.coders.Coder;
 import org.apache.beam.sdk.coders.CoderRegistry;
@@ -43,6 +44,7 @@ import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
 import org.apache.beam.sdk.transforms.windowing.PaneInfo;
 import org.apache.beam.sdk.values.Row;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.annotations.VisibleForTesting;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.joda.time.Instant;
 
 /**
@@ -77,6 +79,22 @@ public interface DoFnInvoker<InputT, OutputT> {
    */
   DoFn.ProcessContinuation invokeProcessElement(ArgumentProvider<InputT, OutputT> extra);
 
+  /**
+   * Invoke the {@link DoFn.ProcessBatch} method on the bound {@link DoFn}.
+   *
+   * @param elements The elements of the batch.
+   * @param window The window of the batch, only passed on if the method observes the window.
+   * @return The outputs returned by the underlying method, one per element.
+   * @throws UnsupportedOperationException if the bound {@link DoFn} does not define a {@link
+   *     DoFn.ProcessBatch} method.
+   */
+  default List<OutputT> invokeProcessBatch(List<InputT> elements, @Nullable BoundedWindow window) {
+    throw new UnsupportedOperationException(
+        String.format(
+            "%s does not define a @%s method, so its elements must be processed one at a time",
+            getFn().getClass().getName(), DoFn.ProcessBatch.class.getSimpleName()));
+  }
+
   /** Invoke the appropriate {@link DoFn.OnTimer} method on the bound {@link DoFn}. */
   void invokeOnTimer(
       String timerId, String timerFamilyId, ArgumentProvider<InputT, OutputT> arguments);
@@ -75,6 +75,9 @@ public abstract class DoFnSignature {
   /** Details about this {@link DoFn}'s {@link DoFn.ProcessElement} method. */
   public abstract ProcessElementMethod processElement();
 
+  /** Details about this {@link DoFn}'s {@link DoFn.ProcessBatch} method. */
+  public abstract @Nullable ProcessBatchMethod processBatch();
+
   /** Details about the state cells that this {@link DoFn} declares. Immutable. */
   public abstract Map<String, StateDeclaration> stateDeclarations();
 
@@ -164,6 +167,8 @@ public abstract class DoFnSignature {
 
     abstract Builder setProcessElement(ProcessElementMethod processElement);
 
+    abstract Builder setProcessBatch(ProcessBatchMethod processBatch);
+
     abstract Builder setStartBundle(BundleMethod startBundle);
 
     abstract Builder setFinishBundle(BundleMethod finishBundle);
@@ -1116,6 +1121,27 @@ public abstract class DoFnSignature {
     }
   }
 
+  /** Describes a {@link DoFn.ProcessBatch} method. */
+  @AutoValue
+  public abstract static class ProcessBatchMethod implements DoFnMethod {
+    /** The annotated method itself. */
+    @Override
+    public abstract Method targetMethod();
+
+    /** The window type used by this method, if any. */
+    public abstract @Nullable TypeDescriptor<? extends BoundedWindow> windowT();
+
+    /** Whether this method is passed the window of the batch. */
+    public boolean observesWindow() {
+      return windowT() != null;
+    }
+
+    static ProcessBatchMethod create(
+        Method targetMethod, @Nullable TypeDescriptor<? extends BoundedWindow> windowT) {
+      return new AutoValue_DoFnSignature_ProcessBatchMethod(targetMethod, windowT);
+    }
+  }
+
   /** Describes a {@link DoFn.OnWindowExpiration} method. */
   @AutoValue
   public abstract static class OnWindowExpirationMethod implements MethodWithExtraParameters {
@@ -519,6 +519,8 @@ public class DoFnSignatures {
 
     Method processElementMethod =
         findAnnotatedMethod(errors, DoFn.ProcessElement.class, fnClass, true);
+    Method processBatchMethod =
+        findAnnotatedMethod(errors, DoFn.ProcessBatch.class, fnClass, false);
     Method startBundleMethod = findAnnotatedMethod(errors, DoFn.StartBundle.class, fnClass, false);
     Method finishBundleMethod =
         findAnnotatedMethod(errors, DoFn.FinishBundle.class, fnClass, false);
@@ -661,6 +663,26 @@ public class DoFnSignatures {
               errors, fnT, onWindowExpirationMethod, inputT, outputT, fnContext));
     }
 
+    if (processBatchMethod != null) {
+      ErrorReporter processBatchErrors =
+          errors.forMethod(DoFn.ProcessBatch.class, processBatchMethod);
+      processBatchErrors.checkArgument(
+          !processElement.isSplittable(), "Splittable DoFns do not support batch processing");
+      processBatchErrors.checkArgument(
+          fnContext.getStateDeclarations().isEmpty()
+              && fnContext.getTimerDeclarations().isEmpty()
+              && fnContext.getTimerFamilyDeclarations().isEmpty(),
+          "DoFns using state or timers do not support batch processing");
+      signatureBuilder.setProcessBatch(
+          analyzeProcessBatchMethod(
+              processBatchErrors,
+              fnT,
+              processBatchMethod,
+              inputT,
+              outputT,
+              processElement.windowT()));
+    }
+
     if (processElement.isSplittable()) {
       ErrorReporter getInitialRestrictionErrors =
           errors.forMethod(DoFn.GetInitialRestriction.class, getInitialRestrictionMethod);
@@ -1195,6 +1217,55 @@ public class DoFnSignatures {
         m, requiresStableInput, windowT, extraParameters);
   }
 
+  @VisibleForTesting
+  static <InputT, OutputT> DoFnSignature.ProcessBatchMethod analyzeProcessBatchMethod(
+      ErrorReporter errors,
+      TypeDescriptor<? extends DoFn<?, ?>> fnClass,
+      Method m,
+      TypeDescriptor<InputT> inputT,
+      TypeDescriptor<OutputT> outputT,
+      @Nullable TypeDescriptor<? extends BoundedWindow> processElementWindowT) {
+    TypeDescriptor<List<OutputT>> expectedReturnT = TypeDescriptors.lists(outputT);
+    errors.checkArgument(
+        fnClass.resolveType(m.getGenericReturnType()).equals(expectedReturnT),
+        "Must return %s",
+        format(expectedReturnT));
+
+    Type[] params = m.getGenericParameterTypes();
+    errors.checkArgument(
+        params.length == 1 || params.length == 2,
+        "Must have a batch parameter optionally followed by a window parameter");
+
+    TypeDescriptor<List<InputT>> expectedBatchT = TypeDescriptors.lists(inputT);
+    errors.checkArgument(
+        fnClass.resolveType(params[0]).equals(expectedBatchT),
+        "The first parameter must have type %s",
+        format(expectedBatchT));
+
+    @Nullable TypeDescriptor<? extends BoundedWindow> windowT = null;
+    if (params.length == 2) {
+      TypeDescriptor<?> paramT = fnClass.resolveType(params[1]);
+      errors.checkArgument(
+          BoundedWindow.class.isAssignableFrom(paramT.getRawType()),
+          "The second parameter must be a %s",
+          format(BoundedWindow.class));
+      windowT = (TypeDescriptor<? extends BoundedWindow>) paramT;
+      // The batch holds elements that would otherwise be passed to the @ProcessElement method, so
+      // it must accept any window that method accepts.
+      if (processElementWindowT != null) {
+        errors.checkArgument(
+            windowT.isSupertypeOf(processElementWindowT),
+            "The window parameter has type %s, which is not a supertype of the window type %s of"
+                + " the @%s method",
+            format(windowT),
+            format(processElementWindowT),
+            format(DoFn.ProcessElement.class));
+      }
+    }
+
+    return DoFnSignature.ProcessBatchMethod.create(m, windowT);
+  }
+
   @VisibleForTesting
   static DoFnSignature.ProcessElementMethod analyzeProcessElementMethod(
       ErrorReporter errors,
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.util;
+
+import java.io.EOFException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import org.apache.beam.sdk.annotations.Internal;
+
+/**
+ * {@link InputStream} over a {@link ByteBuffer} that allows accessing the remaining bytes of the
+ * buffer without copying.
+ *
+ * <p>Coders which are aware of this stream may decode directly from the views returned by {@link
+ * #readBuffer}. The views share their content with the wrapped buffer and must not be modified.
+ */
+@Internal
+public class ExposedByteBufferInputStream extends InputStream {
+
+  private final ByteBuffer buffer;
+
+  /** Creates a stream over the remaining bytes of {@code buffer}. */
+  public ExposedByteBufferInputStream(ByteBuffer buffer) {
+    this.buffer = buffer.slice();
+    this.buffer.mark();
+  }
+
+  /**
+   * Returns a view of the next {@code length} bytes and advances the stream past them.
+   *
+   * @throws EOFException if fewer than {@code length} bytes remain
+   */
+  public ByteBuffer readBuffer(int length) throws EOFException {
+    if (length < 0 || length > buffer.remaining()) {
+      throw new EOFException(
+          String.format(
+              "Attempted to read %s bytes with only %s bytes remaining.",
+              length, buffer.remaining()));
+    }
+    ByteBuffer view = buffer.slice();
+    view.limit(length);
+    buffer.position(buffer.position() + length);
+    return view;
+  }
+
+  /** Returns a view of all remaining bytes and advances the stream to its end. */
+  public ByteBuffer readAll() {
+    ByteBuffer view = buffer.slice();
+    buffer.position(buffer.limit());
+    return view;
+  }
+
+  @Override
+  public int read() {
+    if (!buffer.hasRemaining()) {
+      return -1;
+    }
+    return buffer.get() & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) {
+    if (len == 0) {
+      return 0;
+    }
+    if (!buffer.hasRemaining()) {
+      return -1;
+    }
+    int count = Math.min(len, buffer.remaining());
+    buffer.get(b, off, count);
+    return count;
+  }
+
+  @Override
+  public long skip(long n) {
+    int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+    buffer.position(buffer.position() + count);
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return buffer.remaining();
+  }
+
+  @Override
+  public boolean markSupported() {
+    return true;
+  }
+
+  @Override
+  public synchronized void mark(int readlimit) {
+    buffer.mark();
+  }
+
+  @Override
+  public synchronized void reset() {
+    buffer.reset();
+  }
+}
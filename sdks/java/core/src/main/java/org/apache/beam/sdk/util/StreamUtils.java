@@ -22,6 +22,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
 import org.apache.beam.sdk.annotations.Internal;
 
 /** Utility functions for stream operations. */
@@ -42,6 +43,12 @@ public class StreamUtils {
     if (stream instanceof ExposedByteArrayInputStream) {
       // Fast path for the exposed version.
       return ((ExposedByteArrayInputStream) stream).readAll();
+    } else if (stream instanceof ExposedByteBufferInputStream) {
+      // Fast path for the exposed buffer version, copying the remaining bytes at once.
+      ByteBuffer remaining = ((ExposedByteBufferInputStream) stream).readAll();
+      byte[] ret = new byte[remaining.remaining()];
+      remaining.get(ret);
+      return ret;
     } else if (stream instanceof ByteArrayInputStream) {
       // Fast path for ByteArrayInputStream.
       byte[] ret = new byte[stream.available()];
@@ -22,11 +22,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import org.apache.beam.sdk.testing.CoderProperties;
 import org.apache.beam.sdk.transforms.windowing.GlobalWindow;
 import org.apache.beam.sdk.util.CoderUtils;
+import org.apache.beam.sdk.util.ExposedByteBufferInputStream;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableList;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -128,4 +131,21 @@ public class LengthPrefixCoderTest {
     assertArrayEquals(userEncoded, reencodedBytes);
     assertEquals(22L, userDecoded);
   }
+
+  @Test
+  public void testDecodeFromExposedByteBuffer() throws Exception {
+    Coder<String> coder = LengthPrefixCoder.of(StringUtf8Coder.of());
+    List<String> values = Arrays.asList("", "a", "hello", "スタリング");
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    for (String value : values) {
+      coder.encode(value, outputStream);
+    }
+
+    ExposedByteBufferInputStream inputStream =
+        new ExposedByteBufferInputStream(ByteBuffer.wrap(outputStream.toByteArray()));
+    for (String value : values) {
+      assertEquals(value, coder.decode(inputStream));
+    }
+    assertEquals(0, inputStream.available());
+  }
 }
@@ -19,11 +19,16 @@ package org.apache.beam.sdk.coders;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertEquals;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import org.apache.beam.sdk.testing.CoderProperties;
 import org.apache.beam.sdk.util.CoderUtils;
+import org.apache.beam.sdk.util.ExposedByteBufferInputStream;
 import org.apache.beam.sdk.values.TypeDescriptor;
 import org.junit.Rule;
 import org.junit.Test;
@@ -54,6 +59,32 @@ public class StringUtf8CoderTest {
     }
   }
 
+  @Test
+  public void testDecodeFromExposedByteBuffer() throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    for (String value : TEST_VALUES) {
+      TEST_CODER.encode(value, outputStream);
+    }
+    byte[] encoded = outputStream.toByteArray();
+    ByteBuffer direct = ByteBuffer.allocateDirect(encoded.length);
+    direct.put(encoded);
+    direct.flip();
+
+    for (ByteBuffer buffer : Arrays.asList(ByteBuffer.wrap(encoded), direct)) {
+      ExposedByteBufferInputStream inputStream = new ExposedByteBufferInputStream(buffer);
+      for (String value : TEST_VALUES) {
+        assertEquals(value, TEST_CODER.decode(inputStream));
+      }
+      assertEquals(0, inputStream.available());
+    }
+
+    byte[] wholeStream = "スタリング".getBytes(StandardCharsets.UTF_8);
+    assertEquals(
+        "スタリング",
+        TEST_CODER.decode(
+            new ExposedByteBufferInputStream(ByteBuffer.wrap(wholeStream)), Coder.Context.OUTER));
+  }
+
   /**
    * Generated data to check that the wire format has not changed. To regenerate, see {@link
    * org.apache.beam.sdk.coders.PrintBase64Encodings}.
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.io;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link AsyncWritableByteChannel}. */
+@RunWith(JUnit4.class)
+public class AsyncWritableByteChannelTest {
+  @Rule public ExpectedException thrown = ExpectedException.none();
+
+  /** A channel recording the written bytes and whether it was closed. */
+  private static class RecordingChannel implements WritableByteChannel {
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final WritableByteChannel delegate = Channels.newChannel(bytes);
+    private boolean closed;
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+      return delegate.write(src);
+    }
+
+    @Override
+    public boolean isOpen() {
+      return !closed;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+
+  @Test
+  public void testWritesAllBytesInOrder() throws Exception {
+    byte[] data = new byte[10000];
+    new Random(0).nextBytes(data);
+    RecordingChannel delegate = new RecordingChannel();
+    AsyncWritableByteChannel channel = new AsyncWritableByteChannel(delegate, 64, 3);
+
+    Random random = new Random(1);
+    int position = 0;
+    while (position < data.length) {
+      // Writes both smaller and larger than a buffer.
+      int length = Math.min(data.length - position, random.nextInt(200));
+      ByteBuffer src = ByteBuffer.wrap(data, position, length);
+      assertEquals(length, channel.write(src));
+      assertFalse(src.hasRemaining());
+      position += length;
+    }
+    channel.close();
+
+    assertFalse(channel.isOpen());
+    assertTrue(delegate.closed);
+    assertArrayEquals(data, delegate.bytes.toByteArray());
+  }
+
+  @Test
+  public void testCloseWithoutWrites() throws Exception {
+    RecordingChannel delegate = new RecordingChannel();
+    AsyncWritableByteChannel channel = new AsyncWritableByteChannel(delegate);
+    channel.close();
+    channel.close();
+
+    assertTrue(delegate.closed);
+    assertEquals(0, delegate.bytes.size());
+  }
+
+  @Test
+  public void testWriteAfterClose() throws Exception {
+    AsyncWritableByteChannel channel = new AsyncWritableByteChannel(new RecordingChannel());
+    channel.close();
+
+    thrown.expect(ClosedChannelException.class);
+    channel.write(ByteBuffer.allocate(1));
+  }
+
+  @Test
+  public void testBlocksWhenAheadOfDelegate() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingChannel delegate =
+        new RecordingChannel() {
+          @Override
+          public int write(ByteBuffer src) throws IOException {
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              throw new IOException(e);
+            }
+            return super.write(src);
+          }
+        };
+    AsyncWritableByteChannel channel = new AsyncWritableByteChannel(delegate, 4, 2);
+
+    // Fills both buffers while the delegate is blocked on the first one.
+    channel.write(ByteBuffer.wrap(new byte[8]));
+    Thread writer =
+        new Thread(
+            () -> {
+              try {
+                channel.write(ByteBuffer.wrap(new byte[1]));
+              } catch (IOException e) {
+                throw new RuntimeException(e);
+              }
+            });
+    writer.start();
+    writer.join(100);
+    assertTrue("Write should wait for a free buffer", writer.isAlive());
+
+    release.countDown();
+    writer.join();
+    channel.close();
+    assertEquals(9, delegate.bytes.size());
+  }
+
+  @Test
+  public void testAbandonedChannelHoldsNoThread() throws Exception {
+    RecordingChannel delegate = new RecordingChannel();
+    AsyncWritableByteChannel channel = new AsyncWritableByteChannel(delegate, 64, 2);
+    channel.write(ByteBuffer.wrap(new byte[100]));
+
+    // The full buffer is written without the channel being closed, after which no background work
+    // remains for the channel.
+    channel.getPendingWrites().get();
+    assertEquals(64, delegate.bytes.size());
+    // The delegate belongs to the abandoned writer and is not closed in the background.
+    assertTrue(delegate.isOpen());
+  }
+
+  @Test
+  public void testManyChannelsShareTheBackgroundThreads() throws Exception {
+    List<RecordingChannel> delegates = new ArrayList<>();
+    List<AsyncWritableByteChannel> channels = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      RecordingChannel delegate = new RecordingChannel();
+      AsyncWritableByteChannel channel = new AsyncWritableByteChannel(delegate, 4, 2);
+      channel.write(ByteBuffer.wrap(new byte[9]));
+      delegates.add(delegate);
+      channels.add(channel);
+    }
+    for (AsyncWritableByteChannel channel : channels) {
+      channel.close();
+    }
+    for (RecordingChannel delegate : delegates) {
+      assertEquals(9, delegate.bytes.size());
+      assertTrue(delegate.closed);
+    }
+    assertThat(
+        Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().startsWith("file-based-sink-writer-"))
+            .count(),
+        lessThanOrEqualTo((long) Math.max(2, Runtime.getRuntime().availableProcessors())));
+  }
+
+  @Test
+  public void testDelegateFailureIsRethrown() throws Exception {
+    IOException failure = new IOException("out of space");
+    RecordingChannel delegate =
+        new RecordingChannel() {
+          @Override
+          public int write(ByteBuffer src) throws IOException {
+            throw failure;
+          }
+        };
+    AsyncWritableByteChannel channel = new AsyncWritableByteChannel(delegate, 4, 2);
+
+    try {
+      // The third buffer can only be taken after the delegate failed on the first one.
+      for (int i = 0; i < 3; i++) {
+        channel.write(ByteBuffer.wrap(new byte[4]));
+      }
+      fail("Expected the delegate failure to be rethrown");
+    } catch (IOException e) {
+      assertThat(e.getMessage(), containsString("Background write failed"));
+      assertSame(failure, e.getCause());
+    }
+    try {
+      channel.close();
+      fail("Expected the delegate failure to be rethrown");
+    } catch (IOException e) {
+      assertSame(failure, e.getCause());
+    }
+    assertFalse(channel.isOpen());
+    assertTrue(delegate.closed);
+  }
+}
@@ -35,6 +35,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -49,6 +50,7 @@ import org.apache.beam.sdk.coders.SerializableCoder;
 import org.apache.beam.sdk.io.BoundedSource.BoundedReader;
 import org.apache.beam.sdk.io.CompressedSource.CompressedReader;
 import org.apache.beam.sdk.io.FileBasedSource.FileBasedReader;
+import org.apache.beam.sdk.io.fs.EmptyMatchTreatment;
 import org.apache.beam.sdk.io.fs.MatchResult.Metadata;
 import org.apache.beam.sdk.options.PipelineOptions;
 import org.apache.beam.sdk.options.PipelineOptionsFactory;
@@ -57,7 +59,9 @@ import org.apache.beam.sdk.testing.SourceTestUtils;
 import org.apache.beam.sdk.transforms.display.DisplayData;
 import org.apache.beam.sdk.util.LzoCompression;
 import org.apache.beam.sdk.values.KV;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Strings;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.HashMultiset;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Iterables;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Lists;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Sets;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.io.Files;
@@ -79,6 +83,7 @@ import org.junit.runners.JUnit4;
 /** Tests for CompressedSource. */
 @RunWith(JUnit4.class)
 public class CompressedSourceTest {
+  private static final int FRAME_INPUT_SIZE = 7;
 
   private final double delta = 1e-6;
 
@@ -168,6 +173,10 @@ public class CompressedSourceTest {
     source = CompressedSource.from(new ByteSource("input.SNAPPY", 1));
     assertFalse(source.isSplittable());
 
+    // BGZF files are splittable
+    source = CompressedSource.from(new ByteSource("input.bgz", 1));
+    assertTrue(source.isSplittable());
+
     // Other extensions are assumed to be splittable.
     source = CompressedSource.from(new ByteSource("input.txt", 1));
     assertTrue(source.isSplittable());
@@ -718,6 +727,93 @@ public class CompressedSourceTest {
     assertFalse(source.isSplittable());
   }
 
+  @Test
+  public void testBgzfFileIsSplittable() throws Exception {
+    runBlockCompressedSplitTest(Compression.BGZF);
+  }
+
+  @Test
+  public void testSeekableZstdFileIsSplittable() throws Exception {
+    runBlockCompressedSplitTest(Compression.ZSTD_SEEKABLE);
+  }
+
+  @Test
+  public void testReadGzipWithBgzfFails() throws Exception {
+    // A gzip file without BGZF block headers.
+    File compressedFile = tmpFolder.newFile("test-input.bgz");
+    writeFile(compressedFile, generateInput(10), Compression.GZIP);
+
+    CompressedSource<Byte> source =
+        CompressedSource.from(new ByteSource(compressedFile.getPath(), 1));
+    assertTrue(source.isSplittable());
+    thrown.expectMessage("No BGZF block header at offset 0");
+    SourceTestUtils.readFromSource(source, PipelineOptionsFactory.create());
+  }
+
+  @Test
+  public void testReadBgzfWithGzip() throws Exception {
+    byte[] input = generateInput(1000);
+    File tmpFile = tmpFolder.newFile();
+    writeFile(tmpFile, input, Compression.BGZF);
+    verifyReadContents(input, tmpFile, Compression.GZIP);
+  }
+
+  @Test
+  public void testBgzfSuffixIsDetectedAsBgzf() {
+    String filename = "input.txt" + Compression.BGZF.getSuggestedSuffix();
+    assertEquals(Compression.BGZF, Compression.detect(filename));
+    assertTrue(CompressedSource.from(new ByteSource(filename, 1)).isSplittable());
+  }
+
+  @Test
+  public void testReadSeekableZstdWithZstd() throws Exception {
+    byte[] input = generateInput(1000);
+    File tmpFile = tmpFolder.newFile();
+    writeFile(tmpFile, input, Compression.ZSTD_SEEKABLE);
+    verifyReadContents(input, tmpFile, Compression.ZSTD);
+  }
+
+  @Test
+  public void testEmptyReadBgzf() throws Exception {
+    runReadTest(new byte[0], Compression.BGZF);
+  }
+
+  @Test
+  public void testEmptyReadSeekableZstd() throws Exception {
+    runReadTest(new byte[0], Compression.ZSTD_SEEKABLE);
+  }
+
+  /**
+   * Tests that lines which span frames are read exactly once by the splits of a block compressed
+   * text file.
+   */
+  @Test
+  public void testSplitBlockCompressedTextSource() throws Exception {
+    StringBuilder lines = new StringBuilder();
+    Random random = new Random(0);
+    for (int i = 0; i < 30; i++) {
+      lines.append(Strings.repeat("x", random.nextInt(25))).append(i % 3 == 0 ? "\r\n" : "\n");
+    }
+    byte[] input = lines.toString().getBytes(StandardCharsets.UTF_8);
+    for (Compression compression :
+        new Compression[] {Compression.BGZF, Compression.ZSTD_SEEKABLE}) {
+      File tmpFile = tmpFolder.newFile();
+      writeFile(tmpFile, input, compression);
+      CompressedSource<String> source =
+          CompressedSource.from(
+                  new TextSource(
+                      StaticValueProvider.of(tmpFile.getPath()),
+                      EmptyMatchTreatment.DISALLOW,
+                      null))
+              .withCompression(compression);
+      PipelineOptions options = PipelineOptionsFactory.create();
+      assertEquals(30, SourceTestUtils.readFromSource(source, options).size());
+      SourceTestUtils.assertSourcesEqualReferenceSource(source, source.split(40, options), options);
+      SourceTestUtils.assertSplitAtFractionExhaustive(
+          Iterables.getOnlyElement(source.split(Long.MAX_VALUE, options)), options);
+    }
+  }
+
   @Test
   public void testBzip2FileIsNotSplittable() throws Exception {
     String baseName = "test-input";
@@ -1005,6 +1101,13 @@ public class CompressedSourceTest {
         return LzoCompression.createLzopOutputStream(stream);
       case SNAPPY:
         return new SnappyCompressorOutputStream(stream, input.length);
+      case BGZF:
+        // Use small frames so that the tests read many of them.
+        return Channels.newOutputStream(
+            BlockCompression.writeBgzf(Channels.newChannel(stream), FRAME_INPUT_SIZE));
+      case ZSTD_SEEKABLE:
+        return Channels.newOutputStream(
+            BlockCompression.writeSeekableZstd(Channels.newChannel(stream), FRAME_INPUT_SIZE));
       default:
         throw new RuntimeException("Unexpected compression mode");
     }
@@ -1040,6 +1143,26 @@ public class CompressedSourceTest {
     }
   }
 
+  /** Runs the splitting tests for a block compressed file. */
+  private void runBlockCompressedSplitTest(Compression compression) throws Exception {
+    byte[] input = generateInput(100);
+    File compressedFile = tmpFolder.newFile("test-input" + compression.getSuggestedSuffix());
+    writeFile(compressedFile, input, compression);
+
+    CompressedSource<Byte> source =
+        CompressedSource.from(new ByteSource(compressedFile.getPath(), 1))
+            .withCompression(compression);
+    assertTrue(source.isSplittable());
+    verifyReadContents(input, compressedFile, compression);
+
+    PipelineOptions options = PipelineOptionsFactory.create();
+    List<? extends FileBasedSource<Byte>> splits = source.split(50, options);
+    assertTrue(splits.size() > 1);
+    SourceTestUtils.assertSourcesEqualReferenceSource(source, splits, options);
+    SourceTestUtils.assertSplitAtFractionExhaustive(
+        Iterables.getOnlyElement(source.split(Long.MAX_VALUE, options)), options);
+  }
+
   /** Writes a single output file. */
   private void writeFile(File file, byte[] input, Compression compression) throws IOException {
     try (OutputStream os = getOutputStreamForMode(compression, new FileOutputStream(file), input)) {
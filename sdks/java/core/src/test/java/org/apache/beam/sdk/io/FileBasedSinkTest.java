@@ -548,6 +548,45 @@ public class FileBasedSinkTest {
     assertFileContains(expected, expectedFile);
   }
 
+  /**
+   * {@link Writer} compresses and writes its output on a background thread when the {@link
+   * WriteOperation} uses asynchronous writes.
+   */
+  @Test
+  public void testAsyncWriterWithCompression() throws Exception {
+    final String testUid = "testId";
+    WriteOperation<Void, String> writeOp =
+        SimpleSink.makeSimpleSink(
+                getBaseOutputDirectory(), "file", "-SS-of-NN", "txt", Compression.GZIP)
+            .createWriteOperation();
+    writeOp.setAsyncWrites(true);
+    Writer<Void, String> writer = writeOp.createWriter();
+
+    List<String> expected = new ArrayList<>();
+    expected.add(SimpleSink.SimpleWriter.HEADER);
+    writer.open(testUid);
+    // Enough values to fill several buffers.
+    for (int i = 0; i < 100000; i++) {
+      String value = "value " + i;
+      writer.write(value);
+      expected.add(value);
+    }
+    writer.close();
+    expected.add(SimpleSink.SimpleWriter.FOOTER);
+
+    List<String> actual = new ArrayList<>();
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(
+                new GZIPInputStream(new FileInputStream(writer.getOutputFile().toString())),
+                StandardCharsets.UTF_8))) {
+      for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+        actual.add(line);
+      }
+    }
+    assertEquals(expected, actual);
+  }
+
   /** Build a SimpleSink with default options. */
   private SimpleSink<Void> buildSink() {
     return SimpleSink.makeSimpleSink(
@@ -275,6 +275,47 @@ public class FileSystemsTest {
         .delete(toResourceIds(ImmutableList.of(srcPath3), false /* isDirectory */));
   }
 
+  @Test
+  public void testMatchPartitionsByGlobPrefix() throws Exception {
+    Path dirA = temporaryFolder.newFolder("a").toPath();
+    Path dirB = temporaryFolder.newFolder("b").toPath();
+    Path fileA = dirA.resolve("x.txt");
+    Path fileB1 = dirB.resolve("y.txt");
+    Path fileB2 = dirB.resolve("z.txt");
+    for (Path path : ImmutableList.of(fileA, fileB1, fileB2)) {
+      createFileWithContent(path, "content");
+    }
+
+    List<MatchResult> results =
+        FileSystems.match(
+            ImmutableList.of(
+                dirA.resolve("*.txt").toString(),
+                fileB1.toString(),
+                dirB.resolve("*.txt").toString(),
+                dirB.resolve("missing.txt").toString()));
+
+    assertEquals(4, results.size());
+    assertThat(toPaths(results.get(0)), containsInAnyOrder(fileA.toString()));
+    assertThat(toPaths(results.get(1)), containsInAnyOrder(fileB1.toString()));
+    assertThat(
+        toPaths(results.get(2)), containsInAnyOrder(fileB1.toString(), fileB2.toString()));
+    assertEquals(MatchResult.Status.NOT_FOUND, results.get(3).status());
+  }
+
+  @Test
+  public void testGetGlobDirectoryPrefix() {
+    assertEquals("gs://bucket/dir/", FileSystems.getGlobDirectoryPrefix("gs://bucket/dir/a*.txt"));
+    assertEquals("/tmp/", FileSystems.getGlobDirectoryPrefix("/tmp/*/b.txt"));
+    assertEquals("c:\\tmp\\", FileSystems.getGlobDirectoryPrefix("c:\\tmp\\?.txt"));
+    assertEquals("", FileSystems.getGlobDirectoryPrefix("*.txt"));
+  }
+
+  private static List<String> toPaths(MatchResult result) throws Exception {
+    return FluentIterable.from(result.metadata())
+        .transform(metadata -> metadata.resourceId().toString())
+        .toList();
+  }
+
   @Test
   public void testValidMatchNewResourceForLocalFileSystem() {
     assertEquals("file", FileSystems.matchNewResource("/tmp/f1", false).getScheme());
@@ -211,6 +211,47 @@ public class LocalFileSystemTest {
         containsInAnyOrder(expected.toArray(new String[expected.size()])));
   }
 
+  @Test
+  public void testMatchGlobInNestedDirectories() throws Exception {
+    File baseFolder = temporaryFolder.newFolder("A");
+    File topFile = new File(baseFolder, "f0.txt");
+    File nestedFile1 = new File(new File(baseFolder, "x"), "f1.txt");
+    File nestedFile2 = new File(new File(baseFolder, "y"), "f2.txt");
+    File deeplyNestedFile = new File(new File(new File(baseFolder, "y"), "z"), "f3.txt");
+    for (File file : ImmutableList.of(topFile, nestedFile1, nestedFile2, deeplyNestedFile)) {
+      assertTrue(file.getParentFile().isDirectory() || file.getParentFile().mkdirs());
+      assertTrue(file.createNewFile());
+    }
+
+    assertThat(
+        toFilenames(matchGlobWithPathPrefix(baseFolder.toPath(), "/*/*.txt")),
+        containsInAnyOrder(nestedFile1.getAbsolutePath(), nestedFile2.getAbsolutePath()));
+    assertThat(
+        toFilenames(matchGlobWithPathPrefix(baseFolder.toPath(), "/**.txt")),
+        containsInAnyOrder(
+            topFile.getAbsolutePath(),
+            nestedFile1.getAbsolutePath(),
+            nestedFile2.getAbsolutePath(),
+            deeplyNestedFile.getAbsolutePath()));
+  }
+
+  @Test
+  public void testGetMaxMatchDepth() {
+    String parent = temporaryFolder.getRoot().getAbsolutePath();
+    String separator = File.separator;
+    assertEquals(1, LocalFileSystem.getMaxMatchDepth(parent, parent + separator + "*.txt"));
+    assertEquals(
+        3,
+        LocalFileSystem.getMaxMatchDepth(
+            parent, parent + separator + "a=[0-9]" + separator + "*" + separator + "*"));
+    assertEquals(
+        Integer.MAX_VALUE,
+        LocalFileSystem.getMaxMatchDepth(parent, parent + separator + "**" + separator + "*"));
+    assertEquals(
+        Integer.MAX_VALUE,
+        LocalFileSystem.getMaxMatchDepth(parent, parent + separator + "{a,b" + separator + "c}"));
+  }
+
   @Test
   public void testMatchRelativeWildcardPath() throws Exception {
     File baseFolder = temporaryFolder.newFolder("A");
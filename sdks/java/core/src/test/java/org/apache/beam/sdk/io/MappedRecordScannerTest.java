@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link MappedRecordScanner}. */
+@RunWith(JUnit4.class)
+public class MappedRecordScannerTest {
+  @Rule public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+  @Test
+  public void testDefaultDelimiters() throws Exception {
+    String data = "a\nbb\r\nccc\r\rdddddddddddd\nlast";
+    for (int windowSize : new int[] {1, 2, 3, 8, 16, 1 << 20}) {
+      assertThat(
+          scan(data, null, windowSize), contains("a", "bb", "ccc", "", "dddddddddddd", "last"));
+    }
+  }
+
+  @Test
+  public void testDelimiterAtEndOfFile() throws Exception {
+    for (int windowSize : new int[] {1, 2, 3, 8, 1 << 20}) {
+      assertThat(scan("aaaaaaaaa\r\n", null, windowSize), contains("aaaaaaaaa"));
+      assertThat(scan("aaaaaaaaa\r", null, windowSize), contains("aaaaaaaaa"));
+      assertThat(scan("\n\n", null, windowSize), contains("", ""));
+    }
+  }
+
+  @Test
+  public void testCustomDelimiter() throws Exception {
+    byte[] delimiter = "|*".getBytes(UTF_8);
+    String data = "first|*second|third*|*|*fourth\n|";
+    for (int windowSize : new int[] {1, 2, 3, 8, 16, 1 << 20}) {
+      assertThat(
+          scan(data, delimiter, windowSize),
+          contains("first", "second|third*", "", "fourth\n|"));
+    }
+  }
+
+  @Test
+  public void testFindRecordFromArbitraryOffsets() throws Exception {
+    Path path = write("0123456789\nabcdefghij\nxyz");
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        MappedRecordScanner scanner = new MappedRecordScanner(channel, null, 4)) {
+      // Moving backwards requires a window to be remapped.
+      assertThat(records(scanner, 11), contains("abcdefghij", "xyz"));
+      assertThat(records(scanner, 5), contains("56789", "abcdefghij", "xyz"));
+      assertThat(records(scanner, 25), empty());
+    }
+  }
+
+  private List<String> scan(String data, byte @Nullable [] delimiter, int windowSize)
+      throws IOException {
+    Path path = write(data);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        MappedRecordScanner scanner = new MappedRecordScanner(channel, delimiter, windowSize)) {
+      return records(scanner, 0);
+    }
+  }
+
+  private static List<String> records(MappedRecordScanner scanner, long start) throws IOException {
+    List<String> records = new ArrayList<>();
+    for (long offset = start; scanner.findRecord(offset); offset = scanner.getNextRecordStart()) {
+      ByteBuffer record = scanner.getRecord();
+      byte[] bytes = new byte[record.remaining()];
+      record.get(bytes);
+      records.add(new String(bytes, UTF_8));
+    }
+    return records;
+  }
+
+  private Path write(String data) throws IOException {
+    Path path = tmpFolder.newFile().toPath();
+    Files.write(path, data.getBytes(UTF_8));
+    return path;
+  }
+}
@@ -69,6 +69,7 @@ import org.apache.beam.sdk.testing.TestPipeline;
 import org.apache.beam.sdk.testing.UsesUnboundedSplittableParDo;
 import org.apache.beam.sdk.transforms.Create;
 import org.apache.beam.sdk.transforms.DoFn;
+import org.apache.beam.sdk.transforms.MapElements;
 import org.apache.beam.sdk.transforms.PTransform;
 import org.apache.beam.sdk.transforms.ParDo;
 import org.apache.beam.sdk.transforms.ToString;
@@ -80,6 +81,7 @@ import org.apache.beam.sdk.transforms.windowing.Repeatedly;
 import org.apache.beam.sdk.transforms.windowing.Window;
 import org.apache.beam.sdk.util.CoderUtils;
 import org.apache.beam.sdk.values.PCollection;
+import org.apache.beam.sdk.values.TypeDescriptors;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Charsets;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Joiner;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableList;
@@ -236,12 +238,19 @@ public class TextIOReadTest {
 
   private static TextSource prepareSource(
       TemporaryFolder temporaryFolder, byte[] data, byte[] delimiter) throws IOException {
+    return prepareSource(temporaryFolder, data, delimiter, false);
+  }
+
+  private static TextSource prepareSource(
+      TemporaryFolder temporaryFolder, byte[] data, byte[] delimiter, boolean memoryMapping)
+      throws IOException {
     Path path = temporaryFolder.newFile().toPath();
     Files.write(path, data);
     return new TextSource(
         ValueProvider.StaticValueProvider.of(path.toString()),
         EmptyMatchTreatment.DISALLOW,
-        delimiter);
+        delimiter,
+        memoryMapping);
   }
 
   private static String getFileSuffix(Compression compression) {
@@ -365,18 +374,34 @@ public class TextIOReadTest {
       runTestReadWithData(line.getBytes(UTF_8), expected);
     }
 
+    @Test
+    public void testReadLinesWithDelimiterMemoryMapped() throws Exception {
+      runTestReadWithData(line.getBytes(UTF_8), expected, true);
+    }
+
     @Test
     public void testSplittingSource() throws Exception {
-      TextSource source = prepareSource(line.getBytes(UTF_8));
+      TextSource source = prepareSource(line.getBytes(UTF_8), false);
       SourceTestUtils.assertSplitAtFractionExhaustive(source, PipelineOptionsFactory.create());
     }
 
-    private TextSource prepareSource(byte[] data) throws IOException {
-      return TextIOReadTest.prepareSource(tempFolder, data, null);
+    @Test
+    public void testSplittingSourceMemoryMapped() throws Exception {
+      TextSource source = prepareSource(line.getBytes(UTF_8), true);
+      SourceTestUtils.assertSplitAtFractionExhaustive(source, PipelineOptionsFactory.create());
+    }
+
+    private TextSource prepareSource(byte[] data, boolean memoryMapping) throws IOException {
+      return TextIOReadTest.prepareSource(tempFolder, data, null, memoryMapping);
     }
 
     private void runTestReadWithData(byte[] data, List<String> expectedResults) throws Exception {
-      TextSource source = prepareSource(data);
+      runTestReadWithData(data, expectedResults, false);
+    }
+
+    private void runTestReadWithData(
+        byte[] data, List<String> expectedResults, boolean memoryMapping) throws Exception {
+      TextSource source = prepareSource(data, memoryMapping);
       List<String> actual = SourceTestUtils.readFromSource(source, PipelineOptionsFactory.create());
       assertThat(
           actual, containsInAnyOrder(new ArrayList<>(expectedResults).toArray(new String[0])));
@@ -462,9 +487,65 @@ public class TextIOReadTest {
             TextIOReadTest.prepareSource(
                 tempFolder, testCase.getBytes(UTF_8), new byte[] {'|', '*'}),
             PipelineOptionsFactory.create());
+        SourceTestUtils.assertSplitAtFractionExhaustive(
+            TextIOReadTest.prepareSource(
+                tempFolder, testCase.getBytes(UTF_8), new byte[] {'|', '*'}, true),
+            PipelineOptionsFactory.create());
       }
     }
 
+    @Test
+    @Category(NeedsRunner.class)
+    public void testReadStringsWithMemoryMapping() throws Exception {
+      File tmpFile = tempFolder.newFile();
+      Files.write(tmpFile.toPath(), Arrays.asList(LINES_ARRAY), UTF_8);
+
+      PAssert.that(p.apply(TextIO.read().from(tmpFile.getPath()).withMemoryMapping()))
+          .containsInAnyOrder(LINES_ARRAY);
+      p.run();
+    }
+
+    @Test
+    @Category(NeedsRunner.class)
+    public void testReadBytes() throws Exception {
+      File tmpFile = tempFolder.newFile();
+      Files.write(tmpFile.toPath(), "\uFEFFfirst\r\nsecond|*third\nfourth".getBytes(UTF_8));
+
+      PCollection<String> lines =
+          p.apply(TextIO.readBytes().from(tmpFile.getPath()))
+              .apply(
+                  "Decode",
+                  MapElements.into(TypeDescriptors.strings())
+                      .via(bytes -> new String(bytes, UTF_8)));
+      PCollection<String> mappedRecords =
+          p.apply(
+                  "ReadMapped",
+                  TextIO.readBytes()
+                      .from(tmpFile.getPath())
+                      .withDelimiter(new byte[] {'|', '*'})
+                      .withMemoryMapping())
+              .apply(
+                  "DecodeMapped",
+                  MapElements.into(TypeDescriptors.strings())
+                      .via(bytes -> new String(bytes, UTF_8)));
+
+      PAssert.that(lines).containsInAnyOrder("first", "second|*third", "fourth");
+      PAssert.that(mappedRecords).containsInAnyOrder("first\r\nsecond", "third\nfourth");
+      p.run();
+    }
+
+    @Test
+    public void testReadBytesDisplayData() {
+      TextIO.ReadBytes read =
+          TextIO.readBytes().from("foo.*").withCompression(BZIP2).withMemoryMapping();
+
+      DisplayData displayData = DisplayData.from(read);
+
+      assertThat(displayData, hasDisplayItem("filePattern", "foo.*"));
+      assertThat(displayData, hasDisplayItem("compressionType", BZIP2.toString()));
+      assertThat(displayData, hasDisplayItem("memoryMapping", true));
+    }
+
     @Test
     @Category(NeedsRunner.class)
     public void testReadStrings() throws Exception {
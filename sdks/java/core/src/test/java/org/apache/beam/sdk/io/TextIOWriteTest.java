@@ -531,6 +531,25 @@ public class TextIOWriteTest {
     runTestWrite(LINES_ARRAY, MY_HEADER, MY_FOOTER);
   }
 
+  @Test
+  @Category(NeedsRunner.class)
+  public void testWriteWithAsyncWrites() throws Exception {
+    Path baseDir = Files.createTempDirectory(tempFolder.getRoot().toPath(), "testwrite");
+    ResourceId baseFilename =
+        FileBasedSink.convertToFileResourceIfPossible(baseDir.resolve("file.txt").toString());
+
+    p.apply(Create.of(Arrays.asList(LINES_ARRAY)).withCoder(StringUtf8Coder.of()))
+        .apply(
+            TextIO.write()
+                .to(baseFilename)
+                .withNumShards(2)
+                .withShardNameTemplate(ShardNameTemplate.INDEX_OF_MAX)
+                .withAsyncWrites());
+    p.run();
+
+    assertOutputFiles(LINES_ARRAY, null, null, 2, baseFilename, ShardNameTemplate.INDEX_OF_MAX);
+  }
+
   @Test
   @Category(NeedsRunner.class)
   public void testWriteWithWritableByteChannelFactory() throws Exception {
@@ -599,6 +618,15 @@ public class TextIOWriteTest {
     assertThat(displayData, hasDisplayItem("writableByteChannelFactory", "UNCOMPRESSED"));
   }
 
+  @Test
+  public void testWriteBlockCompressedDisplayData() {
+    TextIO.Write write = TextIO.write().to("foo").withCompression(Compression.BGZF);
+
+    DisplayData displayData = DisplayData.from(write);
+
+    assertThat(displayData, hasDisplayItem("writableByteChannelFactory", "BGZF"));
+  }
+
   @Test
   public void testWriteDisplayDataValidateThenHeader() {
     TextIO.Write write = TextIO.write().to("foo").withHeader("myHeader");
@@ -23,6 +23,7 @@ import static org.apache.beam.sdk.metrics.MetricResultsMatchers.metricsResult;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.hasItem;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -205,6 +206,17 @@ public class MetricsTest implements Serializable {
       verify(mockDistribution).update(1L);
     }
 
+    @Test
+    public void testQuantileDistributionInContainerWithoutSupport() {
+      MetricsContainer container = Mockito.mock(MetricsContainer.class, Mockito.CALLS_REAL_METHODS);
+
+      MetricsEnvironment.setCurrentContainer(container);
+      // The values are dropped rather than failing the caller.
+      Metrics.quantileDistribution(NS, NAME).update(5);
+
+      assertEquals(METRIC_NAME, container.getQuantileDistribution(METRIC_NAME).getName());
+    }
+
     @Test
     public void testCounterToCell() {
       MetricsContainer mockContainer = Mockito.mock(MetricsContainer.class);
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import org.apache.beam.sdk.util.SerializableUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link QuantileSketch}. */
+@RunWith(JUnit4.class)
+public class QuantileSketchTest {
+  @Rule public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testEmpty() {
+    QuantileSketch sketch = QuantileSketch.create();
+    assertEquals(0, sketch.getCount());
+    assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+    assertTrue(Double.isNaN(sketch.getMin()));
+    assertTrue(Double.isNaN(sketch.getMax()));
+  }
+
+  @Test
+  public void testQuantilesWithinRelativeAccuracy() {
+    Random random = new Random(42);
+    double[] values = new double[10000];
+    QuantileSketch sketch = QuantileSketch.create();
+    for (int i = 0; i < values.length; i++) {
+      values[i] = Math.exp(random.nextGaussian() * 3);
+      sketch.add(values[i]);
+    }
+    Arrays.sort(values);
+
+    assertEquals(values.length, sketch.getCount());
+    assertEquals(values[0], sketch.getMin(), 0);
+    assertEquals(values[values.length - 1], sketch.getMax(), 0);
+    for (double quantile : new double[] {0, 0.1, 0.5, 0.9, 0.99, 0.999, 1}) {
+      double expected = values[(int) (quantile * (values.length - 1))];
+      assertEquals(
+          "quantile " + quantile,
+          expected,
+          sketch.getQuantile(quantile),
+          expected * QuantileSketch.DEFAULT_RELATIVE_ACCURACY);
+    }
+  }
+
+  @Test
+  public void testNegativeAndZeroValues() {
+    QuantileSketch sketch = QuantileSketch.create();
+    for (double value : new double[] {-100, -10, 0, 0, 10}) {
+      sketch.add(value);
+    }
+    assertEquals(-100, sketch.getQuantile(0), 1);
+    assertEquals(-10, sketch.getQuantile(0.25), 0.1);
+    assertEquals(0, sketch.getQuantile(0.5), 0);
+    assertEquals(10, sketch.getQuantile(1), 0.1);
+    assertEquals(-100, sketch.getSum(), 0);
+  }
+
+  @Test
+  public void testMergeMatchesSingleSketch() {
+    QuantileSketch all = QuantileSketch.create();
+    QuantileSketch left = QuantileSketch.create();
+    QuantileSketch right = QuantileSketch.create();
+    for (int i = 1; i <= 1000; i++) {
+      all.add(i);
+      (i % 3 == 0 ? left : right).add(i);
+    }
+    left.merge(right);
+
+    assertEquals(all.getCount(), left.getCount());
+    assertEquals(all.getMin(), left.getMin(), 0);
+    assertEquals(all.getMax(), left.getMax(), 0);
+    for (double quantile : new double[] {0.5, 0.9, 0.99}) {
+      assertEquals(all.getQuantile(quantile), left.getQuantile(quantile), 0);
+    }
+  }
+
+  @Test
+  public void testMergeIncompatibleSketchesFails() {
+    thrown.expect(IllegalArgumentException.class);
+    QuantileSketch.create(0.01, 100).merge(QuantileSketch.create(0.02, 100));
+  }
+
+  @Test
+  public void testCollapsesLowestBins() {
+    QuantileSketch sketch = QuantileSketch.create(0.01, 10);
+    for (int i = 1; i <= 1000; i++) {
+      sketch.add(i);
+    }
+    // The highest quantiles stay accurate while the lowest are collapsed into a single bin.
+    assertEquals(1000, sketch.getQuantile(1), 10);
+    assertEquals(990, sketch.getQuantile(0.99), 10);
+    assertTrue(sketch.getQuantile(0.5) > 800);
+  }
+
+  @Test
+  public void testIgnoresNaNAndInfiniteValues() {
+    QuantileSketch sketch = QuantileSketch.create();
+    sketch.add(Double.NaN);
+    sketch.add(Double.POSITIVE_INFINITY);
+    sketch.add(Double.NEGATIVE_INFINITY);
+    sketch.add(1);
+    assertEquals(1, sketch.getCount());
+    assertEquals(1, sketch.getMax(), 0);
+  }
+
+  @Test
+  public void testEncodeDecode() throws Exception {
+    QuantileSketch sketch = QuantileSketch.create();
+    for (int i = -50; i <= 50; i++) {
+      sketch.add(i * 1.5);
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    sketch.encode(out);
+    QuantileSketch decoded = QuantileSketch.decode(new ByteArrayInputStream(out.toByteArray()));
+
+    assertEquals(sketch, decoded);
+    assertEquals(sketch.getQuantile(0.75), decoded.getQuantile(0.75), 0);
+  }
+
+  @Test
+  public void testSerializable() {
+    QuantileSketch sketch = QuantileSketch.create();
+    sketch.add(3);
+    assertEquals(sketch, SerializableUtils.clone(sketch));
+  }
+
+  @Test
+  public void testCopyAndClear() {
+    QuantileSketch sketch = QuantileSketch.create();
+    sketch.add(3);
+    QuantileSketch copy = sketch.copy();
+    sketch.clear();
+
+    assertEquals(QuantileSketch.create(), sketch);
+    assertEquals(1, copy.getCount());
+  }
+}
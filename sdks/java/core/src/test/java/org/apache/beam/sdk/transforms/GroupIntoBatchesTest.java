@@ -18,12 +18,17 @@
 package org.apache.beam.sdk.transforms;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.beam.sdk.coders.IterableCoder;
 import org.apache.beam.sdk.coders.KvCoder;
 import org.apache.beam.sdk.coders.StringUtf8Coder;
@@ -305,6 +310,179 @@ public class GroupIntoBatchesTest implements Serializable {
         .waitUntilFinish();
   }
 
+  @Test
+  @Category({NeedsRunner.class, UsesTimersInParDo.class, UsesStatefulParDo.class})
+  public void testWithHotKeyShardingInGlobalWindow() {
+    int batchSize = 5;
+    int numHotElements = 1000;
+    int numColdKeys = 20;
+    List<KV<String, String>> input = new ArrayList<>();
+    for (int i = 0; i < numHotElements; i++) {
+      input.add(KV.of("hot", "value" + i));
+    }
+    for (int i = 0; i < numColdKeys; i++) {
+      // Less than a batch, so these keys never become hot.
+      for (int j = 0; j < batchSize - 1; j++) {
+        input.add(KV.of("cold" + i, "value" + j));
+      }
+    }
+
+    PCollection<KV<String, Iterable<String>>> batches =
+        pipeline
+            .apply("Input data", Create.of(input))
+            .apply(
+                GroupIntoBatches.<String, String>ofSize(batchSize)
+                    .withMaxBufferingDuration(Duration.standardSeconds(1))
+                    .withShardedKey()
+                    .withHotKeySharding())
+            .setCoder(
+                KvCoder.of(
+                    ShardedKey.Coder.of(StringUtf8Coder.of()),
+                    IterableCoder.of(StringUtf8Coder.of())))
+            .apply(
+                "DropShardIds",
+                MapElements.via(
+                    new SimpleFunction<
+                        KV<ShardedKey<String>, Iterable<String>>, KV<String, Iterable<String>>>() {
+                      @Override
+                      public KV<String, Iterable<String>> apply(
+                          KV<ShardedKey<String>, Iterable<String>> input) {
+                        return KV.of(input.getKey().getKey(), input.getValue());
+                      }
+                    }));
+
+    PAssert.that("Incorrect batches", batches)
+        .satisfies(
+            (SerializableFunction<Iterable<KV<String, Iterable<String>>>, Void>)
+                output -> {
+                  int numHotOutputs = 0;
+                  int numColdBatches = 0;
+                  for (KV<String, Iterable<String>> batch : output) {
+                    int size = Iterables.size(batch.getValue());
+                    assertTrue("Batch larger than " + batchSize, size <= batchSize);
+                    if (batch.getKey().equals("hot")) {
+                      numHotOutputs += size;
+                    } else {
+                      // All elements of a cold key share one shard, and hence one batch.
+                      assertEquals(batchSize - 1, size);
+                      numColdBatches++;
+                    }
+                  }
+                  assertEquals(numHotElements, numHotOutputs);
+                  assertEquals(numColdKeys, numColdBatches);
+                  return null;
+                });
+    pipeline.run();
+  }
+
+  @Test
+  @Category({NeedsRunner.class, UsesTimersInParDo.class, UsesStatefulParDo.class})
+  public void testWithAdaptiveBatchSize() {
+    PCollection<KV<String, Iterable<String>>> collection =
+        pipeline
+            .apply("Input data", Create.of(createTestData(ODD_NUM_ELEMENTS)))
+            .apply(
+                GroupIntoBatches.<String, String>ofSize(BATCH_SIZE)
+                    .withAdaptiveBatchSize(Duration.millis(100)))
+            .setCoder(KvCoder.of(StringUtf8Coder.of(), IterableCoder.of(StringUtf8Coder.of())));
+    PAssert.that("Incorrect batches", collection)
+        .satisfies(
+            (SerializableFunction<Iterable<KV<String, Iterable<String>>>, Void>)
+                output -> {
+                  int numElements = 0;
+                  for (KV<String, Iterable<String>> batch : output) {
+                    int size = Iterables.size(batch.getValue());
+                    assertTrue("Batch larger than " + BATCH_SIZE, size <= BATCH_SIZE);
+                    numElements += size;
+                  }
+                  assertEquals(ODD_NUM_ELEMENTS, numElements);
+                  return null;
+                });
+    pipeline.run();
+  }
+
+  @Test
+  public void testAdaptiveBatchSize() {
+    long targetNanos = Duration.millis(100).getMillis() * 1_000_000L;
+    GroupIntoBatches.AdaptiveBatchSize adaptiveBatchSize =
+        new GroupIntoBatches.AdaptiveBatchSize(Duration.millis(100), 100, Long.MAX_VALUE);
+    assertEquals(100, adaptiveBatchSize.limit(100));
+    assertEquals(Long.MAX_VALUE, adaptiveBatchSize.limit(Long.MAX_VALUE));
+
+    // Four times slower than the target halves the batch size.
+    adaptiveBatchSize.update(4 * targetNanos, true);
+    assertEquals(50, adaptiveBatchSize.limit(100));
+
+    // Batches that were not full do not increase the batch size.
+    adaptiveBatchSize.update(targetNanos / 4, false);
+    assertEquals(50, adaptiveBatchSize.limit(100));
+    adaptiveBatchSize.update(targetNanos / 4, true);
+    assertEquals(100, adaptiveBatchSize.limit(100));
+
+    // The batch size never exceeds the configured limit, nor drops below one element.
+    adaptiveBatchSize.update(targetNanos / 4, true);
+    assertEquals(100, adaptiveBatchSize.limit(100));
+    for (int i = 0; i < 100; i++) {
+      adaptiveBatchSize.update(100 * targetNanos, false);
+    }
+    assertEquals(1, adaptiveBatchSize.limit(100));
+  }
+
+  @Test
+  public void testHotKeyTracker() {
+    GroupIntoBatches.HotKeyTracker tracker = new GroupIntoBatches.HotKeyTracker(1000, 3, 100);
+    int hotKey = 1;
+    int coldKey = 2;
+    int largeKey = 3;
+    assertFalse(tracker.add(hotKey, 1, 0));
+    assertFalse(tracker.add(hotKey, 1, 10));
+    assertTrue(tracker.add(hotKey, 1, 20));
+    assertFalse(tracker.add(coldKey, 1, 30));
+    assertTrue(tracker.add(largeKey, 100, 40));
+
+    // Keys stay hot for the next period.
+    assertTrue(tracker.add(hotKey, 1, 1000));
+    assertFalse(tracker.add(coldKey, 1, 1010));
+
+    // And are cold again after a period without enough elements.
+    assertFalse(tracker.add(hotKey, 1, 2000));
+    assertTrue(tracker.add(largeKey, 100, 2010));
+    // A gap of more than a period resets all counts.
+    assertFalse(tracker.add(largeKey, 1, 4010));
+  }
+
+  @Test
+  public void testHotKeyTrackerCountsElementsOfAllThreads() throws Exception {
+    String trackerId = "testHotKeyTrackerCountsElementsOfAllThreads";
+    GroupIntoBatches.HotKeyTracker tracker =
+        GroupIntoBatches.HotKeyTracker.shared(trackerId, 1000, 100, Long.MAX_VALUE);
+    assertSame(
+        tracker, GroupIntoBatches.HotKeyTracker.shared(trackerId, 1000, 100, Long.MAX_VALUE));
+
+    // Each thread sees less than a batch of the key, but all threads together see more.
+    int numThreads = 4;
+    int hotKey = 1;
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < numThreads; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < 30; j++) {
+                    tracker.add(hotKey, 0, 10);
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertTrue(tracker.add(hotKey, 0, 20));
+  }
+
   /** test behavior when the number of input elements is not evenly divisible by batch size. */
   @Test
   @Category({NeedsRunner.class, UsesTimersInParDo.class, UsesStatefulParDo.class})
@@ -571,6 +571,30 @@ public class ParDoTest implements Serializable {
                   }));
     }
 
+    @Test
+    public void testRejectsWrongWindowTypeForProcessBatch() {
+
+      thrown.expect(IllegalArgumentException.class);
+      thrown.expectMessage("processBatch");
+      thrown.expectMessage(GlobalWindow.class.getSimpleName());
+      thrown.expectMessage(IntervalWindow.class.getSimpleName());
+      thrown.expectMessage("not a supertype");
+
+      pipeline
+          .apply(Create.of(1, 2, 3))
+          .apply(
+              ParDo.of(
+                  new DoFn<Integer, Integer>() {
+                    @ProcessElement
+                    public void process(ProcessContext c) {}
+
+                    @ProcessBatch
+                    public List<Integer> processBatch(List<Integer> elements, IntervalWindow w) {
+                      return elements;
+                    }
+                  }));
+    }
+
     /**
      * Tests that it is OK to use different window types in the parameter lists to different {@link
      * DoFn} functions, as long as they are all subtypes of the actual window type of the input.
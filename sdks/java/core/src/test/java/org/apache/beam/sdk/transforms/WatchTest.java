@@ -517,6 +517,11 @@ public class WatchTest implements Serializable {
   }
 
   private static GrowthTracker<String, Integer> newTracker(GrowthState state) {
+    return newTracker(state, null);
+  }
+
+  private static GrowthTracker<String, Integer> newTracker(
+      GrowthState state, Duration deduplicationRetention) {
     Funnel<String> coderFunnel =
         (from, into) -> {
           try {
@@ -525,7 +530,7 @@ public class WatchTest implements Serializable {
             throw new RuntimeException(e);
           }
         };
-    return new GrowthTracker<>(state, coderFunnel);
+    return new GrowthTracker<>(state, coderFunnel, deduplicationRetention);
   }
 
   private static HashCode hash128(String value) {
@@ -609,6 +614,35 @@ public class WatchTest implements Serializable {
     assertEquals(1, (int) residual.getTerminationState());
   }
 
+  @Test
+  public void testPollingGrowthTrackerCheckpointForgetsOutputsBeyondRetention() {
+    Instant now = Instant.now();
+    GrowthTracker<String, Integer> tracker =
+        newTracker(
+            PollingGrowthState.of(never().forNewInput(Instant.now(), null)), standardSeconds(5));
+
+    PollResult<String> claim =
+        PollResult.incomplete(
+                Arrays.asList(
+                    TimestampedValue.of("a", now.plus(standardSeconds(1))),
+                    TimestampedValue.of("b", now.plus(standardSeconds(2))),
+                    TimestampedValue.of("c", now.plus(standardSeconds(3)))))
+            .withWatermark(now.plus(standardSeconds(7)));
+
+    assertTrue(tracker.tryClaim(KV.of(claim, 1 /* termination state */)));
+
+    PollingGrowthState<Integer> residual =
+        (PollingGrowthState<Integer>) tracker.trySplit(0).getResidual();
+    NonPollingGrowthState<String> primary =
+        (NonPollingGrowthState<String>) tracker.currentRestriction();
+    tracker.checkDone();
+
+    // The primary still outputs all claimed outputs, the residual forgets those more than 5
+    // seconds behind the watermark.
+    assertEquals(claim, primary.getPending());
+    assertThat(residual.getCompleted().keySet(), containsInAnyOrder(hash128("b"), hash128("c")));
+  }
+
   @Test
   public void testPollingGrowthTrackerCheckpointEmpty() {
     GrowthTracker<String, Integer> tracker = newPollingGrowthTracker();
@@ -74,6 +74,7 @@ import org.apache.beam.sdk.transforms.splittabledofn.SplitResult;
 import org.apache.beam.sdk.transforms.splittabledofn.WatermarkEstimator;
 import org.apache.beam.sdk.transforms.splittabledofn.WatermarkEstimators;
 import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
+import org.apache.beam.sdk.transforms.windowing.GlobalWindow;
 import org.apache.beam.sdk.transforms.windowing.IntervalWindow;
 import org.apache.beam.sdk.util.UserCodeException;
 import org.joda.time.Instant;
@@ -165,6 +166,61 @@ public class DoFnInvokersTest {
     verify(mockFn).processElement(mockProcessContext);
   }
 
+  @Test
+  public void testDoFnWithProcessBatch() throws Exception {
+    class BatchFn extends DoFn<String, Integer> {
+      @ProcessElement
+      public void processElement(@Element String element, OutputReceiver<Integer> receiver) {
+        receiver.output(element.length());
+      }
+
+      @ProcessBatch
+      public List<Integer> processBatch(List<String> elements, BoundedWindow window) {
+        List<Integer> outputs = new ArrayList<>();
+        for (String element : elements) {
+          outputs.add(window == GlobalWindow.INSTANCE ? element.length() : -1);
+        }
+        return outputs;
+      }
+    }
+
+    assertEquals(
+        Arrays.asList(1, 3),
+        DoFnInvokers.invokerFor(new BatchFn())
+            .invokeProcessBatch(Arrays.asList("a", "abc"), GlobalWindow.INSTANCE));
+  }
+
+  @Test
+  public void testProcessBatchExceptionsWrappedAsUserCodeException() throws Exception {
+    class ThrowingBatchFn extends DoFn<String, String> {
+      @ProcessElement
+      public void processElement(@Element String element) {}
+
+      @ProcessBatch
+      public List<String> processBatch(List<String> elements) {
+        throw new IllegalArgumentException("bogus");
+      }
+    }
+
+    thrown.expect(UserCodeException.class);
+    thrown.expectCause(instanceOf(IllegalArgumentException.class));
+    DoFnInvokers.invokerFor(new ThrowingBatchFn())
+        .invokeProcessBatch(Arrays.asList("a"), GlobalWindow.INSTANCE);
+  }
+
+  @Test
+  public void testProcessBatchWithoutProcessBatchMethodNamesDoFn() throws Exception {
+    class ElementFn extends DoFn<String, String> {
+      @ProcessElement
+      public void processElement(@Element String element) {}
+    }
+
+    thrown.expect(UnsupportedOperationException.class);
+    thrown.expectMessage(ElementFn.class.getName() + " does not define a @ProcessBatch method");
+    DoFnInvokers.invokerFor(new ElementFn())
+        .invokeProcessBatch(Arrays.asList("a"), GlobalWindow.INSTANCE);
+  }
+
   interface InterfaceWithProcessElement {
     @DoFn.ProcessElement
     void processElement(DoFn<String, String>.ProcessContext c);
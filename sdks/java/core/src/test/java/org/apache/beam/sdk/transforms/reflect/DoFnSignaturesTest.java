@@ -76,6 +76,7 @@ import org.apache.beam.sdk.transforms.reflect.DoFnSignatures.FnAnalysisContext;
 import org.apache.beam.sdk.transforms.reflect.DoFnSignaturesTestUtils.FakeDoFn;
 import org.apache.beam.sdk.transforms.splittabledofn.RestrictionTracker;
 import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
+import org.apache.beam.sdk.transforms.windowing.IntervalWindow;
 import org.apache.beam.sdk.transforms.windowing.PaneInfo;
 import org.apache.beam.sdk.transforms.windowing.TimestampCombiner;
 import org.apache.beam.sdk.values.KV;
@@ -173,6 +174,78 @@ public class DoFnSignaturesTest {
         sig.processElement().extraParameters().get(0), instanceOf(SchemaElementParameter.class));
   }
 
+  @Test
+  public void testProcessBatch() throws Exception {
+    DoFnSignature sig =
+        DoFnSignatures.getSignature(
+            new DoFn<String, Integer>() {
+              @ProcessElement
+              public void process(@Element String element) {}
+
+              @ProcessBatch
+              public List<Integer> processBatch(List<String> elements, IntervalWindow window) {
+                return null;
+              }
+            }.getClass());
+
+    assertThat(sig.processBatch().targetMethod().getName(), equalTo("processBatch"));
+    assertThat(sig.processBatch().observesWindow(), equalTo(true));
+    assertThat(sig.processBatch().windowT(), equalTo(TypeDescriptor.of(IntervalWindow.class)));
+  }
+
+  @Test
+  public void testProcessBatchWrongReturnType() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Must return");
+    DoFnSignatures.getSignature(
+        new DoFn<String, Integer>() {
+          @ProcessElement
+          public void process(@Element String element) {}
+
+          @ProcessBatch
+          public List<String> processBatch(List<String> elements) {
+            return elements;
+          }
+        }.getClass());
+  }
+
+  @Test
+  public void testProcessBatchWindowNotSupertypeOfProcessElementWindow() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage(
+        "The window parameter has type IntervalWindow, which is not a supertype of the window type"
+            + " BoundedWindow of the @ProcessElement method");
+    DoFnSignatures.getSignature(
+        new DoFn<String, Integer>() {
+          @ProcessElement
+          public void process(@Element String element, BoundedWindow window) {}
+
+          @ProcessBatch
+          public List<Integer> processBatch(List<String> elements, IntervalWindow window) {
+            return null;
+          }
+        }.getClass());
+  }
+
+  @Test
+  public void testProcessBatchWithState() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("DoFns using state or timers do not support batch processing");
+    DoFnSignatures.getSignature(
+        new DoFn<KV<String, Integer>, Integer>() {
+          @StateId("foo")
+          private final StateSpec<ValueState<Integer>> foo = StateSpecs.value();
+
+          @ProcessElement
+          public void process(@Element KV<String, Integer> element) {}
+
+          @ProcessBatch
+          public List<Integer> processBatch(List<KV<String, Integer>> elements) {
+            return null;
+          }
+        }.getClass());
+  }
+
   @Test
   public void testWrongTimestampType() throws Exception {
     thrown.expect(IllegalArgumentException.class);
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Charsets;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Unit tests for {@link ExposedByteBufferInputStream}. */
+@RunWith(JUnit4.class)
+public class ExposedByteBufferInputStreamTest {
+
+  private static final byte[] TEST_DATA = "Hello World!".getBytes(Charsets.UTF_8);
+
+  private ExposedByteBufferInputStream exposedStream =
+      new ExposedByteBufferInputStream(ByteBuffer.wrap(TEST_DATA));
+
+  @Test
+  public void testReadBufferSharesContent() throws Exception {
+    ByteBuffer hello = exposedStream.readBuffer(5);
+    assertTrue(hello.hasArray());
+    assertSame(TEST_DATA, hello.array());
+    assertEquals(0, hello.arrayOffset() + hello.position());
+    assertEquals(5, hello.remaining());
+    assertEquals(TEST_DATA.length - 5, exposedStream.available());
+
+    assertEquals(' ', exposedStream.read());
+    ByteBuffer world = exposedStream.readAll();
+    assertEquals(6, world.arrayOffset() + world.position());
+    assertEquals(6, world.remaining());
+    assertEquals(0, exposedStream.available());
+    assertEquals(-1, exposedStream.read());
+  }
+
+  @Test
+  public void testReadsRemainingBytesOfBuffer() throws Exception {
+    ByteBuffer buffer = ByteBuffer.wrap(TEST_DATA);
+    buffer.position(6);
+    ExposedByteBufferInputStream stream = new ExposedByteBufferInputStream(buffer);
+
+    byte[] data = new byte[TEST_DATA.length];
+    assertEquals(6, stream.read(data, 0, data.length));
+    assertArrayEquals("World!".getBytes(Charsets.UTF_8), Arrays.copyOf(data, 6));
+    // The wrapped buffer is not advanced by reading from the stream.
+    assertEquals(6, buffer.position());
+  }
+
+  @Test
+  public void testMarkAndReset() throws Exception {
+    assertEquals(6, exposedStream.skip(6));
+    exposedStream.mark(Integer.MAX_VALUE);
+    assertEquals('W', exposedStream.read());
+    exposedStream.reset();
+    assertEquals('W', exposedStream.read());
+  }
+
+  @Test(expected = EOFException.class)
+  public void testReadBufferBeyondEnd() throws Exception {
+    exposedStream.readBuffer(TEST_DATA.length + 1);
+  }
+}
@@ -22,6 +22,8 @@ import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Prec
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +37,7 @@ import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.arrow.vector.ipc.ReadChannel;
 import org.apache.arrow.vector.ipc.message.ArrowRecordBatch;
 import org.apache.arrow.vector.ipc.message.MessageSerializer;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
 import org.apache.arrow.vector.types.TimeUnit;
 import org.apache.arrow.vector.types.pojo.ArrowType;
 import org.apache.arrow.vector.util.Text;
@@ -244,7 +247,17 @@ public class ArrowConversion {
    */
   public static RecordBatchRowIterator rowsFromRecordBatch(
       Schema schema, VectorSchemaRoot vectorSchemaRoot) {
-    return new RecordBatchRowIterator(schema, vectorSchemaRoot);
+    return new RecordBatchRowIterator(schema, vectorSchemaRoot, null);
+  }
+
+  /**
+   * Like {@link #rowsFromRecordBatch(Schema, VectorSchemaRoot)}, but the returned {@link Row}s keep
+   * {@code owner} reachable for as long as they are, so memory released once the owner is garbage
+   * collected is not released while it can still be read by one of the rows.
+   */
+  static RecordBatchRowIterator rowsFromRecordBatch(
+      Schema schema, VectorSchemaRoot vectorSchemaRoot, Object owner) {
+    return new RecordBatchRowIterator(schema, vectorSchemaRoot, owner);
   }
 
   @SuppressWarnings("nullness")
@@ -283,60 +296,68 @@ public class ArrowConversion {
     private static class FieldVectorListValueGetterFactory
         implements Factory<List<FieldValueGetter>> {
       private final List<FieldVector> fieldVectors;
+      // Only referenced to keep the owner of the field vectors reachable.
+      @SuppressWarnings("unused")
+      private final @Nullable Object owner;
 
-      static FieldVectorListValueGetterFactory of(List<FieldVector> fieldVectors) {
-        return new FieldVectorListValueGetterFactory(fieldVectors);
+      static FieldVectorListValueGetterFactory of(
+          List<FieldVector> fieldVectors, @Nullable Object owner) {
+        return new FieldVectorListValueGetterFactory(fieldVectors, owner);
       }
 
-      private FieldVectorListValueGetterFactory(List<FieldVector> fieldVectors) {
+      private FieldVectorListValueGetterFactory(
+          List<FieldVector> fieldVectors, @Nullable Object owner) {
         this.fieldVectors = fieldVectors;
+        this.owner = owner;
       }
 
       @Override
       public List<FieldValueGetter> create(Class<?> clazz, Schema schema) {
         return this.fieldVectors.stream()
-            .map(
-                (fieldVector) -> {
-                  Optional<Function<Object, Object>> optionalValue =
-                      fieldVector.getField().getFieldType().getType().accept(valueConverterVisitor);
-                  if (!optionalValue.isPresent()) {
-                    return new FieldValueGetter<Integer, Object>() {
-                      @Nullable
-                      @Override
-                      public Object get(Integer rowIndex) {
-                        return fieldVector.getObject(rowIndex);
-                      }
-
-                      @Override
-                      public String name() {
-                        return fieldVector.getField().getName();
-                      }
-                    };
-                  } else {
-                    Function<Object, Object> conversionFunction = optionalValue.get();
-                    return new FieldValueGetter<Integer, Object>() {
-                      @Nullable
-                      @Override
-                      public Object get(Integer rowIndex) {
-                        Object value = fieldVector.getObject(rowIndex);
-                        if (value == null) {
-                          return null;
-                        }
-
-                        return conversionFunction.apply(value);
-                      }
-
-                      @Override
-                      public String name() {
-                        return fieldVector.getField().getName();
-                      }
-                    };
-                  }
-                })
+            .map(RecordBatchRowIterator::fieldValueGetter)
             .collect(Collectors.toList());
       }
     }
 
+    /** Returns a {@link FieldValueGetter} reading the Beam values stored in {@code fieldVector}. */
+    static FieldValueGetter<Integer, Object> fieldValueGetter(FieldVector fieldVector) {
+      Optional<Function<Object, Object>> optionalValue =
+          fieldVector.getField().getFieldType().getType().accept(valueConverterVisitor);
+      if (!optionalValue.isPresent()) {
+        return new FieldValueGetter<Integer, Object>() {
+          @Nullable
+          @Override
+          public Object get(Integer rowIndex) {
+            return fieldVector.getObject(rowIndex);
+          }
+
+          @Override
+          public String name() {
+            return fieldVector.getField().getName();
+          }
+        };
+      } else {
+        Function<Object, Object> conversionFunction = optionalValue.get();
+        return new FieldValueGetter<Integer, Object>() {
+          @Nullable
+          @Override
+          public Object get(Integer rowIndex) {
+            Object value = fieldVector.getObject(rowIndex);
+            if (value == null) {
+              return null;
+            }
+
+            return conversionFunction.apply(value);
+          }
+
+          @Override
+          public String name() {
+            return fieldVector.getField().getName();
+          }
+        };
+      }
+    }
+
     // TODO: Consider using ByteBuddyUtils.TypeConversion for this
     private static class ArrowValueConverterVisitor
         implements ArrowType.ArrowTypeVisitor<Optional<Function<Object, Object>>> {
@@ -461,12 +482,13 @@ public class ArrowConversion {
       }
     }
 
-    private RecordBatchRowIterator(Schema schema, VectorSchemaRoot vectorSchemaRoot) {
+    private RecordBatchRowIterator(
+        Schema schema, VectorSchemaRoot vectorSchemaRoot, @Nullable Object owner) {
       this.schema = schema;
       this.vectorSchemaRoot = vectorSchemaRoot;
       this.fieldValueGetters =
           new CachingFactory<>(
-              FieldVectorListValueGetterFactory.of(vectorSchemaRoot.getFieldVectors()));
+              FieldVectorListValueGetterFactory.of(vectorSchemaRoot.getFieldVectors(), owner));
       this.currRowIndex = 0;
     }
 
@@ -509,5 +531,52 @@ public class ArrowConversion {
       }
       return builder.build();
     }
+
+    /**
+     * Converts a Beam row schema to an Arrow schema.
+     *
+     * <p>Only schemas with primitive field types are supported. {@link FieldType#DATETIME} fields
+     * are converted to millisecond precision timestamps in UTC.
+     */
+    public static org.apache.arrow.vector.types.pojo.Schema toArrowSchema(Schema schema) {
+      List<org.apache.arrow.vector.types.pojo.Field> fields = new ArrayList<>();
+      for (Field field : schema.getFields()) {
+        fields.add(
+            new org.apache.arrow.vector.types.pojo.Field(
+                field.getName(),
+                new org.apache.arrow.vector.types.pojo.FieldType(
+                    field.getType().getNullable(), toArrowType(field.getType()), null),
+                Collections.emptyList()));
+      }
+      return new org.apache.arrow.vector.types.pojo.Schema(fields);
+    }
+
+    private static ArrowType toArrowType(FieldType fieldType) {
+      switch (fieldType.getTypeName()) {
+        case BYTE:
+          return new ArrowType.Int(8, true);
+        case INT16:
+          return new ArrowType.Int(16, true);
+        case INT32:
+          return new ArrowType.Int(32, true);
+        case INT64:
+          return new ArrowType.Int(64, true);
+        case FLOAT:
+          return new ArrowType.FloatingPoint(FloatingPointPrecision.SINGLE);
+        case DOUBLE:
+          return new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+        case STRING:
+          return new ArrowType.Utf8();
+        case BOOLEAN:
+          return new ArrowType.Bool();
+        case BYTES:
+          return new ArrowType.Binary();
+        case DATETIME:
+          return new ArrowType.Timestamp(TimeUnit.MILLISECOND, "UTC");
+        default:
+          throw new IllegalArgumentException(
+              "Type \'" + fieldType.toString() + "\' not supported.");
+      }
+    }
   }
 }
@@ -0,0 +1,383 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.extensions.arrow;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Preconditions.checkArgument;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.SmallIntVector;
+import org.apache.arrow.vector.TimeStampMilliTZVector;
+import org.apache.arrow.vector.TinyIntVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.util.TransferPair;
+import org.apache.beam.sdk.annotations.Experimental;
+import org.apache.beam.sdk.extensions.arrow.ArrowConversion.ArrowSchemaTranslator;
+import org.apache.beam.sdk.extensions.arrow.ArrowConversion.RecordBatchRowIterator;
+import org.apache.beam.sdk.schemas.FieldValueGetter;
+import org.apache.beam.sdk.schemas.Schema;
+import org.apache.beam.sdk.schemas.Schema.FieldType;
+import org.apache.beam.sdk.transforms.SerializableFunction;
+import org.apache.beam.sdk.values.Row;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.joda.time.ReadableInstant;
+
+/**
+ * A batch of Beam {@link Row}s stored column-at-a-time in an Arrow {@link VectorSchemaRoot}.
+ *
+ * <p>Operations on a batch work on whole columns instead of on individual {@link Row} objects.
+ * {@link #select Projections} share the buffers of the selected columns with the original batch
+ * and {@link #filter filters} evaluate their predicate on a single column, copying only the
+ * selected values of the other columns. {@link Row}s are only created when {@link #iterator
+ * iterating} over the batch, and their field values are read lazily from the underlying columns.
+ *
+ * <p>A batch holds memory allocated by an Arrow {@link BufferAllocator} and should be {@link
+ * #close closed} by its owner once it is no longer needed. The {@link Row}s of a batch must not be
+ * accessed after it has been closed. Batches created by an operation on another batch are
+ * independent of it and need to be closed separately.
+ *
+ * <p>The owner of a batch built {@link #fromRows from rows} is the caller, who also owns the
+ * allocator. The owner of a batch {@link ArrowRowBatchCoder#decode decoded} by an {@link
+ * ArrowRowBatchCoder} is the code receiving it, which is often a runner that does not know about
+ * Arrow memory. Such batches are therefore allocated by a bounded child allocator of their own,
+ * which is shared with the batches derived from them and closed together with the last of them.
+ * Decoded batches which are never closed release their memory once neither they nor any of their
+ * {@link Row}s are reachable anymore.
+ */
+@Experimental(Experimental.Kind.SCHEMAS)
+@SuppressWarnings({
+  "nullness" // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
+})
+public class ArrowRowBatch implements Iterable<Row>, AutoCloseable {
+  private static final ReferenceQueue<ArrowRowBatch> UNREACHABLE_BATCHES = new ReferenceQueue<>();
+  // Keeps the releasers of batches which have not been released yet reachable.
+  private static final Set<Releaser> PENDING_RELEASERS = ConcurrentHashMap.newKeySet();
+
+  private final Schema schema;
+  private final VectorSchemaRoot vectorSchemaRoot;
+  private final @Nullable Releaser releaser;
+
+  private ArrowRowBatch(Schema schema, VectorSchemaRoot vectorSchemaRoot) {
+    this.schema = schema;
+    this.vectorSchemaRoot = vectorSchemaRoot;
+    this.releaser = null;
+  }
+
+  private ArrowRowBatch(
+      Schema schema, VectorSchemaRoot vectorSchemaRoot, SharedAllocator sharedAllocator) {
+    this.schema = schema;
+    this.vectorSchemaRoot = vectorSchemaRoot;
+    this.releaser = new Releaser(this, vectorSchemaRoot, sharedAllocator);
+  }
+
+  /**
+   * Returns a batch of the rows stored in {@code vectorSchemaRoot}. The returned batch takes
+   * ownership of {@code vectorSchemaRoot}.
+   */
+  public static ArrowRowBatch of(VectorSchemaRoot vectorSchemaRoot) {
+    return of(
+        ArrowSchemaTranslator.toBeamSchema(vectorSchemaRoot.getSchema()), vectorSchemaRoot);
+  }
+
+  static ArrowRowBatch of(Schema schema, VectorSchemaRoot vectorSchemaRoot) {
+    return new ArrowRowBatch(schema, vectorSchemaRoot);
+  }
+
+  /**
+   * Returns a batch of the rows stored in {@code vectorSchemaRoot}, which has been allocated by
+   * {@code allocator}. The returned batch takes ownership of both and closes the allocator once
+   * the batch and all batches derived from it have been released.
+   */
+  static ArrowRowBatch ofOwnedAllocator(
+      Schema schema, VectorSchemaRoot vectorSchemaRoot, BufferAllocator allocator) {
+    return new ArrowRowBatch(schema, vectorSchemaRoot, new SharedAllocator(allocator));
+  }
+
+  /** Releases the memory of batches with an owned allocator which have been garbage collected. */
+  static void releaseUnreachableBatches() {
+    Reference<? extends ArrowRowBatch> reference;
+    while ((reference = UNREACHABLE_BATCHES.poll()) != null) {
+      ((Releaser) reference).release();
+    }
+  }
+
+  /** Returns a batch sharing the allocator of this batch, if it has an owned one. */
+  private ArrowRowBatch derived(Schema schema, VectorSchemaRoot vectorSchemaRoot) {
+    if (releaser == null) {
+      return new ArrowRowBatch(schema, vectorSchemaRoot);
+    }
+    releaser.sharedAllocator.retain();
+    try {
+      return new ArrowRowBatch(schema, vectorSchemaRoot, releaser.sharedAllocator);
+    } catch (RuntimeException e) {
+      releaser.sharedAllocator.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns a batch containing the {@code rows}, which must all have the specified {@code schema}.
+   *
+   * <p>Only schemas with primitive field types are supported, see {@link
+   * ArrowSchemaTranslator#toArrowSchema}.
+   */
+  public static ArrowRowBatch fromRows(
+      Schema schema, Iterable<Row> rows, BufferAllocator allocator) {
+    VectorSchemaRoot vectorSchemaRoot =
+        VectorSchemaRoot.create(ArrowSchemaTranslator.toArrowSchema(schema), allocator);
+    try {
+      vectorSchemaRoot.allocateNew();
+      int rowCount = 0;
+      for (Row row : rows) {
+        for (int i = 0; i < schema.getFieldCount(); ++i) {
+          // Values which are not set are null.
+          Object value = row.getValue(i);
+          if (value != null) {
+            setValue(
+                vectorSchemaRoot.getVector(i), schema.getField(i).getType(), rowCount, value);
+          }
+        }
+        ++rowCount;
+      }
+      vectorSchemaRoot.setRowCount(rowCount);
+      return new ArrowRowBatch(schema, vectorSchemaRoot);
+    } catch (RuntimeException e) {
+      vectorSchemaRoot.close();
+      throw e;
+    }
+  }
+
+  private static void setValue(FieldVector vector, FieldType type, int index, Object value) {
+    switch (type.getTypeName()) {
+      case BYTE:
+        ((TinyIntVector) vector).setSafe(index, (byte) value);
+        break;
+      case INT16:
+        ((SmallIntVector) vector).setSafe(index, (short) value);
+        break;
+      case INT32:
+        ((IntVector) vector).setSafe(index, (int) value);
+        break;
+      case INT64:
+        ((BigIntVector) vector).setSafe(index, (long) value);
+        break;
+      case FLOAT:
+        ((Float4Vector) vector).setSafe(index, (float) value);
+        break;
+      case DOUBLE:
+        ((Float8Vector) vector).setSafe(index, (double) value);
+        break;
+      case STRING:
+        ((VarCharVector) vector).setSafe(index, ((String) value).getBytes(UTF_8));
+        break;
+      case BOOLEAN:
+        ((BitVector) vector).setSafe(index, (boolean) value ? 1 : 0);
+        break;
+      case BYTES:
+        ((VarBinaryVector) vector).setSafe(index, (byte[]) value);
+        break;
+      case DATETIME:
+        ((TimeStampMilliTZVector) vector).setSafe(index, ((ReadableInstant) value).getMillis());
+        break;
+      default:
+        throw new IllegalArgumentException("Type \'" + type.toString() + "\' not supported.");
+    }
+  }
+
+  /** Returns the Beam schema of the rows in this batch. */
+  public Schema getSchema() {
+    return schema;
+  }
+
+  /** Returns the number of rows in this batch. */
+  public int getRowCount() {
+    return vectorSchemaRoot.getRowCount();
+  }
+
+  /** Returns the Arrow {@link VectorSchemaRoot} storing the columns of this batch. */
+  public VectorSchemaRoot getVectorSchemaRoot() {
+    return vectorSchemaRoot;
+  }
+
+  /**
+   * Returns an {@link Iterator} over the rows of this batch. The values of the returned rows are
+   * read from the columns of this batch when they are accessed.
+   */
+  @Override
+  public Iterator<Row> iterator() {
+    return ArrowConversion.rowsFromRecordBatch(schema, vectorSchemaRoot, this);
+  }
+
+  /**
+   * Returns a batch containing only the specified fields, in the specified order. The columns of
+   * the returned batch share their memory with the columns of this batch.
+   */
+  public ArrowRowBatch select(String... fieldNames) {
+    return select(Arrays.asList(fieldNames));
+  }
+
+  /**
+   * Returns a batch containing only the specified fields, in the specified order. The columns of
+   * the returned batch share their memory with the columns of this batch.
+   */
+  public ArrowRowBatch select(List<String> fieldNames) {
+    Schema.Builder selectedSchema = Schema.builder();
+    List<Field> selectedFields = new ArrayList<>();
+    List<FieldVector> selectedVectors = new ArrayList<>();
+    int rowCount = getRowCount();
+    try {
+      for (String fieldName : fieldNames) {
+        checkArgument(schema.hasField(fieldName), "Unknown field %s in %s", fieldName, schema);
+        selectedSchema.addField(schema.getField(fieldName));
+        FieldVector vector = vectorSchemaRoot.getVector(fieldName);
+        TransferPair transferPair = vector.getTransferPair(vector.getAllocator());
+        // Splitting at the start of the buffers shares them instead of copying their contents.
+        transferPair.splitAndTransfer(0, rowCount);
+        selectedFields.add(vector.getField());
+        selectedVectors.add((FieldVector) transferPair.getTo());
+      }
+    } catch (RuntimeException e) {
+      selectedVectors.forEach(FieldVector::close);
+      throw e;
+    }
+    return derived(
+        selectedSchema.build(), new VectorSchemaRoot(selectedFields, selectedVectors, rowCount));
+  }
+
+  /**
+   * Returns a batch containing only the rows for which {@code predicate} returns true for the value
+   * of the specified field.
+   *
+   * <p>The predicate is evaluated on the single column of the field. Only the selected values of
+   * the other columns are copied to the returned batch.
+   */
+  public <FieldT> ArrowRowBatch filter(
+      String fieldName, SerializableFunction<FieldT, Boolean> predicate) {
+    checkArgument(schema.hasField(fieldName), "Unknown field %s in %s", fieldName, schema);
+    FieldValueGetter<Integer, Object> getter =
+        RecordBatchRowIterator.fieldValueGetter(vectorSchemaRoot.getVector(fieldName));
+    int rowCount = getRowCount();
+    int[] selection = new int[rowCount];
+    int selectedCount = 0;
+    for (int i = 0; i < rowCount; ++i) {
+      @SuppressWarnings("unchecked")
+      FieldT value = (FieldT) getter.get(i);
+      if (predicate.apply(value)) {
+        selection[selectedCount++] = i;
+      }
+    }
+
+    List<Field> fields = new ArrayList<>();
+    List<FieldVector> filteredVectors = new ArrayList<>();
+    try {
+      for (FieldVector vector : vectorSchemaRoot.getFieldVectors()) {
+        FieldVector filtered = vector.getField().createVector(vector.getAllocator());
+        filteredVectors.add(filtered);
+        filtered.allocateNew();
+        for (int i = 0; i < selectedCount; ++i) {
+          filtered.copyFromSafe(selection[i], i, vector);
+        }
+        filtered.setValueCount(selectedCount);
+        fields.add(vector.getField());
+      }
+    } catch (RuntimeException e) {
+      filteredVectors.forEach(FieldVector::close);
+      throw e;
+    }
+    return derived(schema, new VectorSchemaRoot(fields, filteredVectors, selectedCount));
+  }
+
+  /** Releases the memory held by the columns of this batch. */
+  @Override
+  public void close() {
+    if (releaser != null) {
+      releaser.release();
+    } else {
+      vectorSchemaRoot.close();
+    }
+  }
+
+  /** An allocator shared by a decoded batch and the batches derived from it. */
+  private static class SharedAllocator {
+    private final BufferAllocator allocator;
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    SharedAllocator(BufferAllocator allocator) {
+      this.allocator = allocator;
+    }
+
+    void retain() {
+      references.incrementAndGet();
+    }
+
+    void release() {
+      if (references.decrementAndGet() == 0) {
+        allocator.close();
+      }
+    }
+  }
+
+  /**
+   * Releases the memory of a batch with an owned allocator, either when the batch is closed or
+   * once it has been garbage collected. Must not reference the batch itself.
+   */
+  private static class Releaser extends PhantomReference<ArrowRowBatch> {
+    private final VectorSchemaRoot vectorSchemaRoot;
+    private final SharedAllocator sharedAllocator;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    Releaser(
+        ArrowRowBatch batch, VectorSchemaRoot vectorSchemaRoot, SharedAllocator sharedAllocator) {
+      super(batch, UNREACHABLE_BATCHES);
+      this.vectorSchemaRoot = vectorSchemaRoot;
+      this.sharedAllocator = sharedAllocator;
+      PENDING_RELEASERS.add(this);
+    }
+
+    void release() {
+      if (released.compareAndSet(false, true)) {
+        PENDING_RELEASERS.remove(this);
+        try {
+          vectorSchemaRoot.close();
+        } finally {
+          sharedAllocator.release();
+        }
+      }
+    }
+  }
+}
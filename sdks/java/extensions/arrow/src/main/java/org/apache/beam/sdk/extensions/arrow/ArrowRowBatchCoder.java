@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.extensions.arrow;
+
+import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Preconditions.checkArgument;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.util.Objects;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.VectorLoader;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.VectorUnloader;
+import org.apache.arrow.vector.ipc.ReadChannel;
+import org.apache.arrow.vector.ipc.WriteChannel;
+import org.apache.arrow.vector.ipc.message.ArrowRecordBatch;
+import org.apache.arrow.vector.ipc.message.MessageSerializer;
+import org.apache.beam.sdk.annotations.Experimental;
+import org.apache.beam.sdk.coders.CustomCoder;
+import org.apache.beam.sdk.extensions.arrow.ArrowConversion.ArrowSchemaTranslator;
+import org.apache.beam.sdk.schemas.Schema;
+import org.apache.beam.sdk.values.TypeDescriptor;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.annotations.VisibleForTesting;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link CustomCoder} for {@link ArrowRowBatch}es of a fixed {@link Schema}.
+ *
+ * <p>Batches are encoded as a single Arrow IPC record batch message without the schema, so the
+ * columns are written and read without converting individual rows.
+ *
+ * <p>Each decoded batch is allocated by a child allocator of its own, which is bounded by the
+ * {@link #withMaxBatchBytes maximum batch size}. All child allocators share a process wide {@link
+ * RootAllocator} bounded by the maximum heap size of the JVM, which is also the default limit of
+ * direct memory, so decoding fails with an Arrow {@code OutOfMemoryException} instead of exhausting
+ * the memory of the process. Decoded batches should be closed by their owner once they are no
+ * longer needed; see {@link ArrowRowBatch} for how memory of batches which are not closed is
+ * released.
+ */
+@Experimental(Experimental.Kind.SCHEMAS)
+@SuppressWarnings({
+  "nullness" // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
+})
+public class ArrowRowBatchCoder extends CustomCoder<ArrowRowBatch> {
+  private static final BufferAllocator ALLOCATOR =
+      new RootAllocator(Runtime.getRuntime().maxMemory());
+
+  private final Schema schema;
+  private final long maxBatchBytes;
+  private transient org.apache.arrow.vector.types.pojo.@Nullable Schema arrowSchema;
+
+  private ArrowRowBatchCoder(Schema schema, long maxBatchBytes) {
+    this.schema = schema;
+    this.maxBatchBytes = maxBatchBytes;
+  }
+
+  /** Returns a coder for batches of rows with the specified {@code schema}. */
+  public static ArrowRowBatchCoder of(Schema schema) {
+    // Fail early for schemas which can not be represented in Arrow.
+    ArrowSchemaTranslator.toArrowSchema(schema);
+    return new ArrowRowBatchCoder(schema, Long.MAX_VALUE);
+  }
+
+  /**
+   * Returns a coder like this one which fails to decode batches, together with the batches derived
+   * from them, needing more than {@code maxBatchBytes} of Arrow memory.
+   */
+  public ArrowRowBatchCoder withMaxBatchBytes(long maxBatchBytes) {
+    checkArgument(maxBatchBytes > 0, "maxBatchBytes must be positive, got %s", maxBatchBytes);
+    return new ArrowRowBatchCoder(schema, maxBatchBytes);
+  }
+
+  public Schema getSchema() {
+    return schema;
+  }
+
+  public long getMaxBatchBytes() {
+    return maxBatchBytes;
+  }
+
+  /** Returns the amount of memory currently allocated by batches decoded by any coder. */
+  @VisibleForTesting
+  static long getAllocatedMemory() {
+    ArrowRowBatch.releaseUnreachableBatches();
+    return ALLOCATOR.getAllocatedMemory();
+  }
+
+  private org.apache.arrow.vector.types.pojo.Schema getArrowSchema() {
+    if (arrowSchema == null) {
+      arrowSchema = ArrowSchemaTranslator.toArrowSchema(schema);
+    }
+    return arrowSchema;
+  }
+
+  @Override
+  public void encode(ArrowRowBatch value, OutputStream outStream) throws IOException {
+    checkArgument(
+        getArrowSchema().equals(value.getVectorSchemaRoot().getSchema()),
+        "Batch schema %s does not match the coder schema %s",
+        value.getVectorSchemaRoot().getSchema(),
+        getArrowSchema());
+    // The channels are not closed since that would close the underlying stream.
+    WriteChannel writeChannel = new WriteChannel(Channels.newChannel(outStream));
+    try (ArrowRecordBatch recordBatch =
+        new VectorUnloader(value.getVectorSchemaRoot()).getRecordBatch()) {
+      MessageSerializer.serialize(writeChannel, recordBatch);
+    }
+  }
+
+  @Override
+  public ArrowRowBatch decode(InputStream inStream) throws IOException {
+    ArrowRowBatch.releaseUnreachableBatches();
+    ReadChannel readChannel = new ReadChannel(Channels.newChannel(inStream));
+    BufferAllocator allocator =
+        ALLOCATOR.newChildAllocator(ArrowRowBatchCoder.class.getSimpleName(), 0, maxBatchBytes);
+    VectorSchemaRoot vectorSchemaRoot = null;
+    try {
+      vectorSchemaRoot = VectorSchemaRoot.create(getArrowSchema(), allocator);
+      try (ArrowRecordBatch recordBatch =
+          MessageSerializer.deserializeRecordBatch(readChannel, allocator)) {
+        if (recordBatch == null) {
+          throw new EOFException("Reached the end of the stream before reading a record batch.");
+        }
+        new VectorLoader(vectorSchemaRoot).load(recordBatch);
+      }
+      return ArrowRowBatch.ofOwnedAllocator(schema, vectorSchemaRoot, allocator);
+    } catch (IOException | RuntimeException e) {
+      if (vectorSchemaRoot != null) {
+        vectorSchemaRoot.close();
+      }
+      allocator.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public void verifyDeterministic() throws NonDeterministicException {
+    throw new NonDeterministicException(
+        this, "The padding of Arrow buffers is not guaranteed to be deterministic.");
+  }
+
+  @Override
+  public TypeDescriptor<ArrowRowBatch> getEncodedTypeDescriptor() {
+    return TypeDescriptor.of(ArrowRowBatch.class);
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ArrowRowBatchCoder that = (ArrowRowBatchCoder) o;
+    return schema.equals(that.schema) && maxBatchBytes == that.maxBatchBytes;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(schema, maxBatchBytes);
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.extensions.arrow;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.OutOfMemoryException;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.beam.sdk.schemas.Schema;
+import org.apache.beam.sdk.schemas.Schema.FieldType;
+import org.apache.beam.sdk.util.CoderUtils;
+import org.apache.beam.sdk.values.Row;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableList;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link ArrowRowBatch} and {@link ArrowRowBatchCoder}. */
+@RunWith(JUnit4.class)
+public class ArrowRowBatchTest {
+  private static final Schema SCHEMA =
+      Schema.builder()
+          .addInt32Field("int32")
+          .addInt64Field("int64")
+          .addDoubleField("float64")
+          .addNullableField("string", FieldType.STRING)
+          .addBooleanField("boolean")
+          .addByteArrayField("bytes")
+          .addDateTimeField("datetime")
+          .build();
+
+  @Rule public ExpectedException thrown = ExpectedException.none();
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void init() {
+    allocator = new RootAllocator(Long.MAX_VALUE);
+  }
+
+  @After
+  public void teardown() {
+    allocator.close();
+    assertThat(ArrowRowBatchCoder.getAllocatedMemory(), equalTo(0L));
+  }
+
+  @Test
+  public void testFromRows() {
+    List<Row> rows = rows(16);
+    try (ArrowRowBatch batch = ArrowRowBatch.fromRows(SCHEMA, rows, allocator)) {
+      assertThat(batch.getSchema(), equalTo(SCHEMA));
+      assertThat(batch.getRowCount(), equalTo(16));
+      assertThat(ImmutableList.copyOf(batch), equalTo(rows));
+    }
+  }
+
+  @Test
+  public void testSelect() {
+    List<Row> rows = rows(16);
+    try (ArrowRowBatch batch = ArrowRowBatch.fromRows(SCHEMA, rows, allocator);
+        ArrowRowBatch selected = batch.select("string", "int32")) {
+      Schema expectedSchema =
+          Schema.builder()
+              .addNullableField("string", FieldType.STRING)
+              .addInt32Field("int32")
+              .build();
+      List<Row> expectedRows = new ArrayList<>();
+      for (Row row : rows) {
+        expectedRows.add(
+            Row.withSchema(expectedSchema)
+                .addValues(row.getString("string"), row.getInt32("int32"))
+                .build());
+      }
+      assertThat(selected.getSchema(), equalTo(expectedSchema));
+      assertThat(ImmutableList.copyOf(selected), equalTo(expectedRows));
+    }
+  }
+
+  @Test
+  public void testFilter() {
+    List<Row> rows = rows(16);
+    try (ArrowRowBatch batch = ArrowRowBatch.fromRows(SCHEMA, rows, allocator);
+        ArrowRowBatch filtered = batch.<Integer>filter("int32", i -> i % 3 == 0)) {
+      assertThat(
+          ImmutableList.copyOf(filtered),
+          contains(rows.get(0), rows.get(3), rows.get(6), rows.get(9), rows.get(12), rows.get(15)));
+    }
+  }
+
+  @Test
+  public void testFilterOnNullableField() {
+    List<Row> rows = rows(4);
+    try (ArrowRowBatch batch = ArrowRowBatch.fromRows(SCHEMA, rows, allocator);
+        ArrowRowBatch filtered = batch.<String>filter("string", s -> s == null)) {
+      assertThat(ImmutableList.copyOf(filtered), contains(rows.get(0), rows.get(2)));
+    }
+  }
+
+  @Test
+  public void testCoderRoundTrip() throws Exception {
+    List<Row> rows = rows(16);
+    ArrowRowBatchCoder coder = ArrowRowBatchCoder.of(SCHEMA);
+    try (ArrowRowBatch batch = ArrowRowBatch.fromRows(SCHEMA, rows, allocator);
+        ArrowRowBatch decoded =
+            CoderUtils.decodeFromByteArray(coder, CoderUtils.encodeToByteArray(coder, batch))) {
+      assertThat(ImmutableList.copyOf(decoded), equalTo(rows));
+    }
+  }
+
+  @Test
+  public void testCoderRoundTripEmptyBatch() throws Exception {
+    ArrowRowBatchCoder coder = ArrowRowBatchCoder.of(SCHEMA);
+    try (ArrowRowBatch batch = ArrowRowBatch.fromRows(SCHEMA, ImmutableList.of(), allocator);
+        ArrowRowBatch decoded =
+            CoderUtils.decodeFromByteArray(coder, CoderUtils.encodeToByteArray(coder, batch))) {
+      assertThat(decoded.getRowCount(), equalTo(0));
+    }
+  }
+
+  @Test
+  public void testCoderReleasesDecodedMemory() throws Exception {
+    List<Row> rows = rows(16);
+    ArrowRowBatchCoder coder = ArrowRowBatchCoder.of(SCHEMA);
+    try (ArrowRowBatch batch = ArrowRowBatch.fromRows(SCHEMA, rows, allocator)) {
+      byte[] encoded = CoderUtils.encodeToByteArray(coder, batch);
+      for (int i = 0; i < 8; i++) {
+        ArrowRowBatch decoded = CoderUtils.decodeFromByteArray(coder, encoded);
+        ArrowRowBatch selected = decoded.select("int32");
+        ArrowRowBatch filtered = decoded.<Integer>filter("int32", n -> n % 2 == 0);
+        assertThat(ArrowRowBatchCoder.getAllocatedMemory(), greaterThan(0L));
+
+        // The allocator of a decoded batch is only closed once its derived batches are closed.
+        decoded.close();
+        assertThat(ImmutableList.copyOf(selected).size(), equalTo(16));
+        selected.close();
+        assertThat(ImmutableList.copyOf(filtered).size(), equalTo(8));
+        filtered.close();
+        assertThat(ArrowRowBatchCoder.getAllocatedMemory(), equalTo(0L));
+      }
+    }
+  }
+
+  @Test
+  public void testCoderLimitsDecodedBatchSize() throws Exception {
+    ArrowRowBatchCoder coder = ArrowRowBatchCoder.of(SCHEMA).withMaxBatchBytes(64);
+    try (ArrowRowBatch batch = ArrowRowBatch.fromRows(SCHEMA, rows(16), allocator)) {
+      byte[] encoded = CoderUtils.encodeToByteArray(coder, batch);
+      thrown.expect(OutOfMemoryException.class);
+      try {
+        CoderUtils.decodeFromByteArray(coder, encoded);
+      } finally {
+        assertThat(ArrowRowBatchCoder.getAllocatedMemory(), equalTo(0L));
+      }
+    }
+  }
+
+  private static List<Row> rows(int count) {
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      rows.add(
+          Row.withSchema(SCHEMA)
+              .addValues(
+                  i,
+                  (long) i << 32,
+                  i + .1 * i,
+                  i % 2 == 0 ? null : "" + i,
+                  i % 2 != 0,
+                  new byte[] {(byte) i, (byte) (i + 1)},
+                  new DateTime(2019, 1, i + 1, i, i, i, DateTimeZone.UTC))
+              .build());
+    }
+    return rows;
+  }
+}
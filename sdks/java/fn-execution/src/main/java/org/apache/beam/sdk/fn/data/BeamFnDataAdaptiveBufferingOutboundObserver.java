@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.fn.data;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.apache.beam.model.fnexecution.v1.BeamFnApi;
+import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.vendor.grpc.v1p36p0.io.grpc.stub.StreamObserver;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.annotations.VisibleForTesting;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.cache.Cache;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.cache.CacheBuilder;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * A buffering outbound {@link FnDataReceiver} for the Beam Fn Data API which adapts its flush size
+ * to the observed element rate and gRPC flow control backpressure.
+ *
+ * <p>The buffer is flushed once it has been filling for longer than the current latency target or
+ * once it reaches a size which the observed byte rate fills within the latency target. Slow streams
+ * of small elements are therefore sent with low latency while fast streams are sent in large
+ * messages. A flush is scheduled on a shared background flusher whenever the buffer starts filling,
+ * so a buffer which stops receiving elements is still sent within the latency target.
+ *
+ * <p>Time spent blocked within the outbound {@link StreamObserver} is treated as flow control
+ * backpressure. While the consumer is unable to keep up, the latency target and thereby the flush
+ * size grow, up to a multiple of the configured size limit, reducing the per message overhead. Once
+ * the backpressure subsides the latency target decays back to the initial target. A configured time
+ * limit is used as the initial latency target and stays a hard bound, the latency target only grows
+ * beyond the initial target when no time limit is configured.
+ *
+ * <p>The learned byte rate and latency target are kept in the provided {@link Estimates} when the
+ * observer is closed and used as the starting point of later observers for the same transform.
+ */
+@SuppressWarnings({
+  "nullness" // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
+})
+public class BeamFnDataAdaptiveBufferingOutboundObserver<T>
+    extends BeamFnDataSizeBasedBufferingOutboundObserver<T> {
+  static final long DEFAULT_LATENCY_TARGET_MS = 10L;
+
+  @VisibleForTesting static final int MIN_FLUSH_SIZE_BYTES = 1024;
+  // Under backpressure the flush size may grow up to this multiple of the configured size limit.
+  @VisibleForTesting static final int MAX_FLUSH_SIZE_MULTIPLIER = 4;
+  private static final long MAX_LATENCY_TARGET_NANOS = TimeUnit.SECONDS.toNanos(1);
+  // The share of time spent blocked on sending above which the stream is considered backpressured.
+  private static final double BACKPRESSURE_THRESHOLD = 0.1;
+  // The weight of the most recent flush within the exponentially smoothed byte rate.
+  private static final double RATE_SMOOTHING = 0.3;
+
+  private static final ScheduledExecutorService FLUSH_EXECUTOR = createFlushExecutor();
+
+  private final LogicalEndpoint outputLocation;
+  private final Estimates estimates;
+  private final ScheduledExecutorService flushExecutor;
+  private final LongSupplier nanoClock;
+  private final long maxFlushSize;
+  private final long initialLatencyTargetNanos;
+  private final long maxLatencyTargetNanos;
+  private long latencyTargetNanos;
+  private int flushSizeLimit;
+  private double bytesPerSecond;
+  private long firstBufferedNanos;
+  private long lastFlushNanos;
+  private long flushCount;
+  private ScheduledFuture<?> scheduledFlush;
+  private Exception scheduledFlushFailure;
+
+  BeamFnDataAdaptiveBufferingOutboundObserver(
+      int sizeLimit,
+      long timeLimitMs,
+      LogicalEndpoint outputLocation,
+      Coder<T> coder,
+      StreamObserver<BeamFnApi.Elements> outboundObserver,
+      Estimates estimates) {
+    this(
+        sizeLimit,
+        timeLimitMs,
+        outputLocation,
+        coder,
+        outboundObserver,
+        estimates,
+        FLUSH_EXECUTOR,
+        System::nanoTime);
+  }
+
+  /**
+   * @param timeLimitMs the maximum time an element is buffered for, or a non-positive value to let
+   *     the latency target grow under backpressure.
+   */
+  @VisibleForTesting
+  BeamFnDataAdaptiveBufferingOutboundObserver(
+      int sizeLimit,
+      long timeLimitMs,
+      LogicalEndpoint outputLocation,
+      Coder<T> coder,
+      StreamObserver<BeamFnApi.Elements> outboundObserver,
+      Estimates estimates,
+      ScheduledExecutorService flushExecutor,
+      LongSupplier nanoClock) {
+    super(sizeLimit, outputLocation, coder, outboundObserver);
+    this.outputLocation = outputLocation;
+    this.estimates = estimates;
+    this.flushExecutor = flushExecutor;
+    this.nanoClock = nanoClock;
+    this.maxFlushSize = Math.min(Integer.MAX_VALUE, (long) sizeLimit * MAX_FLUSH_SIZE_MULTIPLIER);
+    this.initialLatencyTargetNanos =
+        TimeUnit.MILLISECONDS.toNanos(timeLimitMs > 0 ? timeLimitMs : DEFAULT_LATENCY_TARGET_MS);
+    this.maxLatencyTargetNanos =
+        timeLimitMs > 0
+            ? initialLatencyTargetNanos
+            : Math.max(initialLatencyTargetNanos, MAX_LATENCY_TARGET_NANOS);
+    this.latencyTargetNanos = initialLatencyTargetNanos;
+    this.flushSizeLimit = sizeLimit;
+    Estimate estimate = estimates.get(outputLocation);
+    if (estimate != null) {
+      this.bytesPerSecond = estimate.bytesPerSecond;
+      this.latencyTargetNanos =
+          Math.max(
+              initialLatencyTargetNanos,
+              Math.min(maxLatencyTargetNanos, estimate.latencyTargetNanos));
+      updateFlushSizeLimit();
+    }
+    this.lastFlushNanos = nanoClock.getAsLong();
+  }
+
+  @Override
+  public synchronized void close() throws Exception {
+    checkScheduledFlushFailure();
+    cancelScheduledFlush();
+    super.close();
+    if (bytesPerSecond > 0) {
+      estimates.put(outputLocation, new Estimate(bytesPerSecond, latencyTargetNanos));
+    }
+  }
+
+  @Override
+  public synchronized void accept(T t) throws IOException {
+    checkScheduledFlushFailure();
+    long now = nanoClock.getAsLong();
+    if (getBufferedSize() == 0) {
+      firstBufferedNanos = now;
+    }
+    super.accept(t);
+    if (getBufferedSize() == 0) {
+      return;
+    }
+    long remainingNanos = firstBufferedNanos + latencyTargetNanos - now;
+    if (remainingNanos <= 0) {
+      flush();
+    } else if (scheduledFlush == null) {
+      long expectedFlushCount = flushCount;
+      scheduledFlush =
+          flushExecutor.schedule(
+              () -> scheduledFlush(expectedFlushCount), remainingNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public synchronized void flush() throws IOException {
+    checkScheduledFlushFailure();
+    int bufferedSize = getBufferedSize();
+    if (bufferedSize == 0) {
+      return;
+    }
+    cancelScheduledFlush();
+    flushCount += 1;
+    long sendStartNanos = nanoClock.getAsLong();
+    super.flush();
+    long sendEndNanos = nanoClock.getAsLong();
+    adapt(bufferedSize, sendStartNanos - lastFlushNanos, sendEndNanos - sendStartNanos);
+    lastFlushNanos = sendEndNanos;
+  }
+
+  @Override
+  int getFlushSizeLimit() {
+    return flushSizeLimit;
+  }
+
+  @VisibleForTesting
+  long getLatencyTargetNanos() {
+    return latencyTargetNanos;
+  }
+
+  /** Flushes the buffer unless it was flushed since the flush was scheduled. */
+  private synchronized void scheduledFlush(long expectedFlushCount) {
+    if (flushCount != expectedFlushCount) {
+      return;
+    }
+    scheduledFlush = null;
+    try {
+      flush();
+    } catch (IOException | RuntimeException e) {
+      // Surfaced to the thread producing the elements.
+      scheduledFlushFailure = e;
+    }
+  }
+
+  private void cancelScheduledFlush() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+  }
+
+  private void checkScheduledFlushFailure() throws IOException {
+    if (scheduledFlushFailure != null) {
+      throw new IOException("Scheduled flush failed.", scheduledFlushFailure);
+    }
+  }
+
+  private void adapt(int flushedBytes, long fillNanos, long sendNanos) {
+    if (fillNanos > 0) {
+      double rate = flushedBytes * 1e9 / fillNanos;
+      bytesPerSecond =
+          bytesPerSecond == 0
+              ? rate
+              : RATE_SMOOTHING * rate + (1 - RATE_SMOOTHING) * bytesPerSecond;
+    }
+
+    if (sendNanos > BACKPRESSURE_THRESHOLD * (fillNanos + sendNanos)) {
+      latencyTargetNanos = Math.min(2 * latencyTargetNanos, maxLatencyTargetNanos);
+    } else {
+      latencyTargetNanos =
+          initialLatencyTargetNanos + (latencyTargetNanos - initialLatencyTargetNanos) / 2;
+    }
+
+    updateFlushSizeLimit();
+  }
+
+  private void updateFlushSizeLimit() {
+    if (bytesPerSecond > 0) {
+      double targetSize = bytesPerSecond * latencyTargetNanos / 1e9;
+      flushSizeLimit = (int) Math.max(MIN_FLUSH_SIZE_BYTES, Math.min(maxFlushSize, targetSize));
+    }
+  }
+
+  private static ScheduledExecutorService createFlushExecutor() {
+    ScheduledThreadPoolExecutor executor =
+        new ScheduledThreadPoolExecutor(
+            Math.max(2, Runtime.getRuntime().availableProcessors()),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("DataBufferAdaptiveFlusher-thread-%d")
+                .build());
+    // Most scheduled flushes are cancelled as the buffer is sent before they are due.
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+
+  /**
+   * The byte rates and latency targets learned by adaptive observers, kept across bundles per
+   * transform and timer family. Holds the estimates of at most {@link #MAX_ENDPOINTS} of them.
+   */
+  public static class Estimates {
+    @VisibleForTesting static final int MAX_ENDPOINTS = 10_000;
+
+    private final Cache<LogicalEndpoint, Estimate> estimates =
+        CacheBuilder.newBuilder().maximumSize(MAX_ENDPOINTS).build();
+
+    private Estimate get(LogicalEndpoint endpoint) {
+      return estimates.getIfPresent(withoutInstructionId(endpoint));
+    }
+
+    private void put(LogicalEndpoint endpoint, Estimate estimate) {
+      estimates.put(withoutInstructionId(endpoint), estimate);
+    }
+
+    private static LogicalEndpoint withoutInstructionId(LogicalEndpoint endpoint) {
+      return endpoint.isTimer()
+          ? LogicalEndpoint.timer("", endpoint.getTransformId(), endpoint.getTimerFamilyId())
+          : LogicalEndpoint.data("", endpoint.getTransformId());
+    }
+  }
+
+  private static class Estimate {
+    private final double bytesPerSecond;
+    private final long latencyTargetNanos;
+
+    private Estimate(double bytesPerSecond, long latencyTargetNanos) {
+      this.bytesPerSecond = bytesPerSecond;
+      this.latencyTargetNanos = latencyTargetNanos;
+    }
+  }
+}
@@ -37,6 +37,12 @@ import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.annotations.Visi
  *
  * <p>The default time-based buffer threshold can be overridden by specifying the experiment {@code
  * data_buffer_time_limit_ms=<milliseconds>}
+ *
+ * <p>Specifying the experiment {@code data_buffer_adaptive} enables adaptive buffering which tunes
+ * the flush size between latency and throughput based on the observed element rate and gRPC flow
+ * control backpressure, see {@link BeamFnDataAdaptiveBufferingOutboundObserver}. The configured
+ * time limit, if any, is used as its initial latency target and remains the maximum time an element
+ * is buffered for.
  */
 public interface BeamFnDataBufferingOutboundObserver<T> extends CloseableFnDataReceiver<T> {
   // TODO: Consider moving this constant out of this interface
@@ -55,14 +61,38 @@ public interface BeamFnDataBufferingOutboundObserver<T> extends CloseableFnDataR
   String DATA_BUFFER_TIME_LIMIT_MS = "data_buffer_time_limit_ms=";
   long DEFAULT_BUFFER_LIMIT_TIME_MS = -1L;
 
+  String DATA_BUFFER_ADAPTIVE = "data_buffer_adaptive";
+
   static <T> BeamFnDataSizeBasedBufferingOutboundObserver<T> forLocation(
       PipelineOptions options,
       LogicalEndpoint endpoint,
       Coder<T> coder,
       StreamObserver<BeamFnApi.Elements> outboundObserver) {
+    return forLocation(
+        options,
+        endpoint,
+        coder,
+        outboundObserver,
+        new BeamFnDataAdaptiveBufferingOutboundObserver.Estimates());
+  }
+
+  /**
+   * Like {@link #forLocation(PipelineOptions, LogicalEndpoint, Coder, StreamObserver)} but lets an
+   * adaptive observer start from the estimates learned for the same transform in earlier bundles
+   * and keep its own estimates in {@code estimates} once closed.
+   */
+  static <T> BeamFnDataSizeBasedBufferingOutboundObserver<T> forLocation(
+      PipelineOptions options,
+      LogicalEndpoint endpoint,
+      Coder<T> coder,
+      StreamObserver<BeamFnApi.Elements> outboundObserver,
+      BeamFnDataAdaptiveBufferingOutboundObserver.Estimates estimates) {
     int sizeLimit = getSizeLimit(options);
     long timeLimit = getTimeLimit(options);
-    if (timeLimit > 0) {
+    if (ExperimentalOptions.hasExperiment(options, DATA_BUFFER_ADAPTIVE)) {
+      return new BeamFnDataAdaptiveBufferingOutboundObserver<>(
+          sizeLimit, timeLimit, endpoint, coder, outboundObserver, estimates);
+    } else if (timeLimit > 0) {
       return new BeamFnDataTimeBasedBufferingOutboundObserver<>(
           sizeLimit, timeLimit, endpoint, coder, outboundObserver);
     } else {
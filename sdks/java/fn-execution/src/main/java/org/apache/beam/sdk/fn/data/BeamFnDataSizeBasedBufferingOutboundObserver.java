@@ -111,11 +111,21 @@ public class BeamFnDataSizeBasedBufferingOutboundObserver<T>
     }
     coder.encode(t, bufferedElements);
     counter += 1;
-    if (bufferedElements.size() >= sizeLimit) {
+    if (bufferedElements.size() >= getFlushSizeLimit()) {
       flush();
     }
   }
 
+  /** Returns the number of buffered bytes at which the buffer is flushed. */
+  int getFlushSizeLimit() {
+    return sizeLimit;
+  }
+
+  /** Returns the number of bytes currently buffered. */
+  int getBufferedSize() {
+    return bufferedElements.size();
+  }
+
   private BeamFnApi.Elements.Builder convertBufferForTransmission() {
     BeamFnApi.Elements.Builder elements = BeamFnApi.Elements.newBuilder();
     if (bufferedElements.size() == 0) {
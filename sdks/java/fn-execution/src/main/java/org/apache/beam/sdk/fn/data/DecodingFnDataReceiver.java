@@ -17,11 +17,26 @@
  */
 package org.apache.beam.sdk.fn.data;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.sdk.util.ExposedByteBufferInputStream;
+import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteOutput;
 import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
+import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.UnsafeByteOperations;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-/** A receiver of encoded data, decoding it and passing it onto a downstream consumer. */
+/**
+ * A receiver of encoded data, decoding it and passing it onto a downstream consumer.
+ *
+ * <p>Data which is backed by a single buffer is decoded through an {@link
+ * ExposedByteBufferInputStream} over that buffer, allowing coders such as {@code StringUtf8Coder}
+ * and {@code LengthPrefixCoder} to decode directly from the received bytes without intermediate
+ * copies. Data composed of several buffers is decoded through a regular stream since elements may
+ * span buffer boundaries.
+ */
 public class DecodingFnDataReceiver<T> implements FnDataReceiver<ByteString> {
 
   private final Coder<T> coder;
@@ -38,9 +53,53 @@ public class DecodingFnDataReceiver<T> implements FnDataReceiver<ByteString> {
 
   @Override
   public void accept(ByteString input) throws Exception {
-    InputStream inputStream = input.newInput();
+    InputStream inputStream = newInput(input);
     while (inputStream.available() > 0) {
       consumer.accept(coder.decode(inputStream));
     }
   }
+
+  static InputStream newInput(ByteString input) throws IOException {
+    SingleBufferOutput output = new SingleBufferOutput();
+    UnsafeByteOperations.unsafeWriteTo(input, output);
+    if (output.buffer != null && output.bufferCount == 1) {
+      return new ExposedByteBufferInputStream(output.buffer);
+    }
+    return input.newInput();
+  }
+
+  /** Captures the underlying buffer of a {@link ByteString} composed of a single buffer. */
+  private static class SingleBufferOutput extends ByteOutput {
+    private @Nullable ByteBuffer buffer;
+    private int bufferCount;
+
+    @Override
+    public void write(byte value) {
+      write(new byte[] {value}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] value, int offset, int length) {
+      // The bytes may be reused by the caller so they have to be copied.
+      writeLazy(Arrays.copyOfRange(value, offset, offset + length), 0, length);
+    }
+
+    @Override
+    public void writeLazy(byte[] value, int offset, int length) {
+      writeLazy(ByteBuffer.wrap(value, offset, length));
+    }
+
+    @Override
+    public void write(ByteBuffer value) {
+      byte[] bytes = new byte[value.remaining()];
+      value.get(bytes);
+      writeLazy(ByteBuffer.wrap(bytes));
+    }
+
+    @Override
+    public void writeLazy(ByteBuffer value) {
+      buffer = value;
+      bufferCount += 1;
+    }
+  }
 }
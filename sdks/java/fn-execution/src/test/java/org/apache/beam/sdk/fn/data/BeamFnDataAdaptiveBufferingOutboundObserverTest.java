@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.fn.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.apache.beam.model.fnexecution.v1.BeamFnApi.Elements;
+import org.apache.beam.sdk.coders.ByteArrayCoder;
+import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.sdk.coders.LengthPrefixCoder;
+import org.apache.beam.sdk.fn.test.TestStreams;
+import org.apache.beam.sdk.options.ExperimentalOptions;
+import org.apache.beam.sdk.options.PipelineOptions;
+import org.apache.beam.sdk.options.PipelineOptionsFactory;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link BeamFnDataAdaptiveBufferingOutboundObserver}. */
+@RunWith(JUnit4.class)
+public class BeamFnDataAdaptiveBufferingOutboundObserverTest {
+  private static final LogicalEndpoint OUTPUT_LOCATION = LogicalEndpoint.data("777L", "555L");
+  private static final Coder<byte[]> CODER = LengthPrefixCoder.of(ByteArrayCoder.of());
+  private static final int SIZE_LIMIT = 1_000_000;
+  private static final long LATENCY_TARGET_MS =
+      BeamFnDataAdaptiveBufferingOutboundObserver.DEFAULT_LATENCY_TARGET_MS;
+  private static final long NO_TIME_LIMIT = -1;
+
+  private final List<Runnable> scheduledFlushes = new ArrayList<>();
+
+  /** Returns a flush executor which only collects the scheduled flushes. */
+  private ScheduledExecutorService flushExecutor() {
+    ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+    when(executor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+        .thenAnswer(
+            invocation -> {
+              scheduledFlushes.add((Runnable) invocation.getArguments()[0]);
+              return mock(ScheduledFuture.class);
+            });
+    return executor;
+  }
+
+  @Test
+  public void testConfiguredAdaptiveBuffering() throws Exception {
+    PipelineOptions options = PipelineOptionsFactory.create();
+    options.as(ExperimentalOptions.class).setExperiments(Arrays.asList("data_buffer_adaptive"));
+    CloseableFnDataReceiver<byte[]> consumer =
+        BeamFnDataBufferingOutboundObserver.forLocation(
+            options,
+            OUTPUT_LOCATION,
+            CODER,
+            TestStreams.withOnNext((Consumer<Elements>) e -> {}).build());
+    assertThat(consumer, instanceOf(BeamFnDataAdaptiveBufferingOutboundObserver.class));
+  }
+
+  @Test
+  public void testFlushesSlowStreamsWithinLatencyTarget() throws Exception {
+    AtomicLong clock = new AtomicLong();
+    List<Elements> values = new ArrayList<>();
+    BeamFnDataAdaptiveBufferingOutboundObserver<byte[]> consumer =
+        new BeamFnDataAdaptiveBufferingOutboundObserver<>(
+            SIZE_LIMIT,
+            NO_TIME_LIMIT,
+            OUTPUT_LOCATION,
+            CODER,
+            TestStreams.withOnNext((Consumer<Elements>) values::add).build(),
+            new BeamFnDataAdaptiveBufferingOutboundObserver.Estimates(),
+            flushExecutor(),
+            clock::get);
+
+    // One small element per millisecond is flushed once the oldest element waited 10ms.
+    for (int i = 0; i < 10; ++i) {
+      consumer.accept(new byte[10]);
+      clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+    assertEquals(0, values.size());
+    consumer.accept(new byte[10]);
+    assertEquals(1, values.size());
+
+    // The observed rate only fills a tiny buffer within the latency target.
+    assertEquals(
+        BeamFnDataAdaptiveBufferingOutboundObserver.MIN_FLUSH_SIZE_BYTES,
+        consumer.getFlushSizeLimit());
+    assertEquals(
+        TimeUnit.MILLISECONDS.toNanos(LATENCY_TARGET_MS), consumer.getLatencyTargetNanos());
+  }
+
+  @Test
+  public void testGrowsFlushSizeUnderBackpressure() throws Exception {
+    AtomicLong clock = new AtomicLong();
+    AtomicLong sendDelayNanos = new AtomicLong(TimeUnit.MILLISECONDS.toNanos(50));
+    BeamFnDataAdaptiveBufferingOutboundObserver<byte[]> consumer =
+        new BeamFnDataAdaptiveBufferingOutboundObserver<>(
+            SIZE_LIMIT,
+            NO_TIME_LIMIT,
+            OUTPUT_LOCATION,
+            CODER,
+            TestStreams.withOnNext(
+                    (Consumer<Elements>) e -> clock.addAndGet(sendDelayNanos.get()))
+                .build(),
+            new BeamFnDataAdaptiveBufferingOutboundObserver.Estimates(),
+            flushExecutor(),
+            clock::get);
+
+    // Sending blocks for much longer than it takes to fill the buffer.
+    for (int i = 0; i < 10; ++i) {
+      consumer.accept(new byte[100_000]);
+      clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+    assertEquals(
+        TimeUnit.MILLISECONDS.toNanos(2 * LATENCY_TARGET_MS), consumer.getLatencyTargetNanos());
+    assertThat(consumer.getFlushSizeLimit(), greaterThan(SIZE_LIMIT));
+
+    for (int i = 0; i < 1000; ++i) {
+      consumer.accept(new byte[100_000]);
+      clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+    assertThat(
+        consumer.getFlushSizeLimit(),
+        lessThanOrEqualTo(
+            SIZE_LIMIT * BeamFnDataAdaptiveBufferingOutboundObserver.MAX_FLUSH_SIZE_MULTIPLIER));
+
+    // Once the backpressure subsides the latency target decays back to the initial target.
+    sendDelayNanos.set(0);
+    for (int i = 0; i < 1000; ++i) {
+      consumer.accept(new byte[100_000]);
+      clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+    assertEquals(
+        TimeUnit.MILLISECONDS.toNanos(LATENCY_TARGET_MS), consumer.getLatencyTargetNanos());
+  }
+
+  @Test
+  public void testScheduledFlushSendsIdleBuffer() throws Exception {
+    AtomicLong clock = new AtomicLong();
+    List<Elements> values = new ArrayList<>();
+    BeamFnDataAdaptiveBufferingOutboundObserver<byte[]> consumer =
+        new BeamFnDataAdaptiveBufferingOutboundObserver<>(
+            SIZE_LIMIT,
+            NO_TIME_LIMIT,
+            OUTPUT_LOCATION,
+            CODER,
+            TestStreams.withOnNext((Consumer<Elements>) values::add).build(),
+            new BeamFnDataAdaptiveBufferingOutboundObserver.Estimates(),
+            flushExecutor(),
+            clock::get);
+
+    // No further element arrives, the flush scheduled with the first one sends the buffer.
+    consumer.accept(new byte[10]);
+    consumer.accept(new byte[10]);
+    assertEquals(1, scheduledFlushes.size());
+    assertEquals(0, values.size());
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(LATENCY_TARGET_MS));
+    scheduledFlushes.get(0).run();
+    assertEquals(1, values.size());
+
+    // A flush scheduled for a buffer which was sent in the meantime does nothing.
+    consumer.accept(new byte[10]);
+    assertEquals(2, scheduledFlushes.size());
+    consumer.flush();
+    consumer.accept(new byte[10]);
+    scheduledFlushes.get(1).run();
+    assertEquals(2, values.size());
+  }
+
+  @Test
+  public void testTimeLimitBoundsLatencyTarget() throws Exception {
+    AtomicLong clock = new AtomicLong();
+    BeamFnDataAdaptiveBufferingOutboundObserver<byte[]> consumer =
+        new BeamFnDataAdaptiveBufferingOutboundObserver<>(
+            SIZE_LIMIT,
+            LATENCY_TARGET_MS,
+            OUTPUT_LOCATION,
+            CODER,
+            TestStreams.withOnNext(
+                    (Consumer<Elements>)
+                        e -> clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(50)))
+                .build(),
+            new BeamFnDataAdaptiveBufferingOutboundObserver.Estimates(),
+            flushExecutor(),
+            clock::get);
+
+    // Backpressure does not let elements wait for longer than the configured time limit.
+    for (int i = 0; i < 100; ++i) {
+      consumer.accept(new byte[100_000]);
+      clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+    assertEquals(
+        TimeUnit.MILLISECONDS.toNanos(LATENCY_TARGET_MS), consumer.getLatencyTargetNanos());
+  }
+
+  @Test
+  public void testKeepsEstimatesAcrossBundles() throws Exception {
+    AtomicLong clock = new AtomicLong();
+    BeamFnDataAdaptiveBufferingOutboundObserver.Estimates estimates =
+        new BeamFnDataAdaptiveBufferingOutboundObserver.Estimates();
+    BeamFnDataAdaptiveBufferingOutboundObserver<byte[]> firstBundle =
+        new BeamFnDataAdaptiveBufferingOutboundObserver<>(
+            SIZE_LIMIT,
+            NO_TIME_LIMIT,
+            LogicalEndpoint.data("1L", "555L"),
+            CODER,
+            TestStreams.withOnNext((Consumer<Elements>) e -> {}).build(),
+            estimates,
+            flushExecutor(),
+            clock::get);
+    for (int i = 0; i < 20; ++i) {
+      firstBundle.accept(new byte[10]);
+      clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+    assertEquals(
+        BeamFnDataAdaptiveBufferingOutboundObserver.MIN_FLUSH_SIZE_BYTES,
+        firstBundle.getFlushSizeLimit());
+    firstBundle.close();
+
+    // The next bundle of the same transform starts from the learned flush size.
+    BeamFnDataAdaptiveBufferingOutboundObserver<byte[]> secondBundle =
+        new BeamFnDataAdaptiveBufferingOutboundObserver<>(
+            SIZE_LIMIT,
+            NO_TIME_LIMIT,
+            LogicalEndpoint.data("2L", "555L"),
+            CODER,
+            TestStreams.withOnNext((Consumer<Elements>) e -> {}).build(),
+            estimates,
+            flushExecutor(),
+            clock::get);
+    assertEquals(
+        BeamFnDataAdaptiveBufferingOutboundObserver.MIN_FLUSH_SIZE_BYTES,
+        secondBundle.getFlushSizeLimit());
+
+    // Other transforms do not share it.
+    BeamFnDataAdaptiveBufferingOutboundObserver<byte[]> otherTransform =
+        new BeamFnDataAdaptiveBufferingOutboundObserver<>(
+            SIZE_LIMIT,
+            NO_TIME_LIMIT,
+            LogicalEndpoint.data("2L", "666L"),
+            CODER,
+            TestStreams.withOnNext((Consumer<Elements>) e -> {}).build(),
+            estimates,
+            flushExecutor(),
+            clock::get);
+    assertEquals(SIZE_LIMIT, otherTransform.getFlushSizeLimit());
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.sdk.fn.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.sdk.coders.LengthPrefixCoder;
+import org.apache.beam.sdk.coders.StringUtf8Coder;
+import org.apache.beam.sdk.util.ExposedByteBufferInputStream;
+import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Strings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link DecodingFnDataReceiver}. */
+@RunWith(JUnit4.class)
+public class DecodingFnDataReceiverTest {
+  private static final Coder<String> CODER = LengthPrefixCoder.of(StringUtf8Coder.of());
+
+  @Test
+  public void testDecodesFromUnderlyingBuffer() throws Exception {
+    ByteString data = encode("A", Strings.repeat("B", 200), "C");
+    assertThat(
+        DecodingFnDataReceiver.newInput(data), instanceOf(ExposedByteBufferInputStream.class));
+    assertThat(
+        DecodingFnDataReceiver.newInput(data.substring(2)),
+        instanceOf(ExposedByteBufferInputStream.class));
+
+    List<String> values = new ArrayList<>();
+    DecodingFnDataReceiver.create(CODER, values::add).accept(data);
+    assertEquals(3, values.size());
+    assertEquals(Strings.repeat("B", 200), values.get(1));
+  }
+
+  @Test
+  public void testDecodesElementsSpanningBuffers() throws Exception {
+    ByteString data = encode(Strings.repeat("A", 200), Strings.repeat("B", 200));
+    // Split the data in the middle of the first element.
+    ByteString rope = data.substring(0, 100).concat(data.substring(100));
+    assertThat(
+        DecodingFnDataReceiver.newInput(rope), not(instanceOf(ExposedByteBufferInputStream.class)));
+
+    List<String> values = new ArrayList<>();
+    DecodingFnDataReceiver.create(CODER, values::add).accept(rope);
+    assertEquals(2, values.size());
+    assertEquals(Strings.repeat("A", 200), values.get(0));
+    assertEquals(Strings.repeat("B", 200), values.get(1));
+  }
+
+  private static ByteString encode(String... values) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    for (String value : values) {
+      CODER.encode(value, output);
+    }
+    return ByteString.copyFrom(output.toByteArray());
+  }
+}
@@ -35,13 +35,16 @@ import org.apache.beam.model.pipeline.v1.RunnerApi.PTransform;
 import org.apache.beam.runners.core.construction.PTransformTranslation;
 import org.apache.beam.runners.core.construction.RehydratedComponents;
 import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.sdk.coders.Coder.NonDeterministicException;
 import org.apache.beam.sdk.coders.KvCoder;
 import org.apache.beam.sdk.fn.data.FnDataReceiver;
 import org.apache.beam.sdk.function.ThrowingFunction;
 import org.apache.beam.sdk.function.ThrowingRunnable;
 import org.apache.beam.sdk.options.PipelineOptions;
+import org.apache.beam.sdk.options.SdkHarnessOptions;
 import org.apache.beam.sdk.transforms.Combine.CombineFn;
 import org.apache.beam.sdk.transforms.DoFn.BundleFinalizer;
+import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
 import org.apache.beam.sdk.util.SerializableUtils;
 import org.apache.beam.sdk.util.WindowedValue;
 import org.apache.beam.sdk.util.WindowedValue.WindowedValueCoder;
@@ -49,6 +52,7 @@ import org.apache.beam.sdk.values.KV;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.annotations.VisibleForTesting;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableMap;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Iterables;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /** Executes different components of Combine PTransforms. */
 @SuppressWarnings({
@@ -85,21 +89,34 @@ public class CombineRunners {
     private Coder<KeyT> keyCoder;
     private GroupingTable<WindowedValue<KeyT>, InputT, AccumT> groupingTable;
     private Coder<AccumT> accumCoder;
+    private @Nullable Coder<? extends BoundedWindow> offHeapWindowCoder;
 
     PrecombineRunner(
         PipelineOptions options,
         CombineFn<InputT, AccumT, ?> combineFn,
         FnDataReceiver<WindowedValue<KV<KeyT, AccumT>>> output,
         Coder<KeyT> keyCoder,
-        Coder<AccumT> accumCoder) {
+        Coder<AccumT> accumCoder,
+        @Nullable Coder<? extends BoundedWindow> offHeapWindowCoder) {
       this.options = options;
       this.combineFn = combineFn;
       this.output = output;
       this.keyCoder = keyCoder;
       this.accumCoder = accumCoder;
+      this.offHeapWindowCoder = offHeapWindowCoder;
     }
 
     void startBundle() {
+      if (offHeapWindowCoder != null) {
+        // The off-heap table is empty after each flush and is reused across bundles. Its slabs
+        // are returned to a shared pool when it is flushed and reacquired by the next bundle.
+        if (groupingTable == null) {
+          groupingTable =
+              OffHeapGroupingTable.combining(
+                  options, combineFn, keyCoder, offHeapWindowCoder, accumCoder);
+        }
+        return;
+      }
       groupingTable =
           PrecombineGroupingTable.combiningAndSampling(
               options, combineFn, keyCoder, accumCoder, 0.001 /*sizeEstimatorSampleRate*/);
@@ -178,8 +195,19 @@ public class CombineRunners {
               pCollectionConsumerRegistry.getMultiplexingConsumer(
                   Iterables.getOnlyElement(pTransform.getOutputsMap().values()));
 
+      Coder<? extends BoundedWindow> offHeapWindowCoder = null;
+      if (pipelineOptions.as(SdkHarnessOptions.class).getGroupingTableOffHeap()
+          && isDeterministic(keyCoder)) {
+        offHeapWindowCoder =
+            rehydratedComponents
+                .getWindowingStrategy(mainInput.getWindowingStrategyId())
+                .getWindowFn()
+                .windowCoder();
+      }
+
       PrecombineRunner<KeyT, InputT, AccumT> runner =
-          new PrecombineRunner<>(pipelineOptions, combineFn, consumer, keyCoder, accumCoder);
+          new PrecombineRunner<>(
+              pipelineOptions, combineFn, consumer, keyCoder, accumCoder, offHeapWindowCoder);
 
       // Register the appropriate handlers.
       startFunctionRegistry.register(pTransformId, runner::startBundle);
@@ -194,6 +222,15 @@ public class CombineRunners {
     }
   }
 
+  private static boolean isDeterministic(Coder<?> coder) {
+    try {
+      coder.verifyDeterministic();
+      return true;
+    } catch (NonDeterministicException e) {
+      return false;
+    }
+  }
+
   static <KeyT, AccumT>
       ThrowingFunction<KV<KeyT, Iterable<AccumT>>, KV<KeyT, AccumT>>
           createMergeAccumulatorsMapFunction(String pTransformId, PTransform pTransform)
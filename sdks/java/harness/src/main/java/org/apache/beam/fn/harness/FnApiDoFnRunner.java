@@ -30,6 +30,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableSet;
@@ -63,6 +64,7 @@ import org.apache.beam.runners.core.construction.PTransformTranslation;
 import org.apache.beam.runners.core.construction.ParDoTranslation;
 import org.apache.beam.runners.core.construction.RehydratedComponents;
 import org.apache.beam.runners.core.construction.Timer;
+import org.apache.beam.runners.core.metrics.ElementLatencyTracker;
 import org.apache.beam.runners.core.metrics.MonitoringInfoConstants;
 import org.apache.beam.sdk.Pipeline;
 import org.apache.beam.sdk.coders.Coder;
@@ -76,6 +78,7 @@ import org.apache.beam.sdk.fn.splittabledofn.RestrictionTrackers.ClaimObserver;
 import org.apache.beam.sdk.fn.splittabledofn.WatermarkEstimators;
 import org.apache.beam.sdk.function.ThrowingRunnable;
 import org.apache.beam.sdk.options.PipelineOptions;
+import org.apache.beam.sdk.options.SdkHarnessOptions;
 import org.apache.beam.sdk.schemas.SchemaCoder;
 import org.apache.beam.sdk.state.ReadableState;
 import org.apache.beam.sdk.state.State;
@@ -236,6 +239,7 @@ public class FnApiDoFnRunner<InputT, RestrictionT, PositionT, WatermarkEstimator
   private final Collection<FnDataReceiver<WindowedValue<OutputT>>> mainOutputConsumers;
 
   private final String mainInputId;
+  private final ElementLatencyTracker elementLatencyTracker;
   private final FnApiStateAccessor<?> stateAccessor;
   private Map<String, BeamFnTimerClient.TimerHandler<?>> timerHandlers;
   private FnApiTimerBundleTracker timerBundleTracker;
@@ -255,6 +259,21 @@ public class FnApiDoFnRunner<InputT, RestrictionT, PositionT, WatermarkEstimator
   private final DoFnSchemaInformation doFnSchemaInformation;
   private final Map<String, PCollectionView<?>> sideInputMapping;
 
+  /** The maximum number of elements passed to the {@link DoFn.ProcessBatch} method at once. */
+  private final int maxProcessBatchSize;
+
+  /** The maximum number of elements awaiting batch processing across all windows. */
+  private final int maxPendingBatchElements;
+
+  /**
+   * Elements awaiting batch processing grouped by window in the order the batches were started,
+   * only used for batch processing.
+   */
+  private final Map<BoundedWindow, List<WindowedValue<InputT>>> pendingBatches;
+
+  /** The number of elements in {@link #pendingBatches}. */
+  private int pendingBatchElements;
+
   // The member variables below are only valid for the lifetime of certain methods.
   /** Only valid during {@code processElement...} methods, null otherwise. */
   private WindowedValue<InputT> currentElement;
@@ -343,6 +362,7 @@ public class FnApiDoFnRunner<InputT, RestrictionT, PositionT, WatermarkEstimator
     this.beamFnTimerClient = beamFnTimerClient;
     this.pTransformId = pTransformId;
     this.pTransform = pTransform;
+    this.elementLatencyTracker = ElementLatencyTracker.create(pipelineOptions, pTransformId);
     this.processBundleInstructionId = processBundleInstructionId;
     ImmutableMap.Builder<TupleTag<?>, SideInputSpec> tagToSideInputSpecMapBuilder =
         ImmutableMap.builder();
@@ -478,6 +498,11 @@ public class FnApiDoFnRunner<InputT, RestrictionT, PositionT, WatermarkEstimator
     this.doFnSchemaInformation = ParDoTranslation.getSchemaInformation(parDoPayload);
     this.sideInputMapping = ParDoTranslation.getSideInputMapping(parDoPayload);
     this.doFnInvoker = DoFnInvokers.tryInvokeSetupFor(doFn, pipelineOptions);
+    this.maxProcessBatchSize =
+        pipelineOptions.as(SdkHarnessOptions.class).getMaxProcessBatchSize();
+    this.maxPendingBatchElements =
+        pipelineOptions.as(SdkHarnessOptions.class).getMaxPendingBatchElements();
+    this.pendingBatches = new LinkedHashMap<>();
 
     this.startBundleArgumentProvider = new StartBundleArgumentProvider();
     // Register the appropriate handlers.
@@ -505,7 +530,13 @@ public class FnApiDoFnRunner<InputT, RestrictionT, PositionT, WatermarkEstimator
     final FnDataReceiver<WindowedValue> mainInputConsumer;
     switch (pTransform.getSpec().getUrn()) {
       case PTransformTranslation.PAR_DO_TRANSFORM_URN:
-        if (doFnSignature.processElement().observesWindow() || !sideInputMapping.isEmpty()) {
+        if (doFnSignature.processBatch() != null
+            && sideInputMapping.isEmpty()
+            && maxProcessBatchSize > 1) {
+          mainInputConsumer = this::processElementForBatch;
+          this.processContext = new NonWindowObservingProcessBundleContext();
+        } else if (doFnSignature.processElement().observesWindow()
+            || !sideInputMapping.isEmpty()) {
           mainInputConsumer = this::processElementForWindowObservingParDo;
           this.processContext = new WindowObservingProcessBundleContext();
         } else {
@@ -758,20 +789,89 @@ public class FnApiDoFnRunner<InputT, RestrictionT, PositionT, WatermarkEstimator
               (FnDataReceiver<Timer<Object>>) timer -> processTimer(localName, timeDomain, timer)));
     }
 
+    pendingBatches.clear();
+    pendingBatchElements = 0;
     doFnInvoker.invokeStartBundle(startBundleArgumentProvider);
   }
 
   private void processElementForParDo(WindowedValue<InputT> elem) {
     currentElement = elem;
+    long sampleStartNanos = elementLatencyTracker.startElement();
     try {
       doFnInvoker.invokeProcessElement(processContext);
     } finally {
       currentElement = null;
     }
+    elementLatencyTracker.finishElement(sampleStartNanos, elem.getTimestamp());
+  }
+
+  private void processElementForBatch(WindowedValue<InputT> elem) {
+    if (elem.getWindows().size() == 1) {
+      addToBatch(Iterables.getOnlyElement(elem.getWindows()), elem);
+    } else {
+      for (WindowedValue<InputT> windowedElem : elem.explodeWindows()) {
+        addToBatch(Iterables.getOnlyElement(windowedElem.getWindows()), windowedElem);
+      }
+    }
+  }
+
+  private void addToBatch(BoundedWindow window, WindowedValue<InputT> elem) {
+    List<WindowedValue<InputT>> batch =
+        pendingBatches.computeIfAbsent(window, w -> new ArrayList<>(maxProcessBatchSize));
+    batch.add(elem);
+    pendingBatchElements++;
+    if (batch.size() >= maxProcessBatchSize) {
+      pendingBatches.remove(window);
+      pendingBatchElements -= batch.size();
+      processBatch(window, batch);
+    } else if (pendingBatchElements >= maxPendingBatchElements) {
+      // Bound the memory held by partial batches of many distinct windows by processing the
+      // batch that was started first.
+      processOldestPendingBatch();
+    }
+  }
+
+  private void processPendingBatches() {
+    while (!pendingBatches.isEmpty()) {
+      processOldestPendingBatch();
+    }
+  }
+
+  private void processOldestPendingBatch() {
+    Iterator<Map.Entry<BoundedWindow, List<WindowedValue<InputT>>>> iterator =
+        pendingBatches.entrySet().iterator();
+    Map.Entry<BoundedWindow, List<WindowedValue<InputT>>> pending = iterator.next();
+    iterator.remove();
+    pendingBatchElements -= pending.getValue().size();
+    processBatch(pending.getKey(), pending.getValue());
+  }
+
+  /**
+   * Passes the batch to the {@link DoFn.ProcessBatch} method, outputting each returned value with
+   * the timestamp, window and pane of the input at the same position.
+   */
+  private void processBatch(BoundedWindow window, List<WindowedValue<InputT>> batch) {
+    List<InputT> elements = new ArrayList<>(batch.size());
+    for (WindowedValue<InputT> elem : batch) {
+      elements.add(elem.getValue());
+    }
+    List<OutputT> outputs = doFnInvoker.invokeProcessBatch(elements, window);
+    checkState(
+        outputs != null && outputs.size() == batch.size(),
+        "The @%s method of %s must return one output per element, but returned %s outputs for %s"
+            + " elements.",
+        DoFn.ProcessBatch.class.getSimpleName(),
+        doFn.getClass().getName(),
+        outputs == null ? null : outputs.size(),
+        batch.size());
+    for (int i = 0; i < batch.size(); ++i) {
+      outputTo(mainOutputConsumers, batch.get(i).withValue(outputs.get(i)));
+    }
   }
 
   private void processElementForWindowObservingParDo(WindowedValue<InputT> elem) {
     currentElement = elem;
+    long sampleStartNanos = elementLatencyTracker.startElement();
     try {
       Iterator<BoundedWindow> windowIterator =
           (Iterator<BoundedWindow>) elem.getWindows().iterator();
@@ -783,6 +883,7 @@ public class FnApiDoFnRunner<InputT, RestrictionT, PositionT, WatermarkEstimator
       currentElement = null;
       currentWindow = null;
     }
+    elementLatencyTracker.finishElement(sampleStartNanos, elem.getTimestamp());
   }
 
   private void processElementForPairWithRestriction(WindowedValue<InputT> elem) {
@@ -1727,6 +1828,8 @@ public class FnApiDoFnRunner<InputT, RestrictionT, PositionT, WatermarkEstimator
   }
 
   private void finishBundle() throws Exception {
+    processPendingBatches();
+
     timerBundleTracker.outputTimers(timerFamilyOrId -> timerHandlers.get(timerFamilyOrId));
     for (TimerHandler timerHandler : timerHandlers.values()) {
       timerHandler.awaitCompletion();
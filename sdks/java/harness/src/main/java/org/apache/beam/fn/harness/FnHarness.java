@@ -290,9 +290,14 @@ public class FnHarness {
       // TODO(BEAM-9729): Remove once runners no longer send this instruction.
       handlers.put(
           BeamFnApi.InstructionRequest.RequestCase.REGISTER,
-          request ->
-              BeamFnApi.InstructionResponse.newBuilder()
-                  .setRegister(BeamFnApi.RegisterResponse.getDefaultInstance()));
+          request -> {
+            // Registered descriptors do not need to be fetched when processing bundles.
+            for (BeamFnApi.ProcessBundleDescriptor descriptor :
+                request.getRegister().getProcessBundleDescriptorList()) {
+              processBundleDescriptors.put(descriptor.getId(), descriptor);
+            }
+            return processBundleHandler.register(request);
+          });
       handlers.put(
           BeamFnApi.InstructionRequest.RequestCase.FINALIZE_BUNDLE,
           finalizeBundleHandler::finalizeBundle);
@@ -336,6 +341,9 @@ public class FnHarness {
       if (samplingPeriodMills != null) {
         ExecutionStateSampler.setSamplingPeriod(Integer.parseInt(samplingPeriodMills));
       }
+      if (ExperimentalOptions.hasExperiment(options, ExperimentalOptions.STATE_SAMPLING_STACKS)) {
+        ExecutionStateSampler.setStackSamplingEnabled(true);
+      }
       ExecutionStateSampler.instance().start();
 
       LOG.info("Entering instruction processing loop");
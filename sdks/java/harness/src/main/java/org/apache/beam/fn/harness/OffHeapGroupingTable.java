@@ -0,0 +1,498 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.fn.harness;
+
+import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Preconditions.checkArgument;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.beam.fn.harness.PrecombineGroupingTable.Combiner;
+import org.apache.beam.fn.harness.PrecombineGroupingTable.PairInfo;
+import org.apache.beam.fn.harness.PrecombineGroupingTable.ValueCombiner;
+import org.apache.beam.fn.harness.PrecombineGroupingTable.WindowedPairInfo;
+import org.apache.beam.runners.core.GlobalCombineFnRunners;
+import org.apache.beam.runners.core.NullSideInputReader;
+import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.sdk.options.PipelineOptions;
+import org.apache.beam.sdk.options.SdkHarnessOptions;
+import org.apache.beam.sdk.transforms.Combine.CombineFn;
+import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
+import org.apache.beam.sdk.util.WindowedValue;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.annotations.VisibleForTesting;
+import org.joda.time.Instant;
+
+/**
+ * A {@link GroupingTable} which stores encoded keys and accumulators in direct memory slabs and
+ * indexes them with an open addressing hash table.
+ *
+ * <p>Unlike {@link PrecombineGroupingTable}, the memory used by this table does not depend on size
+ * estimates of the keys and accumulators, and the entries are not visible to the garbage
+ * collector. The trade-off is that each input requires decoding and re-encoding the accumulator
+ * of its key. Keys are grouped by their encoded form so the key coder must be deterministic.
+ *
+ * <p>When the slabs are exhausted all entries are flushed to the receiver. Flushed slabs are
+ * returned to a process wide {@link SlabPool}, which keeps at most one table's worth of free slabs
+ * for reuse by any table, so tables kept by idle bundle processors do not hold direct memory.
+ */
+@SuppressWarnings({
+  "nullness" // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
+})
+public class OffHeapGroupingTable<K, InputT, AccumT>
+    implements GroupingTable<WindowedValue<K>, InputT, AccumT> {
+
+  /** Returns a {@link GroupingTable} that combines inputs into accumulators in direct memory. */
+  public static <K, InputT, AccumT> OffHeapGroupingTable<K, InputT, AccumT> combining(
+      PipelineOptions options,
+      CombineFn<InputT, AccumT, ?> combineFn,
+      Coder<K> keyCoder,
+      Coder<? extends BoundedWindow> windowCoder,
+      Coder<AccumT> accumulatorCoder) {
+    Combiner<WindowedValue<K>, InputT, AccumT, ?> combiner =
+        PrecombineGroupingTable.primitiveCombiner(combineFn);
+    if (combiner == null) {
+      combiner =
+          new ValueCombiner<>(
+              GlobalCombineFnRunners.create(combineFn), NullSideInputReader.empty(), options);
+    }
+    long maxSize =
+        options.as(SdkHarnessOptions.class).getGroupingTableMaxSizeMb() * 1024L * 1024L;
+    SlabPool slabPool =
+        maxSize >= DEFAULT_SLAB_SIZE ? SHARED_SLAB_POOL : new SlabPool((int) maxSize);
+    return new OffHeapGroupingTable<>(
+        maxSize,
+        slabPool,
+        WindowedValue.getFullCoder(keyCoder, windowCoder),
+        accumulatorCoder,
+        WindowedPairInfo.create(),
+        combiner);
+  }
+
+  /** The size of each direct memory slab. Slabs are allocated lazily up to the maximum size. */
+  private static final int DEFAULT_SLAB_SIZE = 4 * 1024 * 1024;
+
+  private static final SlabPool SHARED_SLAB_POOL = new SlabPool(DEFAULT_SLAB_SIZE);
+
+  /**
+   * The layout of a record within a slab is: the hash of the key, the length of the encoded key,
+   * the number of bytes reserved for the accumulator, the length of the encoded accumulator, the
+   * timestamp of the first input for the key, the encoded key and the encoded accumulator.
+   */
+  private static final int HASH_OFFSET = 0;
+
+  private static final int KEY_LENGTH_OFFSET = 4;
+  private static final int ACCUMULATOR_CAPACITY_OFFSET = 8;
+  private static final int ACCUMULATOR_LENGTH_OFFSET = 12;
+  private static final int TIMESTAMP_OFFSET = 16;
+  private static final int HEADER_SIZE = 24;
+
+  /** Marks a record whose accumulator was emitted early because it could not be moved. */
+  private static final int NO_ACCUMULATOR = -1;
+
+  private static final long EMPTY = -1L;
+  private static final int INITIAL_INDEX_SIZE = 1024;
+  // Keep the index at most half full to keep probe sequences short.
+  private static final double MAX_INDEX_LOAD = 0.5;
+
+  private final long maxSize;
+  private final SlabPool slabPool;
+  private final int slabSize;
+  private final Coder<WindowedValue<K>> windowedKeyCoder;
+  private final Coder<AccumT> accumulatorCoder;
+  private final PairInfo pairInfo;
+  private final Combiner<WindowedValue<K>, InputT, AccumT, ?> combiner;
+
+  private final List<ByteBuffer> slabs;
+  private int currentSlab;
+  private int slabPosition;
+
+  /** Open addressing index of record addresses, {@link #EMPTY} marks an unused slot. */
+  private long[] index;
+
+  private int numEntries;
+
+  private final ReusableOutputStream keyBytes = new ReusableOutputStream();
+  private final ReusableOutputStream accumulatorBytes = new ReusableOutputStream();
+  private byte[] readBuffer = new byte[1024];
+
+  @VisibleForTesting
+  OffHeapGroupingTable(
+      long maxSize,
+      SlabPool slabPool,
+      Coder<WindowedValue<K>> windowedKeyCoder,
+      Coder<AccumT> accumulatorCoder,
+      PairInfo pairInfo,
+      Combiner<WindowedValue<K>, InputT, AccumT, ?> combiner) {
+    checkArgument(
+        slabPool.slabSize <= maxSize,
+        "The slab size %s exceeds the maximum table size %s",
+        slabPool.slabSize,
+        maxSize);
+    this.maxSize = maxSize;
+    this.slabPool = slabPool;
+    this.slabSize = slabPool.slabSize;
+    this.windowedKeyCoder = windowedKeyCoder;
+    this.accumulatorCoder = accumulatorCoder;
+    this.pairInfo = pairInfo;
+    this.combiner = combiner;
+    this.slabs = new ArrayList<>();
+    this.index = new long[INITIAL_INDEX_SIZE];
+    Arrays.fill(index, EMPTY);
+  }
+
+  /** Adds a pair to this table, possibly flushing all entries to output if the table is full. */
+  @SuppressWarnings("unchecked")
+  @Override
+  public void put(Object pair, Receiver receiver) throws Exception {
+    put(
+        (WindowedValue<K>) pairInfo.getKeyFromInputPair(pair),
+        (InputT) pairInfo.getValueFromInputPair(pair),
+        receiver);
+  }
+
+  /**
+   * Adds the key and value to this table, possibly flushing all entries to output if the table is
+   * full.
+   */
+  public void put(WindowedValue<K> key, InputT value, Receiver receiver) throws Exception {
+    // Ignore the timestamp for grouping purposes, the output inherits the timestamp of the first
+    // input for the key.
+    keyBytes.reset();
+    windowedKeyCoder.encode(
+        WindowedValue.of(
+            key.getValue(), BoundedWindow.TIMESTAMP_MIN_VALUE, key.getWindows(), key.getPane()),
+        keyBytes);
+    int hash = hash(keyBytes.buffer(), keyBytes.size());
+
+    int mask = index.length - 1;
+    int slot = hash & mask;
+    while (index[slot] != EMPTY) {
+      long address = index[slot];
+      if (keyEquals(address, hash)) {
+        AccumT accumulator =
+            hasAccumulator(address) ? readAccumulator(address) : combiner.createAccumulator(key);
+        accumulator = combiner.add(key, accumulator, value);
+        index[slot] = writeAccumulator(address, key, accumulator, receiver);
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    AccumT accumulator = combiner.add(key, combiner.createAccumulator(key), value);
+    encodeAccumulator(accumulator);
+    long timestamp = key.getTimestamp().getMillis();
+    long address =
+        appendRecord(hash, keyBytes.buffer(), keyBytes.size(), timestamp, accumulatorBytes.size());
+    if (address == EMPTY && numEntries > 0) {
+      flush(receiver);
+      address =
+          appendRecord(
+              hash, keyBytes.buffer(), keyBytes.size(), timestamp, accumulatorBytes.size());
+    }
+    if (address == EMPTY) {
+      // The entry does not fit into a slab, so emit it directly.
+      output(key, accumulator, receiver);
+      return;
+    }
+    writeAccumulatorBytes(address);
+    insert(address, hash);
+  }
+
+  /** Flushes all entries in this table to output and returns its slabs to the {@link SlabPool}. */
+  @Override
+  public void flush(Receiver output) throws Exception {
+    for (long address : index) {
+      if (address == EMPTY || !hasAccumulator(address)) {
+        continue;
+      }
+      ByteBuffer slab = slabs.get(slabIndex(address));
+      int offset = slabOffset(address);
+      int keyLength = slab.getInt(offset + KEY_LENGTH_OFFSET);
+      WindowedValue<K> groupingKey =
+          windowedKeyCoder.decode(read(slab, offset + HEADER_SIZE, keyLength));
+      WindowedValue<K> key =
+          WindowedValue.of(
+              groupingKey.getValue(),
+              new Instant(slab.getLong(offset + TIMESTAMP_OFFSET)),
+              groupingKey.getWindows(),
+              groupingKey.getPane());
+      output(key, readAccumulator(address), output);
+    }
+    // Shrink the index as well, the table may stay idle for a long time.
+    index = new long[INITIAL_INDEX_SIZE];
+    Arrays.fill(index, EMPTY);
+    numEntries = 0;
+    slabPool.release(slabs, maxSize);
+    slabs.clear();
+    currentSlab = 0;
+    slabPosition = 0;
+  }
+
+  @VisibleForTesting
+  int numEntries() {
+    return numEntries;
+  }
+
+  @VisibleForTesting
+  long allocatedBytes() {
+    return (long) slabs.size() * slabSize;
+  }
+
+  private void output(WindowedValue<K> key, AccumT accumulator, Receiver receiver)
+      throws Exception {
+    receiver.process(pairInfo.makeOutputPair(key, combiner.compact(key, accumulator)));
+  }
+
+  private boolean keyEquals(long address, int hash) {
+    ByteBuffer slab = slabs.get(slabIndex(address));
+    int offset = slabOffset(address);
+    if (slab.getInt(offset + HASH_OFFSET) != hash
+        || slab.getInt(offset + KEY_LENGTH_OFFSET) != keyBytes.size()) {
+      return false;
+    }
+    byte[] key = keyBytes.buffer();
+    int keyOffset = offset + HEADER_SIZE;
+    for (int i = 0; i < keyBytes.size(); i++) {
+      if (slab.get(keyOffset + i) != key[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean hasAccumulator(long address) {
+    return slabs.get(slabIndex(address)).getInt(slabOffset(address) + ACCUMULATOR_LENGTH_OFFSET)
+        != NO_ACCUMULATOR;
+  }
+
+  private AccumT readAccumulator(long address) throws IOException {
+    ByteBuffer slab = slabs.get(slabIndex(address));
+    int offset = slabOffset(address);
+    int keyLength = slab.getInt(offset + KEY_LENGTH_OFFSET);
+    int accumulatorLength = slab.getInt(offset + ACCUMULATOR_LENGTH_OFFSET);
+    return accumulatorCoder.decode(
+        read(slab, offset + HEADER_SIZE + keyLength, accumulatorLength));
+  }
+
+  /**
+   * Stores the accumulator for the record at the given address, moving the record if the encoded
+   * accumulator no longer fits into the space reserved for it. Returns the address of the record.
+   *
+   * <p>If there is no space left to move the record to, the accumulator is emitted directly and the
+   * record is kept without an accumulator so that the index stays intact until the next flush.
+   */
+  private long writeAccumulator(
+      long address, WindowedValue<K> key, AccumT accumulator, Receiver receiver)
+      throws Exception {
+    encodeAccumulator(accumulator);
+    ByteBuffer slab = slabs.get(slabIndex(address));
+    int offset = slabOffset(address);
+    if (accumulatorBytes.size() <= slab.getInt(offset + ACCUMULATOR_CAPACITY_OFFSET)) {
+      writeAccumulatorBytes(address);
+      return address;
+    }
+
+    // Reserve extra space so that growing accumulators are moved a logarithmic number of times.
+    int keyLength = slab.getInt(offset + KEY_LENGTH_OFFSET);
+    long timestamp = slab.getLong(offset + TIMESTAMP_OFFSET);
+    long capacity =
+        Math.max(
+            accumulatorBytes.size(),
+            Math.min(2L * accumulatorBytes.size(), slabSize - HEADER_SIZE - (long) keyLength));
+    readIntoBuffer(slab, offset + HEADER_SIZE, keyLength);
+    long newAddress =
+        appendRecord(
+            slab.getInt(offset + HASH_OFFSET), readBuffer, keyLength, timestamp, capacity);
+    if (newAddress == EMPTY) {
+      slab.putInt(offset + ACCUMULATOR_LENGTH_OFFSET, NO_ACCUMULATOR);
+      output(
+          WindowedValue.of(
+              key.getValue(), new Instant(timestamp), key.getWindows(), key.getPane()),
+          accumulator,
+          receiver);
+      return address;
+    }
+    writeAccumulatorBytes(newAddress);
+    return newAddress;
+  }
+
+  private void encodeAccumulator(AccumT accumulator) throws IOException {
+    accumulatorBytes.reset();
+    accumulatorCoder.encode(accumulator, accumulatorBytes);
+  }
+
+  private void writeAccumulatorBytes(long address) {
+    ByteBuffer slab = slabs.get(slabIndex(address));
+    int offset = slabOffset(address);
+    int keyLength = slab.getInt(offset + KEY_LENGTH_OFFSET);
+    slab.putInt(offset + ACCUMULATOR_LENGTH_OFFSET, accumulatorBytes.size());
+    slab.position(offset + HEADER_SIZE + keyLength);
+    slab.put(accumulatorBytes.buffer(), 0, accumulatorBytes.size());
+  }
+
+  /**
+   * Appends a record with the given key, reserving {@code accumulatorCapacity} bytes for the
+   * accumulator. Returns {@link #EMPTY} if the record is larger than a slab or if the slabs are
+   * exhausted.
+   */
+  private long appendRecord(
+      int hash, byte[] key, int keyLength, long timestamp, long accumulatorCapacity) {
+    long recordSize = HEADER_SIZE + keyLength + accumulatorCapacity;
+    if (recordSize > slabSize) {
+      return EMPTY;
+    }
+    if (slabs.isEmpty()) {
+      slabs.add(slabPool.acquire());
+    }
+    if (slabPosition + recordSize > slabSize) {
+      int nextSlab = currentSlab + 1;
+      if (nextSlab == slabs.size()) {
+        if ((long) (nextSlab + 1) * slabSize > maxSize) {
+          return EMPTY;
+        }
+        slabs.add(slabPool.acquire());
+      }
+      currentSlab = nextSlab;
+      slabPosition = 0;
+    }
+
+    ByteBuffer slab = slabs.get(currentSlab);
+    int offset = slabPosition;
+    slab.putInt(offset + HASH_OFFSET, hash);
+    slab.putInt(offset + KEY_LENGTH_OFFSET, keyLength);
+    slab.putInt(offset + ACCUMULATOR_CAPACITY_OFFSET, (int) accumulatorCapacity);
+    slab.putInt(offset + ACCUMULATOR_LENGTH_OFFSET, NO_ACCUMULATOR);
+    slab.putLong(offset + TIMESTAMP_OFFSET, timestamp);
+    slab.position(offset + HEADER_SIZE);
+    slab.put(key, 0, keyLength);
+    slabPosition += (int) recordSize;
+    return ((long) currentSlab << 32) | offset;
+  }
+
+  private void insert(long address, int hash) {
+    if (numEntries + 1 > index.length * MAX_INDEX_LOAD) {
+      long[] oldIndex = index;
+      index = new long[oldIndex.length * 2];
+      Arrays.fill(index, EMPTY);
+      for (long oldAddress : oldIndex) {
+        if (oldAddress != EMPTY) {
+          insertIntoIndex(
+              oldAddress,
+              slabs.get(slabIndex(oldAddress)).getInt(slabOffset(oldAddress) + HASH_OFFSET));
+        }
+      }
+    }
+    insertIntoIndex(address, hash);
+    numEntries += 1;
+  }
+
+  private void insertIntoIndex(long address, int hash) {
+    int mask = index.length - 1;
+    int slot = hash & mask;
+    while (index[slot] != EMPTY) {
+      slot = (slot + 1) & mask;
+    }
+    index[slot] = address;
+  }
+
+  private void readIntoBuffer(ByteBuffer slab, int offset, int length) {
+    if (readBuffer.length < length) {
+      readBuffer = new byte[Math.max(length, 2 * readBuffer.length)];
+    }
+    slab.position(offset);
+    slab.get(readBuffer, 0, length);
+  }
+
+  private ByteArrayInputStream read(ByteBuffer slab, int offset, int length) {
+    readIntoBuffer(slab, offset, length);
+    return new ByteArrayInputStream(readBuffer, 0, length);
+  }
+
+  private static int slabIndex(long address) {
+    return (int) (address >>> 32);
+  }
+
+  private static int slabOffset(long address) {
+    return (int) address;
+  }
+
+  private static int hash(byte[] bytes, int length) {
+    int hash = 1;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + bytes[i];
+    }
+    // Spread the bits since the index uses the low bits as the slot.
+    hash *= 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * A pool of free direct memory slabs of a fixed size shared by tables. Released slabs beyond the
+   * limit passed by the releasing table are dropped and their memory is freed once they are garbage
+   * collected, so the pool holds at most one table's worth of free slabs.
+   */
+  @VisibleForTesting
+  static class SlabPool {
+    private final int slabSize;
+    private final ArrayDeque<ByteBuffer> freeSlabs = new ArrayDeque<>();
+
+    SlabPool(int slabSize) {
+      this.slabSize = slabSize;
+    }
+
+    ByteBuffer acquire() {
+      synchronized (freeSlabs) {
+        ByteBuffer slab = freeSlabs.pollLast();
+        if (slab != null) {
+          return slab;
+        }
+      }
+      return ByteBuffer.allocateDirect(slabSize);
+    }
+
+    void release(List<ByteBuffer> slabs, long maxPooledBytes) {
+      synchronized (freeSlabs) {
+        for (ByteBuffer slab : slabs) {
+          if ((long) (freeSlabs.size() + 1) * slabSize > maxPooledBytes) {
+            return;
+          }
+          freeSlabs.addLast(slab);
+        }
+      }
+    }
+
+    @VisibleForTesting
+    long pooledBytes() {
+      synchronized (freeSlabs) {
+        return (long) freeSlabs.size() * slabSize;
+      }
+    }
+  }
+
+  /** A {@link ByteArrayOutputStream} which gives access to its buffer without copying. */
+  private static class ReusableOutputStream extends ByteArrayOutputStream {
+    byte[] buffer() {
+      return buf;
+    }
+  }
+}
@@ -28,12 +28,17 @@ import org.apache.beam.runners.core.SideInputReader;
 import org.apache.beam.sdk.coders.Coder;
 import org.apache.beam.sdk.options.PipelineOptions;
 import org.apache.beam.sdk.options.SdkHarnessOptions;
+import org.apache.beam.sdk.transforms.Combine;
 import org.apache.beam.sdk.transforms.Combine.CombineFn;
+import org.apache.beam.sdk.transforms.Max;
+import org.apache.beam.sdk.transforms.Min;
+import org.apache.beam.sdk.transforms.Sum;
 import org.apache.beam.sdk.transforms.windowing.BoundedWindow;
 import org.apache.beam.sdk.util.WindowedValue;
 import org.apache.beam.sdk.util.common.ElementByteSizeObserver;
 import org.apache.beam.sdk.values.KV;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.annotations.VisibleForTesting;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableSet;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.io.ByteStreams;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.io.CountingOutputStream;
 import org.joda.time.Instant;
@@ -54,6 +59,17 @@ public class PrecombineGroupingTable<K, InputT, AccumT>
       CombineFn<InputT, AccumT, ?> combineFn,
       Coder<K> keyCoder,
       Coder<? super AccumT> accumulatorCoder) {
+    Combiner<WindowedValue<K>, InputT, AccumT, ?> primitiveCombiner =
+        primitiveCombiner(combineFn);
+    if (primitiveCombiner != null) {
+      return new PrecombineGroupingTable<>(
+          getGroupingTableSizeBytes(options),
+          new WindowingCoderGroupingKeyCreator<>(keyCoder),
+          WindowedPairInfo.create(),
+          primitiveCombiner,
+          new CoderSizeEstimator<>(WindowedValue.getValueOnlyCoder(keyCoder)),
+          new FixedSizeEstimator<>(PRIMITIVE_ACCUMULATOR_SIZE));
+    }
     Combiner<WindowedValue<K>, InputT, AccumT, ?> valueCombiner =
         new ValueCombiner<>(
             GlobalCombineFnRunners.create(combineFn), NullSideInputReader.empty(), options);
@@ -77,6 +93,20 @@ public class PrecombineGroupingTable<K, InputT, AccumT>
           Coder<K> keyCoder,
           Coder<? super AccumT> accumulatorCoder,
           double sizeEstimatorSampleRate) {
+    Combiner<WindowedValue<K>, InputT, AccumT, ?> primitiveCombiner =
+        primitiveCombiner(combineFn);
+    if (primitiveCombiner != null) {
+      return new PrecombineGroupingTable<>(
+          getGroupingTableSizeBytes(options),
+          new WindowingCoderGroupingKeyCreator<>(keyCoder),
+          WindowedPairInfo.create(),
+          primitiveCombiner,
+          new SamplingSizeEstimator<>(
+              new CoderSizeEstimator<>(WindowedValue.getValueOnlyCoder(keyCoder)),
+              sizeEstimatorSampleRate,
+              1.0),
+          new FixedSizeEstimator<>(PRIMITIVE_ACCUMULATOR_SIZE));
+    }
     Combiner<WindowedValue<K>, InputT, AccumT, ?> valueCombiner =
         new ValueCombiner<>(
             GlobalCombineFnRunners.create(combineFn), NullSideInputReader.empty(), options);
@@ -161,6 +191,20 @@ public class PrecombineGroupingTable<K, InputT, AccumT>
     }
   }
 
+  /** Implements SizeEstimator by returning the same size for every element. */
+  static class FixedSizeEstimator<T> implements SizeEstimator<T> {
+    private final long size;
+
+    FixedSizeEstimator(long size) {
+      this.size = size;
+    }
+
+    @Override
+    public long estimateSize(T element) {
+      return size;
+    }
+  }
+
   /**
    * Provides client-specific operations for working with elements that are key/value or key/values
    * pairs.
@@ -224,7 +268,7 @@ public class PrecombineGroupingTable<K, InputT, AccumT>
     private final SideInputReader sideInputReader;
     private final PipelineOptions options;
 
-    private ValueCombiner(
+    ValueCombiner(
         GlobalCombineFnRunner<InputT, AccumT, OutputT> combineFn,
         SideInputReader sideInputReader,
         PipelineOptions options) {
@@ -263,6 +307,164 @@ public class PrecombineGroupingTable<K, InputT, AccumT>
     }
   }
 
+  /**
+   * The size of the single element {@code int[]}, {@code long[]} or {@code double[]} accumulator
+   * used by the primitive binary combine functions, ignoring the array header.
+   */
+  private static final long PRIMITIVE_ACCUMULATOR_SIZE = 8;
+
+  /**
+   * The built-in {@link Sum}, {@link Min} and {@link Max} primitive binary combine functions. Only
+   * these are known to implement nothing beyond {@code apply} and {@code identity}; subclasses
+   * written by users may override any other {@link CombineFn} method.
+   */
+  private static final ImmutableSet<Class<?>> PRIMITIVE_COMBINE_FN_CLASSES =
+      ImmutableSet.of(
+          Sum.ofIntegers().getClass(),
+          Sum.ofLongs().getClass(),
+          Sum.ofDoubles().getClass(),
+          Min.ofIntegers().getClass(),
+          Min.ofLongs().getClass(),
+          Min.ofDoubles().getClass(),
+          Max.ofIntegers().getClass(),
+          Max.ofLongs().getClass(),
+          Max.ofDoubles().getClass());
+
+  /**
+   * Returns a {@link Combiner} which updates the single element primitive array accumulators of the
+   * built-in {@link Sum}, {@link Min} and {@link Max} functions for integers, longs and doubles in
+   * place, or {@code null} if {@code combineFn} is not one of them.
+   *
+   * <p>These functions neither depend on the window nor on side inputs and their accumulators have
+   * a fixed size so the table does not need to re-estimate the accumulator size for every input.
+   * Other subclasses of {@link Combine.BinaryCombineIntegerFn}, {@link Combine.BinaryCombineLongFn}
+   * and {@link Combine.BinaryCombineDoubleFn} keep being dispatched through their {@link CombineFn}
+   * methods.
+   */
+  @SuppressWarnings("unchecked")
+  static <K, InputT, AccumT> Combiner<K, InputT, AccumT, ?> primitiveCombiner(
+      CombineFn<InputT, AccumT, ?> combineFn) {
+    if (!PRIMITIVE_COMBINE_FN_CLASSES.contains(combineFn.getClass())) {
+      return null;
+    }
+    if (combineFn instanceof Combine.BinaryCombineIntegerFn) {
+      return (Combiner<K, InputT, AccumT, ?>)
+          new IntegerCombiner<K>((Combine.BinaryCombineIntegerFn) combineFn);
+    } else if (combineFn instanceof Combine.BinaryCombineLongFn) {
+      return (Combiner<K, InputT, AccumT, ?>)
+          new LongCombiner<K>((Combine.BinaryCombineLongFn) combineFn);
+    } else if (combineFn instanceof Combine.BinaryCombineDoubleFn) {
+      return (Combiner<K, InputT, AccumT, ?>)
+          new DoubleCombiner<K>((Combine.BinaryCombineDoubleFn) combineFn);
+    }
+    return null;
+  }
+
+  /** Implements Precombine Combiner for {@link Combine.BinaryCombineIntegerFn}. */
+  private static class IntegerCombiner<K> implements Combiner<K, Integer, int[], Integer> {
+    private final Combine.BinaryCombineIntegerFn combineFn;
+
+    private IntegerCombiner(Combine.BinaryCombineIntegerFn combineFn) {
+      this.combineFn = combineFn;
+    }
+
+    @Override
+    public int[] createAccumulator(K key) {
+      return new int[] {combineFn.identity()};
+    }
+
+    @Override
+    public int[] add(K key, int[] accumulator, Integer value) {
+      accumulator[0] = combineFn.apply(accumulator[0], value);
+      return accumulator;
+    }
+
+    @Override
+    public int[] merge(K key, Iterable<int[]> accumulators) {
+      return combineFn.mergeAccumulators(accumulators);
+    }
+
+    @Override
+    public int[] compact(K key, int[] accumulator) {
+      return accumulator;
+    }
+
+    @Override
+    public Integer extract(K key, int[] accumulator) {
+      return accumulator[0];
+    }
+  }
+
+  /** Implements Precombine Combiner for {@link Combine.BinaryCombineLongFn}. */
+  private static class LongCombiner<K> implements Combiner<K, Long, long[], Long> {
+    private final Combine.BinaryCombineLongFn combineFn;
+
+    private LongCombiner(Combine.BinaryCombineLongFn combineFn) {
+      this.combineFn = combineFn;
+    }
+
+    @Override
+    public long[] createAccumulator(K key) {
+      return new long[] {combineFn.identity()};
+    }
+
+    @Override
+    public long[] add(K key, long[] accumulator, Long value) {
+      accumulator[0] = combineFn.apply(accumulator[0], value);
+      return accumulator;
+    }
+
+    @Override
+    public long[] merge(K key, Iterable<long[]> accumulators) {
+      return combineFn.mergeAccumulators(accumulators);
+    }
+
+    @Override
+    public long[] compact(K key, long[] accumulator) {
+      return accumulator;
+    }
+
+    @Override
+    public Long extract(K key, long[] accumulator) {
+      return accumulator[0];
+    }
+  }
+
+  /** Implements Precombine Combiner for {@link Combine.BinaryCombineDoubleFn}. */
+  private static class DoubleCombiner<K> implements Combiner<K, Double, double[], Double> {
+    private final Combine.BinaryCombineDoubleFn combineFn;
+
+    private DoubleCombiner(Combine.BinaryCombineDoubleFn combineFn) {
+      this.combineFn = combineFn;
+    }
+
+    @Override
+    public double[] createAccumulator(K key) {
+      return new double[] {combineFn.identity()};
+    }
+
+    @Override
+    public double[] add(K key, double[] accumulator, Double value) {
+      accumulator[0] = combineFn.apply(accumulator[0], value);
+      return accumulator;
+    }
+
+    @Override
+    public double[] merge(K key, Iterable<double[]> accumulators) {
+      return combineFn.mergeAccumulators(accumulators);
+    }
+
+    @Override
+    public double[] compact(K key, double[] accumulator) {
+      return accumulator;
+    }
+
+    @Override
+    public Double extract(K key, double[] accumulator) {
+      return accumulator[0];
+    }
+  }
+
   // How many bytes a word in the JVM has.
   private static final int BYTES_PER_JVM_WORD = getBytesPerJvmWord();
   /**
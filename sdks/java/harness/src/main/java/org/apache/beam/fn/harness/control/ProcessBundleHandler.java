@@ -17,6 +17,8 @@
  */
 package org.apache.beam.fn.harness.control;
 
+import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Preconditions.checkArgument;
+
 import com.google.auto.value.AutoValue;
 import java.io.Closeable;
 import java.io.IOException;
@@ -32,10 +34,11 @@ import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Phaser;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import org.apache.beam.fn.harness.BeamFnDataReadRunner;
 import org.apache.beam.fn.harness.PTransformRunnerFactory;
@@ -52,6 +55,7 @@ import org.apache.beam.fn.harness.logging.BeamFnLoggingMDC;
 import org.apache.beam.fn.harness.state.BeamFnStateClient;
 import org.apache.beam.fn.harness.state.BeamFnStateGrpcClientCache;
 import org.apache.beam.fn.harness.state.CachingBeamFnStateClient;
+import org.apache.beam.fn.harness.state.StateCache;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi.ProcessBundleDescriptor;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi.ProcessBundleRequest;
@@ -70,13 +74,18 @@ import org.apache.beam.runners.core.construction.PTransformTranslation;
 import org.apache.beam.runners.core.construction.Timer;
 import org.apache.beam.runners.core.metrics.ExecutionStateSampler;
 import org.apache.beam.runners.core.metrics.ExecutionStateTracker;
+import org.apache.beam.runners.core.metrics.LabeledMetrics;
 import org.apache.beam.runners.core.metrics.MetricsContainerStepMap;
+import org.apache.beam.runners.core.metrics.MonitoringInfoConstants.Urns;
+import org.apache.beam.runners.core.metrics.MonitoringInfoMetricName;
 import org.apache.beam.runners.core.metrics.ShortIdMap;
 import org.apache.beam.sdk.fn.data.FnDataReceiver;
 import org.apache.beam.sdk.fn.data.LogicalEndpoint;
 import org.apache.beam.sdk.function.ThrowingRunnable;
+import org.apache.beam.sdk.metrics.Counter;
 import org.apache.beam.sdk.options.ExperimentalOptions;
 import org.apache.beam.sdk.options.PipelineOptions;
+import org.apache.beam.sdk.options.SdkHarnessOptions;
 import org.apache.beam.sdk.options.StreamingOptions;
 import org.apache.beam.sdk.transforms.DoFn.BundleFinalizer;
 import org.apache.beam.sdk.util.common.ReflectHelpers;
@@ -84,6 +93,7 @@ import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
 import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.Message;
 import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.TextFormat;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.annotations.VisibleForTesting;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Ticker;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.cache.CacheBuilder;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.cache.CacheLoader;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.cache.LoadingCache;
@@ -93,6 +103,7 @@ import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Immutabl
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Lists;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.SetMultimap;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Sets;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.joda.time.Instant;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -144,29 +155,11 @@ public class ProcessBundleHandler {
     REGISTERED_RUNNER_FACTORIES = builder.build();
   }
 
-  // Creates a new map of state data for newly encountered state keys
-  private CacheLoader<
-          BeamFnApi.StateKey,
-          Map<CachingBeamFnStateClient.StateCacheKey, BeamFnApi.StateGetResponse>>
-      stateKeyMapCacheLoader =
-          new CacheLoader<
-              BeamFnApi.StateKey,
-              Map<CachingBeamFnStateClient.StateCacheKey, BeamFnApi.StateGetResponse>>() {
-            @Override
-            public Map<CachingBeamFnStateClient.StateCacheKey, BeamFnApi.StateGetResponse> load(
-                BeamFnApi.StateKey key) {
-              return new HashMap<>();
-            }
-          };
-
   private final PipelineOptions options;
   private final Function<String, Message> fnApiRegistry;
   private final BeamFnDataClient beamFnDataClient;
   private final BeamFnStateGrpcClientCache beamFnStateGrpcClientCache;
-  private final LoadingCache<
-          BeamFnApi.StateKey,
-          Map<CachingBeamFnStateClient.StateCacheKey, BeamFnApi.StateGetResponse>>
-      stateCache;
+  private final StateCache stateCache;
   private final FinalizeBundleHandler finalizeBundleHandler;
   private final ShortIdMap shortIds;
   private final boolean runnerAcceptsShortIds;
@@ -191,7 +184,7 @@ public class ProcessBundleHandler {
         finalizeBundleHandler,
         shortIds,
         REGISTERED_RUNNER_FACTORIES,
-        new BundleProcessorCache());
+        new BundleProcessorCache(options.as(SdkHarnessOptions.class)));
   }
 
   @VisibleForTesting
@@ -209,7 +202,7 @@ public class ProcessBundleHandler {
     this.fnApiRegistry = fnApiRegistry;
     this.beamFnDataClient = beamFnDataClient;
     this.beamFnStateGrpcClientCache = beamFnStateGrpcClientCache;
-    this.stateCache = CacheBuilder.newBuilder().build(stateKeyMapCacheLoader);
+    this.stateCache = StateCache.create(options);
     this.finalizeBundleHandler = finalizeBundleHandler;
     this.shortIds = shortIds;
     this.runnerAcceptsShortIds =
@@ -313,6 +306,30 @@ public class ProcessBundleHandler {
     }
   }
 
+  /**
+   * Creates {@link SdkHarnessOptions#getPrewarmedBundleProcessorsPerDescriptor() pre-warmed} {@link
+   * BundleProcessor}s for each of the registered process bundle descriptors, setting up their DoFns
+   * before the first bundle arrives.
+   *
+   * <p>The registered descriptors must be resolvable by the {@code fnApiRegistry}.
+   */
+  public BeamFnApi.InstructionResponse.Builder register(BeamFnApi.InstructionRequest request)
+      throws Exception {
+    int prewarmedBundleProcessors =
+        options.as(SdkHarnessOptions.class).getPrewarmedBundleProcessorsPerDescriptor();
+    for (ProcessBundleDescriptor descriptor :
+        request.getRegister().getProcessBundleDescriptorList()) {
+      ProcessBundleRequest processBundleRequest =
+          ProcessBundleRequest.newBuilder().setProcessBundleDescriptorId(descriptor.getId()).build();
+      for (int i = 0; i < prewarmedBundleProcessors; ++i) {
+        bundleProcessorCache.prewarm(
+            descriptor.getId(), createBundleProcessor(descriptor.getId(), processBundleRequest));
+      }
+    }
+    return BeamFnApi.InstructionResponse.newBuilder()
+        .setRegister(BeamFnApi.RegisterResponse.getDefaultInstance());
+  }
+
   /**
    * Processes a bundle, running the start(), process(), and finish() functions. This function is
    * required to be reentrant.
@@ -343,6 +360,8 @@ public class ProcessBundleHandler {
       QueueingBeamFnDataClient queueingClient = bundleProcessor.getQueueingClient();
 
       try (HandleStateCallsForBundle beamFnStateClient = bundleProcessor.getBeamFnStateClient()) {
+        // Bundle processors are reused across bundles so the cache tokens must be refreshed.
+        beamFnStateClient.updateCacheTokens(request.getProcessBundle().getCacheTokensList());
         try (Closeable closeTracker = stateTracker.activate()) {
           // Already in reverse topological order so we don't need to do anything.
           for (ThrowingRunnable startFunction : startFunctionRegistry.getFunctions()) {
@@ -435,6 +454,18 @@ public class ProcessBundleHandler {
     // Get finish bundle Execution Time Metrics.
     result.putAll(
         bundleProcessor.getFinishFunctionRegistry().getExecutionTimeMonitoringData(shortIds));
+    // Get the execution profiles when stack sampling is enabled, merged across all three functions.
+    Map<String, ByteString> executionProfiles = new HashMap<>();
+    bundleProcessor
+        .getStartFunctionRegistry()
+        .addExecutionProfileMonitoringData(shortIds, executionProfiles);
+    bundleProcessor
+        .getpCollectionConsumerRegistry()
+        .addExecutionProfileMonitoringData(shortIds, executionProfiles);
+    bundleProcessor
+        .getFinishFunctionRegistry()
+        .addExecutionProfileMonitoringData(shortIds, executionProfiles);
+    result.putAll(executionProfiles);
     // Extract MonitoringInfos that come from the metrics container registry.
     result.putAll(bundleProcessor.getMetricsContainerRegistry().getMonitoringData(shortIds));
     // Add any additional monitoring infos that the "runners" report explicitly.
@@ -617,12 +648,28 @@ public class ProcessBundleHandler {
     return bundleProcessorCache;
   }
 
-  /** A cache for {@link BundleProcessor}s. */
+  /**
+   * A cache for {@link BundleProcessor}s.
+   *
+   * <p>Idle bundle processors are reused in most recently used order so that bursts of concurrent
+   * bundles do not keep rarely needed bundle processors alive. Bundle processors which have been
+   * idle for longer than the configured idle timeout and the least recently used bundle processors
+   * beyond the configured maximum per process bundle descriptor are torn down.
+   *
+   * <p>The number of created, reused and evicted bundle processors is reported through process wide
+   * metrics.
+   */
   public static class BundleProcessorCache {
 
-    private final LoadingCache<String, ConcurrentLinkedQueue<BundleProcessor>>
+    private final LoadingCache<String, ConcurrentLinkedDeque<CachedBundleProcessor>>
         cachedBundleProcessors;
     private final Map<String, BundleProcessor> activeBundleProcessors;
+    private final int maxCachedBundleProcessorsPerDescriptor;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final Counter created;
+    private final Counter reused;
+    private final Counter evicted;
 
     @Override
     public int hashCode() {
@@ -630,22 +677,56 @@ public class ProcessBundleHandler {
     }
 
     BundleProcessorCache() {
+      this(Integer.MAX_VALUE, Duration.ofMinutes(1L), System::nanoTime);
+    }
+
+    BundleProcessorCache(SdkHarnessOptions options) {
+      this(
+          options.getMaxCachedBundleProcessorsPerDescriptor(),
+          Duration.ofSeconds(options.getBundleProcessorIdleTimeoutSecs()),
+          System::nanoTime);
+    }
+
+    @VisibleForTesting
+    BundleProcessorCache(
+        int maxCachedBundleProcessorsPerDescriptor, Duration idleTimeout, LongSupplier nanoClock) {
+      checkArgument(
+          maxCachedBundleProcessorsPerDescriptor >= 0,
+          "Expected a non-negative maximum number of cached bundle processors, but got %s.",
+          maxCachedBundleProcessorsPerDescriptor);
+      this.maxCachedBundleProcessorsPerDescriptor = maxCachedBundleProcessorsPerDescriptor;
+      this.idleTimeoutNanos = idleTimeout.toNanos();
+      this.nanoClock = nanoClock;
+      this.created = processWideCounter(Urns.BUNDLE_PROCESSOR_CREATED_COUNT);
+      this.reused = processWideCounter(Urns.BUNDLE_PROCESSOR_REUSED_COUNT);
+      this.evicted = processWideCounter(Urns.BUNDLE_PROCESSOR_EVICTED_COUNT);
       this.cachedBundleProcessors =
           CacheBuilder.newBuilder()
-              .expireAfterAccess(Duration.ofMinutes(1L))
+              .expireAfterAccess(idleTimeout)
+              .ticker(
+                  new Ticker() {
+                    @Override
+                    public long read() {
+                      return nanoClock.getAsLong();
+                    }
+                  })
               .removalListener(
                   removalNotification -> {
-                    ((ConcurrentLinkedQueue<BundleProcessor>) removalNotification.getValue())
+                    ((ConcurrentLinkedDeque<CachedBundleProcessor>) removalNotification.getValue())
                         .forEach(
-                            bundleProcessor -> {
-                              bundleProcessor.shutdown();
+                            cachedBundleProcessor -> {
+                              if (removalNotification.wasEvicted()) {
+                                evicted.inc();
+                              }
+                              cachedBundleProcessor.getBundleProcessor().shutdown();
                             });
                   })
               .build(
-                  new CacheLoader<String, ConcurrentLinkedQueue<BundleProcessor>>() {
+                  new CacheLoader<String, ConcurrentLinkedDeque<CachedBundleProcessor>>() {
                     @Override
-                    public ConcurrentLinkedQueue<BundleProcessor> load(String s) throws Exception {
-                      return new ConcurrentLinkedQueue<>();
+                    public ConcurrentLinkedDeque<CachedBundleProcessor> load(String s)
+                        throws Exception {
+                      return new ConcurrentLinkedDeque<>();
                     }
                   });
       // We specifically use a weak hash map so that references will automatically go out of scope
@@ -653,9 +734,23 @@ public class ProcessBundleHandler {
       this.activeBundleProcessors = Collections.synchronizedMap(new WeakHashMap<>());
     }
 
+    private static Counter processWideCounter(String urn) {
+      return LabeledMetrics.counter(
+          MonitoringInfoMetricName.named(urn, Collections.emptyMap()), true);
+    }
+
     @VisibleForTesting
-    Map<String, ConcurrentLinkedQueue<BundleProcessor>> getCachedBundleProcessors() {
-      return ImmutableMap.copyOf(cachedBundleProcessors.asMap());
+    Map<String, List<BundleProcessor>> getCachedBundleProcessors() {
+      ImmutableMap.Builder<String, List<BundleProcessor>> result = ImmutableMap.builder();
+      for (Map.Entry<String, ConcurrentLinkedDeque<CachedBundleProcessor>> entry :
+          cachedBundleProcessors.asMap().entrySet()) {
+        ImmutableList.Builder<BundleProcessor> bundleProcessors = ImmutableList.builder();
+        for (CachedBundleProcessor cachedBundleProcessor : entry.getValue()) {
+          bundleProcessors.add(cachedBundleProcessor.getBundleProcessor());
+        }
+        result.put(entry.getKey(), bundleProcessors.build());
+      }
+      return result.build();
     }
 
     public Map<String, BundleProcessor> getActiveBundleProcessors() {
@@ -674,11 +769,17 @@ public class ProcessBundleHandler {
         String bundleDescriptorId,
         String instructionId,
         Supplier<BundleProcessor> bundleProcessorSupplier) {
-      ConcurrentLinkedQueue<BundleProcessor> bundleProcessors =
+      ConcurrentLinkedDeque<CachedBundleProcessor> bundleProcessors =
           cachedBundleProcessors.getUnchecked(bundleDescriptorId);
-      BundleProcessor bundleProcessor = bundleProcessors.poll();
-      if (bundleProcessor == null) {
+      evictIdle(bundleProcessors);
+      CachedBundleProcessor cachedBundleProcessor = bundleProcessors.pollFirst();
+      BundleProcessor bundleProcessor;
+      if (cachedBundleProcessor == null) {
         bundleProcessor = bundleProcessorSupplier.get();
+        created.inc();
+      } else {
+        bundleProcessor = cachedBundleProcessor.getBundleProcessor();
+        reused.inc();
       }
 
       bundleProcessor.setInstructionId(instructionId);
@@ -702,7 +803,7 @@ public class ProcessBundleHandler {
       activeBundleProcessors.remove(bundleProcessor.getInstructionId());
       try {
         bundleProcessor.reset();
-        cachedBundleProcessors.get(bundleDescriptorId).add(bundleProcessor);
+        add(bundleDescriptorId, bundleProcessor);
       } catch (Exception e) {
         LOG.warn(
             "Was unable to reset bundle processor safely. Bundle processor will be discarded and re-instantiated on next bundle for descriptor {}.",
@@ -711,6 +812,48 @@ public class ProcessBundleHandler {
       }
     }
 
+    /**
+     * Add a newly created {@link BundleProcessor} which has not processed any bundles yet to the
+     * cache, so that the first bundle for the specified descriptor does not need to create one.
+     */
+    void prewarm(String bundleDescriptorId, BundleProcessor bundleProcessor) {
+      created.inc();
+      add(bundleDescriptorId, bundleProcessor);
+    }
+
+    private void add(String bundleDescriptorId, BundleProcessor bundleProcessor) {
+      ConcurrentLinkedDeque<CachedBundleProcessor> bundleProcessors =
+          cachedBundleProcessors.getUnchecked(bundleDescriptorId);
+      bundleProcessors.offerFirst(
+          new CachedBundleProcessor(bundleProcessor, nanoClock.getAsLong()));
+      while (bundleProcessors.size() > maxCachedBundleProcessorsPerDescriptor) {
+        CachedBundleProcessor leastRecentlyUsed = bundleProcessors.pollLast();
+        if (leastRecentlyUsed == null) {
+          break;
+        }
+        evict(leastRecentlyUsed);
+      }
+      evictIdle(bundleProcessors);
+    }
+
+    /** Tears down the least recently used bundle processors which exceeded the idle timeout. */
+    private void evictIdle(ConcurrentLinkedDeque<CachedBundleProcessor> bundleProcessors) {
+      long now = nanoClock.getAsLong();
+      CachedBundleProcessor leastRecentlyUsed;
+      while ((leastRecentlyUsed = bundleProcessors.peekLast()) != null
+          && now - leastRecentlyUsed.getReleaseTimeNanos() >= idleTimeoutNanos) {
+        // Another thread may have taken the bundle processor in the meantime.
+        if (bundleProcessors.removeLastOccurrence(leastRecentlyUsed)) {
+          evict(leastRecentlyUsed);
+        }
+      }
+    }
+
+    private void evict(CachedBundleProcessor cachedBundleProcessor) {
+      evicted.inc();
+      cachedBundleProcessor.getBundleProcessor().shutdown();
+    }
+
     /** Discard an active {@link BundleProcessor} instead of being re-used. */
     void discard(BundleProcessor bundleProcessor) {
       activeBundleProcessors.remove(bundleProcessor.getInstructionId());
@@ -720,6 +863,25 @@ public class ProcessBundleHandler {
     void shutdown() throws Exception {
       cachedBundleProcessors.invalidateAll();
     }
+
+    /** An idle {@link BundleProcessor} and the time at which it was added to the cache. */
+    private static class CachedBundleProcessor {
+      private final BundleProcessor bundleProcessor;
+      private final long releaseTimeNanos;
+
+      private CachedBundleProcessor(BundleProcessor bundleProcessor, long releaseTimeNanos) {
+        this.bundleProcessor = bundleProcessor;
+        this.releaseTimeNanos = releaseTimeNanos;
+      }
+
+      BundleProcessor getBundleProcessor() {
+        return bundleProcessor;
+      }
+
+      long getReleaseTimeNanos() {
+        return releaseTimeNanos;
+      }
+    }
   }
 
   /** A container for the reusable information used to process a bundle. */
@@ -860,6 +1022,27 @@ public class ProcessBundleHandler {
       response.whenComplete((stateResponse, throwable) -> phaser.arriveAndDeregister());
       beamFnStateClient.handle(requestBuilder, response);
     }
+
+    @Override
+    void updateCacheTokens(List<ProcessBundleRequest.CacheToken> cacheTokens) {
+      if (beamFnStateClient instanceof CachingBeamFnStateClient) {
+        ((CachingBeamFnStateClient) beamFnStateClient).updateCacheTokens(cacheTokens);
+      }
+    }
+
+    @Override
+    public <T> @Nullable List<T> getCachedValues(
+        BeamFnApi.StateKey stateKey, org.apache.beam.sdk.coders.Coder<T> valueCoder) {
+      return beamFnStateClient.getCachedValues(stateKey, valueCoder);
+    }
+
+    @Override
+    public <T> void cacheValues(
+        BeamFnApi.StateKey stateKey,
+        org.apache.beam.sdk.coders.Coder<T> valueCoder,
+        List<T> values) {
+      beamFnStateClient.cacheValues(stateKey, valueCoder, values);
+    }
   }
 
   /**
@@ -912,7 +1095,10 @@ public class ProcessBundleHandler {
     }
   }
 
-  abstract static class HandleStateCallsForBundle implements AutoCloseable, BeamFnStateClient {}
+  abstract static class HandleStateCallsForBundle implements AutoCloseable, BeamFnStateClient {
+    /** Updates the cache tokens which are valid for the bundle about to be processed. */
+    void updateCacheTokens(List<ProcessBundleRequest.CacheToken> cacheTokens) {}
+  }
 
   private static class UnknownPTransformRunnerFactory implements PTransformRunnerFactory<Object> {
     private final Set<String> knownUrns;
@@ -24,6 +24,7 @@ import org.apache.beam.model.fnexecution.v1.BeamFnDataGrpc;
 import org.apache.beam.model.pipeline.v1.Endpoints;
 import org.apache.beam.model.pipeline.v1.Endpoints.ApiServiceDescriptor;
 import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.sdk.fn.data.BeamFnDataAdaptiveBufferingOutboundObserver;
 import org.apache.beam.sdk.fn.data.BeamFnDataBufferingOutboundObserver;
 import org.apache.beam.sdk.fn.data.BeamFnDataGrpcMultiplexer;
 import org.apache.beam.sdk.fn.data.BeamFnDataInboundObserver;
@@ -50,6 +51,7 @@ public class BeamFnDataGrpcClient implements BeamFnDataClient {
   private final Function<Endpoints.ApiServiceDescriptor, ManagedChannel> channelFactory;
   private final OutboundObserverFactory outboundObserverFactory;
   private final PipelineOptions options;
+  private final BeamFnDataAdaptiveBufferingOutboundObserver.Estimates bufferingEstimates;
 
   public BeamFnDataGrpcClient(
       PipelineOptions options,
@@ -59,6 +61,7 @@ public class BeamFnDataGrpcClient implements BeamFnDataClient {
     this.channelFactory = channelFactory;
     this.outboundObserverFactory = outboundObserverFactory;
     this.cache = new ConcurrentHashMap<>();
+    this.bufferingEstimates = new BeamFnDataAdaptiveBufferingOutboundObserver.Estimates();
   }
 
   /**
@@ -103,7 +106,7 @@ public class BeamFnDataGrpcClient implements BeamFnDataClient {
 
     LOG.debug("Creating output consumer for {}", outputLocation);
     return BeamFnDataBufferingOutboundObserver.forLocation(
-        options, outputLocation, coder, client.getOutboundObserver());
+        options, outputLocation, coder, client.getOutboundObserver(), bufferingEstimates);
   }
 
   private BeamFnDataGrpcMultiplexer getClientFor(
@@ -201,6 +201,12 @@ public class PCollectionConsumerRegistry {
     return executionStates.getExecutionTimeMonitoringData(shortIds);
   }
 
+  /** Adds the execution profiles sampled while executing the registered functions to result. */
+  public void addExecutionProfileMonitoringData(
+      ShortIdMap shortIds, Map<String, ByteString> result) {
+    executionStates.addExecutionProfileMonitoringData(shortIds, result);
+  }
+
   /** @return the underlying consumers for a pCollectionId, some tests may wish to check this. */
   @VisibleForTesting
   public List<FnDataReceiver> getUnderlyingConsumers(String pCollectionId) {
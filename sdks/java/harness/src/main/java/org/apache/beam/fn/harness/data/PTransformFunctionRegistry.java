@@ -130,6 +130,12 @@ public class PTransformFunctionRegistry {
     return executionStates.getExecutionTimeMonitoringData(shortIds);
   }
 
+  /** Adds the execution profiles sampled while executing the registered functions to result. */
+  public void addExecutionProfileMonitoringData(
+      ShortIdMap shortIds, Map<String, ByteString> result) {
+    executionStates.addExecutionProfileMonitoringData(shortIds, result);
+  }
+
   /**
    * @return A list of wrapper functions which will invoke the registered functions indirectly. The
    *     order of registry is maintained.
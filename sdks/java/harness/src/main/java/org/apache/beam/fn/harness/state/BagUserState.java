@@ -21,6 +21,7 @@ import static org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Prec
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateAppendRequest;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateClearRequest;
@@ -38,6 +39,10 @@ import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Iterable
  * <p>Calling {@link #asyncClose()} schedules any required persistence changes. This object should
  * no longer be used after it is closed.
  *
+ * <p>When the state client supports caching and the values are of an immutable type, see {@link
+ * StateCache#cachesDecodedValues}, the decoded values are reused across bundles and the values as
+ * of closing are offered to the cache whenever they are fully known.
+ *
  * <p>TODO: Move to an async persist model where persistence is signalled based upon cache memory
  * pressure and its need to flush.
  *
@@ -51,7 +56,7 @@ public class BagUserState<T> {
   private final BeamFnStateClient beamFnStateClient;
   private final StateRequest request;
   private final Coder<T> valueCoder;
-  private PrefetchableIterable<T> oldValues;
+  private StateFetchingIterators.CachingDecodedValuesIterable<T> oldValues;
   private ArrayList<T> newValues;
   private boolean isClosed;
 
@@ -78,7 +83,8 @@ public class BagUserState<T> {
     request = requestBuilder.build();
 
     this.oldValues =
-        StateFetchingIterators.readAllAndDecodeStartingFrom(beamFnStateClient, request, valueCoder);
+        StateFetchingIterators.readAllAndDecodeCachingStartingFrom(
+            beamFnStateClient, request, valueCoder);
     this.newValues = new ArrayList<>();
   }
 
@@ -137,6 +143,21 @@ public class BagUserState<T> {
               .setAppend(StateAppendRequest.newBuilder().setData(out.toByteString())),
           new CompletableFuture<>());
     }
+
+    // Offer the values as of closing to the cache if they are fully known. This must happen after
+    // the clear and append requests since they invalidate the cached values.
+    if (StateCache.cachesDecodedValues(valueCoder)) {
+      List<T> allValues = null;
+      if (oldValues == null) {
+        allValues = newValues;
+      } else if (!newValues.isEmpty() && oldValues.getAllValues() != null) {
+        allValues = new ArrayList<>(oldValues.getAllValues());
+        allValues.addAll(newValues);
+      }
+      if (allValues != null) {
+        beamFnStateClient.cacheValues(request.getStateKey(), valueCoder, allValues);
+      }
+    }
     isClosed = true;
   }
 }
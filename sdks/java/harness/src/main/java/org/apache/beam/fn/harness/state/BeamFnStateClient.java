@@ -17,9 +17,13 @@
  */
 package org.apache.beam.fn.harness.state;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi;
+import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateKey;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateResponse;
+import org.apache.beam.sdk.coders.Coder;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * The {@link BeamFnStateClient} is able to forward state requests to a handler which returns a
@@ -36,4 +40,22 @@ public interface BeamFnStateClient {
    */
   void handle(
       BeamFnApi.StateRequest.Builder requestBuilder, CompletableFuture<StateResponse> response);
+
+  /**
+   * Returns the decoded values of the whole state stream for the state key if they have been cached
+   * using an equal coder, otherwise null. The returned list must not be modified.
+   *
+   * <p>By default no values are cached.
+   */
+  default <T> @Nullable List<T> getCachedValues(StateKey stateKey, Coder<T> valueCoder) {
+    return null;
+  }
+
+  /**
+   * Offers the decoded values of the whole state stream for the state key to be cached. The values
+   * must not be modified after they have been offered.
+   *
+   * <p>By default the values are ignored.
+   */
+  default <T> void cacheValues(StateKey stateKey, Coder<T> valueCoder, List<T> values) {}
 }
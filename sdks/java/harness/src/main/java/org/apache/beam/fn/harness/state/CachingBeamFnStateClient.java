@@ -17,7 +17,6 @@
  */
 package org.apache.beam.fn.harness.state;
 
-import com.google.auto.value.AutoValue;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,43 +30,60 @@ import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateKey.MultimapKeysSideI
 import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateKey.MultimapSideInput;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateRequest;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateResponse;
+import org.apache.beam.sdk.coders.Coder;
 import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
-import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.cache.LoadingCache;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Wraps a delegate BeamFnStateClient and stores the result of state requests in cross bundle cache
  * according to the available cache tokens. If there are no cache tokens for the state key requested
  * the request is forwarded to the client and executed normally.
+ *
+ * <p>Decoded values offered via {@link #cacheValues} are also stored in the {@link StateCache} so
+ * that they can be reused across bundles without decoding the state again.
  */
 public class CachingBeamFnStateClient implements BeamFnStateClient {
 
   private final BeamFnStateClient beamFnStateClient;
-  private final LoadingCache<StateKey, Map<StateCacheKey, StateGetResponse>> stateCache;
+  private final StateCache stateCache;
   private final Map<CacheToken.SideInput, ByteString> sideInputCacheTokens;
-  private final ByteString userStateToken;
+  private ByteString userStateToken;
 
   /**
-   * Creates a CachingBeamFnStateClient that wraps a BeamFnStateClient with a LoadingCache. Cache
-   * tokens are sent by the runner to indicate which state is able to be cached.
+   * Creates a CachingBeamFnStateClient that wraps a BeamFnStateClient with a {@link StateCache}.
+   * Cache tokens are sent by the runner to indicate which state is able to be cached.
    */
   public CachingBeamFnStateClient(
       BeamFnStateClient beamFnStateClient,
-      LoadingCache<StateKey, Map<StateCacheKey, StateGetResponse>> stateCache,
+      StateCache stateCache,
       List<CacheToken> cacheTokenList) {
     this.beamFnStateClient = beamFnStateClient;
     this.stateCache = stateCache;
     this.sideInputCacheTokens = new HashMap<>();
+    this.userStateToken = parseCacheTokens(cacheTokenList, sideInputCacheTokens);
+  }
+
+  /**
+   * Replaces the cache tokens with those sent by the runner for the next bundle. State which was
+   * cached under tokens which are no longer valid is not served anymore.
+   */
+  public void updateCacheTokens(List<CacheToken> cacheTokenList) {
+    sideInputCacheTokens.clear();
+    userStateToken = parseCacheTokens(cacheTokenList, sideInputCacheTokens);
+  }
 
-    // Set up cache tokens.
-    ByteString tempUserStateToken = ByteString.EMPTY;
+  /** Populates the side input cache tokens and returns the user state cache token. */
+  private static ByteString parseCacheTokens(
+      List<CacheToken> cacheTokenList, Map<CacheToken.SideInput, ByteString> sideInputCacheTokens) {
+    ByteString userStateToken = ByteString.EMPTY;
     for (BeamFnApi.ProcessBundleRequest.CacheToken token : cacheTokenList) {
       if (token.hasUserState()) {
-        tempUserStateToken = token.getToken();
+        userStateToken = token.getToken();
       } else if (token.hasSideInput()) {
         sideInputCacheTokens.put(token.getSideInput(), token.getToken());
       }
     }
-    this.userStateToken = tempUserStateToken;
+    return userStateToken;
   }
 
   /**
@@ -91,17 +107,16 @@ public class CachingBeamFnStateClient implements BeamFnStateClient {
     switch (requestBuilder.getRequestCase()) {
       case GET:
         // Check if data is in the cache.
-        StateCacheKey cacheKey =
-            StateCacheKey.create(cacheToken, requestBuilder.getGet().getContinuationToken());
-        Map<StateCacheKey, StateGetResponse> stateKeyMap = stateCache.getUnchecked(stateKey);
-        StateGetResponse cachedPage = stateKeyMap.get(cacheKey);
+        ByteString continuationToken = requestBuilder.getGet().getContinuationToken();
+        StateGetResponse cachedPage = stateCache.getPage(stateKey, cacheToken, continuationToken);
 
         // If data is not cached, add callback to add response to cache on completion.
         // Otherwise, complete the response with the cached data.
         if (cachedPage == null) {
           response.thenAccept(
               stateResponse ->
-                  stateCache.getUnchecked(stateKey).put(cacheKey, stateResponse.getGet()));
+                  stateCache.putPage(
+                      stateKey, cacheToken, continuationToken, stateResponse.getGet()));
           beamFnStateClient.handle(requestBuilder, response);
 
         } else {
@@ -116,18 +131,14 @@ public class CachingBeamFnStateClient implements BeamFnStateClient {
         beamFnStateClient.handle(requestBuilder, response);
 
         // Invalidate last page of cached values (entry with a blank continuation token response)
-        Map<StateCacheKey, StateGetResponse> map = stateCache.getUnchecked(stateKey);
-        map.entrySet()
-            .removeIf(entry -> (entry.getValue().getContinuationToken().equals(ByteString.EMPTY)));
+        // and any decoded values.
+        stateCache.invalidateLastPage(stateKey, cacheToken);
         return;
 
       case CLEAR:
         // Remove all state key data and replace with an empty response.
         beamFnStateClient.handle(requestBuilder, response);
-        Map<StateCacheKey, StateGetResponse> clearedData = new HashMap<>();
-        StateCacheKey newKey = StateCacheKey.create(cacheToken, ByteString.EMPTY);
-        clearedData.put(newKey, StateGetResponse.getDefaultInstance());
-        stateCache.put(stateKey, clearedData);
+        stateCache.clear(stateKey, cacheToken);
         return;
 
       default:
@@ -136,6 +147,23 @@ public class CachingBeamFnStateClient implements BeamFnStateClient {
     }
   }
 
+  @Override
+  public <T> @Nullable List<T> getCachedValues(StateKey stateKey, Coder<T> valueCoder) {
+    ByteString cacheToken = getCacheToken(stateKey);
+    if (ByteString.EMPTY.equals(cacheToken)) {
+      return null;
+    }
+    return stateCache.getDecodedValues(stateKey, cacheToken, valueCoder);
+  }
+
+  @Override
+  public <T> void cacheValues(StateKey stateKey, Coder<T> valueCoder, List<T> values) {
+    ByteString cacheToken = getCacheToken(stateKey);
+    if (!ByteString.EMPTY.equals(cacheToken)) {
+      stateCache.putDecodedValues(stateKey, cacheToken, valueCoder, values);
+    }
+  }
+
   private ByteString getCacheToken(BeamFnApi.StateKey stateKey) {
     if (stateKey.hasBagUserState()) {
       return userStateToken;
@@ -163,16 +191,4 @@ public class CachingBeamFnStateClient implements BeamFnStateClient {
       return sideInputCacheTokens.getOrDefault(sideInputBuilder.build(), ByteString.EMPTY);
     }
   }
-
-  /** A key for caching the result of a StateGetRequest by cache and continuation tokens. */
-  @AutoValue
-  public abstract static class StateCacheKey {
-    public abstract ByteString getCacheToken();
-
-    public abstract ByteString getContinuationToken();
-
-    static StateCacheKey create(ByteString cacheToken, ByteString continuationToken) {
-      return new AutoValue_CachingBeamFnStateClient_StateCacheKey(cacheToken, continuationToken);
-    }
-  }
 }
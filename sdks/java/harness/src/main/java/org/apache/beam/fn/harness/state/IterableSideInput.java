@@ -25,6 +25,8 @@ import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
 /**
  * An implementation of a iterable side input that utilizes the Beam Fn State API to fetch values.
  *
+ * <p>The decoded values are reused across bundles when the state client supports caching.
+ *
  * <p>TODO: Support block level caching and prefetch.
  */
 @SuppressWarnings({
@@ -65,7 +67,7 @@ public class IterableSideInput<T> implements IterableView<T> {
         .setSideInputId(sideInputId)
         .setWindow(encodedWindow);
 
-    return StateFetchingIterators.readAllAndDecodeStartingFrom(
+    return StateFetchingIterators.readAllAndDecodeCachingStartingFrom(
         beamFnStateClient, requestBuilder.build(), valueCoder);
   }
 }
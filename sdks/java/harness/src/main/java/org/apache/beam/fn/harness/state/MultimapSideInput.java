@@ -26,6 +26,10 @@ import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
 /**
  * An implementation of a multimap side input that utilizes the Beam Fn State API to fetch values.
  *
+ * <p>The decoded keys and the decoded values of each key are reused across bundles and DoFn
+ * instances while the runner's cache token for the side input is unchanged, when the state client
+ * supports caching. This avoids decoding large lookup side inputs again for every bundle.
+ *
  * <p>TODO: Support block level caching and prefetch.
  */
 @SuppressWarnings({
@@ -70,7 +74,7 @@ public class MultimapSideInput<K, V> implements MultimapView<K, V> {
         .setSideInputId(sideInputId)
         .setWindow(encodedWindow);
 
-    return StateFetchingIterators.readAllAndDecodeStartingFrom(
+    return StateFetchingIterators.readAllAndDecodeCachingStartingFrom(
         beamFnStateClient, requestBuilder.build(), keyCoder);
   }
 
@@ -93,7 +97,7 @@ public class MultimapSideInput<K, V> implements MultimapView<K, V> {
         .setWindow(encodedWindow)
         .setKey(output.toByteString());
 
-    return StateFetchingIterators.readAllAndDecodeStartingFrom(
+    return StateFetchingIterators.readAllAndDecodeCachingStartingFrom(
         beamFnStateClient, requestBuilder.build(), valueCoder);
   }
 }
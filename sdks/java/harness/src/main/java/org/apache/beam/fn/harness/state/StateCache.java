@@ -0,0 +1,364 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.fn.harness.state;
+
+import com.google.auto.value.AutoValue;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateGetResponse;
+import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateKey;
+import org.apache.beam.runners.core.metrics.LabeledMetrics;
+import org.apache.beam.runners.core.metrics.MonitoringInfoConstants;
+import org.apache.beam.runners.core.metrics.MonitoringInfoMetricName;
+import org.apache.beam.sdk.coders.BigDecimalCoder;
+import org.apache.beam.sdk.coders.BigEndianIntegerCoder;
+import org.apache.beam.sdk.coders.BigEndianLongCoder;
+import org.apache.beam.sdk.coders.BigEndianShortCoder;
+import org.apache.beam.sdk.coders.BigIntegerCoder;
+import org.apache.beam.sdk.coders.BooleanCoder;
+import org.apache.beam.sdk.coders.ByteCoder;
+import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.sdk.coders.DoubleCoder;
+import org.apache.beam.sdk.coders.DurationCoder;
+import org.apache.beam.sdk.coders.FloatCoder;
+import org.apache.beam.sdk.coders.InstantCoder;
+import org.apache.beam.sdk.coders.StringUtf8Coder;
+import org.apache.beam.sdk.coders.TextualIntegerCoder;
+import org.apache.beam.sdk.coders.VarIntCoder;
+import org.apache.beam.sdk.coders.VarLongCoder;
+import org.apache.beam.sdk.coders.VoidCoder;
+import org.apache.beam.sdk.metrics.Counter;
+import org.apache.beam.sdk.options.PipelineOptions;
+import org.apache.beam.sdk.options.SdkHarnessOptions;
+import org.apache.beam.sdk.util.common.ElementByteSizeObserver;
+import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.annotations.VisibleForTesting;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.cache.Cache;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.cache.CacheBuilder;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableMap;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A process-wide cache of state fetched over the Beam Fn State API which is shared across bundles.
+ *
+ * <p>Entries are keyed by {@link StateKey} and the cache token supplied by the runner for it so
+ * that state is only reused while the runner guarantees that it has not been modified elsewhere.
+ * Each entry holds the pages of {@link StateGetResponse}s keyed by continuation token and
+ * optionally the decoded values of the whole state stream. Decoded values are only cached for
+ * coders of immutable types since they are shared with user code across bundles.
+ *
+ * <p>The cache is bounded by an estimate of the number of bytes retained, see {@link
+ * SdkHarnessOptions#getMaxStateCacheSizeMb()}. Hits, misses and evictions are reported as process
+ * wide metrics.
+ */
+@SuppressWarnings({
+  "nullness" // TODO(https://issues.apache.org/jira/browse/BEAM-10402)
+})
+public class StateCache {
+  // Rough estimates of the JVM overhead of the objects retained in addition to the encoded state.
+  private static final long ENTRY_OVERHEAD_BYTES = 64;
+  private static final long PAGE_OVERHEAD_BYTES = 48;
+  // Decoded values are boxed primitives, strings and the like, see IMMUTABLE_VALUE_CODERS. Their
+  // heap size is bounded by this overhead for the reference, object header and fields, plus twice
+  // their encoded size since strings may use two bytes per character.
+  private static final long DECODED_VALUE_OVERHEAD_BYTES = 64;
+  private static final long DECODED_VALUE_BYTES_PER_ENCODED_BYTE = 2;
+  // The number of values whose encoded size is measured to estimate the size of decoded values.
+  private static final int DECODED_VALUE_SAMPLES = 10;
+
+  // Coders of immutable types. Only their decoded values are cached, since cached values are
+  // handed to user code of later bundles which could otherwise mutate them.
+  private static final ImmutableSet<Class<?>> IMMUTABLE_VALUE_CODERS =
+      ImmutableSet.of(
+          BigDecimalCoder.class,
+          BigEndianIntegerCoder.class,
+          BigEndianLongCoder.class,
+          BigEndianShortCoder.class,
+          BigIntegerCoder.class,
+          BooleanCoder.class,
+          ByteCoder.class,
+          DoubleCoder.class,
+          DurationCoder.class,
+          FloatCoder.class,
+          InstantCoder.class,
+          StringUtf8Coder.class,
+          TextualIntegerCoder.class,
+          VarIntCoder.class,
+          VarLongCoder.class,
+          VoidCoder.class);
+
+  private final Cache<CacheKey, CacheEntry> cache;
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter evictions;
+
+  /** Creates a {@link StateCache} sized according to the {@link SdkHarnessOptions}. */
+  public static StateCache create(PipelineOptions options) {
+    return new StateCache(
+        options.as(SdkHarnessOptions.class).getMaxStateCacheSizeMb() * 1024L * 1024L);
+  }
+
+  @VisibleForTesting
+  StateCache(long maxWeightBytes) {
+    this.hits = processWideCounter(MonitoringInfoConstants.Urns.STATE_CACHE_HIT_COUNT);
+    this.misses = processWideCounter(MonitoringInfoConstants.Urns.STATE_CACHE_MISS_COUNT);
+    this.evictions = processWideCounter(MonitoringInfoConstants.Urns.STATE_CACHE_EVICTION_COUNT);
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxWeightBytes)
+            .<CacheKey, CacheEntry>weigher(
+                (key, entry) -> (int) Math.min(Integer.MAX_VALUE, weigh(key, entry)))
+            .removalListener(
+                notification -> {
+                  if (notification.wasEvicted()) {
+                    evictions.inc();
+                  }
+                })
+            .build();
+  }
+
+  private static Counter processWideCounter(String urn) {
+    return LabeledMetrics.counter(
+        MonitoringInfoMetricName.named(urn, Collections.emptyMap()), true);
+  }
+
+  /** Returns the cached page for the continuation token or null if it is not cached. */
+  public @Nullable StateGetResponse getPage(
+      StateKey stateKey, ByteString cacheToken, ByteString continuationToken) {
+    CacheEntry entry = cache.getIfPresent(CacheKey.of(stateKey, cacheToken));
+    StateGetResponse page = entry == null ? null : entry.pages.get(continuationToken);
+    if (page == null) {
+      misses.inc();
+    } else {
+      hits.inc();
+    }
+    return page;
+  }
+
+  /** Caches the page which was returned for the continuation token. */
+  public void putPage(
+      StateKey stateKey,
+      ByteString cacheToken,
+      ByteString continuationToken,
+      StateGetResponse page) {
+    cache
+        .asMap()
+        .compute(
+            CacheKey.of(stateKey, cacheToken),
+            (key, entry) ->
+                (entry == null ? CacheEntry.EMPTY : entry).withPage(continuationToken, page));
+  }
+
+  /**
+   * Invalidates the last page, the page without a continuation token, and any decoded values as
+   * they no longer reflect the state after an append.
+   */
+  public void invalidateLastPage(StateKey stateKey, ByteString cacheToken) {
+    cache
+        .asMap()
+        .computeIfPresent(
+            CacheKey.of(stateKey, cacheToken), (key, entry) -> entry.withoutLastPage());
+  }
+
+  /** Replaces all cached data for the state key with a single empty page. */
+  public void clear(StateKey stateKey, ByteString cacheToken) {
+    cache.put(
+        CacheKey.of(stateKey, cacheToken),
+        CacheEntry.EMPTY.withPage(ByteString.EMPTY, StateGetResponse.getDefaultInstance()));
+  }
+
+  /**
+   * Returns whether decoded values of the coder are cached, which is only the case for coders of
+   * immutable types.
+   */
+  public static boolean cachesDecodedValues(Coder<?> valueCoder) {
+    return IMMUTABLE_VALUE_CODERS.contains(valueCoder.getClass());
+  }
+
+  /**
+   * Returns the decoded values of the whole state stream if they were cached using an equal coder,
+   * otherwise null. The returned list must not be modified.
+   *
+   * <p>Only hits are counted, since callers fall back to reading the pages of the state stream,
+   * which counts the miss.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> @Nullable List<T> getDecodedValues(
+      StateKey stateKey, ByteString cacheToken, Coder<T> valueCoder) {
+    CacheEntry entry = cache.getIfPresent(CacheKey.of(stateKey, cacheToken));
+    if (entry != null && entry.decodedValues != null && valueCoder.equals(entry.decodedCoder)) {
+      hits.inc();
+      return (List<T>) entry.decodedValues;
+    }
+    return null;
+  }
+
+  /**
+   * Caches the decoded values of the whole state stream if {@link #cachesDecodedValues the coder's
+   * values are cached}. The values must not be modified after they have been handed to the cache.
+   */
+  public <T> void putDecodedValues(
+      StateKey stateKey, ByteString cacheToken, Coder<T> valueCoder, List<T> values) {
+    if (!cachesDecodedValues(valueCoder)) {
+      return;
+    }
+    long decodedWeight = estimateDecodedWeight(valueCoder, values);
+    List<T> unmodifiableValues = Collections.unmodifiableList(values);
+    cache
+        .asMap()
+        .compute(
+            CacheKey.of(stateKey, cacheToken),
+            (key, entry) ->
+                (entry == null ? CacheEntry.EMPTY : entry)
+                    .withDecodedValues(valueCoder, unmodifiableValues, decodedWeight));
+  }
+
+  /** Returns the estimated number of bytes retained by the cache. */
+  public long getWeight() {
+    long weight = 0;
+    for (Map.Entry<CacheKey, CacheEntry> entry : cache.asMap().entrySet()) {
+      weight += weigh(entry.getKey(), entry.getValue());
+    }
+    return weight;
+  }
+
+  /**
+   * Returns the weight of an entry including its key, which dominates for the many small entries
+   * of the per key values of multimap side inputs.
+   */
+  private static long weigh(CacheKey key, CacheEntry entry) {
+    return key.getStateKey().getSerializedSize() + key.getCacheToken().size() + entry.getWeight();
+  }
+
+  @VisibleForTesting
+  @Nullable
+  Map<ByteString, StateGetResponse> getPages(StateKey stateKey, ByteString cacheToken) {
+    CacheEntry entry = cache.getIfPresent(CacheKey.of(stateKey, cacheToken));
+    return entry == null ? null : entry.pages;
+  }
+
+  /**
+   * Estimates the number of bytes retained by the decoded values by extrapolating the encoded size
+   * of the first few values. The estimate is conservative for the values of {@link
+   * #IMMUTABLE_VALUE_CODERS}.
+   */
+  @VisibleForTesting
+  static <T> long estimateDecodedWeight(Coder<T> valueCoder, List<T> values) {
+    int samples = Math.min(values.size(), DECODED_VALUE_SAMPLES);
+    if (samples == 0) {
+      return 0;
+    }
+    SizeObserver observer = new SizeObserver();
+    try {
+      for (int i = 0; i < samples; ++i) {
+        valueCoder.registerByteSizeObserver(values.get(i), observer);
+      }
+    } catch (Exception e) {
+      // Fall back to the size of the references if the coder is unable to estimate the size.
+      return values.size() * DECODED_VALUE_OVERHEAD_BYTES;
+    }
+    observer.advance();
+    return values.size()
+        * (DECODED_VALUE_BYTES_PER_ENCODED_BYTE * observer.size / samples
+            + DECODED_VALUE_OVERHEAD_BYTES);
+  }
+
+  private static class SizeObserver extends ElementByteSizeObserver {
+    private long size;
+
+    @Override
+    protected void reportElementSize(long elementByteSize) {
+      size += elementByteSize;
+    }
+  }
+
+  @AutoValue
+  abstract static class CacheKey {
+    abstract StateKey getStateKey();
+
+    abstract ByteString getCacheToken();
+
+    static CacheKey of(StateKey stateKey, ByteString cacheToken) {
+      return new AutoValue_StateCache_CacheKey(stateKey, cacheToken);
+    }
+  }
+
+  /** An immutable cache entry, updates replace the entry within the cache atomically. */
+  private static class CacheEntry {
+    private static final CacheEntry EMPTY = new CacheEntry(ImmutableMap.of(), 0, null, null, 0);
+
+    private final Map<ByteString, StateGetResponse> pages;
+    private final long pagesWeight;
+    private final @Nullable Coder<?> decodedCoder;
+    private final @Nullable List<?> decodedValues;
+    private final long decodedWeight;
+
+    private CacheEntry(
+        Map<ByteString, StateGetResponse> pages,
+        long pagesWeight,
+        @Nullable Coder<?> decodedCoder,
+        @Nullable List<?> decodedValues,
+        long decodedWeight) {
+      this.pages = pages;
+      this.pagesWeight = pagesWeight;
+      this.decodedCoder = decodedCoder;
+      this.decodedValues = decodedValues;
+      this.decodedWeight = decodedWeight;
+    }
+
+    long getWeight() {
+      return ENTRY_OVERHEAD_BYTES + pagesWeight + decodedWeight;
+    }
+
+    CacheEntry withPage(ByteString continuationToken, StateGetResponse page) {
+      ImmutableMap.Builder<ByteString, StateGetResponse> newPages = ImmutableMap.builder();
+      long newPagesWeight = pageWeight(continuationToken, page);
+      for (Map.Entry<ByteString, StateGetResponse> existing : pages.entrySet()) {
+        if (!existing.getKey().equals(continuationToken)) {
+          newPages.put(existing);
+          newPagesWeight += pageWeight(existing.getKey(), existing.getValue());
+        }
+      }
+      newPages.put(continuationToken, page);
+      return new CacheEntry(
+          newPages.build(), newPagesWeight, decodedCoder, decodedValues, decodedWeight);
+    }
+
+    CacheEntry withoutLastPage() {
+      ImmutableMap.Builder<ByteString, StateGetResponse> newPages = ImmutableMap.builder();
+      long newPagesWeight = 0;
+      for (Map.Entry<ByteString, StateGetResponse> existing : pages.entrySet()) {
+        if (!existing.getValue().getContinuationToken().isEmpty()) {
+          newPages.put(existing);
+          newPagesWeight += pageWeight(existing.getKey(), existing.getValue());
+        }
+      }
+      return new CacheEntry(newPages.build(), newPagesWeight, null, null, 0);
+    }
+
+    CacheEntry withDecodedValues(Coder<?> coder, List<?> values, long weight) {
+      return new CacheEntry(pages, pagesWeight, coder, values, weight);
+    }
+
+    private static long pageWeight(ByteString continuationToken, StateGetResponse page) {
+      return PAGE_OVERHEAD_BYTES + continuationToken.size() + page.getSerializedSize();
+    }
+  }
+}
@@ -17,7 +17,9 @@
  */
 package org.apache.beam.fn.harness.state;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -27,6 +29,7 @@ import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateResponse;
 import org.apache.beam.sdk.coders.Coder;
 import org.apache.beam.sdk.fn.stream.DataStreams.DataStreamDecoder;
 import org.apache.beam.sdk.fn.stream.PrefetchableIterable;
+import org.apache.beam.sdk.fn.stream.PrefetchableIterables;
 import org.apache.beam.sdk.fn.stream.PrefetchableIterator;
 import org.apache.beam.sdk.fn.stream.PrefetchableIterators;
 import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
@@ -82,6 +85,24 @@ public class StateFetchingIterators {
     return new FirstPageAndRemainder<>(beamFnStateClient, stateRequestForFirstChunk, valueCoder);
   }
 
+  /**
+   * Like {@link #readAllAndDecodeStartingFrom} but returns the decoded values cached by the state
+   * client if present. Otherwise the decoded values are offered to the state client for caching
+   * once they have been completely iterated over.
+   *
+   * @param beamFnStateClient A client for handling state requests.
+   * @param stateRequestForFirstChunk A fully populated state request for the first (and possibly
+   *     only) chunk of a state stream.
+   * @param valueCoder A coder for decoding the state stream.
+   */
+  static <T> CachingDecodedValuesIterable<T> readAllAndDecodeCachingStartingFrom(
+      BeamFnStateClient beamFnStateClient,
+      StateRequest stateRequestForFirstChunk,
+      Coder<T> valueCoder) {
+    return new CachingDecodedValuesIterable<>(
+        beamFnStateClient, stateRequestForFirstChunk, valueCoder);
+  }
+
   /**
    * A helper class that (lazily) gives the first page of a paginated state request separately from
    * all the remaining pages.
@@ -215,6 +236,96 @@ public class StateFetchingIterators {
     }
   }
 
+  /**
+   * An iterable over the decoded values of a state stream which are served from the decoded values
+   * cached by the state client when possible. Otherwise the values are fetched and decoded, and
+   * offered to the state client for caching once an iterator reaches the end of the stream if
+   * {@link StateCache#cachesDecodedValues the decoded values of the coder are cached}.
+   */
+  @VisibleForTesting
+  static class CachingDecodedValuesIterable<T> implements PrefetchableIterable<T> {
+    // Values are only recorded up to this count so that iterating over very large state streams
+    // does not retain all of their values in memory.
+    @VisibleForTesting static final int MAX_RECORDED_VALUES = 10_000;
+
+    private final BeamFnStateClient beamFnStateClient;
+    private final StateRequest stateRequestForFirstChunk;
+    private final Coder<T> valueCoder;
+    private List<T> allValues;
+    private PrefetchableIterable<T> remainingValues;
+
+    CachingDecodedValuesIterable(
+        BeamFnStateClient beamFnStateClient,
+        StateRequest stateRequestForFirstChunk,
+        Coder<T> valueCoder) {
+      this.beamFnStateClient = beamFnStateClient;
+      this.stateRequestForFirstChunk = stateRequestForFirstChunk;
+      this.valueCoder = valueCoder;
+      this.allValues =
+          beamFnStateClient.getCachedValues(stateRequestForFirstChunk.getStateKey(), valueCoder);
+    }
+
+    /** Returns all the decoded values if they are known, otherwise null. */
+    List<T> getAllValues() {
+      return allValues;
+    }
+
+    @Override
+    public PrefetchableIterator<T> iterator() {
+      if (allValues != null) {
+        return PrefetchableIterables.limit(allValues, allValues.size()).iterator();
+      }
+      if (remainingValues == null) {
+        remainingValues =
+            readAllAndDecodeStartingFrom(beamFnStateClient, stateRequestForFirstChunk, valueCoder);
+      }
+      PrefetchableIterator<T> delegate = remainingValues.iterator();
+      if (!StateCache.cachesDecodedValues(valueCoder)) {
+        return delegate;
+      }
+      return new PrefetchableIterator<T>() {
+        private List<T> recorded = new ArrayList<>();
+
+        @Override
+        public boolean isReady() {
+          return delegate.isReady();
+        }
+
+        @Override
+        public void prefetch() {
+          delegate.prefetch();
+        }
+
+        @Override
+        public boolean hasNext() {
+          boolean rval = delegate.hasNext();
+          if (!rval && recorded != null) {
+            if (allValues == null) {
+              allValues = recorded;
+              beamFnStateClient.cacheValues(
+                  stateRequestForFirstChunk.getStateKey(), valueCoder, allValues);
+            }
+            recorded = null;
+          }
+          return rval;
+        }
+
+        @Override
+        public T next() {
+          T rval = delegate.next();
+          if (recorded != null) {
+            if (recorded.size() < MAX_RECORDED_VALUES) {
+              recorded.add(rval);
+            } else {
+              recorded = null;
+            }
+          }
+          return rval;
+        }
+      };
+    }
+  }
+
   /**
    * An {@link Iterator} which fetches {@link ByteString} chunks using the State API.
    *
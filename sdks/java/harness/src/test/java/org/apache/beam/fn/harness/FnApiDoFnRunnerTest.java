@@ -101,7 +101,9 @@ import org.apache.beam.sdk.metrics.Metrics;
 import org.apache.beam.sdk.metrics.MetricsContainer;
 import org.apache.beam.sdk.metrics.MetricsEnvironment;
 import org.apache.beam.sdk.options.ExperimentalOptions;
+import org.apache.beam.sdk.options.PipelineOptions;
 import org.apache.beam.sdk.options.PipelineOptionsFactory;
+import org.apache.beam.sdk.options.SdkHarnessOptions;
 import org.apache.beam.sdk.state.BagState;
 import org.apache.beam.sdk.state.CombiningState;
 import org.apache.beam.sdk.state.StateSpec;
@@ -663,6 +665,131 @@ public class FnApiDoFnRunnerTest implements Serializable {
       assertThat(mainOutputValues, empty());
     }
 
+    private static class TestBatchDoFn extends DoFn<String, String> {
+      @ProcessElement
+      public void processElement(ProcessContext context) {
+        context.output(context.element() + ":1");
+      }
+
+      @ProcessBatch
+      public List<String> processBatch(List<String> elements) {
+        List<String> outputs = new ArrayList<>();
+        for (String element : elements) {
+          outputs.add(element + ":" + elements.size());
+        }
+        return outputs;
+      }
+    }
+
+    @Test
+    public void testProcessBatch() throws Exception {
+      Pipeline p = Pipeline.create();
+      PCollection<String> valuePCollection =
+          p.apply(Create.of("unused"))
+              .apply(Window.into(FixedWindows.of(Duration.standardMinutes(1))));
+      PCollection<String> outputPCollection =
+          valuePCollection.apply(TEST_TRANSFORM_ID, ParDo.of(new TestBatchDoFn()));
+
+      SdkComponents sdkComponents = SdkComponents.create(p.getOptions());
+      RunnerApi.Pipeline pProto = PipelineTranslation.toProto(p, sdkComponents);
+      String inputPCollectionId = sdkComponents.registerPCollection(valuePCollection);
+      String outputPCollectionId = sdkComponents.registerPCollection(outputPCollection);
+      RunnerApi.PTransform pTransform =
+          pProto
+              .getComponents()
+              .getTransformsOrThrow(
+                  pProto
+                      .getComponents()
+                      .getTransformsOrThrow(TEST_TRANSFORM_ID)
+                      .getSubtransforms(0));
+
+      List<WindowedValue<String>> mainOutputValues = new ArrayList<>();
+      MetricsContainerStepMap metricsContainerRegistry = new MetricsContainerStepMap();
+      PCollectionConsumerRegistry consumers =
+          new PCollectionConsumerRegistry(
+              metricsContainerRegistry, mock(ExecutionStateTracker.class));
+      consumers.register(
+          outputPCollectionId,
+          TEST_TRANSFORM_ID,
+          (FnDataReceiver) (FnDataReceiver<WindowedValue<String>>) mainOutputValues::add,
+          StringUtf8Coder.of());
+      PTransformFunctionRegistry startFunctionRegistry =
+          new PTransformFunctionRegistry(
+              mock(MetricsContainerStepMap.class), mock(ExecutionStateTracker.class), "start");
+      PTransformFunctionRegistry finishFunctionRegistry =
+          new PTransformFunctionRegistry(
+              mock(MetricsContainerStepMap.class), mock(ExecutionStateTracker.class), "finish");
+      List<ThrowingRunnable> teardownFunctions = new ArrayList<>();
+
+      PipelineOptions options = PipelineOptionsFactory.create();
+      options.as(SdkHarnessOptions.class).setMaxProcessBatchSize(2);
+      options.as(SdkHarnessOptions.class).setMaxPendingBatchElements(3);
+      new FnApiDoFnRunner.Factory<>()
+          .createRunnerForPTransform(
+              options,
+              null /* beamFnDataClient */,
+              null /* beamFnStateClient */,
+              null /* beamFnTimerClient */,
+              TEST_TRANSFORM_ID,
+              pTransform,
+              Suppliers.ofInstance("57L")::get,
+              pProto.getComponents().getPcollectionsMap(),
+              pProto.getComponents().getCodersMap(),
+              pProto.getComponents().getWindowingStrategiesMap(),
+              consumers,
+              startFunctionRegistry,
+              finishFunctionRegistry,
+              null /* addResetFunction */,
+              teardownFunctions::add,
+              null /* addProgressRequestCallback */,
+              null /* splitListener */,
+              null /* bundleFinalizer */);
+
+      Iterables.getOnlyElement(startFunctionRegistry.getFunctions()).run();
+
+      IntervalWindow windowA = new IntervalWindow(new Instant(0L), Duration.standardMinutes(1));
+      IntervalWindow windowB =
+          new IntervalWindow(new Instant(60_000L), Duration.standardMinutes(1));
+      FnDataReceiver<WindowedValue<?>> mainInput =
+          consumers.getMultiplexingConsumer(inputPCollectionId);
+      mainInput.accept(WindowedValue.of("A1", new Instant(1L), windowA, PaneInfo.NO_FIRING));
+      mainInput.accept(WindowedValue.of("B1", new Instant(60_001L), windowB, PaneInfo.NO_FIRING));
+      assertThat(mainOutputValues, empty());
+
+      // The batch of the first window is full and processed, keeping the input timestamps.
+      mainInput.accept(WindowedValue.of("A2", new Instant(2L), windowA, PaneInfo.NO_FIRING));
+      assertThat(
+          mainOutputValues,
+          contains(
+              WindowedValue.of("A1:2", new Instant(1L), windowA, PaneInfo.NO_FIRING),
+              WindowedValue.of("A2:2", new Instant(2L), windowA, PaneInfo.NO_FIRING)));
+      mainOutputValues.clear();
+
+      // Once the batches of all windows hold the maximum number of pending elements, the batch
+      // that was started first is processed.
+      IntervalWindow windowC =
+          new IntervalWindow(new Instant(120_000L), Duration.standardMinutes(1));
+      mainInput.accept(WindowedValue.of("A3", new Instant(3L), windowA, PaneInfo.NO_FIRING));
+      assertThat(mainOutputValues, empty());
+      mainInput.accept(WindowedValue.of("C1", new Instant(120_001L), windowC, PaneInfo.NO_FIRING));
+      assertThat(
+          mainOutputValues,
+          contains(WindowedValue.of("B1:1", new Instant(60_001L), windowB, PaneInfo.NO_FIRING)));
+      mainOutputValues.clear();
+
+      // Partial batches are processed when the bundle finishes.
+      Iterables.getOnlyElement(finishFunctionRegistry.getFunctions()).run();
+      assertThat(
+          mainOutputValues,
+          containsInAnyOrder(
+              WindowedValue.of("A3:1", new Instant(3L), windowA, PaneInfo.NO_FIRING),
+              WindowedValue.of("C1:1", new Instant(120_001L), windowC, PaneInfo.NO_FIRING)));
+      mainOutputValues.clear();
+
+      Iterables.getOnlyElement(teardownFunctions).run();
+      assertThat(mainOutputValues, empty());
+    }
+
     private static class TestSideInputIsAccessibleForDownstreamCallersDoFn
         extends DoFn<String, Iterable<String>> {
       public static final String USER_COUNTER_NAME = "userCountedElems";
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.fn.harness;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.beam.fn.harness.GroupingTable.Receiver;
+import org.apache.beam.fn.harness.OffHeapGroupingTable.SlabPool;
+import org.apache.beam.fn.harness.PrecombineGroupingTable.Combiner;
+import org.apache.beam.fn.harness.PrecombineGroupingTable.WindowedPairInfo;
+import org.apache.beam.sdk.coders.ListCoder;
+import org.apache.beam.sdk.coders.StringUtf8Coder;
+import org.apache.beam.sdk.coders.VarLongCoder;
+import org.apache.beam.sdk.options.PipelineOptionsFactory;
+import org.apache.beam.sdk.transforms.Sum;
+import org.apache.beam.sdk.transforms.windowing.GlobalWindow;
+import org.apache.beam.sdk.transforms.windowing.IntervalWindow;
+import org.apache.beam.sdk.transforms.windowing.PaneInfo;
+import org.apache.beam.sdk.util.WindowedValue;
+import org.apache.beam.sdk.values.KV;
+import org.joda.time.Instant;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Unit tests for {@link OffHeapGroupingTable}. */
+@RunWith(JUnit4.class)
+public class OffHeapGroupingTableTest {
+
+  private static class TestOutputReceiver implements Receiver {
+    final List<WindowedValue<KV<String, ?>>> outputElems = new ArrayList<>();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void process(Object elem) {
+      outputElems.add((WindowedValue<KV<String, ?>>) elem);
+    }
+  }
+
+  /** Collects all inputs of a key so that accumulators grow with every input. */
+  private static class ListCombiner
+      implements Combiner<WindowedValue<String>, Long, List<Long>, List<Long>> {
+    @Override
+    public List<Long> createAccumulator(WindowedValue<String> key) {
+      return new ArrayList<>();
+    }
+
+    @Override
+    public List<Long> add(WindowedValue<String> key, List<Long> accumulator, Long value) {
+      accumulator.add(value);
+      return accumulator;
+    }
+
+    @Override
+    public List<Long> merge(WindowedValue<String> key, Iterable<List<Long>> accumulators) {
+      List<Long> merged = new ArrayList<>();
+      accumulators.forEach(merged::addAll);
+      return merged;
+    }
+
+    @Override
+    public List<Long> compact(WindowedValue<String> key, List<Long> accumulator) {
+      return accumulator;
+    }
+
+    @Override
+    public List<Long> extract(WindowedValue<String> key, List<Long> accumulator) {
+      return accumulator;
+    }
+  }
+
+  private static WindowedValue<KV<String, Long>> input(
+      String key, long value, long timestamp, IntervalWindow window) {
+    return WindowedValue.of(KV.of(key, value), new Instant(timestamp), window, PaneInfo.NO_FIRING);
+  }
+
+  @Test
+  public void testCombiningPerKeyAndWindow() throws Exception {
+    OffHeapGroupingTable<String, Long, long[]> table =
+        OffHeapGroupingTable.combining(
+            PipelineOptionsFactory.create(),
+            Sum.ofLongs(),
+            StringUtf8Coder.of(),
+            IntervalWindow.getCoder(),
+            Sum.ofLongs().getAccumulatorCoder(null, VarLongCoder.of()));
+    IntervalWindow first = new IntervalWindow(new Instant(0), new Instant(10));
+    IntervalWindow second = new IntervalWindow(new Instant(10), new Instant(20));
+
+    TestOutputReceiver receiver = new TestOutputReceiver();
+    table.put(input("A", 1, 1, first), receiver);
+    table.put(input("B", 2, 2, first), receiver);
+    table.put(input("A", 3, 3, first), receiver);
+    table.put(input("A", 4, 14, second), receiver);
+    assertThat(receiver.outputElems, empty());
+    assertThat(table.numEntries(), equalTo(3));
+
+    table.flush(receiver);
+    List<String> outputs = new ArrayList<>();
+    for (WindowedValue<KV<String, ?>> output : receiver.outputElems) {
+      outputs.add(
+          output.getValue().getKey()
+              + "="
+              + ((long[]) output.getValue().getValue())[0]
+              + "@"
+              + output.getTimestamp().getMillis()
+              + output.getWindows());
+    }
+    assertThat(
+        outputs,
+        containsInAnyOrder(
+            "A=4@1" + Collections.singletonList(first),
+            "B=2@2" + Collections.singletonList(first),
+            "A=4@14" + Collections.singletonList(second)));
+    assertThat(table.numEntries(), equalTo(0));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testFlushesWhenSlabsAreExhausted() throws Exception {
+    OffHeapGroupingTable<String, Long, List<Long>> table =
+        new OffHeapGroupingTable<>(
+            512,
+            new SlabPool(128),
+            WindowedValue.getFullCoder(StringUtf8Coder.of(), GlobalWindow.Coder.INSTANCE),
+            ListCoder.of(VarLongCoder.of()),
+            WindowedPairInfo.create(),
+            new ListCombiner());
+
+    TestOutputReceiver receiver = new TestOutputReceiver();
+    Map<String, Long> expected = new HashMap<>();
+    for (long i = 0; i < 1000; i++) {
+      String key = "key" + (i % 7);
+      table.put(WindowedValue.valueInGlobalWindow(KV.of(key, i)), receiver);
+      expected.merge(key, i, Long::sum);
+      assertThat(table.allocatedBytes(), lessThanOrEqualTo(512L));
+    }
+    assertThat(receiver.outputElems.size(), greaterThan(0));
+    table.flush(receiver);
+
+    // Every input must be output exactly once across all partial accumulators.
+    Map<String, Long> actual = new HashMap<>();
+    long count = 0;
+    for (WindowedValue<KV<String, ?>> output : receiver.outputElems) {
+      for (Long value : (List<Long>) output.getValue().getValue()) {
+        actual.merge(output.getValue().getKey(), value, Long::sum);
+        count++;
+      }
+    }
+    assertThat(actual, equalTo(expected));
+    assertThat(count, equalTo(1000L));
+  }
+
+  @Test
+  public void testFlushReturnsSlabsToPool() throws Exception {
+    SlabPool slabPool = new SlabPool(128);
+    OffHeapGroupingTable<String, Long, List<Long>> table = listTable(slabPool);
+    OffHeapGroupingTable<String, Long, List<Long>> otherTable = listTable(slabPool);
+
+    TestOutputReceiver receiver = new TestOutputReceiver();
+    // Three records need two slabs, but do not fill the table.
+    for (long i = 0; i < 3; i++) {
+      table.put(WindowedValue.valueInGlobalWindow(KV.of("key" + i, i)), receiver);
+    }
+    assertThat(receiver.outputElems, empty());
+    long allocated = table.allocatedBytes();
+    assertThat(allocated, greaterThan(128L));
+    table.flush(receiver);
+    assertThat(table.allocatedBytes(), equalTo(0L));
+    assertThat(slabPool.pooledBytes(), equalTo(allocated));
+
+    // Pooled slabs are reused by any table, and the pool keeps at most one table's worth of slabs.
+    otherTable.put(WindowedValue.valueInGlobalWindow(KV.of("key", 0L)), receiver);
+    assertThat(slabPool.pooledBytes(), equalTo(allocated - 128));
+    for (long i = 0; i < 20; i++) {
+      table.put(WindowedValue.valueInGlobalWindow(KV.of("key" + i, i)), receiver);
+    }
+    table.flush(receiver);
+    otherTable.flush(receiver);
+    assertThat(slabPool.pooledBytes(), lessThanOrEqualTo(512L));
+  }
+
+  private static OffHeapGroupingTable<String, Long, List<Long>> listTable(SlabPool slabPool) {
+    return new OffHeapGroupingTable<>(
+        512,
+        slabPool,
+        WindowedValue.getFullCoder(StringUtf8Coder.of(), GlobalWindow.Coder.INSTANCE),
+        ListCoder.of(VarLongCoder.of()),
+        WindowedPairInfo.create(),
+        new ListCombiner());
+  }
+}
@@ -22,6 +22,8 @@ import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.in;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
 
@@ -31,9 +33,15 @@ import java.util.List;
 import java.util.Random;
 import org.apache.beam.fn.harness.GroupingTable.Receiver;
 import org.apache.beam.fn.harness.PrecombineGroupingTable.Combiner;
+import org.apache.beam.fn.harness.PrecombineGroupingTable.FixedSizeEstimator;
 import org.apache.beam.fn.harness.PrecombineGroupingTable.GroupingKeyCreator;
 import org.apache.beam.fn.harness.PrecombineGroupingTable.SamplingSizeEstimator;
 import org.apache.beam.fn.harness.PrecombineGroupingTable.SizeEstimator;
+import org.apache.beam.sdk.transforms.Combine;
+import org.apache.beam.sdk.transforms.Count;
+import org.apache.beam.sdk.transforms.Max;
+import org.apache.beam.sdk.transforms.Min;
+import org.apache.beam.sdk.transforms.Sum;
 import org.apache.beam.sdk.values.KV;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
@@ -121,6 +129,64 @@ public class PrecombineGroupingTableTest {
             KV.of("A", 1L), KV.of("B", 2L + 3), KV.of("C", 5000L + 4), KV.of("DDDD", 6L)));
   }
 
+  @Test
+  public void testPrimitiveCombiningGroupingTable() throws Exception {
+    PrecombineGroupingTable<String, Long, long[]> table =
+        new PrecombineGroupingTable<>(
+            100_000_000L,
+            new IdentityGroupingKeyCreator(),
+            new KvPairInfo(),
+            PrecombineGroupingTable.<String, Long, long[]>primitiveCombiner(Max.ofLongs()),
+            new StringPowerSizeEstimator(),
+            new FixedSizeEstimator<>(8));
+
+    TestOutputReceiver receiver = new TestOutputReceiver();
+
+    table.put("A", 1L, receiver);
+    table.put("B", 7L, receiver);
+    table.put("B", 3L, receiver);
+    table.put("A", 5L, receiver);
+    table.flush(receiver);
+
+    List<KV<Object, Long>> outputs = new ArrayList<>();
+    for (Object output : receiver.outputElems) {
+      KV<?, ?> kv = (KV<?, ?>) output;
+      outputs.add(KV.of(kv.getKey(), ((long[]) kv.getValue())[0]));
+    }
+    assertThat(
+        outputs,
+        IsIterableContainingInAnyOrder.containsInAnyOrder(KV.of("A", 5L), KV.of("B", 7L)));
+  }
+
+  @Test
+  public void testPrimitiveCombinerOnlyForPrimitiveBinaryCombineFns() {
+    assertThat(PrecombineGroupingTable.primitiveCombiner(Sum.ofIntegers()), notNullValue());
+    assertThat(PrecombineGroupingTable.primitiveCombiner(Sum.ofLongs()), notNullValue());
+    assertThat(PrecombineGroupingTable.primitiveCombiner(Sum.ofDoubles()), notNullValue());
+    assertThat(PrecombineGroupingTable.primitiveCombiner(Min.ofLongs()), notNullValue());
+    assertThat(PrecombineGroupingTable.primitiveCombiner(Max.ofDoubles()), notNullValue());
+    assertThat(PrecombineGroupingTable.primitiveCombiner(Count.combineFn()), nullValue());
+    assertThat(PrecombineGroupingTable.primitiveCombiner(new UserLongFn()), nullValue());
+  }
+
+  /** A user defined binary combine function which overrides more than {@code apply}. */
+  private static class UserLongFn extends Combine.BinaryCombineLongFn {
+    @Override
+    public long apply(long left, long right) {
+      return left + right;
+    }
+
+    @Override
+    public long identity() {
+      return 0;
+    }
+
+    @Override
+    public long[] addInput(long[] accumulator, Long input) {
+      return super.addInput(accumulator, input * 2);
+    }
+  }
+
   ////////////////////////////////////////////////////////////////////////////
   // Tests for the sampling size estimator.
 
@@ -34,11 +34,13 @@ import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -46,6 +48,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.apache.beam.fn.harness.BeamFnDataReadRunner;
@@ -76,14 +79,20 @@ import org.apache.beam.runners.core.construction.PTransformTranslation;
 import org.apache.beam.runners.core.construction.ParDoTranslation;
 import org.apache.beam.runners.core.construction.Timer;
 import org.apache.beam.runners.core.metrics.ExecutionStateTracker;
+import org.apache.beam.runners.core.metrics.MetricsContainerImpl;
 import org.apache.beam.runners.core.metrics.MetricsContainerStepMap;
+import org.apache.beam.runners.core.metrics.MonitoringInfoConstants.Urns;
+import org.apache.beam.runners.core.metrics.MonitoringInfoMetricName;
 import org.apache.beam.runners.core.metrics.ShortIdMap;
 import org.apache.beam.sdk.coders.StringUtf8Coder;
 import org.apache.beam.sdk.fn.data.LogicalEndpoint;
 import org.apache.beam.sdk.function.ThrowingConsumer;
 import org.apache.beam.sdk.function.ThrowingRunnable;
+import org.apache.beam.sdk.metrics.MetricsContainer;
+import org.apache.beam.sdk.metrics.MetricsEnvironment;
 import org.apache.beam.sdk.options.PipelineOptions;
 import org.apache.beam.sdk.options.PipelineOptionsFactory;
+import org.apache.beam.sdk.options.SdkHarnessOptions;
 import org.apache.beam.sdk.transforms.DoFn;
 import org.apache.beam.sdk.transforms.DoFn.BundleFinalizer;
 import org.apache.beam.sdk.transforms.DoFnSchemaInformation;
@@ -100,6 +109,7 @@ import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Iterable
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Maps;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.util.concurrent.Uninterruptibles;
 import org.joda.time.Instant;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -122,10 +132,21 @@ public class ProcessBundleHandlerTest {
   @Mock private BeamFnDataClient beamFnDataClient;
   @Captor private ArgumentCaptor<ThrowingConsumer<Exception, WindowedValue<String>>> consumerCaptor;
 
+  private MetricsContainerImpl processWideContainer;
+  private MetricsContainer previousProcessWideContainer;
+
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
     TestBundleProcessor.resetCnt = 0;
+    processWideContainer = MetricsContainerImpl.createProcessWideContainer();
+    previousProcessWideContainer =
+        MetricsEnvironment.setProcessWideContainer(processWideContainer);
+  }
+
+  @After
+  public void tearDown() {
+    MetricsEnvironment.setProcessWideContainer(previousProcessWideContainer);
   }
 
   private static class TestDoFn extends DoFn<String, String> {
@@ -652,6 +673,158 @@ public class ProcessBundleHandlerTest {
     assertNull(cache.find("known"));
   }
 
+  @Test
+  public void testBundleProcessorCacheReusesMostRecentlyReleased() {
+    BundleProcessor first = mock(BundleProcessor.class);
+    BundleProcessor second = mock(BundleProcessor.class);
+    BundleProcessorCache cache = new BundleProcessorCache();
+
+    assertSame(first, cache.get("descriptorId", "1", () -> first));
+    assertSame(second, cache.get("descriptorId", "2", () -> second));
+    cache.release("descriptorId", first);
+    cache.release("descriptorId", second);
+
+    assertSame(
+        second,
+        cache.get(
+            "descriptorId",
+            "3",
+            () -> {
+              throw new IllegalStateException("Expected a cached bundle processor");
+            }));
+    assertEquals(2L, processWideCounter(Urns.BUNDLE_PROCESSOR_CREATED_COUNT));
+    assertEquals(1L, processWideCounter(Urns.BUNDLE_PROCESSOR_REUSED_COUNT));
+    assertEquals(0L, processWideCounter(Urns.BUNDLE_PROCESSOR_EVICTED_COUNT));
+  }
+
+  @Test
+  public void testBundleProcessorCacheEvictsBeyondMaxPerDescriptor() {
+    BundleProcessor first = mock(BundleProcessor.class);
+    BundleProcessor second = mock(BundleProcessor.class);
+    BundleProcessorCache cache = new BundleProcessorCache(1, Duration.ofMinutes(1), () -> 0L);
+
+    cache.get("descriptorId", "1", () -> first);
+    cache.get("descriptorId", "2", () -> second);
+    cache.release("descriptorId", first);
+    cache.release("descriptorId", second);
+
+    // The least recently used bundle processor is torn down.
+    assertThat(cache.getCachedBundleProcessors().get("descriptorId"), contains(second));
+    verify(first).shutdown();
+    verify(second, never()).shutdown();
+    assertEquals(1L, processWideCounter(Urns.BUNDLE_PROCESSOR_EVICTED_COUNT));
+  }
+
+  @Test
+  public void testBundleProcessorCacheEvictsIdleBundleProcessors() {
+    AtomicLong clock = new AtomicLong();
+    BundleProcessor first = mock(BundleProcessor.class);
+    BundleProcessor second = mock(BundleProcessor.class);
+    BundleProcessorCache cache =
+        new BundleProcessorCache(Integer.MAX_VALUE, Duration.ofSeconds(10), clock::get);
+
+    cache.get("descriptorId", "1", () -> first);
+    cache.get("descriptorId", "2", () -> second);
+    cache.release("descriptorId", first);
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+    cache.release("descriptorId", second);
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(7));
+
+    // Only the bundle processor which was idle for longer than the timeout is torn down.
+    assertSame(
+        second,
+        cache.get(
+            "descriptorId",
+            "3",
+            () -> {
+              throw new IllegalStateException("Expected a cached bundle processor");
+            }));
+    verify(first).shutdown();
+    verify(second, never()).shutdown();
+    assertThat(cache.getCachedBundleProcessors().get("descriptorId"), empty());
+    assertEquals(1L, processWideCounter(Urns.BUNDLE_PROCESSOR_EVICTED_COUNT));
+  }
+
+  @Test
+  public void testRegisterPrewarmsBundleProcessors() throws Exception {
+    BeamFnApi.ProcessBundleDescriptor processBundleDescriptor =
+        BeamFnApi.ProcessBundleDescriptor.newBuilder()
+            .setId("1L")
+            .putTransforms(
+                "2L",
+                RunnerApi.PTransform.newBuilder()
+                    .setSpec(RunnerApi.FunctionSpec.newBuilder().setUrn(DATA_INPUT_URN).build())
+                    .build())
+            .build();
+    Map<String, Message> fnApiRegistry = ImmutableMap.of("1L", processBundleDescriptor);
+    PipelineOptions options = PipelineOptionsFactory.create();
+    options.as(SdkHarnessOptions.class).setPrewarmedBundleProcessorsPerDescriptor(2);
+
+    ProcessBundleHandler handler =
+        new ProcessBundleHandler(
+            options,
+            Collections.emptySet(),
+            fnApiRegistry::get,
+            beamFnDataClient,
+            null /* beamFnStateGrpcClientCache */,
+            null /* finalizeBundleHandler */,
+            new ShortIdMap(),
+            ImmutableMap.of(
+                DATA_INPUT_URN,
+                (pipelineOptions,
+                    beamFnDataClient,
+                    beamFnStateClient,
+                    beamFnTimerClient,
+                    pTransformId,
+                    pTransform,
+                    processBundleInstructionId,
+                    pCollections,
+                    coders,
+                    windowingStrategies,
+                    pCollectionConsumerRegistry,
+                    startFunctionRegistry,
+                    finishFunctionRegistry,
+                    addResetFunction,
+                    addTearDownFunction,
+                    addProgressRequestCallback,
+                    splitListener,
+                    bundleFinalizer) -> null),
+            new BundleProcessorCache());
+
+    BeamFnApi.InstructionResponse response =
+        handler
+            .register(
+                BeamFnApi.InstructionRequest.newBuilder()
+                    .setInstructionId("997L")
+                    .setRegister(
+                        BeamFnApi.RegisterRequest.newBuilder()
+                            .addProcessBundleDescriptor(processBundleDescriptor))
+                    .build())
+            .build();
+    assertTrue(response.hasRegister());
+    assertThat(
+        handler.bundleProcessorCache.getCachedBundleProcessors().get("1L").size(), equalTo(2));
+
+    handler.processBundle(
+        BeamFnApi.InstructionRequest.newBuilder()
+            .setInstructionId("998L")
+            .setProcessBundle(
+                BeamFnApi.ProcessBundleRequest.newBuilder().setProcessBundleDescriptorId("1L"))
+            .build());
+
+    // The bundle is processed by a pre-warmed bundle processor.
+    assertThat(
+        handler.bundleProcessorCache.getCachedBundleProcessors().get("1L").size(), equalTo(2));
+    assertEquals(2L, processWideCounter(Urns.BUNDLE_PROCESSOR_CREATED_COUNT));
+    assertEquals(1L, processWideCounter(Urns.BUNDLE_PROCESSOR_REUSED_COUNT));
+  }
+
+  private long processWideCounter(String urn) {
+    return processWideContainer
+        .getCounter(MonitoringInfoMetricName.named(urn, Collections.emptyMap()))
+        .getCumulative();
+  }
+
   @Test
   public void testBundleProcessorReset() throws Exception {
     PTransformFunctionRegistry startFunctionRegistry = mock(PTransformFunctionRegistry.class);
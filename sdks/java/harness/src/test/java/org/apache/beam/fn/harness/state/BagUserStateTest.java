@@ -23,11 +23,24 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.apache.beam.model.fnexecution.v1.BeamFnApi.ProcessBundleRequest.CacheToken;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateKey;
+import org.apache.beam.runners.core.metrics.MetricsContainerImpl;
+import org.apache.beam.runners.core.metrics.MonitoringInfoConstants;
+import org.apache.beam.runners.core.metrics.MonitoringInfoMetricName;
+import org.apache.beam.sdk.coders.Coder;
+import org.apache.beam.sdk.coders.ListCoder;
 import org.apache.beam.sdk.coders.StringUtf8Coder;
+import org.apache.beam.sdk.metrics.MetricsContainer;
+import org.apache.beam.sdk.metrics.MetricsEnvironment;
 import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableList;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableMap;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Iterables;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -39,6 +52,21 @@ import org.junit.runners.JUnit4;
 public class BagUserStateTest {
   @Rule public ExpectedException thrown = ExpectedException.none();
 
+  private MetricsContainerImpl processWideContainer;
+  private MetricsContainer previousProcessWideContainer;
+
+  @Before
+  public void setUp() {
+    processWideContainer = MetricsContainerImpl.createProcessWideContainer();
+    previousProcessWideContainer =
+        MetricsEnvironment.setProcessWideContainer(processWideContainer);
+  }
+
+  @After
+  public void tearDown() {
+    MetricsEnvironment.setProcessWideContainer(previousProcessWideContainer);
+  }
+
   @Test
   public void testGet() throws Exception {
     FakeBeamFnStateClient fakeClient =
@@ -115,6 +143,102 @@ public class BagUserStateTest {
     userState.clear();
   }
 
+  @Test
+  public void testDecodedValuesAreCachedAcrossBundles() throws Exception {
+    FakeBeamFnStateClient fakeClient =
+        new FakeBeamFnStateClient(ImmutableMap.of(key("A"), encode("A1")));
+    StateCache stateCache = new StateCache(100 * 1024 * 1024);
+    ImmutableList<CacheToken> cacheTokens =
+        ImmutableList.of(
+            CacheToken.newBuilder()
+                .setUserState(CacheToken.UserState.getDefaultInstance())
+                .setToken(ByteString.copyFromUtf8("1"))
+                .build());
+
+    BagUserState<String> userState =
+        new BagUserState<>(
+            new CachingBeamFnStateClient(fakeClient, stateCache, cacheTokens),
+            "instructionId",
+            "ptransformId",
+            "stateId",
+            ByteString.copyFromUtf8("encodedWindow"),
+            encode("A"),
+            StringUtf8Coder.of());
+    assertArrayEquals(new String[] {"A1"}, Iterables.toArray(userState.get(), String.class));
+    userState.append("A2");
+    userState.asyncClose();
+    assertEquals(2, fakeClient.getCallCount());
+    // Reading the state which is not cached yet counts a single miss.
+    assertEquals(0, counter(MonitoringInfoConstants.Urns.STATE_CACHE_HIT_COUNT));
+    assertEquals(1, counter(MonitoringInfoConstants.Urns.STATE_CACHE_MISS_COUNT));
+
+    // The next bundle neither fetches nor decodes the values again.
+    BagUserState<String> nextUserState =
+        new BagUserState<>(
+            new CachingBeamFnStateClient(fakeClient, stateCache, cacheTokens),
+            "instructionId2",
+            "ptransformId",
+            "stateId",
+            ByteString.copyFromUtf8("encodedWindow"),
+            encode("A"),
+            StringUtf8Coder.of());
+    assertArrayEquals(
+        new String[] {"A1", "A2"}, Iterables.toArray(nextUserState.get(), String.class));
+    assertEquals(2, fakeClient.getCallCount());
+    assertEquals(encode("A1", "A2"), fakeClient.getData().get(key("A")));
+    assertEquals(1, counter(MonitoringInfoConstants.Urns.STATE_CACHE_HIT_COUNT));
+    assertEquals(1, counter(MonitoringInfoConstants.Urns.STATE_CACHE_MISS_COUNT));
+  }
+
+  @Test
+  public void testMutatingReadValuesDoesNotAffectLaterBundles() throws Exception {
+    Coder<List<String>> valueCoder = ListCoder.of(StringUtf8Coder.of());
+    ByteString.Output encoded = ByteString.newOutput();
+    valueCoder.encode(ImmutableList.of("B1"), encoded);
+    FakeBeamFnStateClient fakeClient =
+        new FakeBeamFnStateClient(ImmutableMap.of(key("A"), encoded.toByteString()), 100);
+    StateCache stateCache = new StateCache(100 * 1024 * 1024);
+    ImmutableList<CacheToken> cacheTokens =
+        ImmutableList.of(
+            CacheToken.newBuilder()
+                .setUserState(CacheToken.UserState.getDefaultInstance())
+                .setToken(ByteString.copyFromUtf8("1"))
+                .build());
+
+    BagUserState<List<String>> userState =
+        new BagUserState<>(
+            new CachingBeamFnStateClient(fakeClient, stateCache, cacheTokens),
+            "instructionId",
+            "ptransformId",
+            "stateId",
+            ByteString.copyFromUtf8("encodedWindow"),
+            encode("A"),
+            valueCoder);
+    userState.get().iterator().next().add("B2");
+    userState.asyncClose();
+
+    BagUserState<List<String>> nextUserState =
+        new BagUserState<>(
+            new CachingBeamFnStateClient(fakeClient, stateCache, cacheTokens),
+            "instructionId2",
+            "ptransformId",
+            "stateId",
+            ByteString.copyFromUtf8("encodedWindow"),
+            encode("A"),
+            valueCoder);
+    assertEquals(
+        ImmutableList.of(ImmutableList.of("B1")), ImmutableList.copyOf(nextUserState.get()));
+    // The values of a mutable type were decoded again from the cached pages.
+    assertEquals(1, fakeClient.getCallCount());
+    assertEquals(1, counter(MonitoringInfoConstants.Urns.STATE_CACHE_HIT_COUNT));
+  }
+
+  private long counter(String urn) {
+    return processWideContainer
+        .getCounter(MonitoringInfoMetricName.named(urn, Collections.emptyMap()))
+        .getCumulative();
+  }
+
   private StateKey key(String id) throws IOException {
     return StateKey.newBuilder()
         .setBagUserState(
@@ -24,11 +24,11 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import org.apache.beam.fn.harness.state.CachingBeamFnStateClient.StateCacheKey;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi.ProcessBundleRequest.CacheToken;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateAppendRequest;
@@ -40,9 +40,7 @@ import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateRequest;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateResponse;
 import org.apache.beam.sdk.coders.StringUtf8Coder;
 import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
-import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.cache.CacheBuilder;
-import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.cache.CacheLoader;
-import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.cache.LoadingCache;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableList;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableMap;
 import org.junit.Before;
 import org.junit.Test;
@@ -53,26 +51,17 @@ import org.junit.runners.JUnit4;
 @RunWith(JUnit4.class)
 public class CachingBeamFnStateClientTest {
 
-  private LoadingCache<StateKey, Map<StateCacheKey, StateGetResponse>> stateCache;
+  private StateCache stateCache;
   private List<CacheToken> cacheTokenList;
   private CacheToken userStateToken =
       CacheToken.newBuilder()
           .setUserState(CacheToken.UserState.getDefaultInstance())
           .setToken(ByteString.copyFromUtf8("1"))
           .build();
-  private StateCacheKey defaultCacheKey =
-      StateCacheKey.create(ByteString.copyFromUtf8("1"), ByteString.EMPTY);
-  private CacheLoader<StateKey, Map<StateCacheKey, StateGetResponse>> loader =
-      new CacheLoader<StateKey, Map<StateCacheKey, StateGetResponse>>() {
-        @Override
-        public Map<StateCacheKey, StateGetResponse> load(StateKey key) {
-          return new HashMap<>();
-        }
-      };
 
   @Before
   public void setup() {
-    stateCache = CacheBuilder.newBuilder().build(loader);
+    stateCache = new StateCache(100 * 1024 * 1024);
     cacheTokenList = new ArrayList<>();
   }
 
@@ -198,6 +187,32 @@ public class CachingBeamFnStateClientTest {
     assertEquals(5, fakeClient.getCallCount());
   }
 
+  @Test
+  public void testUpdateCacheTokens() throws Exception {
+    FakeBeamFnStateClient fakeClient =
+        new FakeBeamFnStateClient(ImmutableMap.of(key("A"), encode("A1", "A2", "A3")), 3);
+
+    cacheTokenList.add(userStateToken);
+    CachingBeamFnStateClient cachingClient =
+        new CachingBeamFnStateClient(fakeClient, stateCache, cacheTokenList);
+    assertEquals(fakeClient.getData().get(key("A")), getALlDataForKey(key("A"), cachingClient));
+    assertEquals(3, fakeClient.getCallCount());
+
+    // A new token invalidates what was cached under the previous token.
+    CacheToken newUserStateToken =
+        userStateToken.toBuilder().setToken(ByteString.copyFromUtf8("2")).build();
+    cachingClient.updateCacheTokens(ImmutableList.of(newUserStateToken));
+    assertEquals(fakeClient.getData().get(key("A")), getALlDataForKey(key("A"), cachingClient));
+    assertEquals(6, fakeClient.getCallCount());
+    assertEquals(fakeClient.getData().get(key("A")), getALlDataForKey(key("A"), cachingClient));
+    assertEquals(6, fakeClient.getCallCount());
+
+    // Without tokens nothing is cached.
+    cachingClient.updateCacheTokens(ImmutableList.of());
+    assertEquals(fakeClient.getData().get(key("A")), getALlDataForKey(key("A"), cachingClient));
+    assertEquals(9, fakeClient.getCallCount());
+  }
+
   @Test
   public void testAppendInvalidatesLastPage() throws Exception {
     FakeBeamFnStateClient fakeClient =
@@ -211,15 +226,14 @@ public class CachingBeamFnStateClientTest {
 
     // Append works with no pages in cache
     appendToKey(key("A"), encode("A2"), cachingClient);
-    assertTrue(stateCache.getUnchecked(key("A")).isEmpty());
+    assertTrue(cachedPages(key("A")).isEmpty());
     assertEquals(fakeClient.getData().get(key("A")), getALlDataForKey(key("A"), cachingClient));
     assertEquals(3, fakeClient.getCallCount());
 
     // Append works with multiple pages in cache
     appendToKey(key("A"), encode("A3"), cachingClient);
     assertFalse(
-        stateCache
-            .getUnchecked(key("A"))
+        cachedPages(key("A"))
             .containsValue(StateGetResponse.newBuilder().setData(encode("A2")).build()));
     assertEquals(fakeClient.getData().get(key("A")), getALlDataForKey(key("A"), cachingClient));
     assertEquals(6, fakeClient.getCallCount());
@@ -227,13 +241,13 @@ public class CachingBeamFnStateClientTest {
     // Append works with one page in the cache
     assertEquals(fakeClient.getData().get(key("B")), getALlDataForKey(key("B"), cachingClient));
     appendToKey(key("B"), encode("B2"), cachingClient);
-    assertTrue(stateCache.getUnchecked(key("B")).isEmpty());
+    assertTrue(cachedPages(key("B")).isEmpty());
     assertEquals(fakeClient.getData().get(key("B")), getALlDataForKey(key("B"), cachingClient));
     assertEquals(10, fakeClient.getCallCount());
 
     // Append works with no prior data
     appendToKey(key("C"), encode("C1"), cachingClient);
-    assertTrue(stateCache.getUnchecked(key("C")).isEmpty());
+    assertTrue(cachedPages(key("C")).isEmpty());
     assertEquals(fakeClient.getData().get(key("C")), getALlDataForKey(key("C"), cachingClient));
   }
 
@@ -264,6 +278,43 @@ public class CachingBeamFnStateClientTest {
     assertEquals(4, fakeClient.getCallCount());
   }
 
+  @Test
+  public void testCachingDecodedValues() throws Exception {
+    FakeBeamFnStateClient fakeClient =
+        new FakeBeamFnStateClient(ImmutableMap.of(key("A"), encode("A1", "A2")));
+
+    CachingBeamFnStateClient uncachedClient =
+        new CachingBeamFnStateClient(fakeClient, stateCache, cacheTokenList);
+    uncachedClient.cacheValues(key("A"), StringUtf8Coder.of(), ImmutableList.of("A1", "A2"));
+    assertNull(uncachedClient.getCachedValues(key("A"), StringUtf8Coder.of()));
+
+    cacheTokenList.add(userStateToken);
+    CachingBeamFnStateClient cachingClient =
+        new CachingBeamFnStateClient(fakeClient, stateCache, cacheTokenList);
+    assertNull(cachingClient.getCachedValues(key("A"), StringUtf8Coder.of()));
+    cachingClient.cacheValues(key("A"), StringUtf8Coder.of(), ImmutableList.of("A1", "A2"));
+    assertEquals(
+        ImmutableList.of("A1", "A2"),
+        cachingClient.getCachedValues(key("A"), StringUtf8Coder.of()));
+
+    // Decoded values are shared across bundles with the same cache token.
+    CachingBeamFnStateClient nextBundleClient =
+        new CachingBeamFnStateClient(fakeClient, stateCache, cacheTokenList);
+    assertEquals(
+        ImmutableList.of("A1", "A2"),
+        nextBundleClient.getCachedValues(key("A"), StringUtf8Coder.of()));
+    assertEquals(0, fakeClient.getCallCount());
+
+    // Appending invalidates the decoded values.
+    appendToKey(key("A"), encode("A3"), nextBundleClient);
+    assertNull(nextBundleClient.getCachedValues(key("A"), StringUtf8Coder.of()));
+  }
+
+  private Map<ByteString, StateGetResponse> cachedPages(StateKey key) {
+    Map<ByteString, StateGetResponse> pages = stateCache.getPages(key, userStateToken.getToken());
+    return pages == null ? Collections.emptyMap() : pages;
+  }
+
   private StateKey key(String id) throws IOException {
     return StateKey.newBuilder()
         .setBagUserState(
@@ -18,11 +18,14 @@
 package org.apache.beam.fn.harness.state;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 
 import java.io.IOException;
+import org.apache.beam.model.fnexecution.v1.BeamFnApi.ProcessBundleRequest.CacheToken;
 import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateKey;
 import org.apache.beam.sdk.coders.StringUtf8Coder;
 import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableList;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableMap;
 import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.Iterables;
 import org.junit.Test;
@@ -58,6 +61,40 @@ public class MultimapSideInputTest {
         new String[] {}, Iterables.toArray(multimapSideInput.get("unknown"), String.class));
   }
 
+  @Test
+  public void testDecodedValuesAreReusedAcrossBundles() throws Exception {
+    FakeBeamFnStateClient fakeBeamFnStateClient =
+        new FakeBeamFnStateClient(ImmutableMap.of(key("A"), encode("A1", "A2")));
+    StateCache stateCache = new StateCache(100 * 1024 * 1024);
+    ImmutableList<CacheToken> cacheTokens =
+        ImmutableList.of(
+            CacheToken.newBuilder()
+                .setSideInput(
+                    CacheToken.SideInput.newBuilder()
+                        .setTransformId("ptransformId")
+                        .setSideInputId("sideInputId"))
+                .setToken(ByteString.copyFromUtf8("token"))
+                .build());
+
+    for (String instructionId : new String[] {"instructionId", "instructionId2"}) {
+      MultimapSideInput<String, String> multimapSideInput =
+          new MultimapSideInput<>(
+              new CachingBeamFnStateClient(fakeBeamFnStateClient, stateCache, cacheTokens),
+              instructionId,
+              "ptransformId",
+              "sideInputId",
+              ByteString.copyFromUtf8("encodedWindow"),
+              StringUtf8Coder.of(),
+              StringUtf8Coder.of());
+      assertArrayEquals(
+          new String[] {"A1", "A2"}, Iterables.toArray(multimapSideInput.get("A"), String.class));
+      assertArrayEquals(
+          new String[] {}, Iterables.toArray(multimapSideInput.get("unknown"), String.class));
+    }
+    // Only the first bundle fetched the values of each key.
+    assertEquals(2, fakeBeamFnStateClient.getCallCount());
+  }
+
   private StateKey key(String id) throws IOException {
     return StateKey.newBuilder()
         .setMultimapSideInput(
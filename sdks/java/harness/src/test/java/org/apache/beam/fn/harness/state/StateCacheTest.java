@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.beam.fn.harness.state;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateGetResponse;
+import org.apache.beam.model.fnexecution.v1.BeamFnApi.StateKey;
+import org.apache.beam.runners.core.metrics.MetricsContainerImpl;
+import org.apache.beam.runners.core.metrics.MonitoringInfoConstants;
+import org.apache.beam.runners.core.metrics.MonitoringInfoMetricName;
+import org.apache.beam.sdk.coders.ListCoder;
+import org.apache.beam.sdk.coders.StringUtf8Coder;
+import org.apache.beam.sdk.coders.VarIntCoder;
+import org.apache.beam.sdk.metrics.MetricsContainer;
+import org.apache.beam.sdk.metrics.MetricsEnvironment;
+import org.apache.beam.vendor.grpc.v1p36p0.com.google.protobuf.ByteString;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.base.Strings;
+import org.apache.beam.vendor.guava.v26_0_jre.com.google.common.collect.ImmutableList;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link StateCache}. */
+@RunWith(JUnit4.class)
+public class StateCacheTest {
+  private static final ByteString TOKEN = ByteString.copyFromUtf8("token");
+
+  private MetricsContainerImpl processWideContainer;
+  private MetricsContainer previousProcessWideContainer;
+
+  @Before
+  public void setUp() {
+    processWideContainer = MetricsContainerImpl.createProcessWideContainer();
+    previousProcessWideContainer =
+        MetricsEnvironment.setProcessWideContainer(processWideContainer);
+  }
+
+  @After
+  public void tearDown() {
+    MetricsEnvironment.setProcessWideContainer(previousProcessWideContainer);
+  }
+
+  @Test
+  public void testPagesAreKeyedByCacheToken() {
+    StateCache cache = new StateCache(1024 * 1024);
+    StateGetResponse page = page(10);
+    cache.putPage(key("A"), TOKEN, ByteString.EMPTY, page);
+
+    assertEquals(page, cache.getPage(key("A"), TOKEN, ByteString.EMPTY));
+    assertNull(cache.getPage(key("A"), ByteString.copyFromUtf8("other"), ByteString.EMPTY));
+    assertNull(cache.getPage(key("B"), TOKEN, ByteString.EMPTY));
+    assertEquals(1, counter(MonitoringInfoConstants.Urns.STATE_CACHE_HIT_COUNT));
+    assertEquals(2, counter(MonitoringInfoConstants.Urns.STATE_CACHE_MISS_COUNT));
+  }
+
+  @Test
+  public void testDecodedValuesRequireEqualCoder() {
+    StateCache cache = new StateCache(1024 * 1024);
+    cache.putDecodedValues(key("A"), TOKEN, StringUtf8Coder.of(), ImmutableList.of("A1", "A2"));
+
+    assertEquals(
+        ImmutableList.of("A1", "A2"),
+        cache.getDecodedValues(key("A"), TOKEN, StringUtf8Coder.of()));
+    assertNull(cache.getDecodedValues(key("A"), TOKEN, VarIntCoder.of()));
+    // Misses are counted by the page reads which callers fall back to.
+    assertEquals(1, counter(MonitoringInfoConstants.Urns.STATE_CACHE_HIT_COUNT));
+    assertEquals(0, counter(MonitoringInfoConstants.Urns.STATE_CACHE_MISS_COUNT));
+  }
+
+  @Test
+  public void testDecodedValuesOfMutableTypesAreNotCached() {
+    StateCache cache = new StateCache(1024 * 1024);
+    ListCoder<String> valueCoder = ListCoder.of(StringUtf8Coder.of());
+    cache.putDecodedValues(key("A"), TOKEN, valueCoder, ImmutableList.of(ImmutableList.of("A1")));
+
+    assertFalse(StateCache.cachesDecodedValues(valueCoder));
+    assertNull(cache.getDecodedValues(key("A"), TOKEN, valueCoder));
+  }
+
+  @Test
+  public void testInvalidateLastPageDropsDecodedValues() {
+    StateCache cache = new StateCache(1024 * 1024);
+    ByteString continuationToken = ByteString.copyFromUtf8("1");
+    StateGetResponse firstPage =
+        page(10).toBuilder().setContinuationToken(continuationToken).build();
+    cache.putPage(key("A"), TOKEN, ByteString.EMPTY, firstPage);
+    cache.putPage(key("A"), TOKEN, continuationToken, page(10));
+    cache.putDecodedValues(key("A"), TOKEN, StringUtf8Coder.of(), ImmutableList.of("A1"));
+
+    cache.invalidateLastPage(key("A"), TOKEN);
+
+    assertEquals(firstPage, cache.getPage(key("A"), TOKEN, ByteString.EMPTY));
+    assertNull(cache.getPage(key("A"), TOKEN, continuationToken));
+    assertNull(cache.getDecodedValues(key("A"), TOKEN, StringUtf8Coder.of()));
+  }
+
+  @Test
+  public void testEvictsEntriesBeyondMaximumWeight() {
+    long maxWeight = 64 * 1024;
+    StateCache cache = new StateCache(maxWeight);
+    for (int i = 0; i < 256; ++i) {
+      cache.putPage(key(Integer.toString(i)), TOKEN, ByteString.EMPTY, page(1024));
+    }
+
+    assertThat(cache.getWeight(), lessThanOrEqualTo(maxWeight));
+    assertThat(counter(MonitoringInfoConstants.Urns.STATE_CACHE_EVICTION_COUNT), greaterThan(0L));
+  }
+
+  @Test
+  public void testEstimateDecodedWeight() {
+    List<String> values = new ArrayList<>();
+    for (int i = 0; i < 100; ++i) {
+      values.add(Strings.repeat("a", 10));
+    }
+    // Each value encodes to a one byte length prefix followed by ten bytes.
+    assertEquals(
+        100 * (2 * 11 + 64), StateCache.estimateDecodedWeight(StringUtf8Coder.of(), values));
+    assertEquals(
+        0, StateCache.estimateDecodedWeight(StringUtf8Coder.of(), Collections.emptyList()));
+  }
+
+  private long counter(String urn) {
+    return processWideContainer
+        .getCounter(MonitoringInfoMetricName.named(urn, Collections.emptyMap()))
+        .getCumulative();
+  }
+
+  private static StateKey key(String id) {
+    return StateKey.newBuilder()
+        .setBagUserState(
+            StateKey.BagUserState.newBuilder()
+                .setTransformId("ptransformId")
+                .setUserStateId("stateId")
+                .setKey(ByteString.copyFromUtf8(id)))
+        .build();
+  }
+
+  private static StateGetResponse page(int size) {
+    return StateGetResponse.newBuilder().setData(ByteString.copyFrom(new byte[size])).build();
+  }
+}